@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2018 - 2021 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the registration of the controller creators at
+ * application start, as it is done by the generated
+ * <code>loadComponents</code>-method.
+ * <p>
+ * <code>registerEager</code> instantiates every creator,
+ * <code>registerLazy</code> registers a supplier, that instantiates
+ * the creator the first time the controller is requested. Like the
+ * generated code, the supplier is a lambda capturing the router, the
+ * context, the event bus and the application scope.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3,
+        time = 1)
+@Measurement(iterations = 5,
+             time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CreatorRegistrationBenchmark {
+
+  @Param({ "10",
+           "100",
+           "1000" })
+  public int numberOfControllers;
+
+  private String[] controllerClassNames;
+
+  private Object router;
+
+  private Object context;
+
+  private Object eventBus;
+
+  private Object applicationScope;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    this.controllerClassNames = new String[this.numberOfControllers];
+    for (int i = 0; i < this.numberOfControllers; i++) {
+      this.controllerClassNames[i] = "com.github.nalukit.nalu.benchmark.Controller" + i;
+    }
+    this.router           = new Object();
+    this.context          = new Object();
+    this.eventBus         = new Object();
+    this.applicationScope = new Object();
+  }
+
+  @Benchmark
+  public CreatorArray<BenchmarkCreator> registerEager() {
+    CreatorArray<BenchmarkCreator> creators = new CreatorArray<>();
+    for (String controllerClassName : this.controllerClassNames) {
+      creators.set(ComponentIdTable.get()
+                                   .register(controllerClassName),
+                   new BenchmarkCreator(this.router,
+                                        this.context,
+                                        this.eventBus,
+                                        this.applicationScope));
+    }
+    return creators;
+  }
+
+  @Benchmark
+  public CreatorArray<BenchmarkCreator> registerLazy() {
+    CreatorArray<BenchmarkCreator> creators = new CreatorArray<>();
+    Object                         router           = this.router;
+    Object                         context          = this.context;
+    Object                         eventBus         = this.eventBus;
+    Object                         applicationScope = this.applicationScope;
+    for (String controllerClassName : this.controllerClassNames) {
+      creators.setSupplier(ComponentIdTable.get()
+                                           .register(controllerClassName),
+                           () -> new BenchmarkCreator(router,
+                                                      context,
+                                                      eventBus,
+                                                      applicationScope));
+    }
+    return creators;
+  }
+
+  /**
+   * Stands for a generated creator, that holds the router, the context,
+   * the event bus and the application scope.
+   */
+  static class BenchmarkCreator {
+
+    private final Object router;
+
+    private final Object context;
+
+    private final Object eventBus;
+
+    private final Object applicationScope;
+
+    BenchmarkCreator(Object router,
+                     Object context,
+                     Object eventBus,
+                     Object applicationScope) {
+      this.router           = router;
+      this.context          = context;
+      this.eventBus         = eventBus;
+      this.applicationScope = applicationScope;
+    }
+
+  }
+
+}
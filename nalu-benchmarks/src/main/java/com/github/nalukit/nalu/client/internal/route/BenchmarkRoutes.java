@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2018 - 2021 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import com.github.nalukit.nalu.client.internal.PropertyFactory;
+import org.gwtproject.event.shared.SimpleEventBus;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Collections;
+
+/**
+ * Route table used by the benchmarks.
+ * <p>
+ * The table contains {@code numberOfRoutes} routes of the shell 'application'.
+ * Every route has {@code depth} parts (including the shell), the last part is
+ * a parameter. The hashes to route cover the whole table, so that routes at
+ * the end of the table are used as often as routes at the beginning.
+ * <p>
+ * The benchmarks are located inside the package of the router to get access to
+ * the package private API.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkRoutes {
+  
+  /* number of hashes used by a benchmark */
+  static final int NUMBER_OF_HASHES = 16;
+  
+  static final String SHELL = "application";
+  
+  static final String SELECTOR = "content";
+  
+  static final String SHELL_CLASS_NAME = "com.github.nalukit.nalu.client.internal.route.RouterBenchmark.BenchmarkShell";
+  
+  static final String CONTROLLER_CLASS_NAME = "com.github.nalukit.nalu.client.internal.route.RouterBenchmark.BenchmarkController";
+  
+  @Param({ "10",
+           "100",
+           "1000",
+           "10000" })
+  int numberOfRoutes;
+  
+  @Param({ "3",
+           "6" })
+  int depth;
+  
+  @Param({ "false",
+           "true" })
+  boolean usingColonForParametersInUrl;
+  
+  ShellConfiguration shellConfiguration;
+  
+  RouterConfiguration routerConfiguration;
+  
+  /* routes containing '*' */
+  String[] routes;
+  
+  /* hashes containing parameter values */
+  String[] hashes;
+  
+  /* parameter values */
+  String[] parameters;
+  
+  private int index;
+  
+  @Setup(Level.Trial)
+  public void setUp() {
+    PropertyFactory.get()
+                   .register("/" + SHELL,
+                             "",
+                             true,
+                             true,
+                             this.usingColonForParametersInUrl,
+                             false,
+                             false);
+    RouteParser.get()
+               .setEventBus(new SimpleEventBus());
+    
+    this.shellConfiguration = new ShellConfiguration();
+    this.shellConfiguration.getShells()
+                           .add(new ShellConfig("/" + SHELL,
+                                                SHELL_CLASS_NAME));
+    this.routerConfiguration = new RouterConfiguration();
+    for (int i = 0; i < this.numberOfRoutes; i++) {
+      this.routerConfiguration.getRouters()
+                              .add(new RouteConfig(BenchmarkRoutes.createRoute(i,
+                                                                               this.depth),
+                                                   Collections.singletonList("id"),
+                                                   SELECTOR,
+                                                   CONTROLLER_CLASS_NAME));
+    }
+    
+    this.routes     = new String[NUMBER_OF_HASHES];
+    this.hashes     = new String[NUMBER_OF_HASHES];
+    this.parameters = new String[NUMBER_OF_HASHES];
+    for (int i = 0; i < NUMBER_OF_HASHES; i++) {
+      int routeNumber = (int) ((long) (this.numberOfRoutes - 1) * i / (NUMBER_OF_HASHES - 1));
+      this.routes[i]     = BenchmarkRoutes.createRoute(routeNumber,
+                                                       this.depth);
+      this.parameters[i] = "id" + i;
+      this.hashes[i]     = this.routes[i].substring(0,
+                                                    this.routes[i].length() - 1) +
+                           (this.usingColonForParametersInUrl ? ":" : "") +
+                           this.parameters[i];
+    }
+  }
+  
+  /**
+   * Creates the route with the given number: '/application/route{number}/part2/.../*'
+   *
+   * @param number number of the route
+   * @param depth  number of parts of the route
+   * @return the route
+   */
+  static String createRoute(int number,
+                            int depth) {
+    StringBuilder sb = new StringBuilder();
+    sb.append("/")
+      .append(SHELL)
+      .append("/route")
+      .append(number);
+    for (int i = 2; i < depth - 1; i++) {
+      sb.append("/part")
+        .append(i);
+    }
+    return sb.append("/*")
+             .toString();
+  }
+  
+  /**
+   * Returns the index of the next hash to use.
+   *
+   * @return index of the next hash
+   */
+  int next() {
+    this.index = (this.index + 1) % NUMBER_OF_HASHES;
+    return this.index;
+  }
+  
+}
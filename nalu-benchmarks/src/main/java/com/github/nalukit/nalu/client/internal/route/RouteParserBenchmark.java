@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2018 - 2021 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of parsing a hash and generating a hash.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3,
+        time = 1)
+@Measurement(iterations = 5,
+             time = 1)
+@Fork(1)
+public class RouteParserBenchmark {
+  
+  @Benchmark
+  public RouteResult parse(BenchmarkRoutes benchmarkRoutes)
+      throws RouterException {
+    return RouteParser.get()
+                      .parse(benchmarkRoutes.hashes[benchmarkRoutes.next()],
+                             benchmarkRoutes.shellConfiguration,
+                             benchmarkRoutes.routerConfiguration);
+  }
+  
+  @Benchmark
+  public String generate(BenchmarkRoutes benchmarkRoutes) {
+    int index = benchmarkRoutes.next();
+    return RouteParser.get()
+                      .generate(benchmarkRoutes.routes[index],
+                                benchmarkRoutes.parameters[index]);
+  }
+  
+  @Benchmark
+  public String generateWithTemplate(BenchmarkRoutes benchmarkRoutes) {
+    int index = benchmarkRoutes.next();
+    return RouteParser.get()
+                      .generate(benchmarkRoutes.routerConfiguration.getRouteTemplate(benchmarkRoutes.routes[index]),
+                                benchmarkRoutes.parameters[index]);
+  }
+  
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2018 - 2021 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import com.github.nalukit.nalu.client.component.AbstractComponent;
+import com.github.nalukit.nalu.client.component.AbstractComponentController;
+import com.github.nalukit.nalu.client.component.AbstractShell;
+import com.github.nalukit.nalu.client.component.IsComponent;
+import com.github.nalukit.nalu.client.context.IsContext;
+import com.github.nalukit.nalu.client.internal.application.ControllerFactory;
+import com.github.nalukit.nalu.client.internal.application.ControllerInstance;
+import com.github.nalukit.nalu.client.internal.application.IsControllerCreator;
+import com.github.nalukit.nalu.client.internal.application.IsShellCreator;
+import com.github.nalukit.nalu.client.internal.application.ShellFactory;
+import com.github.nalukit.nalu.client.internal.application.ShellInstance;
+import com.github.nalukit.nalu.client.plugin.IsCustomAlertPresenter;
+import com.github.nalukit.nalu.client.plugin.IsCustomConfirmPresenter;
+import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin;
+import org.gwtproject.event.shared.SimpleEventBus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of a complete routing cycle: route, parse, filter, shell,
+ * controller creation, attach and start.
+ * <p>
+ * The router uses a plugin, that does nothing. Controllers are created
+ * with every routing (not cached).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3,
+        time = 1)
+@Measurement(iterations = 5,
+             time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RouterBenchmark {
+  
+  private RouterImpl router;
+  
+  @Setup(Level.Trial)
+  public void setUp(BenchmarkRoutes benchmarkRoutes) {
+    ShellFactory.get()
+                .registerShell(BenchmarkRoutes.SHELL_CLASS_NAME,
+                               new BenchmarkShellCreator());
+    ControllerFactory.get()
+                     .registerController(BenchmarkRoutes.CONTROLLER_CLASS_NAME,
+                                         new BenchmarkControllerCreator());
+    this.router = new RouterImpl(new NoOpPlugin(),
+                                 benchmarkRoutes.shellConfiguration,
+                                 benchmarkRoutes.routerConfiguration,
+                                 new ArrayList<>(),
+                                 null,
+                                 benchmarkRoutes.routes[0],
+                                 "",
+                                 true,
+                                 true,
+                                 benchmarkRoutes.usingColonForParametersInUrl,
+                                 false,
+                                 false);
+    this.router.setEventBus(new SimpleEventBus());
+  }
+  
+  @Benchmark
+  public String route(BenchmarkRoutes benchmarkRoutes) {
+    int index = benchmarkRoutes.next();
+    this.router.route(benchmarkRoutes.routes[index],
+                      benchmarkRoutes.parameters[index]);
+    return this.router.getLastExecutedHash();
+  }
+  
+  static class BenchmarkContext
+      implements IsContext {
+    
+  }
+  
+  static class BenchmarkShell
+      extends AbstractShell<BenchmarkContext> {
+    
+    @Override
+    public void attachShell() {
+    }
+    
+    @Override
+    public void detachShell() {
+    }
+    
+  }
+  
+  static class BenchmarkComponent
+      extends AbstractComponent<IsComponent.Controller, Object> {
+    
+    @Override
+    public void render() {
+      initElement(new Object());
+    }
+    
+  }
+  
+  static class BenchmarkController
+      extends AbstractComponentController<BenchmarkContext, BenchmarkComponent, Object>
+      implements IsComponent.Controller {
+    
+  }
+  
+  static class BenchmarkShellCreator
+      implements IsShellCreator {
+    
+    @Override
+    public ShellInstance create() {
+      ShellInstance shellInstance = new ShellInstance();
+      shellInstance.setShellClassName(BenchmarkRoutes.SHELL_CLASS_NAME);
+      shellInstance.setShell(new BenchmarkShell());
+      return shellInstance;
+    }
+    
+    @Override
+    public void onFinishCreating() {
+    }
+    
+  }
+  
+  static class BenchmarkControllerCreator
+      implements IsControllerCreator {
+    
+    @Override
+    public ControllerInstance create(String route) {
+      BenchmarkController controller = new BenchmarkController();
+      BenchmarkComponent  component  = new BenchmarkComponent();
+      component.setController(controller);
+      component.render();
+      controller.setComponent(component);
+      controller.setRelatedRoute(route);
+      controller.setRelatedSelector(BenchmarkRoutes.SELECTOR);
+      ControllerInstance controllerInstance = new ControllerInstance();
+      controllerInstance.setControllerClassName(BenchmarkRoutes.CONTROLLER_CLASS_NAME);
+      controllerInstance.setController(controller);
+      return controllerInstance;
+    }
+    
+    @Override
+    public void onFinishCreating(Object object) {
+    }
+    
+    @Override
+    public void setParameter(Object object,
+                             String... params) {
+    }
+    
+  }
+  
+  static class NoOpPlugin
+      implements IsNaluProcessorPlugin {
+    
+    @Override
+    public void alert(String message) {
+    }
+    
+    @Override
+    public boolean attach(String selector,
+                          Object asElement) {
+      return true;
+    }
+    
+    @Override
+    public void confirm(String message,
+                        ConfirmHandler handler) {
+      handler.onOk();
+    }
+    
+    @Override
+    public String getStartRoute() {
+      return "/";
+    }
+    
+    @Override
+    public Map<String, String> getQueryParameters() {
+      return new HashMap<>();
+    }
+    
+    @Override
+    public void register(RouteChangeHandler handler) {
+    }
+    
+    @Override
+    public void remove(String selector) {
+    }
+    
+    @Override
+    public void route(String newRoute,
+                      boolean replace,
+                      boolean stealthMode) {
+    }
+    
+    @Override
+    public void initialize(ShellConfiguration shellConfiguration) {
+    }
+    
+    @Override
+    public void updateTitle(String title) {
+    }
+    
+    @Override
+    public void updateMetaNameContent(String name,
+                                      String content) {
+    }
+    
+    @Override
+    public void updateMetaPropertyContent(String property,
+                                          String content) {
+    }
+    
+    @Override
+    public String decode(String route) {
+      return route;
+    }
+    
+    @Override
+    public void setCustomAlertPresenter(IsCustomAlertPresenter presenter) {
+    }
+    
+    @Override
+    public void setCustomConfirmPresenter(IsCustomConfirmPresenter presenter) {
+    }
+    
+  }
+  
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2018 - 2021 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of matching a hash against routes.
+ * <p>
+ * {@link #matchAll(BenchmarkRoutes)} compares a hash with every route of the
+ * table - that is what a sequential scan of the route table costs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3,
+        time = 1)
+@Measurement(iterations = 5,
+             time = 1)
+@Fork(1)
+public class RouterUtilsBenchmark {
+  
+  @Benchmark
+  public boolean match(BenchmarkRoutes benchmarkRoutes) {
+    int index = benchmarkRoutes.next();
+    return RouterUtils.get()
+                      .match(benchmarkRoutes.hashes[index],
+                             benchmarkRoutes.routes[index],
+                             false,
+                             benchmarkRoutes.usingColonForParametersInUrl);
+  }
+  
+  @Benchmark
+  public int matchAll(BenchmarkRoutes benchmarkRoutes) {
+    String hash           = benchmarkRoutes.hashes[benchmarkRoutes.next()];
+    int    numberOfRoutes = 0;
+    for (RouteConfig routeConfig : benchmarkRoutes.routerConfiguration.getRouters()) {
+      if (RouterUtils.get()
+                     .match(hash,
+                            routeConfig.getRoute(),
+                            false,
+                            benchmarkRoutes.usingColonForParametersInUrl)) {
+        numberOfRoutes++;
+      }
+    }
+    return numberOfRoutes;
+  }
+  
+}
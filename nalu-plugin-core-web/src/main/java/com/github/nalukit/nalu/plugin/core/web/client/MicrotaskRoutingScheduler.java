@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.plugin.core.web.client;
+
+import com.github.nalukit.nalu.client.plugin.IsRoutingScheduler;
+import elemental2.promise.Promise;
+
+/**
+ * Routing scheduler, that executes the command as microtask.
+ * <p>
+ * All routings requested in the same event-loop turn are coalesced.
+ */
+public class MicrotaskRoutingScheduler
+    implements IsRoutingScheduler {
+  
+  @Override
+  public void schedule(Runnable command) {
+    Promise.resolve((Object) null)
+           .then(ignore -> {
+             command.run();
+             return null;
+           });
+  }
+  
+}
@@ -17,7 +17,6 @@
 package com.github.nalukit.nalu.plugin.core.web.client;
 
 import com.github.nalukit.nalu.client.internal.PropertyFactory;
-import com.github.nalukit.nalu.client.internal.route.ShellConfig;
 import com.github.nalukit.nalu.client.internal.route.ShellConfiguration;
 import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin.RouteChangeHandler;
 import com.github.nalukit.nalu.plugin.core.web.client.model.NaluStartModel;
@@ -52,12 +51,7 @@ public class NaluPluginCoreWeb {
                                       pathName.lastIndexOf("/"));
         StringBuilder context = new StringBuilder();
         for (String partOfContext : pathName.split("/")) {
-          Optional<String> optional = shellConfiguration.getShells()
-                                                        .stream()
-                                                        .map(ShellConfig::getRoute)
-                                                        .filter(f -> f.equals("/" + partOfContext))
-                                                        .findAny();
-          if (optional.isPresent()) {
+          if (shellConfiguration.hasShell("/" + partOfContext)) {
             break;
           } else {
             if (context.length() > 0) {
@@ -254,6 +248,23 @@ public class NaluPluginCoreWeb {
     }
   }
 
+  public static void schedule(Runnable command,
+                              int delay) {
+    DomGlobal.setTimeout(ignore -> command.run(),
+                         delay);
+  }
+
+  public static void scheduleIdle(Runnable command) {
+    // not every browser supports requestIdleCallback
+    if (Js.asPropertyMap(DomGlobal.window)
+          .has("requestIdleCallback")) {
+      DomGlobal.requestIdleCallback(deadline -> command.run());
+    } else {
+      DomGlobal.setTimeout(ignore -> command.run(),
+                           0);
+    }
+  }
+
   public static void addOnHashChangeHandler(RouteChangeHandler handler) {
     DomGlobal.window.onhashchange = e -> {
       String   newUrl;
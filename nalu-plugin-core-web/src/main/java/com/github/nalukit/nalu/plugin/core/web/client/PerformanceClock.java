@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.plugin.core.web.client;
+
+import com.github.nalukit.nalu.client.plugin.IsClock;
+import elemental2.dom.DomGlobal;
+
+/**
+ * Clock, that uses <code>performance.now()</code>.
+ * <p>
+ * The time is monotonic and has a sub-millisecond resolution.
+ */
+public class PerformanceClock
+    implements IsClock {
+  
+  @Override
+  public double now() {
+    return DomGlobal.performance.now();
+  }
+  
+}
@@ -18,10 +18,12 @@ package com.github.nalukit.nalu.plugin.elemento.client;
 
 import com.github.nalukit.nalu.client.internal.PropertyFactory;
 import com.github.nalukit.nalu.client.internal.route.ShellConfiguration;
+import com.github.nalukit.nalu.client.plugin.IsClock;
 import com.github.nalukit.nalu.client.plugin.IsCustomAlertPresenter;
 import com.github.nalukit.nalu.client.plugin.IsCustomConfirmPresenter;
 import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin;
 import com.github.nalukit.nalu.plugin.core.web.client.NaluPluginCoreWeb;
+import com.github.nalukit.nalu.plugin.core.web.client.PerformanceClock;
 import com.github.nalukit.nalu.plugin.core.web.client.model.NaluStartModel;
 import elemental2.core.Global;
 import elemental2.dom.*;
@@ -207,6 +209,23 @@ public class NaluPluginElemento
     return Global.decodeURI(route);
   }
   
+  @Override
+  public void schedule(Runnable command,
+                       int delay) {
+    NaluPluginCoreWeb.schedule(command,
+                               delay);
+  }
+  
+  @Override
+  public void scheduleIdle(Runnable command) {
+    NaluPluginCoreWeb.scheduleIdle(command);
+  }
+  
+  @Override
+  public IsClock getClock() {
+    return new PerformanceClock();
+  }
+  
   @Override
   public void setCustomAlertPresenter(IsCustomAlertPresenter customAlertPresenter) {
     this.customAlertPresenter = customAlertPresenter;
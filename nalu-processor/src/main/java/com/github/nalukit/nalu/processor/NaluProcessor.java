@@ -428,6 +428,26 @@ public class NaluProcessor
       // save filter data in metaModel
       this.metaModel.getFilters()
                     .addAll(filterModels);
+      // scan route filters
+      List<RouteFilterModel> routeFilterModels = FiltersAnnotationScanner.builder()
+                                                                         .processingEnvironment(processingEnv)
+                                                                         .metaModel(this.metaModel)
+                                                                         .filtersElement(filtersElement)
+                                                                         .build()
+                                                                         .scanRouteFilters(roundEnv);
+      // in case a filter class is already added, replace it
+      routeFilterModels.forEach(model -> this.metaModel.getRouteFilters()
+                                                       .removeIf(s -> model.getFilter()
+                                                                           .getClassName()
+                                                                           .equals(s.getFilter()
+                                                                                    .getClassName())));
+      this.metaModel.getRouteFilters()
+                    .addAll(routeFilterModels);
+      // a filter with route patterns is not used for all routes
+      routeFilterModels.forEach(model -> this.metaModel.getFilters()
+                                                       .removeIf(s -> model.getFilter()
+                                                                           .getClassName()
+                                                                           .equals(s.getClassName())));
 
     }
   }
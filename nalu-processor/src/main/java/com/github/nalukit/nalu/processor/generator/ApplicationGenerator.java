@@ -286,6 +286,15 @@ public class ApplicationGenerator {
     JavaFile javaFile = JavaFile.builder(metaModel.getGenerateToPackage(),
                                          typeSpec.build())
                                 .build();
+
+    RouteMatcherGenerator.builder()
+                         .processingEnvironment(this.processingEnvironment)
+                         .metaModel(metaModel)
+                         .packageName(metaModel.getGenerateToPackage())
+                         .simpleName(metaModel.getApplication()
+                                              .getSimpleName())
+                         .build()
+                         .generate();
     try {
       //      System.out.println(javaFile.toString());
       javaFile.writeTo(this.processingEnvironment.getFiler());
@@ -15,7 +15,6 @@
  */
 package com.github.nalukit.nalu.processor.generator;
 
-import com.github.nalukit.nalu.client.internal.application.BlockControllerFactory;
 import com.github.nalukit.nalu.processor.ProcessorConstants;
 import com.github.nalukit.nalu.processor.model.MetaModel;
 import com.squareup.javapoet.ClassName;
@@ -48,8 +47,7 @@ public class BlockControllerGenerator {
                                                                            .addModifiers(Modifier.PUBLIC)
                                                                            .addAnnotation(Override.class);
     this.metaModel.getBlockControllers()
-                  .forEach(blockControllerModel -> loadBlockControllerFactoryMethodBuilder.addStatement("$T.get().registerBlockController($S, new $L(router, context, eventBus))",
-                                                                                                        ClassName.get(BlockControllerFactory.class),
+                  .forEach(blockControllerModel -> loadBlockControllerFactoryMethodBuilder.addStatement("applicationScope.getBlockControllerFactory().registerBlockController($S, new $L(router, context, eventBus))",
                                                                                                         blockControllerModel.getName(),
                                                                                                         ClassName.get(blockControllerModel.getController()
                                                                                                                                           .getPackage(),
@@ -15,7 +15,6 @@
  */
 package com.github.nalukit.nalu.processor.generator;
 
-import com.github.nalukit.nalu.client.internal.application.CompositeFactory;
 import com.github.nalukit.nalu.processor.ProcessorConstants;
 import com.github.nalukit.nalu.processor.model.MetaModel;
 import com.github.nalukit.nalu.processor.model.intern.CompositeModel;
@@ -54,13 +53,13 @@ public class CompositeControllerGenerator {
                                                                .addModifiers(Modifier.PUBLIC)
                                                                .addAnnotation(Override.class);
     for (CompositeModel compositeModel : this.metaModel.getCompositeModels()) {
-      loadCompositesMethodBuilder.addStatement("$T.get().registerComposite($S, new $L(router, context, eventBus))",
-                                               ClassName.get(CompositeFactory.class),
+      loadCompositesMethodBuilder.addStatement("applicationScope.getCompositeFactory().registerComposite($S, $Lnew $L(router, context, eventBus, applicationScope))",
                                                compositeModel.getProvider()
                                                              .getPackage() +
                                                "." +
                                                compositeModel.getProvider()
                                                              .getSimpleName(),
+                                               this.metaModel.isLazyCreatorRegistration() ? "() -> " : "",
                                                ClassName.get(compositeModel.getProvider()
                                                                            .getPackage(),
                                                              compositeModel.getProvider()
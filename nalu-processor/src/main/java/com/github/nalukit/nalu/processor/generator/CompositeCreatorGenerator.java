@@ -19,7 +19,7 @@ import com.github.nalukit.nalu.client.Router;
 import com.github.nalukit.nalu.client.component.AbstractCompositeController;
 import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
 import com.github.nalukit.nalu.client.internal.AbstractCompositeCreator;
-import com.github.nalukit.nalu.client.internal.application.CompositeFactory;
+import com.github.nalukit.nalu.client.internal.application.ApplicationScope;
 import com.github.nalukit.nalu.client.internal.application.CompositeInstance;
 import com.github.nalukit.nalu.client.internal.application.IsCompositeCreator;
 import com.github.nalukit.nalu.processor.ProcessorConstants;
@@ -98,7 +98,10 @@ public class CompositeCreatorGenerator {
                      .addParameter(ParameterSpec.builder(ClassName.get(SimpleEventBus.class),
                                                          "eventBus")
                                                 .build())
-                     .addStatement("super(router, context, eventBus)")
+                     .addParameter(ParameterSpec.builder(ClassName.get(ApplicationScope.class),
+                                                         "applicationScope")
+                                                .build())
+                     .addStatement("super(router, context, eventBus, applicationScope)")
                      .build();
   }
   
@@ -122,9 +125,8 @@ public class CompositeCreatorGenerator {
                                                 .addStatement("compositeInstance.setCompositeClassName($S)",
                                                               compositeModel.getProvider()
                                                                             .getClassName())
-                                                .addStatement("$T<?, ?, ?> storedComposite = $T.get().getCompositeFormStore(parentControllerClassName, $S, selector)",
+                                                .addStatement("$T<?, ?, ?> storedComposite = applicationScope.getCompositeFactory().getCompositeFormStore(parentControllerClassName, $S, selector)",
                                                               ClassName.get(AbstractCompositeController.class),
-                                                              ClassName.get(CompositeFactory.class),
                                                               compositeModel.getProvider()
                                                                             .getClassName());
     createMethod.beginControlFlow("if (storedComposite == null)")
@@ -19,7 +19,7 @@ import com.github.nalukit.nalu.client.Router;
 import com.github.nalukit.nalu.client.component.AbstractComponentController;
 import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
 import com.github.nalukit.nalu.client.internal.AbstractControllerCreator;
-import com.github.nalukit.nalu.client.internal.application.ControllerFactory;
+import com.github.nalukit.nalu.client.internal.application.ApplicationScope;
 import com.github.nalukit.nalu.client.internal.application.ControllerInstance;
 import com.github.nalukit.nalu.client.internal.application.IsControllerCreator;
 import com.github.nalukit.nalu.processor.ProcessorConstants;
@@ -100,7 +100,10 @@ public class ControllerCreatorGenerator {
                      .addParameter(ParameterSpec.builder(ClassName.get(SimpleEventBus.class),
                                                          "eventBus")
                                                 .build())
-                     .addStatement("super(router, context, eventBus)")
+                     .addParameter(ParameterSpec.builder(ClassName.get(ApplicationScope.class),
+                                                         "applicationScope")
+                                                .build())
+                     .addStatement("super(router, context, eventBus, applicationScope)")
                      .build();
   }
   
@@ -119,9 +122,8 @@ public class ControllerCreatorGenerator {
                                           .addStatement("controllerInstance.setControllerClassName($S)",
                                                         controllerModel.getController()
                                                                        .getClassName())
-                                          .addStatement("$T<?, ?, ?> storedController = $T.get().getControllerFormStore($S)",
+                                          .addStatement("$T<?, ?, ?> storedController = applicationScope.getControllerFactory().getControllerFormStore($S)",
                                                         ClassName.get(AbstractComponentController.class),
-                                                        ClassName.get(ControllerFactory.class),
                                                         controllerModel.getController()
                                                                        .getClassName())
                                           .beginControlFlow("if (storedController == null)")
@@ -16,8 +16,6 @@
 package com.github.nalukit.nalu.processor.generator;
 
 import com.github.nalukit.nalu.client.component.AlwaysLoadComposite;
-import com.github.nalukit.nalu.client.internal.application.ControllerCompositeConditionFactory;
-import com.github.nalukit.nalu.client.internal.application.ControllerFactory;
 import com.github.nalukit.nalu.client.internal.route.RouteConfig;
 import com.github.nalukit.nalu.processor.ProcessorConstants;
 import com.github.nalukit.nalu.processor.model.MetaModel;
@@ -64,13 +62,13 @@ public class ControllerGenerator {
                                                                .addAnnotation(Override.class);
     this.getAllComponents(this.metaModel.getControllers())
         .forEach(controllerModel -> {
-          loadComponentsMethodBuilder.addStatement("$T.get().registerController($S, new $L(router, context, eventBus))",
-                                                   ClassName.get(ControllerFactory.class),
+          loadComponentsMethodBuilder.addStatement("applicationScope.getControllerFactory().registerController($S, $Lnew $L(router, context, eventBus, applicationScope))",
                                                    controllerModel.getProvider()
                                                                   .getPackage() +
                                                    "." +
                                                    controllerModel.getProvider()
                                                                   .getSimpleName(),
+                                                   this.metaModel.isLazyCreatorRegistration() ? "() -> " : "",
                                                    ClassName.get(controllerModel.getController()
                                                                                 .getPackage(),
                                                                  controllerModel.getController()
@@ -84,8 +82,7 @@ public class ControllerGenerator {
                              if (AlwaysLoadComposite.class.getSimpleName()
                                                           .equals(controllerCompositeModel.getCondition()
                                                                                           .getSimpleName())) {
-                               loadComponentsMethodBuilder.addStatement("$T.get().registerCondition($S, $S, super.alwaysLoadComposite)",
-                                                                        ClassName.get(ControllerCompositeConditionFactory.class),
+                               loadComponentsMethodBuilder.addStatement("applicationScope.getControllerCompositeConditionFactory().registerCondition($S, $S, super.alwaysLoadComposite)",
                                                                         controllerModel.getProvider()
                                                                                        .getPackage() +
                                                                         "." +
@@ -126,8 +123,7 @@ public class ControllerGenerator {
                                  generatedConditionClassNames.add(controllerCompositeModel.getCondition()
                                                                                           .getClassName());
                                }
-                               loadComponentsMethodBuilder.addStatement("$T.get().registerCondition($S, $S, $L)",
-                                                                        ClassName.get(ControllerCompositeConditionFactory.class),
+                               loadComponentsMethodBuilder.addStatement("applicationScope.getControllerCompositeConditionFactory().registerCondition($S, $S, $L)",
                                                                         controllerModel.getProvider()
                                                                                        .getPackage() +
                                                                         "." +
@@ -162,6 +158,10 @@ public class ControllerGenerator {
                                                                                                                 controllerModel.getSelector(),
                                                                                                                 controllerModel.getProvider()
                                                                                                                                .getClassName())));
+    loadSelectorsMethod.addStatement("super.routerConfiguration.registerRouteMatcher(new $T())",
+                                     ClassName.get(this.metaModel.getGenerateToPackage(),
+                                                   this.metaModel.getApplication()
+                                                                 .getSimpleName() + ProcessorConstants.ROUTE_MATCHER_IMPL));
     typeSpec.addMethod(loadSelectorsMethod.build());
   }
   
@@ -18,11 +18,13 @@ package com.github.nalukit.nalu.processor.generator;
 import com.github.nalukit.nalu.processor.ProcessorUtils;
 import com.github.nalukit.nalu.processor.model.MetaModel;
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.TypeSpec;
 
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.Modifier;
+import java.util.stream.Collectors;
 
 public class FiltersGenerator {
   
@@ -77,6 +79,34 @@ public class FiltersGenerator {
                                                               .addStatement("super.routerConfiguration.getFilters().add($L)",
                                                                             this.processorUtils.createFullClassName(classNameModel.getClassName())));
     
+    this.metaModel.getRouteFilters()
+                  .forEach(routeFilterModel -> loadFiltersMethod.addStatement("$T $L = new $T()",
+                                                                              ClassName.get(routeFilterModel.getFilter()
+                                                                                                            .getPackage(),
+                                                                                            routeFilterModel.getFilter()
+                                                                                                            .getSimpleName()),
+                                                                              this.processorUtils.createFullClassName(routeFilterModel.getFilter()
+                                                                                                                                      .getClassName()),
+                                                                              ClassName.get(routeFilterModel.getFilter()
+                                                                                                            .getPackage(),
+                                                                                            routeFilterModel.getFilter()
+                                                                                                            .getSimpleName()))
+                                                                .addStatement("$L.setContext(super.context)",
+                                                                              this.processorUtils.createFullClassName(routeFilterModel.getFilter()
+                                                                                                                                      .getClassName()))
+                                                                .addStatement("$L.setEventBus(super.eventBus)",
+                                                                              this.processorUtils.createFullClassName(routeFilterModel.getFilter()
+                                                                                                                                      .getClassName()))
+                                                                .addStatement("super.routerConfiguration.addFilter($L, $L)",
+                                                                              this.processorUtils.createFullClassName(routeFilterModel.getFilter()
+                                                                                                                                      .getClassName()),
+                                                                              CodeBlock.join(routeFilterModel.getRoutes()
+                                                                                                             .stream()
+                                                                                                             .map(route -> CodeBlock.of("$S",
+                                                                                                                                        route))
+                                                                                                             .collect(Collectors.toList()),
+                                                                                             ", ")));
+    
     typeSpec.addMethod(loadFiltersMethod.build());
   }
   
@@ -23,6 +23,7 @@ import com.github.nalukit.nalu.client.internal.CompositeControllerReference;
 import com.github.nalukit.nalu.client.internal.application.*;
 import com.github.nalukit.nalu.client.internal.module.AbstractModule;
 import com.github.nalukit.nalu.client.internal.module.NoModuleLoader;
+import com.github.nalukit.nalu.client.internal.route.IsRouteMatcher;
 import com.github.nalukit.nalu.client.internal.route.RouteConfig;
 import com.github.nalukit.nalu.client.internal.route.RouterConfiguration;
 import com.github.nalukit.nalu.client.internal.route.ShellConfig;
@@ -40,6 +41,7 @@ import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.Modifier;
 import java.io.IOException;
 import java.util.*;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 public class ModuleGenerator {
@@ -108,6 +110,7 @@ public class ModuleGenerator {
 
     this.generateGetShellConfigs(typeSpec);
     this.generateGetRouteConfigs(typeSpec);
+    this.generateGetRouteMatcher(typeSpec);
     this.generateGetCompositeReferences(typeSpec);
     this.generateGetLoader(typeSpec);
 
@@ -116,6 +119,18 @@ public class ModuleGenerator {
                                                        .getPackage(),
                                          typeSpec.build())
                                 .build();
+
+    RouteMatcherGenerator.builder()
+                         .processingEnvironment(this.processingEnvironment)
+                         .metaModel(this.metaModel)
+                         .packageName(this.metaModel.getModuleModel()
+                                                    .getModule()
+                                                    .getPackage())
+                         .simpleName(this.metaModel.getModuleModel()
+                                                   .getModule()
+                                                   .getSimpleName())
+                         .build()
+                         .generate();
     try {
       //      System.out.println(javaFile.toString());
       javaFile.writeTo(this.processingEnvironment.getFiler());
@@ -169,13 +184,14 @@ public class ModuleGenerator {
     this.metaModel.getShells()
                   .forEach(shellModel -> {
                     // add return statement
-                    loadShellFactoryMethodBuilder.addStatement("$T.get().registerShell($S, new $L(router, moduleContext, eventBus))",
-                                                               ClassName.get(ShellFactory.class),
+                    loadShellFactoryMethodBuilder.addStatement("applicationScope.getShellFactory().registerShell($S, $Lnew $L(router, moduleContext, eventBus))",
                                                                shellModel.getShell()
                                                                          .getPackage() +
                                                                "." +
                                                                shellModel.getShell()
                                                                          .getSimpleName(),
+                                                               this.metaModel.getModuleModel()
+                                                                             .isLazyCreatorRegistration() ? "() -> " : "",
                                                                ClassName.get(shellModel.getShell()
                                                                                        .getPackage(),
                                                                              shellModel.getShell()
@@ -192,13 +208,14 @@ public class ModuleGenerator {
                                                                .addModifiers(Modifier.PUBLIC)
                                                                .addAnnotation(Override.class);
     for (CompositeModel compositeModel : this.metaModel.getCompositeModels()) {
-      loadCompositesMethodBuilder.addStatement("$T.get().registerComposite($S, new $L(router, moduleContext, eventBus))",
-                                               ClassName.get(CompositeFactory.class),
+      loadCompositesMethodBuilder.addStatement("applicationScope.getCompositeFactory().registerComposite($S, $Lnew $L(router, moduleContext, eventBus, applicationScope))",
                                                compositeModel.getProvider()
                                                              .getPackage() +
                                                "." +
                                                compositeModel.getProvider()
                                                              .getSimpleName(),
+                                               this.metaModel.getModuleModel()
+                                                             .isLazyCreatorRegistration() ? "() -> " : "",
                                                ClassName.get(compositeModel.getProvider()
                                                                            .getPackage(),
                                                              compositeModel.getProvider()
@@ -214,13 +231,14 @@ public class ModuleGenerator {
                                                                .addAnnotation(Override.class);
     this.getAllComponents(this.metaModel.getControllers())
         .forEach(controllerModel -> {
-          loadComponentsMethodBuilder.addStatement("$T.get().registerController($S, new $L(router, moduleContext, eventBus))",
-                                                   ClassName.get(ControllerFactory.class),
+          loadComponentsMethodBuilder.addStatement("applicationScope.getControllerFactory().registerController($S, $Lnew $L(router, moduleContext, eventBus, applicationScope))",
                                                    controllerModel.getProvider()
                                                                   .getPackage() +
                                                    "." +
                                                    controllerModel.getProvider()
                                                                   .getSimpleName(),
+                                                   this.metaModel.getModuleModel()
+                                                                 .isLazyCreatorRegistration() ? "() -> " : "",
                                                    ClassName.get(controllerModel.getController()
                                                                                 .getPackage(),
                                                                  controllerModel.getController()
@@ -235,8 +253,7 @@ public class ModuleGenerator {
                              if (AlwaysLoadComposite.class.getSimpleName()
                                                           .equals(controllerCompositeModel.getCondition()
                                                                                           .getSimpleName())) {
-                               loadComponentsMethodBuilder.addStatement("$T.get().registerCondition($S, $S, super.alwaysLoadComposite)",
-                                                                        ClassName.get(ControllerCompositeConditionFactory.class),
+                               loadComponentsMethodBuilder.addStatement("applicationScope.getControllerCompositeConditionFactory().registerCondition($S, $S, super.alwaysLoadComposite)",
                                                                         controllerModel.getProvider()
                                                                                        .getPackage() +
                                                                         "." +
@@ -268,8 +285,7 @@ public class ModuleGenerator {
                                  generatedConditionClassNames.add(controllerCompositeModel.getCondition()
                                                                                           .getClassName());
                                }
-                               loadComponentsMethodBuilder.addStatement("$T.get().registerCondition($S, $S, $L)",
-                                                                        ClassName.get(ControllerCompositeConditionFactory.class),
+                               loadComponentsMethodBuilder.addStatement("applicationScope.getControllerCompositeConditionFactory().registerCondition($S, $S, $L)",
                                                                         controllerModel.getProvider()
                                                                                        .getPackage() +
                                                                         "." +
@@ -312,6 +328,34 @@ public class ModuleGenerator {
                                                               .addStatement("routerConfiguration.getFilters().add($L)",
                                                                             this.processorUtils.createFullClassName(classNameModel.getClassName())));
 
+    this.metaModel.getRouteFilters()
+                  .forEach(routeFilterModel -> loadFiltersMethod.addStatement("$T $L = new $T()",
+                                                                              ClassName.get(routeFilterModel.getFilter()
+                                                                                                            .getPackage(),
+                                                                                            routeFilterModel.getFilter()
+                                                                                                            .getSimpleName()),
+                                                                              this.processorUtils.createFullClassName(routeFilterModel.getFilter()
+                                                                                                                                      .getClassName()),
+                                                                              ClassName.get(routeFilterModel.getFilter()
+                                                                                                            .getPackage(),
+                                                                                            routeFilterModel.getFilter()
+                                                                                                            .getSimpleName()))
+                                                                .addStatement("$L.setContext(super.moduleContext)",
+                                                                              this.processorUtils.createFullClassName(routeFilterModel.getFilter()
+                                                                                                                                      .getClassName()))
+                                                                .addStatement("$L.setEventBus(super.eventBus)",
+                                                                              this.processorUtils.createFullClassName(routeFilterModel.getFilter()
+                                                                                                                                      .getClassName()))
+                                                                .addStatement("routerConfiguration.addFilter($L, $L)",
+                                                                              this.processorUtils.createFullClassName(routeFilterModel.getFilter()
+                                                                                                                                      .getClassName()),
+                                                                              CodeBlock.join(routeFilterModel.getRoutes()
+                                                                                                             .stream()
+                                                                                                             .map(route -> CodeBlock.of("$S",
+                                                                                                                                        route))
+                                                                                                             .collect(Collectors.toList()),
+                                                                                             ", ")));
+    
     typeSpec.addMethod(loadFiltersMethod.build());
   }
 
@@ -335,8 +379,7 @@ public class ModuleGenerator {
                                                                                  this.processorUtils.createFullClassName(classNameModel.getClassName()))
                                                                    .addStatement("$L.setEventBus(super.eventBus)",
                                                                                  this.processorUtils.createFullClassName(classNameModel.getClassName()))
-                                                                   .addStatement("$T.get().registerPopUpFilter($S, $L)",
-                                                                                 ClassName.get(PopUpControllerFactory.class),
+                                                                   .addStatement("applicationScope.getPopUpControllerFactory().registerPopUpFilter($S, $L)",
                                                                                  this.processorUtils.createFullClassName(classNameModel.getClassName()),
                                                                                  this.processorUtils.createFullClassName(classNameModel.getClassName())));
 
@@ -380,9 +423,10 @@ public class ModuleGenerator {
     List<String> generatedConditionClassNames = new ArrayList<>();
     this.metaModel.getPopUpControllers()
                   .forEach(popUpControllerModel -> {
-                    loadPopUpControllersMethod.addStatement("$T.get().registerPopUpController($S, new $L(super.router, super.moduleContext, super.eventBus))",
-                                                            ClassName.get(PopUpControllerFactory.class),
+                    loadPopUpControllersMethod.addStatement("super.applicationScope.getPopUpControllerFactory().registerPopUpController($S, $Lnew $L(super.router, super.moduleContext, super.eventBus))",
                                                             popUpControllerModel.getName(),
+                                                            this.metaModel.getModuleModel()
+                                                                          .isLazyCreatorRegistration() ? "() -> " : "",
                                                             ClassName.get(popUpControllerModel.getController()
                                                                                               .getPackage(),
                                                                           popUpControllerModel.getController()
@@ -391,8 +435,7 @@ public class ModuleGenerator {
                     if (AlwaysShowPopUp.class.getSimpleName()
                                              .equals(popUpControllerModel.getCondition()
                                                                          .getSimpleName())) {
-                      loadPopUpControllersMethod.addStatement("$T.get().registerCondition($S,  super.alwaysShowPopUp)",
-                                                              ClassName.get(PopUpConditionFactory.class),
+                      loadPopUpControllersMethod.addStatement("super.applicationScope.getPopUpConditionFactory().registerCondition($S,  super.alwaysShowPopUp)",
                                                               popUpControllerModel.getName());
                     } else {
                       String conditionVariableName;
@@ -424,8 +467,7 @@ public class ModuleGenerator {
                         generatedConditionClassNames.add(popUpControllerModel.getCondition()
                                                                              .getClassName());
                       }
-                      loadPopUpControllersMethod.addStatement("$T.get().registerCondition($S,  $L)",
-                                                              ClassName.get(PopUpConditionFactory.class),
+                      loadPopUpControllersMethod.addStatement("super.applicationScope.getPopUpConditionFactory().registerCondition($S,  $L)",
                                                               conditionVariableName);
                     }
                   });
@@ -438,8 +480,7 @@ public class ModuleGenerator {
                                                               .addAnnotation(Override.class)
                                                               .addModifiers(Modifier.PUBLIC);
     this.metaModel.getBlockControllers()
-                  .forEach(blockControllerModel -> loadBlockControllersMethod.addStatement("$T.get().registerBlockController($S, new $L(super.router, super.moduleContext, super.eventBus))",
-                                                                                           ClassName.get(BlockControllerFactory.class),
+                  .forEach(blockControllerModel -> loadBlockControllersMethod.addStatement("super.applicationScope.getBlockControllerFactory().registerBlockController($S, new $L(super.router, super.moduleContext, super.eventBus))",
                                                                                            blockControllerModel.getName(),
                                                                                            ClassName.get(blockControllerModel.getController()
                                                                                                                              .getPackage(),
@@ -495,6 +536,21 @@ public class ModuleGenerator {
     typeSpec.addMethod(loadRouteConfigMethodBuilder.build());
   }
 
+  private void generateGetRouteMatcher(TypeSpec.Builder typeSpec) {
+    typeSpec.addMethod(MethodSpec.methodBuilder("getRouteMatcher")
+                                 .addModifiers(Modifier.PUBLIC)
+                                 .addAnnotation(Override.class)
+                                 .returns(ClassName.get(IsRouteMatcher.class))
+                                 .addStatement("return new $T()",
+                                               ClassName.get(this.metaModel.getModuleModel()
+                                                                           .getModule()
+                                                                           .getPackage(),
+                                                             this.metaModel.getModuleModel()
+                                                                           .getModule()
+                                                                           .getSimpleName() + ProcessorConstants.ROUTE_MATCHER_IMPL))
+                                 .build());
+  }
+
   private void generateGetCompositeReferences(TypeSpec.Builder typeSpec) {
     MethodSpec.Builder getCompositeReferencesMethod = MethodSpec.methodBuilder("getCompositeReferences")
                                                                 .addModifiers(Modifier.PUBLIC)
@@ -16,8 +16,6 @@
 package com.github.nalukit.nalu.processor.generator;
 
 import com.github.nalukit.nalu.client.component.AlwaysShowPopUp;
-import com.github.nalukit.nalu.client.internal.application.PopUpConditionFactory;
-import com.github.nalukit.nalu.client.internal.application.PopUpControllerFactory;
 import com.github.nalukit.nalu.processor.ProcessorConstants;
 import com.github.nalukit.nalu.processor.model.MetaModel;
 import com.github.nalukit.nalu.processor.model.intern.ClassNameModel;
@@ -59,9 +57,9 @@ public class PopUpControllerGenerator {
     List<String> generatedConditionClassNames = new ArrayList<>();
     this.metaModel.getPopUpControllers()
                   .forEach(popUpControllerModel -> {
-                    loadPopUpControllerFactoryMethodBuilder.addStatement("$T.get().registerPopUpController($S, new $L(router, context, eventBus))",
-                                                                         ClassName.get(PopUpControllerFactory.class),
+                    loadPopUpControllerFactoryMethodBuilder.addStatement("applicationScope.getPopUpControllerFactory().registerPopUpController($S, $Lnew $L(router, context, eventBus))",
                                                                          popUpControllerModel.getName(),
+                                                                         this.metaModel.isLazyCreatorRegistration() ? "() -> " : "",
                                                                          ClassName.get(popUpControllerModel.getController()
                                                                                                            .getPackage(),
                                                                                        popUpControllerModel.getController()
@@ -70,8 +68,7 @@ public class PopUpControllerGenerator {
                     if (AlwaysShowPopUp.class.getSimpleName()
                                              .equals(popUpControllerModel.getCondition()
                                                                          .getSimpleName())) {
-                      loadPopUpControllerFactoryMethodBuilder.addStatement("$T.get().registerCondition($S,  super.alwaysShowPopUp)",
-                                                                           ClassName.get(PopUpConditionFactory.class),
+                      loadPopUpControllerFactoryMethodBuilder.addStatement("applicationScope.getPopUpConditionFactory().registerCondition($S,  super.alwaysShowPopUp)",
                                                                            popUpControllerModel.getName());
                     } else {
                       String conditionVariableName;
@@ -103,8 +100,7 @@ public class PopUpControllerGenerator {
                         generatedConditionClassNames.add(popUpControllerModel.getCondition()
                                                                              .getClassName());
                       }
-                      loadPopUpControllerFactoryMethodBuilder.addStatement("$T.get().registerCondition($S,  $L)",
-                                                                           ClassName.get(PopUpConditionFactory.class),
+                      loadPopUpControllerFactoryMethodBuilder.addStatement("applicationScope.getPopUpConditionFactory().registerCondition($S,  $L)",
                                                                            conditionVariableName);
                     }
                   });
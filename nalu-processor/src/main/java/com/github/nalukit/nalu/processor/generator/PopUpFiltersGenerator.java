@@ -15,7 +15,6 @@
  */
 package com.github.nalukit.nalu.processor.generator;
 
-import com.github.nalukit.nalu.client.internal.application.PopUpControllerFactory;
 import com.github.nalukit.nalu.processor.ProcessorUtils;
 import com.github.nalukit.nalu.processor.model.MetaModel;
 import com.squareup.javapoet.ClassName;
@@ -75,8 +74,7 @@ public class PopUpFiltersGenerator {
                                                                                  this.processorUtils.createFullClassName(classNameModel.getClassName()))
                                                                    .addStatement("$L.setEventBus(super.eventBus)",
                                                                                  this.processorUtils.createFullClassName(classNameModel.getClassName()))
-                                                                   .addStatement("$T.get().registerPopUpFilter($S, $L)",
-                                                                                 ClassName.get(PopUpControllerFactory.class),
+                                                                   .addStatement("applicationScope.getPopUpControllerFactory().registerPopUpFilter($S, $L)",
                                                                                  this.processorUtils.createFullClassName(classNameModel.getClassName()),
                                                                                  this.processorUtils.createFullClassName(classNameModel.getClassName())));
 
@@ -0,0 +1,359 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.processor.generator;
+
+import com.github.nalukit.nalu.client.internal.AbstractRouteMatcher;
+import com.github.nalukit.nalu.client.internal.route.RouteTemplate;
+import com.github.nalukit.nalu.processor.ProcessorConstants;
+import com.github.nalukit.nalu.processor.ProcessorException;
+import com.github.nalukit.nalu.processor.model.MetaModel;
+import com.github.nalukit.nalu.processor.util.BuildWithNaluCommentProvider;
+import com.squareup.javapoet.*;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Modifier;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Generates the route matcher of an application or a module.
+ * <p>
+ * The generated matcher switches on the number of parts of the route and
+ * the shell. Inside the switch the routes are checked in the order they are
+ * added to the router configuration, so the matcher returns the same route
+ * as the route index.
+ */
+public class RouteMatcherGenerator {
+  
+  private ProcessingEnvironment processingEnvironment;
+  
+  private MetaModel metaModel;
+  
+  private String packageName;
+  
+  private String simpleName;
+  
+  @SuppressWarnings("unused")
+  private RouteMatcherGenerator() {
+  }
+  
+  private RouteMatcherGenerator(Builder builder) {
+    this.processingEnvironment = builder.processingEnvironment;
+    this.metaModel             = builder.metaModel;
+    this.packageName           = builder.packageName;
+    this.simpleName            = builder.simpleName;
+  }
+  
+  public static Builder builder() {
+    return new Builder();
+  }
+  
+  public void generate()
+      throws ProcessorException {
+    List<String> routes = this.getRoutes();
+    List<String[]> partsOfRoutes = routes.stream()
+                                         .map(this::split)
+                                         .collect(Collectors.toList());
+    
+    TypeSpec.Builder typeSpec = TypeSpec.classBuilder(this.simpleName + ProcessorConstants.ROUTE_MATCHER_IMPL)
+                                        .addJavadoc(BuildWithNaluCommentProvider.get()
+                                                                                .getGeneratedComment())
+                                        .superclass(ClassName.get(AbstractRouteMatcher.class))
+                                        .addModifiers(Modifier.PUBLIC,
+                                                      Modifier.FINAL);
+    // constructor ...
+    CodeBlock.Builder routesArray = CodeBlock.builder()
+                                             .add("new String[] {");
+    for (int i = 0; i < routes.size(); i++) {
+      routesArray.add(i == 0 ? "$S" : ", $S",
+                      routes.get(i));
+    }
+    routesArray.add("}");
+    typeSpec.addMethod(MethodSpec.constructorBuilder()
+                                 .addModifiers(Modifier.PUBLIC)
+                                 .addStatement("super($L)",
+                                               routesArray.build())
+                                 .build());
+    // match method
+    MethodSpec.Builder matchMethod = MethodSpec.methodBuilder("match")
+                                               .addAnnotation(ClassName.get(Override.class))
+                                               .addModifiers(Modifier.PUBLIC)
+                                               .addParameter(ParameterSpec.builder(String[].class,
+                                                                                   "partsOfRoute")
+                                                                          .build())
+                                               .addParameter(ParameterSpec.builder(boolean.class,
+                                                                                   "usingColonForParametersInUrl")
+                                                                          .build())
+                                               .returns(int.class);
+    int maxNumberOfParts = partsOfRoutes.stream()
+                                        .mapToInt(parts -> parts.length)
+                                        .max()
+                                        .orElse(0);
+    matchMethod.beginControlFlow("switch (partsOfRoute.length)");
+    // an empty route matches every route
+    matchMethod.addCode("case 0:\n$>")
+               .addStatement("return $L",
+                             routes.isEmpty() ? "NO_MATCH" : "0")
+               .addCode("$<");
+    for (int numberOfParts = 1; numberOfParts <= maxNumberOfParts; numberOfParts++) {
+      List<Integer> candidates = this.getCandidates(partsOfRoutes,
+                                                    numberOfParts);
+      if (candidates.isEmpty()) {
+        continue;
+      }
+      matchMethod.addCode("case $L:\n$>",
+                          numberOfParts);
+      Set<String> shells = new LinkedHashSet<>();
+      candidates.stream()
+                .map(routeId -> partsOfRoutes.get(routeId)[0])
+                .filter(shell -> !"*".equals(shell))
+                .forEach(shells::add);
+      if (shells.isEmpty()) {
+        this.generateChecks(matchMethod,
+                            partsOfRoutes,
+                            candidates,
+                            numberOfParts);
+      } else {
+        matchMethod.beginControlFlow("switch (partsOfRoute[0])");
+        for (String shell : shells) {
+          matchMethod.addCode("case $S:\n$>",
+                              shell);
+          this.generateChecks(matchMethod,
+                              partsOfRoutes,
+                              candidates.stream()
+                                        .filter(routeId -> shell.equals(partsOfRoutes.get(routeId)[0]) ||
+                                                           "*".equals(partsOfRoutes.get(routeId)[0]))
+                                        .collect(Collectors.toList()),
+                              numberOfParts);
+          matchMethod.addCode("$<");
+        }
+        matchMethod.addCode("default:\n$>");
+        this.generateChecks(matchMethod,
+                            partsOfRoutes,
+                            candidates.stream()
+                                      .filter(routeId -> "*".equals(partsOfRoutes.get(routeId)[0]))
+                                      .collect(Collectors.toList()),
+                            numberOfParts);
+        matchMethod.addCode("$<")
+                   .endControlFlow();
+      }
+      matchMethod.addCode("$<");
+    }
+    matchMethod.addCode("default:\n$>")
+               .addStatement("return NO_MATCH")
+               .addCode("$<")
+               .endControlFlow();
+    typeSpec.addMethod(matchMethod.build());
+    // route templates
+    typeSpec.addMethod(MethodSpec.methodBuilder("getRouteTemplates")
+                                 .addAnnotation(ClassName.get(Override.class))
+                                 .addModifiers(Modifier.PUBLIC)
+                                 .returns(ArrayTypeName.of(ClassName.get(RouteTemplate.class)))
+                                 .addStatement("return $L",
+                                               this.generateRouteTemplates(routes))
+                                 .build());
+    
+    JavaFile javaFile = JavaFile.builder(this.packageName,
+                                         typeSpec.build())
+                                .build();
+    try {
+      javaFile.writeTo(this.processingEnvironment.getFiler());
+    } catch (IOException e) {
+      throw new ProcessorException("Unable to write generated file: >>" +
+                                   this.packageName +
+                                   "." +
+                                   this.simpleName +
+                                   ProcessorConstants.ROUTE_MATCHER_IMPL +
+                                   "<< -> exception: " +
+                                   e.getMessage());
+    }
+  }
+  
+  /**
+   * Generates the checks of the candidates in the order of the routes.
+   * The generation stops with the first candidate that matches without
+   * any check.
+   */
+  private void generateChecks(MethodSpec.Builder matchMethod,
+                              List<String[]> partsOfRoutes,
+                              List<Integer> candidates,
+                              int numberOfParts) {
+    for (Integer routeId : candidates) {
+      String[]        partsOfRoute = partsOfRoutes.get(routeId);
+      List<CodeBlock> conditions   = new ArrayList<>();
+      // the shell is already checked by the switch (in case it is not a parameter)
+      for (int i = 0; i < numberOfParts; i++) {
+        if ("*".equals(partsOfRoute[i])) {
+          conditions.add(CodeBlock.of("matchParameter(partsOfRoute[$L], usingColonForParametersInUrl)",
+                                      i));
+        } else if (i > 0) {
+          conditions.add(CodeBlock.of("$S.equals(partsOfRoute[$L])",
+                                      partsOfRoute[i],
+                                      i));
+        }
+      }
+      if (conditions.isEmpty()) {
+        matchMethod.addStatement("return $L",
+                                 routeId);
+        return;
+      }
+      matchMethod.beginControlFlow("if ($L)",
+                                   CodeBlock.join(conditions,
+                                                  " && "))
+                 .addStatement("return $L",
+                               routeId)
+                 .endControlFlow();
+    }
+    matchMethod.addStatement("return NO_MATCH");
+  }
+  
+  /**
+   * Generates the compiled templates of the routes. The templates are compiled
+   * the same way the router does.
+   */
+  private CodeBlock generateRouteTemplates(List<String> routes) {
+    CodeBlock.Builder routeTemplates = CodeBlock.builder()
+                                                .add("new $T[] {$>",
+                                                     ClassName.get(RouteTemplate.class));
+    List<String> compiledRoutes = new ArrayList<>();
+    for (String route : routes) {
+      if (compiledRoutes.contains(route)) {
+        continue;
+      }
+      RouteTemplate routeTemplate = RouteTemplate.compile(route);
+      CodeBlock.Builder chunks = CodeBlock.builder()
+                                          .add("new String[] {");
+      for (int i = 0; i < routeTemplate.getChunks().length; i++) {
+        chunks.add(i == 0 ? "$S" : ", $S",
+                   routeTemplate.getChunks()[i]);
+      }
+      chunks.add("}");
+      routeTemplates.add(compiledRoutes.isEmpty() ? "\n$L" : ",\n$L",
+                         CodeBlock.of("new $T($S, $L)",
+                                      ClassName.get(RouteTemplate.class),
+                                      route,
+                                      chunks.build()));
+      compiledRoutes.add(route);
+    }
+    return routeTemplates.add("$<}")
+                         .build();
+  }
+  
+  /**
+   * Returns the routes, that can match a route with the given number of parts.
+   * Besides routes with the same number of parts, these are the routes that
+   * have only parameters at the end.
+   */
+  private List<Integer> getCandidates(List<String[]> partsOfRoutes,
+                                      int numberOfParts) {
+    List<Integer> candidates = new ArrayList<>();
+    for (int routeId = 0; routeId < partsOfRoutes.size(); routeId++) {
+      String[] partsOfRoute = partsOfRoutes.get(routeId);
+      if (partsOfRoute.length < numberOfParts) {
+        continue;
+      }
+      boolean onlyParameterAtEnd = true;
+      for (int i = numberOfParts; i < partsOfRoute.length; i++) {
+        if (!"*".equals(partsOfRoute[i])) {
+          onlyParameterAtEnd = false;
+          break;
+        }
+      }
+      if (onlyParameterAtEnd) {
+        candidates.add(routeId);
+      }
+    }
+    return candidates;
+  }
+  
+  /**
+   * Returns the routes in the same order as they are added to the
+   * router configuration.
+   */
+  private List<String> getRoutes() {
+    List<String> routes = new ArrayList<>();
+    this.metaModel.getControllers()
+                  .forEach(controllerModel -> controllerModel.getRoute()
+                                                             .forEach(route -> routes.add(route.startsWith("/") ? route : "/" + route)));
+    return routes;
+  }
+  
+  /**
+   * Splits the route the same way the router does.
+   */
+  private String[] split(String route) {
+    if (route.length() > 1) {
+      return route.substring(1)
+                  .split("/");
+    }
+    return new String[] { "" };
+  }
+  
+  public static final class Builder {
+    
+    ProcessingEnvironment processingEnvironment;
+    
+    MetaModel metaModel;
+    
+    String packageName;
+    
+    String simpleName;
+    
+    public Builder processingEnvironment(ProcessingEnvironment processingEnvironment) {
+      this.processingEnvironment = processingEnvironment;
+      return this;
+    }
+    
+    public Builder metaModel(MetaModel metaModel) {
+      this.metaModel = metaModel;
+      return this;
+    }
+    
+    /**
+     * Set the package of the generated route matcher
+     *
+     * @param packageName package of the generated class
+     * @return the Builder
+     */
+    public Builder packageName(String packageName) {
+      this.packageName = packageName;
+      return this;
+    }
+    
+    /**
+     * Set the simple name of the application or module. The name is used
+     * as prefix for the class name of the generated route matcher.
+     *
+     * @param simpleName simple name of the application or module
+     * @return the Builder
+     */
+    public Builder simpleName(String simpleName) {
+      this.simpleName = simpleName;
+      return this;
+    }
+    
+    public RouteMatcherGenerator build() {
+      return new RouteMatcherGenerator(this);
+    }
+    
+  }
+  
+}
@@ -15,7 +15,6 @@
  */
 package com.github.nalukit.nalu.processor.generator;
 
-import com.github.nalukit.nalu.client.internal.application.ShellFactory;
 import com.github.nalukit.nalu.client.internal.route.ShellConfig;
 import com.github.nalukit.nalu.processor.ProcessorConstants;
 import com.github.nalukit.nalu.processor.model.MetaModel;
@@ -72,13 +71,13 @@ public class ShellGenerator {
     this.metaModel.getShells()
                   .forEach(shellModel -> {
                     // add return statement
-                    loadShellFactoryMethodBuilder.addStatement("$T.get().registerShell($S, new $L(router, context, eventBus))",
-                                                               ClassName.get(ShellFactory.class),
+                    loadShellFactoryMethodBuilder.addStatement("applicationScope.getShellFactory().registerShell($S, $Lnew $L(router, context, eventBus))",
                                                                shellModel.getShell()
                                                                          .getPackage() +
                                                                "." +
                                                                shellModel.getShell()
                                                                          .getSimpleName(),
+                                                               this.metaModel.isLazyCreatorRegistration() ? "() -> " : "",
                                                                ClassName.get(shellModel.getShell()
                                                                                        .getPackage(),
                                                                              shellModel.getShell()
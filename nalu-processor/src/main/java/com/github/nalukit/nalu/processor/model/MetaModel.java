@@ -51,6 +51,7 @@ public class MetaModel {
   private List<BlockControllerModel> blockControllers;
   private List<PopUpControllerModel> popUpControllers;
   private List<ClassNameModel> filters;
+  private List<RouteFilterModel> routeFilters;
   private List<ClassNameModel> popUpFilters;
   private List<ClassNameModel> handlers;
   private ClassNameModel componentType;
@@ -69,6 +70,9 @@ public class MetaModel {
   /* do we have to remove the URL parameter      */
   /* from the URL                                */
   private boolean removeUrlParameterAtStart;
+  /* register suppliers of the creators instead  */
+  /* of the creators                             */
+  private boolean lazyCreatorRegistration;
 
   public MetaModel() {
     this.modules = new ArrayList<>();
@@ -77,6 +81,7 @@ public class MetaModel {
     this.blockControllers = new ArrayList<>();
     this.popUpControllers = new ArrayList<>();
     this.filters = new ArrayList<>();
+    this.routeFilters = new ArrayList<>();
     this.popUpFilters = new ArrayList<>();
     this.handlers = new ArrayList<>();
     this.compositeModels = new ArrayList<>();
@@ -84,6 +89,7 @@ public class MetaModel {
     this.applicationVersion = "APPLCIATIOPN-VERSION-NOT-AVAILABLE";
     this.extendingIsModuleContext = false;
     this.removeUrlParameterAtStart = false;
+    this.lazyCreatorRegistration = false;
   }
   
   public ModuleModel getModuleModel() {
@@ -174,6 +180,14 @@ public class MetaModel {
     this.filters = filters;
   }
   
+  public List<RouteFilterModel> getRouteFilters() {
+    return routeFilters;
+  }
+  
+  public void setRouteFilters(List<RouteFilterModel> routeFilters) {
+    this.routeFilters = routeFilters;
+  }
+  
   public List<ClassNameModel> getHandlers() {
     return handlers;
   }
@@ -348,4 +362,12 @@ public class MetaModel {
   public void setRemoveUrlParameterAtStart(boolean removeUrlParameterAtStart) {
     this.removeUrlParameterAtStart = removeUrlParameterAtStart;
   }
+
+  public boolean isLazyCreatorRegistration() {
+    return lazyCreatorRegistration;
+  }
+
+  public void setLazyCreatorRegistration(boolean lazyCreatorRegistration) {
+    this.lazyCreatorRegistration = lazyCreatorRegistration;
+  }
 }
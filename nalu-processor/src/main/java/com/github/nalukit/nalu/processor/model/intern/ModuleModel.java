@@ -29,14 +29,18 @@ public class ModuleModel {
   
   private ClassNameModel moduleLoader;
   
+  private boolean lazyCreatorRegistration;
+  
   public ModuleModel(String name,
                      ClassNameModel module,
                      ClassNameModel moduleContext,
-                     ClassNameModel moduleLoader) {
-    this.name          = name;
-    this.module        = module;
-    this.moduleContext = moduleContext;
-    this.moduleLoader  = moduleLoader;
+                     ClassNameModel moduleLoader,
+                     boolean lazyCreatorRegistration) {
+    this.name                    = name;
+    this.module                  = module;
+    this.moduleContext           = moduleContext;
+    this.moduleLoader            = moduleLoader;
+    this.lazyCreatorRegistration = lazyCreatorRegistration;
   }
   
   public String getName() {
@@ -71,4 +75,12 @@ public class ModuleModel {
     this.moduleLoader = moduleLoader;
   }
   
+  public boolean isLazyCreatorRegistration() {
+    return lazyCreatorRegistration;
+  }
+  
+  public void setLazyCreatorRegistration(boolean lazyCreatorRegistration) {
+    this.lazyCreatorRegistration = lazyCreatorRegistration;
+  }
+  
 }
@@ -80,6 +80,7 @@ public class ApplicationAnnotationScanner {
       metaModel.setStartRoute(applicationAnnotation.startRoute());
       metaModel.setIllegalRouteTarget(applicationAnnotation.illegalRouteTarget());
       metaModel.setRemoveUrlParameterAtStart(applicationAnnotation.removeUrlParameterAtStart());
+      metaModel.setLazyCreatorRegistration(applicationAnnotation.lazyCreatorRegistration());
       metaModel.setUsingHash(applicationAnnotation.useHash());
       metaModel.setUsingColonForParametersInUrl(applicationAnnotation.useColonForParametersInUrl());
       metaModel.setStayOnSide(applicationAnnotation.stayOnSite());
@@ -17,16 +17,21 @@
 package com.github.nalukit.nalu.processor.scanner;
 
 import com.github.nalukit.nalu.client.application.annotation.Filters;
+import com.github.nalukit.nalu.client.application.annotation.RouteFilter;
 import com.github.nalukit.nalu.processor.model.MetaModel;
 import com.github.nalukit.nalu.processor.model.intern.ClassNameModel;
+import com.github.nalukit.nalu.processor.model.intern.RouteFilterModel;
 
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.MirroredTypeException;
 import javax.lang.model.type.TypeMirror;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 public class FiltersAnnotationScanner {
@@ -69,6 +74,9 @@ public class FiltersAnnotationScanner {
                               .flatMap(annotationMirror -> annotationMirror.getElementValues()
                                                                            .entrySet()
                                                                            .stream())
+                              .filter(entry -> "filterClasses".equals(entry.getKey()
+                                                                           .getSimpleName()
+                                                                           .toString()))
                               .findFirst().<List<String>>map(entry -> Arrays.stream(entry.getValue()
                                                                                          .toString()
                                                                                          .replace("{",
@@ -80,7 +88,30 @@ public class FiltersAnnotationScanner {
                                                                                          .split(","))
                                                                             .map((v) -> v.substring(0,
                                                                                                     v.indexOf(".class")))
-                                                                            .collect(Collectors.toList())).orElse(null);
+                                                                            .collect(Collectors.toList())).orElse(new ArrayList<>());
+  }
+  
+  public List<RouteFilterModel> scanRouteFilters(RoundEnvironment roundEnvironment) {
+    List<RouteFilterModel> models     = new ArrayList<>();
+    Filters                annotation = this.filtersElement.getAnnotation(Filters.class);
+    if (annotation != null) {
+      for (RouteFilter routeFilter : annotation.routeFilters()) {
+        models.add(new RouteFilterModel(new ClassNameModel(Objects.requireNonNull(getFilterTypeElement(routeFilter))
+                                                                  .toString()),
+                                        Arrays.asList(routeFilter.routes())));
+      }
+    }
+    return models;
+  }
+  
+  private TypeElement getFilterTypeElement(RouteFilter annotation) {
+    try {
+      annotation.filterClass();
+    } catch (MirroredTypeException exception) {
+      return (TypeElement) this.processingEnvironment.getTypeUtils()
+                                                     .asElement(exception.getTypeMirror());
+    }
+    return null;
   }
   
   public static class Builder {
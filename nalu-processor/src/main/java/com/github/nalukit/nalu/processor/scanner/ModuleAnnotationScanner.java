@@ -72,7 +72,8 @@ public class ModuleAnnotationScanner {
     return new ModuleModel(moduleAnnotation.name(),
                            new ClassNameModel(moduleElement.toString()),
                            new ClassNameModel(context),
-                           new ClassNameModel(isNull(moduleLoaderTypeElement) ? "" : moduleLoaderTypeElement.toString()));
+                           new ClassNameModel(isNull(moduleLoaderTypeElement) ? "" : moduleLoaderTypeElement.toString()),
+                           moduleAnnotation.lazyCreatorRegistration());
   }
   
   private String getContextType(Element element) {
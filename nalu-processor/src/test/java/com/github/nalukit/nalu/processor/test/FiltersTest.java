@@ -22,6 +22,7 @@ import com.google.testing.compile.CompilationSubject;
 import com.google.testing.compile.JavaFileObjects;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import static com.google.testing.compile.Compiler.javac;
@@ -39,4 +40,20 @@ public class FiltersTest {
                       .hadErrorContaining("Nalu-Processor: @Filters can only be used on a type (interface)");
   }
   
+  @Test
+  void testRouteFiltersOk() {
+    Compilation compilation = javac().withProcessors(new NaluProcessor())
+                                     .compile(Arrays.asList(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/filter/routeFiltersOk/RouteFiltersOk.java"),
+                                                            JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/MockFilter.java"),
+                                                            JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/ui/MockShell.java"),
+                                                            JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/ui/component01/Controller01.java"),
+                                                            JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/ui/component01/IComponent01.java"),
+                                                            JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/ui/component01/Component01.java")));
+    CompilationSubject.assertThat(compilation)
+                      .succeeded();
+    CompilationSubject.assertThat(compilation)
+                      .generatedSourceFile("com/github/nalukit/nalu/processor/filter/routeFiltersOk/RouteFiltersOkImpl")
+                      .hasSourceEquivalentTo(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/filter/routeFiltersOk/RouteFiltersOkImpl.java"));
+  }
+  
 }
@@ -43,4 +43,28 @@ public class ModuleTest {
                       .hadErrorContaining("Nalu-Processor:@ErrorPopUpController: can only be use inside a main module");
   }
   
+  @Test
+  void testModuleGetRouteMatcher() {
+    Compilation compilation = javac().withProcessors(new NaluProcessor())
+                                     .compile(Arrays.asList(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/module/moduleRouteMatcher/MockModule.java"),
+                                                            JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/ui/component01/ControllerModule01.java")));
+    CompilationSubject.assertThat(compilation)
+                      .succeeded();
+    CompilationSubject.assertThat(compilation)
+                      .generatedSourceFile("com/github/nalukit/nalu/processor/module/moduleRouteMatcher/MockModuleModuleImpl")
+                      .hasSourceEquivalentTo(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/module/moduleRouteMatcher/MockModuleModuleImpl.java"));
+  }
+  
+  @Test
+  void testModuleRouteMatcher() {
+    Compilation compilation = javac().withProcessors(new NaluProcessor())
+                                     .compile(Arrays.asList(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/module/moduleRouteMatcher/MockModule.java"),
+                                                            JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/ui/component01/ControllerModule01.java")));
+    CompilationSubject.assertThat(compilation)
+                      .succeeded();
+    CompilationSubject.assertThat(compilation)
+                      .generatedSourceFile("com/github/nalukit/nalu/processor/module/moduleRouteMatcher/MockModuleRouteMatcherImpl")
+                      .hasSourceEquivalentTo(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/module/moduleRouteMatcher/MockModuleRouteMatcherImpl.java"));
+  }
+  
 }
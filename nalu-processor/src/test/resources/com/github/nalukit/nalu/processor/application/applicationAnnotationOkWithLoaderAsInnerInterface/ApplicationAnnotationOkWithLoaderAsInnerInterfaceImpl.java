@@ -3,8 +3,6 @@ package com.github.nalukit.nalu.processor.application.applicationAnnotationOkWit
 import com.github.nalukit.nalu.client.application.IsLoader;
 import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.client.internal.application.AbstractApplication;
-import com.github.nalukit.nalu.client.internal.application.ControllerFactory;
-import com.github.nalukit.nalu.client.internal.application.ShellFactory;
 import com.github.nalukit.nalu.client.internal.route.RouteConfig;
 import com.github.nalukit.nalu.client.internal.route.ShellConfig;
 import com.github.nalukit.nalu.client.tracker.IsTracker;
@@ -54,7 +52,7 @@ public final class ApplicationAnnotationOkWithLoaderAsInnerInterfaceImpl extends
   @Override
   public void loadShellFactory() {
     // create ShellCreator for: com.github.nalukit.nalu.processor.common.MockShell
-    ShellFactory.get().registerShell("com.github.nalukit.nalu.processor.common.MockShell", new com.github.nalukit.nalu.processor.common.MockShellCreatorImpl(router, context, eventBus));
+    applicationScope.getShellFactory().registerShell("com.github.nalukit.nalu.processor.common.MockShell", new com.github.nalukit.nalu.processor.common.MockShellCreatorImpl(router, context, eventBus));
   }
 
   @Override
@@ -64,7 +62,7 @@ public final class ApplicationAnnotationOkWithLoaderAsInnerInterfaceImpl extends
   @Override
   public void loadComponents() {
     // create ControllerCreator for: com.github.nalukit.nalu.processor.common.ui.component01.Controller01
-    ControllerFactory.get().registerController("com.github.nalukit.nalu.processor.common.ui.component01.Controller01", new com.github.nalukit.nalu.processor.common.ui.component01.Controller01CreatorImpl(router, context, eventBus));
+    applicationScope.getControllerFactory().registerController("com.github.nalukit.nalu.processor.common.ui.component01.Controller01", new com.github.nalukit.nalu.processor.common.ui.component01.Controller01CreatorImpl(router, context, eventBus, applicationScope));
   }
 
   @Override
@@ -76,6 +74,7 @@ public final class ApplicationAnnotationOkWithLoaderAsInnerInterfaceImpl extends
     sb01 = new StringBuilder();
     sb01.append("register route >>/mockShell/route01/*<< with parameter >>parameter01<< for selector >>selector01<< for controller >>com.github.nalukit.nalu.processor.common.ui.component01.Controller01<<");
     ClientLogger.get().logDetailed(sb01.toString(), 3);
+    super.routerConfiguration.registerRouteMatcher(new ApplicationAnnotationOkWithLoaderAsInnerInterfaceRouteMatcherImpl());
   }
 
   @Override
@@ -4,10 +4,6 @@ import com.github.nalukit.nalu.client.application.IsLoader;
 import com.github.nalukit.nalu.client.application.event.LogEvent;
 import com.github.nalukit.nalu.client.internal.CompositeControllerReference;
 import com.github.nalukit.nalu.client.internal.application.AbstractApplication;
-import com.github.nalukit.nalu.client.internal.application.CompositeFactory;
-import com.github.nalukit.nalu.client.internal.application.ControllerCompositeConditionFactory;
-import com.github.nalukit.nalu.client.internal.application.ControllerFactory;
-import com.github.nalukit.nalu.client.internal.application.ShellFactory;
 import com.github.nalukit.nalu.client.internal.route.RouteConfig;
 import com.github.nalukit.nalu.client.internal.route.ShellConfig;
 import com.github.nalukit.nalu.client.plugin.IsCustomAlertPresenter;
@@ -47,23 +43,24 @@ public final class ApplicationWithComposite01Impl extends AbstractApplication<Mo
   
   @Override
   public void loadShellFactory() {
-    ShellFactory.get().registerShell("com.github.nalukit.nalu.processor.common.MockShell", new com.github.nalukit.nalu.processor.common.MockShellCreatorImpl(router, context, eventBus));
+    applicationScope.getShellFactory().registerShell("com.github.nalukit.nalu.processor.common.MockShell", new com.github.nalukit.nalu.processor.common.MockShellCreatorImpl(router, context, eventBus));
   }
   
   @Override
   public void loadCompositeController() {
-    CompositeFactory.get().registerComposite("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite01.composite.CompositeController01", new com.github.nalukit.nalu.processor.common.ui.controllerWithComposite01.composite.CompositeController01CreatorImpl(router, context, eventBus));
+    applicationScope.getCompositeFactory().registerComposite("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite01.composite.CompositeController01", new com.github.nalukit.nalu.processor.common.ui.controllerWithComposite01.composite.CompositeController01CreatorImpl(router, context, eventBus, applicationScope));
   }
   
   @Override
   public void loadComponents() {
-    ControllerFactory.get().registerController("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite01.ControllerWithComposite01", new com.github.nalukit.nalu.processor.common.ui.controllerWithComposite01.ControllerWithComposite01CreatorImpl(router, context, eventBus));
-    ControllerCompositeConditionFactory.get().registerCondition("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite01.ControllerWithComposite01", "com.github.nalukit.nalu.processor.common.ui.controllerWithComposite01.composite.CompositeController01", super.alwaysLoadComposite);
+    applicationScope.getControllerFactory().registerController("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite01.ControllerWithComposite01", new com.github.nalukit.nalu.processor.common.ui.controllerWithComposite01.ControllerWithComposite01CreatorImpl(router, context, eventBus, applicationScope));
+    applicationScope.getControllerCompositeConditionFactory().registerCondition("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite01.ControllerWithComposite01", "com.github.nalukit.nalu.processor.common.ui.controllerWithComposite01.composite.CompositeController01", super.alwaysLoadComposite);
   }
   
   @Override
   public void loadRoutes() {
     super.routerConfiguration.getRouters().add(new RouteConfig("/mockShell/route01/*", Arrays.asList(new String[]{"parameter01"}), "selector01", "com.github.nalukit.nalu.processor.common.ui.controllerWithComposite01.ControllerWithComposite01"));
+    super.routerConfiguration.registerRouteMatcher(new ApplicationWithComposite01RouteMatcherImpl());
   }
   
   @Override
@@ -4,10 +4,6 @@ import com.github.nalukit.nalu.client.application.IsLoader;
 import com.github.nalukit.nalu.client.application.event.LogEvent;
 import com.github.nalukit.nalu.client.internal.CompositeControllerReference;
 import com.github.nalukit.nalu.client.internal.application.AbstractApplication;
-import com.github.nalukit.nalu.client.internal.application.CompositeFactory;
-import com.github.nalukit.nalu.client.internal.application.ControllerCompositeConditionFactory;
-import com.github.nalukit.nalu.client.internal.application.ControllerFactory;
-import com.github.nalukit.nalu.client.internal.application.ShellFactory;
 import com.github.nalukit.nalu.client.internal.route.RouteConfig;
 import com.github.nalukit.nalu.client.internal.route.ShellConfig;
 import com.github.nalukit.nalu.client.plugin.IsCustomAlertPresenter;
@@ -49,29 +45,30 @@ public final class ApplicationWithComposite04Impl extends AbstractApplication<Mo
   
   @Override
   public void loadShellFactory() {
-    ShellFactory.get().registerShell("com.github.nalukit.nalu.processor.common.MockShell", new com.github.nalukit.nalu.processor.common.MockShellCreatorImpl(router, context, eventBus));
+    applicationScope.getShellFactory().registerShell("com.github.nalukit.nalu.processor.common.MockShell", new com.github.nalukit.nalu.processor.common.MockShellCreatorImpl(router, context, eventBus));
   }
   
   @Override
   public void loadCompositeController() {
-    CompositeFactory.get().registerComposite("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite04.composite.CompositeController03", new com.github.nalukit.nalu.processor.common.ui.controllerWithComposite04.composite.CompositeController03CreatorImpl(router, context, eventBus));
-    CompositeFactory.get().registerComposite("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite04.composite.CompositeController04", new com.github.nalukit.nalu.processor.common.ui.controllerWithComposite04.composite.CompositeController04CreatorImpl(router, context, eventBus));
+    applicationScope.getCompositeFactory().registerComposite("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite04.composite.CompositeController03", new com.github.nalukit.nalu.processor.common.ui.controllerWithComposite04.composite.CompositeController03CreatorImpl(router, context, eventBus, applicationScope));
+    applicationScope.getCompositeFactory().registerComposite("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite04.composite.CompositeController04", new com.github.nalukit.nalu.processor.common.ui.controllerWithComposite04.composite.CompositeController04CreatorImpl(router, context, eventBus, applicationScope));
   }
   
   @Override
   public void loadComponents() {
-    ControllerFactory.get().registerController("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite04.ControllerWithComposite04", new com.github.nalukit.nalu.processor.common.ui.controllerWithComposite04.ControllerWithComposite04CreatorImpl(router, context, eventBus));
+    applicationScope.getControllerFactory().registerController("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite04.ControllerWithComposite04", new com.github.nalukit.nalu.processor.common.ui.controllerWithComposite04.ControllerWithComposite04CreatorImpl(router, context, eventBus, applicationScope));
     CompositeCondition01 compositeCondition01_1 = new CompositeCondition01();
     compositeCondition01_1.setContext(super.context);
-    ControllerCompositeConditionFactory.get().registerCondition("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite04.ControllerWithComposite04", "com.github.nalukit.nalu.processor.common.ui.controllerWithComposite04.composite.CompositeController03", compositeCondition01_1);
+    applicationScope.getControllerCompositeConditionFactory().registerCondition("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite04.ControllerWithComposite04", "com.github.nalukit.nalu.processor.common.ui.controllerWithComposite04.composite.CompositeController03", compositeCondition01_1);
     CompositeCondition02 compositeCondition02_1 = new CompositeCondition02();
     compositeCondition02_1.setContext(super.context);
-    ControllerCompositeConditionFactory.get().registerCondition("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite04.ControllerWithComposite04", "com.github.nalukit.nalu.processor.common.ui.controllerWithComposite04.composite.CompositeController04", compositeCondition02_1);
+    applicationScope.getControllerCompositeConditionFactory().registerCondition("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite04.ControllerWithComposite04", "com.github.nalukit.nalu.processor.common.ui.controllerWithComposite04.composite.CompositeController04", compositeCondition02_1);
   }
   
   @Override
   public void loadRoutes() {
     super.routerConfiguration.getRouters().add(new RouteConfig("/mockShell/route04/*", Arrays.asList(new String[]{"parameter04"}), "selector04", "com.github.nalukit.nalu.processor.common.ui.controllerWithComposite04.ControllerWithComposite04"));
+    super.routerConfiguration.registerRouteMatcher(new ApplicationWithComposite04RouteMatcherImpl());
   }
   
   @Override
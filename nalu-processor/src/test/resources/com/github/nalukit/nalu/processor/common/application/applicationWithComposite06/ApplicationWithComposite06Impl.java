@@ -4,10 +4,6 @@ import com.github.nalukit.nalu.client.application.IsLoader;
 import com.github.nalukit.nalu.client.application.event.LogEvent;
 import com.github.nalukit.nalu.client.internal.CompositeControllerReference;
 import com.github.nalukit.nalu.client.internal.application.AbstractApplication;
-import com.github.nalukit.nalu.client.internal.application.CompositeFactory;
-import com.github.nalukit.nalu.client.internal.application.ControllerCompositeConditionFactory;
-import com.github.nalukit.nalu.client.internal.application.ControllerFactory;
-import com.github.nalukit.nalu.client.internal.application.ShellFactory;
 import com.github.nalukit.nalu.client.internal.route.RouteConfig;
 import com.github.nalukit.nalu.client.internal.route.ShellConfig;
 import com.github.nalukit.nalu.client.plugin.IsCustomAlertPresenter;
@@ -48,33 +44,34 @@ public final class ApplicationWithComposite06Impl extends AbstractApplication<Mo
   
   @Override
   public void loadShellFactory() {
-    ShellFactory.get().registerShell("com.github.nalukit.nalu.processor.common.MockShell", new com.github.nalukit.nalu.processor.common.MockShellCreatorImpl(router, context, eventBus));
+    applicationScope.getShellFactory().registerShell("com.github.nalukit.nalu.processor.common.MockShell", new com.github.nalukit.nalu.processor.common.MockShellCreatorImpl(router, context, eventBus));
   }
   
   @Override
   public void loadCompositeController() {
-    CompositeFactory.get().registerComposite("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite06.composite.CompositeController03", new com.github.nalukit.nalu.processor.common.ui.controllerWithComposite06.composite.CompositeController03CreatorImpl(router, context, eventBus));
-    CompositeFactory.get().registerComposite("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite06.composite.CompositeController04", new com.github.nalukit.nalu.processor.common.ui.controllerWithComposite06.composite.CompositeController04CreatorImpl(router, context, eventBus));
+    applicationScope.getCompositeFactory().registerComposite("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite06.composite.CompositeController03", new com.github.nalukit.nalu.processor.common.ui.controllerWithComposite06.composite.CompositeController03CreatorImpl(router, context, eventBus, applicationScope));
+    applicationScope.getCompositeFactory().registerComposite("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite06.composite.CompositeController04", new com.github.nalukit.nalu.processor.common.ui.controllerWithComposite06.composite.CompositeController04CreatorImpl(router, context, eventBus, applicationScope));
   }
   
   @Override
   public void loadComponents() {
-    ControllerFactory.get().registerController("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite06.ControllerWithComposite05", new com.github.nalukit.nalu.processor.common.ui.controllerWithComposite06.ControllerWithComposite05CreatorImpl(router, context, eventBus));
+    applicationScope.getControllerFactory().registerController("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite06.ControllerWithComposite05", new com.github.nalukit.nalu.processor.common.ui.controllerWithComposite06.ControllerWithComposite05CreatorImpl(router, context, eventBus, applicationScope));
     CompositeCondition01 compositeCondition01_1 = new CompositeCondition01();
     compositeCondition01_1.setContext(super.context);
-    ControllerCompositeConditionFactory.get().registerCondition("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite06.ControllerWithComposite05", "com.github.nalukit.nalu.processor.common.ui.controllerWithComposite06.composite.CompositeController03", compositeCondition01_1);
-    ControllerCompositeConditionFactory.get().registerCondition("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite06.ControllerWithComposite05", "com.github.nalukit.nalu.processor.common.ui.controllerWithComposite06.composite.CompositeController04", compositeCondition01_1);
-    ControllerFactory.get().registerController("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite06.ControllerWithComposite06", new com.github.nalukit.nalu.processor.common.ui.controllerWithComposite06.ControllerWithComposite06CreatorImpl(router, context, eventBus));
+    applicationScope.getControllerCompositeConditionFactory().registerCondition("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite06.ControllerWithComposite05", "com.github.nalukit.nalu.processor.common.ui.controllerWithComposite06.composite.CompositeController03", compositeCondition01_1);
+    applicationScope.getControllerCompositeConditionFactory().registerCondition("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite06.ControllerWithComposite05", "com.github.nalukit.nalu.processor.common.ui.controllerWithComposite06.composite.CompositeController04", compositeCondition01_1);
+    applicationScope.getControllerFactory().registerController("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite06.ControllerWithComposite06", new com.github.nalukit.nalu.processor.common.ui.controllerWithComposite06.ControllerWithComposite06CreatorImpl(router, context, eventBus, applicationScope));
     CompositeCondition01 compositeCondition01_2 = new CompositeCondition01();
     compositeCondition01_2.setContext(super.context);
-    ControllerCompositeConditionFactory.get().registerCondition("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite06.ControllerWithComposite06", "com.github.nalukit.nalu.processor.common.ui.controllerWithComposite06.composite.CompositeController03", compositeCondition01_2);
-    ControllerCompositeConditionFactory.get().registerCondition("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite06.ControllerWithComposite06", "com.github.nalukit.nalu.processor.common.ui.controllerWithComposite06.composite.CompositeController04", compositeCondition01_2);
+    applicationScope.getControllerCompositeConditionFactory().registerCondition("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite06.ControllerWithComposite06", "com.github.nalukit.nalu.processor.common.ui.controllerWithComposite06.composite.CompositeController03", compositeCondition01_2);
+    applicationScope.getControllerCompositeConditionFactory().registerCondition("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite06.ControllerWithComposite06", "com.github.nalukit.nalu.processor.common.ui.controllerWithComposite06.composite.CompositeController04", compositeCondition01_2);
   }
   
   @Override
   public void loadRoutes() {
     super.routerConfiguration.getRouters().add(new RouteConfig("/mockShell/route05/*", Arrays.asList(new String[]{"parameter05"}), "selector05", "com.github.nalukit.nalu.processor.common.ui.controllerWithComposite06.ControllerWithComposite05"));
     super.routerConfiguration.getRouters().add(new RouteConfig("/mockShell/route06/*", Arrays.asList(new String[]{"parameter06"}), "selector06", "com.github.nalukit.nalu.processor.common.ui.controllerWithComposite06.ControllerWithComposite06"));
+    super.routerConfiguration.registerRouteMatcher(new ApplicationWithComposite06RouteMatcherImpl());
   }
   
   @Override
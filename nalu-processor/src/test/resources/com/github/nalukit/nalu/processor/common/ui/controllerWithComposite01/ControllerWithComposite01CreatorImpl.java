@@ -4,7 +4,7 @@ import com.github.nalukit.nalu.client.Router;
 import com.github.nalukit.nalu.client.component.AbstractComponentController;
 import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
 import com.github.nalukit.nalu.client.internal.AbstractControllerCreator;
-import com.github.nalukit.nalu.client.internal.application.ControllerFactory;
+import com.github.nalukit.nalu.client.internal.application.ApplicationScope;
 import com.github.nalukit.nalu.client.internal.application.ControllerInstance;
 import com.github.nalukit.nalu.client.internal.application.IsControllerCreator;
 import com.github.nalukit.nalu.processor.common.MockContext;
@@ -18,8 +18,9 @@ import org.gwtproject.event.shared.SimpleEventBus;
  */
 public final class ControllerWithComposite01CreatorImpl extends AbstractControllerCreator<MockContext> implements IsControllerCreator {
   public ControllerWithComposite01CreatorImpl(Router router, MockContext context,
-                                              SimpleEventBus eventBus) {
-    super(router, context, eventBus);
+                                              SimpleEventBus eventBus,
+                                              ApplicationScope applicationScope) {
+    super(router, context, eventBus, applicationScope);
   }
   
   @Override
@@ -27,7 +28,7 @@ public final class ControllerWithComposite01CreatorImpl extends AbstractControll
     ControllerInstance controllerInstance = new ControllerInstance();
     controllerInstance.setControllerCreator(this);
     controllerInstance.setControllerClassName("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite01.ControllerWithComposite01");
-    AbstractComponentController<?, ?, ?> storedController = ControllerFactory.get().getControllerFormStore("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite01.ControllerWithComposite01");
+    AbstractComponentController<?, ?, ?> storedController = applicationScope.getControllerFactory().getControllerFormStore("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite01.ControllerWithComposite01");
     if (storedController == null) {
       ControllerWithComposite01 controller = new ControllerWithComposite01();
       controllerInstance.setController(controller);
@@ -4,7 +4,7 @@ import com.github.nalukit.nalu.client.Router;
 import com.github.nalukit.nalu.client.component.AbstractCompositeController;
 import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
 import com.github.nalukit.nalu.client.internal.AbstractCompositeCreator;
-import com.github.nalukit.nalu.client.internal.application.CompositeFactory;
+import com.github.nalukit.nalu.client.internal.application.ApplicationScope;
 import com.github.nalukit.nalu.client.internal.application.CompositeInstance;
 import com.github.nalukit.nalu.client.internal.application.IsCompositeCreator;
 import com.github.nalukit.nalu.processor.common.MockContext;
@@ -16,15 +16,16 @@ import org.gwtproject.event.shared.SimpleEventBus;
  * Build with Nalu version >>HEAD-SNAPSHOT<< at >>2020.11.08-16:38:33<<
  */
 public final class CompositeCreatorImpl extends AbstractCompositeCreator<MockContext> implements IsCompositeCreator {
-  public CompositeCreatorImpl(Router router, MockContext context, SimpleEventBus eventBus) {
-    super(router, context, eventBus);
+  public CompositeCreatorImpl(Router router, MockContext context, SimpleEventBus eventBus,
+                              ApplicationScope applicationScope) {
+    super(router, context, eventBus, applicationScope);
   }
   
   public CompositeInstance create(String parentControllerClassName, String selector,
                                   boolean scopeGlobal) throws RoutingInterceptionException {
     CompositeInstance compositeInstance = new CompositeInstance();
     compositeInstance.setCompositeClassName("com.github.nalukit.nalu.processor.compositeCreator.ok.Composite");
-    AbstractCompositeController<?, ?, ?> storedComposite = CompositeFactory.get().getCompositeFormStore(parentControllerClassName, "com.github.nalukit.nalu.processor.compositeCreator.ok.Composite", selector);
+    AbstractCompositeController<?, ?, ?> storedComposite = applicationScope.getCompositeFactory().getCompositeFormStore(parentControllerClassName, "com.github.nalukit.nalu.processor.compositeCreator.ok.Composite", selector);
     if (storedComposite == null) {
       Composite composite = new Composite();
       compositeInstance.setComposite(composite);
@@ -4,7 +4,7 @@ import com.github.nalukit.nalu.client.Router;
 import com.github.nalukit.nalu.client.component.AbstractComponentController;
 import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
 import com.github.nalukit.nalu.client.internal.AbstractControllerCreator;
-import com.github.nalukit.nalu.client.internal.application.ControllerFactory;
+import com.github.nalukit.nalu.client.internal.application.ApplicationScope;
 import com.github.nalukit.nalu.client.internal.application.ControllerInstance;
 import com.github.nalukit.nalu.client.internal.application.IsControllerCreator;
 import com.github.nalukit.nalu.processor.common.MockContext;
@@ -17,8 +17,9 @@ import org.gwtproject.event.shared.SimpleEventBus;
  * Build with Nalu version >>HEAD-SNAPSHOT<< at >>2020.08.31-11:52:30<<
  */
 public final class ControllerC03CreatorImpl extends AbstractControllerCreator<MockContext> implements IsControllerCreator {
-  public ControllerC03CreatorImpl(Router router, MockContext context, SimpleEventBus eventBus) {
-    super(router, context, eventBus);
+  public ControllerC03CreatorImpl(Router router, MockContext context, SimpleEventBus eventBus,
+                                  ApplicationScope applicationScope) {
+    super(router, context, eventBus, applicationScope);
   }
   
   @Override
@@ -26,7 +27,7 @@ public final class ControllerC03CreatorImpl extends AbstractControllerCreator<Mo
     ControllerInstance controllerInstance = new ControllerInstance();
     controllerInstance.setControllerCreator(this);
     controllerInstance.setControllerClassName("com.github.nalukit.nalu.processor.controllerCreator.controllerCreatorOkWithOneParameter01WithoutAcceptParameter.ControllerC03");
-    AbstractComponentController<?, ?, ?> storedController = ControllerFactory.get().getControllerFormStore("com.github.nalukit.nalu.processor.controllerCreator.controllerCreatorOkWithOneParameter01WithoutAcceptParameter.ControllerC03");
+    AbstractComponentController<?, ?, ?> storedController = applicationScope.getControllerFactory().getControllerFormStore("com.github.nalukit.nalu.processor.controllerCreator.controllerCreatorOkWithOneParameter01WithoutAcceptParameter.ControllerC03");
     if (storedController == null) {
       ControllerC03 controller = new ControllerC03();
       controllerInstance.setController(controller);
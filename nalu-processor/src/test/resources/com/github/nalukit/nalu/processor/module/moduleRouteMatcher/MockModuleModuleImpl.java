@@ -0,0 +1,88 @@
+package com.github.nalukit.nalu.processor.module.moduleRouteMatcher;
+
+import com.github.nalukit.nalu.client.context.ContextDataStore;
+import com.github.nalukit.nalu.client.internal.CompositeControllerReference;
+import com.github.nalukit.nalu.client.internal.module.AbstractModule;
+import com.github.nalukit.nalu.client.internal.route.IsRouteMatcher;
+import com.github.nalukit.nalu.client.internal.route.RouteConfig;
+import com.github.nalukit.nalu.client.internal.route.RouterConfiguration;
+import com.github.nalukit.nalu.client.internal.route.ShellConfig;
+import com.github.nalukit.nalu.client.module.IsModuleLoader;
+import com.github.nalukit.nalu.processor.common.MockModuleContext;
+import java.lang.Override;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public final class MockModuleModuleImpl extends AbstractModule<MockModuleContext> implements MockModule {
+  public MockModuleModuleImpl(ContextDataStore contextDataStore) {
+    super(contextDataStore);
+  }
+
+  @Override
+  public MockModuleContext createModuleContext() {
+    return new MockModuleContext();
+  }
+
+  @Override
+  public void loadShellFactory() {
+  }
+
+  @Override
+  public void loadCompositeController() {
+  }
+
+  @Override
+  public void loadComponents() {
+    applicationScope.getControllerFactory().registerController("com.github.nalukit.nalu.processor.common.ui.component01.ControllerModule01", new com.github.nalukit.nalu.processor.common.ui.component01.ControllerModule01CreatorImpl(router, moduleContext, eventBus, applicationScope));
+  }
+
+  @Override
+  public void loadFilters(RouterConfiguration routerConfiguration) {
+  }
+
+  @Override
+  public void loadPopUpFilters(RouterConfiguration routerConfiguration) {
+  }
+
+  @Override
+  public void loadHandlers() {
+  }
+
+  @Override
+  public void loadPopUpControllers() {
+  }
+
+  @Override
+  public void loadBlockControllers() {
+  }
+
+  @Override
+  public List<ShellConfig> getShellConfigs() {
+    List<ShellConfig> list = new ArrayList<>();
+    return list;
+  }
+
+  @Override
+  public List<RouteConfig> getRouteConfigs() {
+    List<RouteConfig> list = new ArrayList<>();
+    list.add(new RouteConfig("/mockShell/route01/*", Arrays.asList(new String[]{"parameter01"}), "selector01", "com.github.nalukit.nalu.processor.common.ui.component01.ControllerModule01"));
+    return list;
+  }
+
+  @Override
+  public IsRouteMatcher getRouteMatcher() {
+    return new MockModuleRouteMatcherImpl();
+  }
+
+  @Override
+  public List<CompositeControllerReference> getCompositeReferences() {
+    List<CompositeControllerReference> list = new ArrayList<>();
+    return list;
+  }
+
+  @Override
+  public IsModuleLoader<MockModuleContext> createModuleLoader() {
+    return null;
+  }
+}
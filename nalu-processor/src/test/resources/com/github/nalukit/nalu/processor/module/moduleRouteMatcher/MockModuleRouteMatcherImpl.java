@@ -0,0 +1,51 @@
+package com.github.nalukit.nalu.processor.module.moduleRouteMatcher;
+
+import com.github.nalukit.nalu.client.internal.AbstractRouteMatcher;
+import com.github.nalukit.nalu.client.internal.route.RouteTemplate;
+import java.lang.Override;
+import java.lang.String;
+
+/**
+ * Build with Nalu version >>HEAD-SNAPSHOT<< at >>2021.03.31-21:44:59<<
+ */
+public final class MockModuleRouteMatcherImpl extends AbstractRouteMatcher {
+  public MockModuleRouteMatcherImpl() {
+    super(new String[] {"/mockShell/route01/*"});
+  }
+
+  @Override
+  public int match(String[] partsOfRoute, boolean usingColonForParametersInUrl) {
+    switch (partsOfRoute.length) {
+      case 0:
+        return 0;
+      case 2:
+        switch (partsOfRoute[0]) {
+          case "mockShell":
+            if ("route01".equals(partsOfRoute[1])) {
+              return 0;
+            }
+            return NO_MATCH;
+          default:
+            return NO_MATCH;
+        }
+      case 3:
+        switch (partsOfRoute[0]) {
+          case "mockShell":
+            if ("route01".equals(partsOfRoute[1]) && matchParameter(partsOfRoute[2], usingColonForParametersInUrl)) {
+              return 0;
+            }
+            return NO_MATCH;
+          default:
+            return NO_MATCH;
+        }
+      default:
+        return NO_MATCH;
+    }
+  }
+
+  @Override
+  public RouteTemplate[] getRouteTemplates() {
+    return new RouteTemplate[] {
+        new RouteTemplate("/mockShell/route01/*", new String[] {"mockShell/route01/", ""})};
+  }
+}
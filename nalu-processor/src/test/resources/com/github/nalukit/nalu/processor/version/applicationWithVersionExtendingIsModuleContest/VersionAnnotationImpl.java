@@ -3,8 +3,6 @@ package com.github.nalukit.nalu.processor.version.applicationWithVersionExtendin
 import com.github.nalukit.nalu.client.application.IsLoader;
 import com.github.nalukit.nalu.client.application.event.LogEvent;
 import com.github.nalukit.nalu.client.internal.application.AbstractApplication;
-import com.github.nalukit.nalu.client.internal.application.ControllerFactory;
-import com.github.nalukit.nalu.client.internal.application.ShellFactory;
 import com.github.nalukit.nalu.client.internal.route.RouteConfig;
 import com.github.nalukit.nalu.client.internal.route.ShellConfig;
 import com.github.nalukit.nalu.client.plugin.IsCustomAlertPresenter;
@@ -47,7 +45,7 @@ public final class VersionAnnotationImpl extends AbstractApplication<MockModuleC
 
   @Override
   public void loadShellFactory() {
-    ShellFactory.get().registerShell("com.github.nalukit.nalu.processor.common.MockModuleShell", new com.github.nalukit.nalu.processor.common.MockModuleShellCreatorImpl(router, context, eventBus));
+    applicationScope.getShellFactory().registerShell("com.github.nalukit.nalu.processor.common.MockModuleShell", new com.github.nalukit.nalu.processor.common.MockModuleShellCreatorImpl(router, context, eventBus));
   }
 
   @Override
@@ -56,12 +54,13 @@ public final class VersionAnnotationImpl extends AbstractApplication<MockModuleC
 
   @Override
   public void loadComponents() {
-    ControllerFactory.get().registerController("com.github.nalukit.nalu.processor.common.ui.component01.ControllerModule01", new com.github.nalukit.nalu.processor.common.ui.component01.ControllerModule01CreatorImpl(router, context, eventBus));
+    applicationScope.getControllerFactory().registerController("com.github.nalukit.nalu.processor.common.ui.component01.ControllerModule01", new com.github.nalukit.nalu.processor.common.ui.component01.ControllerModule01CreatorImpl(router, context, eventBus, applicationScope));
   }
 
   @Override
   public void loadRoutes() {
     super.routerConfiguration.getRouters().add(new RouteConfig("/mockShell/route01/*", Arrays.asList(new String[]{"parameter01"}), "selector01", "com.github.nalukit.nalu.processor.common.ui.component01.ControllerModule01"));
+    super.routerConfiguration.registerRouteMatcher(new VersionAnnotationRouteMatcherImpl());
   }
 
   @Override
@@ -63,9 +63,9 @@ public class Nalu {
    */
   public static boolean match(String route,
                               String withRoute) {
-    return RouterUtils.get()
-                      .match(route,
-                             withRoute);
+    return Nalu.match(route,
+                      withRoute,
+                      false);
   }
   
   /**
@@ -96,7 +96,8 @@ public class Nalu {
     return RouterUtils.get()
                       .match(route,
                              withRoute,
-                             exact);
+                             exact,
+                             Nalu.isUsingColonForParametersInUrl());
   }
   
 }
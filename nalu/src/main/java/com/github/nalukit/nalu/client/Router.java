@@ -16,8 +16,14 @@
 
 package com.github.nalukit.nalu.client;
 
+import com.github.nalukit.nalu.client.cache.CompositeCachePolicy;
+import com.github.nalukit.nalu.client.cache.ControllerCachePolicy;
 import com.github.nalukit.nalu.client.component.AbstractComponentController;
 import com.github.nalukit.nalu.client.component.AbstractCompositeController;
+import com.github.nalukit.nalu.client.plugin.IsClock;
+import com.github.nalukit.nalu.client.plugin.IsRoutingScheduler;
+import com.github.nalukit.nalu.client.preload.ControllerWarmPool;
+import com.github.nalukit.nalu.client.preload.RoutePreloader;
 
 import java.util.Map;
 
@@ -155,4 +161,139 @@ public interface Router {
    */
   String getLastExecutedHash();
   
+  /**
+   * Sets the scheduler used to coalesce routings.
+   * <br>
+   * In case a scheduler is set, the router does not execute a routing
+   * immediately. Instead it waits for the scheduler and executes only the
+   * last requested routing. All other routings requested until then get
+   * aborted (a RouterStateEvent with state ROUTING_ABORTED gets fired).
+   * <br>
+   * Setting the scheduler to null disables the coalescing (default).
+   * <br>
+   * The default implementation ignores the scheduler and routes immediately.
+   *
+   * @param routingScheduler the scheduler or null
+   */
+  default void setRoutingScheduler(IsRoutingScheduler routingScheduler) {
+  }
+  
+  /**
+   * Sets the clock used to measure the phases of a routing
+   * and the time to live of cached controllers and composites.
+   * <br>
+   * Once a routing is done, the router fires a RoutingTimingEvent
+   * containing the time spent in each phase of the routing.
+   * <br>
+   * Default: the clock of the plugin (the web plugins use
+   * <code>performance.now()</code>, otherwise a clock based on
+   * <code>System.nanoTime()</code> is used).
+   * <br>
+   * The default implementation ignores the clock.
+   *
+   * @param clock the clock
+   */
+  default void setClock(IsClock clock) {
+  }
+  
+  /**
+   * Creates and binds the controllers (and their composites) of a route
+   * ahead of the navigation.
+   * <br>
+   * The instances are stored in a prefetch cache. A later routing to
+   * the same route with the same parameters uses the stored instances
+   * instead of creating new ones. Filters are not evaluated when
+   * prefetching, they are executed during the routing.
+   * <br>
+   * Use this method for example on hover or focus of a link.
+   * <br>
+   * The default implementation does not prefetch.
+   *
+   * @param route  route to prefetch
+   * @param params parameters of the route
+   */
+  default void prefetch(String route,
+                        String... params) {
+  }
+  
+  /**
+   * Sets the limits of the prefetch cache.
+   * <br>
+   * In case the cache is full, the oldest prefetched route gets discarded.
+   * Prefetched routes older than the time to live are discarded too.
+   * <br>
+   * Setting the maximum size to 0 disables prefetching.
+   * Default: 5 entries with a time to live of 30 seconds.
+   * <br>
+   * The default implementation ignores the limits.
+   *
+   * @param maximumSize maximum number of prefetched controllers
+   * @param timeToLive  time to live of a prefetched controller in ms
+   */
+  default void setPrefetchLimits(int maximumSize,
+                                 int timeToLive) {
+  }
+  
+  /**
+   * Enables the predictive preloading.
+   * <br>
+   * Once a routing is done, the router records the navigation and
+   * prefetches the controllers of the most likely next routes.
+   * <br>
+   * Setting the preloader to null disables the preloading (default).
+   * <br>
+   * The default implementation ignores the preloader.
+   *
+   * @param routePreloader the preloader or null
+   */
+  default void setRoutePreloader(RoutePreloader routePreloader) {
+  }
+  
+  /**
+   * Sets the controller warm pool.
+   * <br>
+   * The router creates and binds the controllers of the configured
+   * routes during idle time. A navigation to one of these routes uses
+   * an already bound controller.
+   * <br>
+   * Setting the warm pool to null discards the pooled controllers (default).
+   * <br>
+   * The default implementation ignores the warm pool.
+   *
+   * @param controllerWarmPool the warm pool or null
+   */
+  default void setControllerWarmPool(ControllerWarmPool controllerWarmPool) {
+  }
+  
+  /**
+   * Sets the eviction policy of the controller cache.
+   * <br>
+   * Evicted controllers are stopped (including their composites).
+   * Controllers, that are currently attached, are never evicted.
+   * <br>
+   * Default: the cache is unlimited.
+   * <br>
+   * The default implementation ignores the policy.
+   *
+   * @param cachePolicy the policy
+   */
+  default void setControllerCachePolicy(ControllerCachePolicy cachePolicy) {
+  }
+  
+  /**
+   * Sets the eviction policy of the composite caches
+   * (stored composites and composites with a global scope).
+   * <br>
+   * Evicted composites are stopped. Composites, that are currently
+   * attached or belong to a cached controller, are never evicted.
+   * <br>
+   * Default: the caches are unlimited.
+   * <br>
+   * The default implementation ignores the policy.
+   *
+   * @param cachePolicy the policy
+   */
+  default void setCompositeCachePolicy(CompositeCachePolicy cachePolicy) {
+  }
+  
 }
@@ -16,10 +16,34 @@
 
 package com.github.nalukit.nalu.client.application;
 
+import com.github.nalukit.nalu.client.internal.application.ApplicationScope;
 import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin;
 
 public interface IsApplication {
   
+  /**
+   * Starts the application using the default scope.
+   *
+   * @param plugin the plugin of the application
+   */
   void run(IsNaluProcessorPlugin plugin);
   
+  /**
+   * Starts the application using the registries of the scope.
+   * <p>
+   * Applications running with different scopes do not share
+   * controllers, caches or configurations.
+   * <p>
+   * The default implementation ignores the scope and starts the
+   * application using the default scope. The generated applications
+   * use the registries of the scope.
+   *
+   * @param plugin           the plugin of the application
+   * @param applicationScope registries of the application
+   */
+  default void run(IsNaluProcessorPlugin plugin,
+                   ApplicationScope applicationScope) {
+    this.run(plugin);
+  }
+  
 }
@@ -166,4 +166,18 @@ public @interface Application {
    */
   boolean removeUrlParameterAtStart() default false;
 
+  /**
+   * This attribute will tell Nalu to register suppliers of the creators
+   * (controllers, composites, shells and popups) at application start.
+   * A creator is created the first time its component is requested.
+   * <br>
+   * On the JVM the lazy registration starts slower than the eager one.
+   * Measure the compiled application before enabling it.
+   * <br>
+   * Defaul is <b>false</b>
+   *
+   * @return true -&gt; register the creators lazily
+   */
+  boolean lazyCreatorRegistration() default false;
+
 }
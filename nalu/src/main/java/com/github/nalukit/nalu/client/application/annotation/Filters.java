@@ -29,7 +29,8 @@ import java.lang.annotation.RetentionPolicy;
  * <br>
  * The annotation has the following attributes:
  * <ul>
- * <li>filterClasses: classes of the filter to use.</li>
+ * <li>filterClasses: classes of the filter to use for all routes.</li>
+ * <li>routeFilters: filters, that are only used for the routes matching their route patterns.</li>
  * </ul>
  * <br>
  * The annotation is optional.
@@ -44,6 +45,13 @@ public @interface Filters {
    *
    * @return application filters
    */
-  Class<? extends IsFilter>[] filterClasses();
+  Class<? extends IsFilter>[] filterClasses() default {};
+  
+  /**
+   * List of the application filters, that are limited to route patterns.
+   *
+   * @return route scoped application filters
+   */
+  RouteFilter[] routeFilters() default {};
   
 }
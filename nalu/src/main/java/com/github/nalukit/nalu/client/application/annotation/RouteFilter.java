@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+
+package com.github.nalukit.nalu.client.application.annotation;
+
+import com.github.nalukit.nalu.client.filter.IsFilter;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+/**
+ * Defines a filter, that is only used for some routes.
+ * <p>
+ * A route pattern matches the route itself and all routes below the
+ * pattern. F.e.: '/application' matches all routes of the shell
+ * 'application', '/application/person' matches '/application/person'
+ * and '/application/person/*&#47;detail'.
+ *
+ * @author Frank Hossfeld
+ */
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RouteFilter {
+  
+  /**
+   * Class of the filter
+   *
+   * @return the filter class
+   */
+  Class<? extends IsFilter> filterClass();
+  
+  /**
+   * Route patterns the filter is used for
+   *
+   * @return list of route patterns
+   */
+  String[] routes();
+  
+}
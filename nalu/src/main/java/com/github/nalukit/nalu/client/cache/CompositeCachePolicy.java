@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.cache;
+
+/**
+ * Eviction policy of the composite caches.
+ * <p>
+ * Nalu caches composites in two stores: composites stored by
+ * {@link com.github.nalukit.nalu.client.Router#storeInCache(com.github.nalukit.nalu.client.component.AbstractCompositeController)}
+ * and composites with a global scope. The limits are applied to each
+ * store:
+ * <ul>
+ * <li>maximumSize: maximum number of cached composites. In case the store is full, the least recently used composite is evicted</li>
+ * <li>timeToLive: time (in ms) since the last use, after which a composite is evicted</li>
+ * </ul>
+ * Composites, that are currently attached or belong to a cached
+ * controller, are never evicted. An evicted composite gets stopped.
+ * <p>
+ * A value of 0 disables a limit.
+ * <p>
+ * Example:
+ * <pre>
+ *   router.setCompositeCachePolicy(CompositeCachePolicy.create()
+ *                                                      .maximumSize(20)
+ *                                                      .timeToLive(600000));
+ * </pre>
+ */
+public class CompositeCachePolicy {
+  
+  /* maximum number of cached composites per store */
+  private int  maximumSize;
+  /* time to live since the last use (in ms) */
+  private long timeToLive;
+  
+  private CompositeCachePolicy() {
+  }
+  
+  public static CompositeCachePolicy create() {
+    return new CompositeCachePolicy();
+  }
+  
+  /**
+   * Sets the maximum number of cached composites per store.
+   * <p>
+   * Default: 0 (unlimited)
+   *
+   * @param maximumSize maximum number of cached composites
+   * @return instance of the policy
+   */
+  public CompositeCachePolicy maximumSize(int maximumSize) {
+    this.maximumSize = maximumSize;
+    return this;
+  }
+  
+  /**
+   * Sets the time to live of a cached composite, measured
+   * from its last use.
+   * <p>
+   * Default: 0 (unlimited)
+   *
+   * @param timeToLive time to live in ms
+   * @return instance of the policy
+   */
+  public CompositeCachePolicy timeToLive(long timeToLive) {
+    this.timeToLive = timeToLive;
+    return this;
+  }
+  
+  public int getMaximumSize() {
+    return this.maximumSize;
+  }
+  
+  public long getTimeToLive() {
+    return this.timeToLive;
+  }
+  
+}
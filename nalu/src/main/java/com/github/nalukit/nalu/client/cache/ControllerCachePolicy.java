@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.cache;
+
+import com.github.nalukit.nalu.client.component.AbstractComponentController;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * Eviction policy of the controller cache.
+ * <p>
+ * Cached controllers (see
+ * {@link com.github.nalukit.nalu.client.Router#storeInCache(AbstractComponentController)})
+ * stay in the cache until they are removed explicitly. Use the policy
+ * to limit the cache:
+ * <ul>
+ * <li>maximumSize: maximum number of cached controllers. In case the cache is full, the least recently used controller is evicted</li>
+ * <li>timeToLive: time (in ms) since the last activation, after which a controller is evicted</li>
+ * <li>maximumWeight: maximum sum of the weights of all cached controllers, in combination with the weigher</li>
+ * </ul>
+ * Controllers, that are currently attached, are never evicted. An evicted
+ * controller gets stopped (including its composites).
+ * <p>
+ * A value of 0 disables a limit.
+ * <p>
+ * Example:
+ * <pre>
+ *   router.setControllerCachePolicy(ControllerCachePolicy.create()
+ *                                                        .maximumSize(10)
+ *                                                        .timeToLive(600000));
+ * </pre>
+ */
+public class ControllerCachePolicy {
+  
+  /* maximum number of cached controllers */
+  private int                                                  maximumSize;
+  /* time to live since the last activation (in ms) */
+  private long                                                 timeToLive;
+  /* maximum sum of the weights */
+  private int                                                  maximumWeight;
+  /* calculates the weight of a controller */
+  private ToIntFunction<AbstractComponentController<?, ?, ?>> weigher;
+  
+  private ControllerCachePolicy() {
+    this.weigher = controller -> 1;
+  }
+  
+  public static ControllerCachePolicy create() {
+    return new ControllerCachePolicy();
+  }
+  
+  /**
+   * Sets the maximum number of cached controllers.
+   * <p>
+   * Default: 0 (unlimited)
+   *
+   * @param maximumSize maximum number of cached controllers
+   * @return instance of the policy
+   */
+  public ControllerCachePolicy maximumSize(int maximumSize) {
+    this.maximumSize = maximumSize;
+    return this;
+  }
+  
+  /**
+   * Sets the time to live of a cached controller, measured
+   * from its last activation.
+   * <p>
+   * Default: 0 (unlimited)
+   *
+   * @param timeToLive time to live in ms
+   * @return instance of the policy
+   */
+  public ControllerCachePolicy timeToLive(long timeToLive) {
+    this.timeToLive = timeToLive;
+    return this;
+  }
+  
+  /**
+   * Sets the maximum sum of the weights of all cached controllers.
+   * <p>
+   * Default: 0 (unlimited)
+   *
+   * @param maximumWeight maximum weight
+   * @return instance of the policy
+   */
+  public ControllerCachePolicy maximumWeight(int maximumWeight) {
+    this.maximumWeight = maximumWeight;
+    return this;
+  }
+  
+  /**
+   * Sets the function, that calculates the weight of a cached controller
+   * (f.e.: the number of composites or rows of a table).
+   * <p>
+   * Default: every controller has a weight of 1
+   *
+   * @param weigher the weight function
+   * @return instance of the policy
+   */
+  public ControllerCachePolicy weigher(ToIntFunction<AbstractComponentController<?, ?, ?>> weigher) {
+    this.weigher = weigher;
+    return this;
+  }
+  
+  public int getMaximumSize() {
+    return this.maximumSize;
+  }
+  
+  public long getTimeToLive() {
+    return this.timeToLive;
+  }
+  
+  public int getMaximumWeight() {
+    return this.maximumWeight;
+  }
+  
+  public int weigh(AbstractComponentController<?, ?, ?> controller) {
+    return this.weigher.applyAsInt(controller);
+  }
+  
+}
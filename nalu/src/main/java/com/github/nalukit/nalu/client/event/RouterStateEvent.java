@@ -10,14 +10,26 @@ public class RouterStateEvent
   private RouterState state;
   private String      route;
   private String[]    params;
+  private String      reason;
   
   public RouterStateEvent(RouterState state,
                           String route,
                           String[] params) {
+    this(state,
+         route,
+         params,
+         null);
+  }
+  
+  public RouterStateEvent(RouterState state,
+                          String route,
+                          String[] params,
+                          String reason) {
     super();
     this.state  = state;
     this.route  = route;
     this.params = params;
+    this.reason = reason;
   }
   
   public RouterState getState() {
@@ -32,6 +44,15 @@ public class RouterStateEvent
     return params;
   }
   
+  /**
+   * Returns the reason, why the routing was aborted.
+   *
+   * @return reason of the abort or null
+   */
+  public String getReason() {
+    return reason;
+  }
+  
   @Override
   public Type<RouterStateEvent.RouterStateHandler> getAssociatedType() {
     return TYPE;
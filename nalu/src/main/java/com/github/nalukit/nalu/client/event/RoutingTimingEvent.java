@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.event;
+
+import org.gwtproject.event.shared.Event;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Event fired once a routing is done. The event contains the time
+ * spent in each phase of the routing.
+ * <p>
+ * The times are measured using the clock of the router
+ * (see {@link com.github.nalukit.nalu.client.Router#setClock(com.github.nalukit.nalu.client.plugin.IsClock)}).
+ * Phases, that are executed more than once during a routing
+ * (f.e.: creating the controllers of a route with several
+ * controllers), are summed up.
+ */
+public class RoutingTimingEvent
+    extends Event<RoutingTimingEvent.RoutingTimingHandler> {
+  
+  public static final Type<RoutingTimingEvent.RoutingTimingHandler> TYPE = new Type<>();
+  
+  private String             route;
+  private String[]           params;
+  private Map<Phase, Double> timings;
+  private double             total;
+  
+  public RoutingTimingEvent(String route,
+                            String[] params,
+                            Map<Phase, Double> timings,
+                            double total) {
+    super();
+    this.route   = route;
+    this.params  = params;
+    this.timings = Collections.unmodifiableMap(timings);
+    this.total   = total;
+  }
+  
+  public String getRoute() {
+    return route;
+  }
+  
+  public String[] getParams() {
+    return params;
+  }
+  
+  /**
+   * Returns the time spent in the phases of the routing.
+   * Phases, that were not executed, are not contained.
+   *
+   * @return time (in ms) per phase
+   */
+  public Map<Phase, Double> getTimings() {
+    return timings;
+  }
+  
+  /**
+   * Returns the time spent in the phase.
+   *
+   * @param phase the phase
+   * @return time in ms (0, if the phase was not executed)
+   */
+  public double getTiming(Phase phase) {
+    Double timing = this.timings.get(phase);
+    return Objects.isNull(timing) ? 0 : timing;
+  }
+  
+  /**
+   * Returns the time of the whole routing.
+   *
+   * @return time in ms
+   */
+  public double getTotal() {
+    return total;
+  }
+  
+  @Override
+  public Type<RoutingTimingEvent.RoutingTimingHandler> getAssociatedType() {
+    return TYPE;
+  }
+  
+  @Override
+  protected void dispatch(RoutingTimingEvent.RoutingTimingHandler handler) {
+    handler.onRoutingTiming(this);
+  }
+  
+  public enum Phase {
+    /* decoding and parsing the hash */
+    PARSE,
+    /* executing the filters */
+    FILTER,
+    /* asking the controllers, whether the routing can be done */
+    CONFIRM,
+    /* stopping the current controllers */
+    STOP_CONTROLLER,
+    /* creating the shell */
+    SHELL,
+    /* creating and binding the controllers */
+    CONTROLLER,
+    /* creating and binding the composites */
+    COMPOSITE,
+    /* adding the controllers and composites to the DOM */
+    ATTACH,
+    /* starting and activating the controllers and composites */
+    ACTIVATE,
+    /* updating the SEO data */
+    SEO;
+  }
+  
+  
+  
+  public interface RoutingTimingHandler {
+    
+    void onRoutingTiming(RoutingTimingEvent event);
+    
+  }
+  
+}
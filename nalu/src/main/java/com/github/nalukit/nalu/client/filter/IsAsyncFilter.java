@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.filter;
+
+/**
+ * Asynchronous variant of a filter.
+ * <p>
+ * The router calls the asynchronous <code>filter</code>-method. All
+ * asynchronous filters are started at the same time (after the
+ * synchronous filters). The first filter, that rejects the routing,
+ * stops the pipeline: the remaining filters get canceled and Nalu
+ * redirects to the route of the rejecting filter.
+ * <p>
+ * In case the filter returns a timeout greater than 0 and does not
+ * call the callback in time, the routing gets rejected.
+ * (The timeout requires a plugin supporting timers.)
+ */
+public interface IsAsyncFilter
+    extends IsFilter {
+  
+  /**
+   * Filters the routing. Once the filter has decided, call
+   * <code>callback.onResult</code>.
+   *
+   * @param route    the route
+   * @param params   the parameters of the route
+   * @param callback callback to call with the result of the filter
+   */
+  void filter(String route,
+              String[] params,
+              FilterCallback callback);
+  
+  /**
+   * Synchronous filter method - not used for asynchronous filters.
+   *
+   * @param route  the route
+   * @param params the parameters of the route
+   * @return always true
+   */
+  @Override
+  default boolean filter(String route,
+                         String... params) {
+    return true;
+  }
+  
+  /**
+   * Timeout of the filter in milliseconds. 0 means no timeout.
+   *
+   * @return timeout in milliseconds
+   */
+  default int getTimeout() {
+    return 0;
+  }
+  
+  /**
+   * Called in case the result of the filter is no longer needed
+   * (another filter rejected the routing, a timeout occurred or a
+   * new routing started). Override this method to cancel running requests.
+   */
+  default void cancel() {
+  }
+  
+  @FunctionalInterface
+  interface FilterCallback {
+    
+    /**
+     * Result of the filter.
+     *
+     * @param result true: continue routing, false: reject routing
+     */
+    void onResult(boolean result);
+    
+  }
+  
+}
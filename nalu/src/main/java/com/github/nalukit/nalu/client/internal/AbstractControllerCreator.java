@@ -19,6 +19,7 @@ package com.github.nalukit.nalu.client.internal;
 import com.github.nalukit.nalu.client.Router;
 import com.github.nalukit.nalu.client.context.IsContext;
 import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
+import com.github.nalukit.nalu.client.internal.application.ApplicationScope;
 import com.github.nalukit.nalu.client.internal.application.IsControllerCreator;
 import org.gwtproject.event.shared.SimpleEventBus;
 
@@ -34,13 +35,17 @@ public abstract class AbstractControllerCreator<C extends IsContext>
   
   protected SimpleEventBus eventBus;
   
+  protected ApplicationScope applicationScope;
+  
   public AbstractControllerCreator(Router router,
                                    C context,
-                                   SimpleEventBus eventBus) {
+                                   SimpleEventBus eventBus,
+                                   ApplicationScope applicationScope) {
     super();
-    this.router   = router;
-    this.context  = context;
-    this.eventBus = eventBus;
+    this.router           = router;
+    this.context          = context;
+    this.eventBus         = eventBus;
+    this.applicationScope = applicationScope;
   }
   
 }
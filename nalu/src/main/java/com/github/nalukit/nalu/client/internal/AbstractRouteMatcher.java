@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal;
+
+import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
+import com.github.nalukit.nalu.client.internal.route.IsRouteMatcher;
+
+@NaluInternalUse
+public abstract class AbstractRouteMatcher
+    implements IsRouteMatcher {
+  
+  private final String[] routes;
+  
+  public AbstractRouteMatcher(String[] routes) {
+    super();
+    this.routes = routes;
+  }
+  
+  @Override
+  public String[] getRoutes() {
+    return this.routes;
+  }
+  
+  /**
+   * Checks whether a part of the route can be used as parameter value.
+   *
+   * @param part                         part of the route
+   * @param usingColonForParametersInUrl true, if parameters are prefixed with ':'
+   * @return true, in case the part matches a parameter
+   */
+  protected boolean matchParameter(String part,
+                                   boolean usingColonForParametersInUrl) {
+    if (usingColonForParametersInUrl) {
+      return part.startsWith(":") || "*".equals(part);
+    }
+    return true;
+  }
+  
+}
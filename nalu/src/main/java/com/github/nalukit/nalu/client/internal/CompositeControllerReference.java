@@ -16,6 +16,9 @@
 
 package com.github.nalukit.nalu.client.internal;
 
+import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
+import com.github.nalukit.nalu.client.internal.application.ComponentIdTable;
+
 public class CompositeControllerReference {
   
   private String controller;
@@ -28,6 +31,9 @@ public class CompositeControllerReference {
   
   private boolean scopeGlobal;
   
+  /* component id of the composite - resolved once by the router */
+  private int compositeId = ComponentIdTable.NO_ID;
+  
   public CompositeControllerReference(String controller,
                                       String compositeName,
                                       String composite,
@@ -60,4 +66,14 @@ public class CompositeControllerReference {
     return scopeGlobal;
   }
   
+  @NaluInternalUse
+  public int getCompositeId() {
+    return compositeId;
+  }
+  
+  @NaluInternalUse
+  public void setCompositeId(int compositeId) {
+    this.compositeId = compositeId;
+  }
+  
 }
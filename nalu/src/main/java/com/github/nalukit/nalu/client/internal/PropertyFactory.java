@@ -1,11 +1,10 @@
 package com.github.nalukit.nalu.client.internal;
 
-import java.util.Objects;
+import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
+import com.github.nalukit.nalu.client.internal.application.ApplicationScope;
 
 public class PropertyFactory {
 
-  private static PropertyFactory instance;
-
   // context path
   private String  contextPath;
   // start route of the application
@@ -23,15 +22,17 @@ public class PropertyFactory {
   /* do we have to remove the URL parameter      */
   /* from the URL                                */
   private boolean removeUrlParameterAtStart;
+  /* maximum number of routings handled before    */
+  /* a loop is reported (0 = no limit)            */
+  private int     maximumNumberOfRoutingHops;
 
-  private PropertyFactory() {
+  @NaluInternalUse
+  public PropertyFactory() {
   }
 
   public static PropertyFactory get() {
-    if (Objects.isNull(instance)) {
-      instance = new PropertyFactory();
-    }
-    return instance;
+    return ApplicationScope.getDefault()
+                           .getPropertyFactory();
   }
 
   /**
@@ -52,6 +53,27 @@ public class PropertyFactory {
     this.contextPath = contextPath;
   }
 
+  /**
+   * Returns the maximum number of routings (f.e.: redirects of filters),
+   * that are handled, before Nalu reports a loop.
+   *
+   * @return maximum number of routing hops (0 = no limit)
+   */
+  public int getMaximumNumberOfRoutingHops() {
+    return this.maximumNumberOfRoutingHops;
+  }
+
+  /**
+   * Sets the maximum number of routings (f.e.: redirects of filters),
+   * that are handled, before Nalu reports a loop. Independent of this
+   * value, Nalu reports a loop in case a hash is routed twice.
+   *
+   * @param maximumNumberOfRoutingHops maximum number of routing hops (0 = no limit)
+   */
+  public void setMaximumNumberOfRoutingHops(int maximumNumberOfRoutingHops) {
+    this.maximumNumberOfRoutingHops = maximumNumberOfRoutingHops;
+  }
+
   /**
    * Will Nalu use a ahs for Navigation?
    *
@@ -44,6 +44,28 @@ public class Utils {
               .removeHandlers();
   }
   
+  public void discardController(AbstractComponentController<?, ?, ?> controller) {
+    // stop controller (created, but never started)
+    controller.stop();
+    // remove global handlers
+    controller.removeGlobalHandlers();
+    controller.removeHandlers();
+    // remove handlers on component elements
+    controller.getComponent()
+              .removeHandlers();
+  }
+  
+  public void discardCompositeController(AbstractCompositeController<?, ?, ?> compositeController) {
+    // stop composite (created, but never started)
+    compositeController.stop();
+    // remove global handlers
+    compositeController.removeGlobalHandlers();
+    compositeController.removeHandlers();
+    // remove handlers on component elements
+    compositeController.getComponent()
+                       .removeHandlers();
+  }
+  
   public void deactivateCompositeController(AbstractCompositeController<?, ?, ?> compositeController) {
     compositeController.deactivate();
     // remove handlers
@@ -31,7 +31,6 @@ import com.github.nalukit.nalu.client.internal.validation.RouteValidation;
 import com.github.nalukit.nalu.client.plugin.IsCustomAlertPresenter;
 import com.github.nalukit.nalu.client.plugin.IsCustomConfirmPresenter;
 import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin;
-import com.github.nalukit.nalu.client.seo.SeoDataProvider;
 import com.github.nalukit.nalu.client.tracker.IsTracker;
 import org.gwtproject.event.shared.SimpleEventBus;
 
@@ -63,6 +62,8 @@ public abstract class AbstractApplication<C extends IsContext>
   protected SimpleEventBus                     eventBus;
   /* plugin */
   protected IsNaluProcessorPlugin              plugin;
+  /* registries of the application */
+  protected ApplicationScope                   applicationScope;
   /* Tracker instance */
   protected IsTracker           tracker;
   /* instance of AlwaysLoadComposite-class */
@@ -83,8 +84,17 @@ public abstract class AbstractApplication<C extends IsContext>
 
   @Override
   public void run(IsNaluProcessorPlugin plugin) {
+    this.run(plugin,
+             ApplicationScope.getDefault());
+  }
+
+  @Override
+  public void run(IsNaluProcessorPlugin plugin,
+                  ApplicationScope applicationScope) {
     // save the plugin
     this.plugin = plugin;
+    // save the registries
+    this.applicationScope = applicationScope;
     // instantiate necessary classes
     this.eventBus            = new SimpleEventBus();
     this.shellConfiguration  = new ShellConfiguration();
@@ -100,8 +110,8 @@ public abstract class AbstractApplication<C extends IsContext>
     this.naluLogger.bind();
     this.loadLoggerConfiguration();
     // set event bus in RouteParser
-    RouteParser.get()
-               .setEventBus(this.eventBus);
+    this.applicationScope.getRouteParser()
+                         .setEventBus(this.eventBus);
     // log development messages
     this.eventBus.fireEvent(LogEvent.create()
                                     .sdmOnly(true)
@@ -115,8 +125,8 @@ public abstract class AbstractApplication<C extends IsContext>
     // load illegal route target
     this.loadIllegalRouteTarget();
     // Register plugin
-    SeoDataProvider.get()
-                   .register(this.plugin);
+    this.applicationScope.getSeoDataProvider()
+                         .register(this.plugin);
     // load everything you need to start
     this.loadShells();
     this.loadRoutes();
@@ -125,13 +135,14 @@ public abstract class AbstractApplication<C extends IsContext>
     // load optional tracker
     this.tracker = this.loadTrackerConfiguration();
     // initialize block factory
-    BlockControllerFactory.get()
-                          .register(this.eventBus);
+    this.applicationScope.getBlockControllerFactory()
+                         .register(this.eventBus);
     // initialize popup factory
-    PopUpControllerFactory.get()
-                          .register(this.eventBus);
+    this.applicationScope.getPopUpControllerFactory()
+                         .register(this.eventBus);
     // create router ...
-    this.router = new RouterImpl(this.plugin,
+    this.router = new RouterImpl(this.applicationScope,
+                                 this.plugin,
                                  this.shellConfiguration,
                                  this.routerConfiguration,
                                  this.compositeControllerReferences,
@@ -251,7 +262,9 @@ public abstract class AbstractApplication<C extends IsContext>
     // validate start route
     if (!RouteValidation.validateStartRoute(this.shellConfiguration,
                                             this.routerConfiguration,
-                                            this.startRoute)) {
+                                            this.startRoute,
+                                            this.applicationScope.getPropertyFactory()
+                                                                 .isUsingColonForParametersInUrl())) {
       String sb = "value of start route >>" + this.startRoute + "<< does not exist!";
       eventBus.fireEvent(LogEvent.create()
                                  .sdmOnly(false)
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import com.github.nalukit.nalu.client.internal.PropertyFactory;
+import com.github.nalukit.nalu.client.internal.route.RouteParser;
+import com.github.nalukit.nalu.client.metrics.NaluMetricsProvider;
+import com.github.nalukit.nalu.client.seo.SeoDataProvider;
+
+/**
+ * Registries of a running application.
+ * <p>
+ * Every application instance uses its own scope, so that several
+ * applications can run side by side (f.e.: headless rendering or
+ * tests running in parallel). The scope is passed to the router, the
+ * modules and the generated code.
+ * <p>
+ * The static <code>get()</code>-methods of the registries return the
+ * registries of the default scope. An application started with
+ * <code>run(plugin)</code> uses the default scope.
+ * <p>
+ * The metrics are part of the scope as well: the factories and the
+ * router of a scope report to the metrics provider of that scope.
+ */
+public class ApplicationScope {
+
+  /* the default scope */
+  private static ApplicationScope                    defaultScope;
+
+  private final  NaluMetricsProvider                 metricsProvider;
+  private final  ComponentIdTable                    componentIdTable;
+  private final  ControllerFactory                   controllerFactory;
+  private final  CompositeFactory                    compositeFactory;
+  private final  ShellFactory                        shellFactory;
+  private final  PopUpControllerFactory              popUpControllerFactory;
+  private final  PopUpConditionFactory               popUpConditionFactory;
+  private final  BlockControllerFactory              blockControllerFactory;
+  private final  ControllerCompositeConditionFactory controllerCompositeConditionFactory;
+  private final  RouteParser                         routeParser;
+  private final  SeoDataProvider                     seoDataProvider;
+  private final  PropertyFactory                     propertyFactory;
+
+  public ApplicationScope() {
+    this.metricsProvider                     = new NaluMetricsProvider();
+    this.componentIdTable                    = new ComponentIdTable();
+    this.controllerFactory                   = new ControllerFactory(this.componentIdTable,
+                                                                     this.metricsProvider);
+    this.compositeFactory                    = new CompositeFactory(this.componentIdTable,
+                                                                    this.controllerFactory,
+                                                                    this.metricsProvider);
+    this.shellFactory                        = new ShellFactory(this.componentIdTable);
+    this.popUpConditionFactory               = new PopUpConditionFactory();
+    this.popUpControllerFactory              = new PopUpControllerFactory(this.componentIdTable,
+                                                                          this.popUpConditionFactory,
+                                                                          this.metricsProvider);
+    this.blockControllerFactory              = new BlockControllerFactory(this.metricsProvider);
+    this.controllerCompositeConditionFactory = new ControllerCompositeConditionFactory(this.componentIdTable);
+    this.propertyFactory                     = new PropertyFactory();
+    this.routeParser                         = new RouteParser(this.propertyFactory);
+    this.seoDataProvider                     = new SeoDataProvider();
+  }
+
+  /**
+   * Returns the default scope.
+   *
+   * @return the default scope
+   */
+  public static ApplicationScope getDefault() {
+    if (defaultScope == null) {
+      defaultScope = new ApplicationScope();
+    }
+    return defaultScope;
+  }
+
+  public NaluMetricsProvider getMetricsProvider() {
+    return this.metricsProvider;
+  }
+
+  public ComponentIdTable getComponentIdTable() {
+    return this.componentIdTable;
+  }
+
+  public ControllerFactory getControllerFactory() {
+    return this.controllerFactory;
+  }
+
+  public CompositeFactory getCompositeFactory() {
+    return this.compositeFactory;
+  }
+
+  public ShellFactory getShellFactory() {
+    return this.shellFactory;
+  }
+
+  public PopUpControllerFactory getPopUpControllerFactory() {
+    return this.popUpControllerFactory;
+  }
+
+  public PopUpConditionFactory getPopUpConditionFactory() {
+    return this.popUpConditionFactory;
+  }
+
+  public BlockControllerFactory getBlockControllerFactory() {
+    return this.blockControllerFactory;
+  }
+
+  public ControllerCompositeConditionFactory getControllerCompositeConditionFactory() {
+    return this.controllerCompositeConditionFactory;
+  }
+
+  public RouteParser getRouteParser() {
+    return this.routeParser;
+  }
+
+  public SeoDataProvider getSeoDataProvider() {
+    return this.seoDataProvider;
+  }
+
+  public PropertyFactory getPropertyFactory() {
+    return this.propertyFactory;
+  }
+
+}
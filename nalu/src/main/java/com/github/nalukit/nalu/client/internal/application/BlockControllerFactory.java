@@ -21,6 +21,8 @@ import com.github.nalukit.nalu.client.component.event.ShowBlockComponentEvent;
 import com.github.nalukit.nalu.client.event.RouterStateEvent;
 import com.github.nalukit.nalu.client.event.RouterStateEvent.RouterState;
 import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
+import com.github.nalukit.nalu.client.metrics.NaluMetrics;
+import com.github.nalukit.nalu.client.metrics.NaluMetricsProvider;
 import org.gwtproject.event.shared.EventBus;
 
 import java.util.*;
@@ -28,25 +30,24 @@ import java.util.*;
 @NaluInternalUse
 public class BlockControllerFactory {
   
-  /* instance of the popup controller factory */
-  private static BlockControllerFactory               instance;
   /* map of components (key: name of class, Value: controller instance */
-  private final  Map<String, BlockControllerInstance> blockControllerInstanceStore;
+  private final Map<String, BlockControllerInstance> blockControllerInstanceStore;
   /* list of visibles blocks (using block name) */
-  private final  List<String>                         visiblesBlocks;
+  private final List<String>                         visiblesBlocks;
+  /* metrics of the application */
+  private final NaluMetricsProvider                  metricsProvider;
   /* Nalu event bus to catch the RouteState-Event */
-  private        EventBus                             eventBus;
+  private       EventBus                             eventBus;
   
-  private BlockControllerFactory() {
+  BlockControllerFactory(NaluMetricsProvider metricsProvider) {
     this.blockControllerInstanceStore = new HashMap<>();
     this.visiblesBlocks               = new ArrayList<>();
+    this.metricsProvider              = metricsProvider;
   }
   
   public static BlockControllerFactory get() {
-    if (instance == null) {
-      instance = new BlockControllerFactory();
-    }
-    return instance;
+    return ApplicationScope.getDefault()
+                           .getBlockControllerFactory();
   }
   
   public void registerBlockController(String blockName,
@@ -84,6 +85,11 @@ public class BlockControllerFactory {
                                                                                                                        .getName()));
                                            visiblesBlocks.add(blockControllerInstance.getController()
                                                                                      .getName());
+                                           this.metricsProvider.getMetrics()
+                                                               .counter(NaluMetrics.BLOCK_SHOWN,
+                                                                        blockControllerInstance.getController()
+                                                                                               .getName())
+                                                               .increment();
                                          }
                                        } else {
                                          if (this.visiblesBlocks.contains(blockControllerInstance.getController()
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Array of values indexed by component id (see {@link ComponentIdTable}).
+ * The array grows on demand.
+ *
+ * @param <T> type of the value
+ */
+class ComponentArray<T> {
+  
+  private Object[] values;
+  /* number of values, that are not null */
+  private int      size;
+  
+  ComponentArray() {
+    this.values = new Object[16];
+  }
+  
+  @SuppressWarnings("unchecked")
+  T get(int id) {
+    return id < 0 || id >= this.values.length ? null : (T) this.values[id];
+  }
+  
+  void set(int id,
+           T value) {
+    if (id >= this.values.length) {
+      Object[] newValues = new Object[Math.max(id + 1,
+                                               this.values.length * 2)];
+      System.arraycopy(this.values,
+                       0,
+                       newValues,
+                       0,
+                       this.values.length);
+      this.values = newValues;
+    }
+    if (this.values[id] == null) {
+      this.size++;
+    }
+    if (value == null) {
+      this.size--;
+    }
+    this.values[id] = value;
+  }
+  
+  T remove(int id) {
+    T value = this.get(id);
+    if (value != null) {
+      this.values[id] = null;
+      this.size--;
+    }
+    return value;
+  }
+  
+  /**
+   * Removes all values.
+   */
+  void clear() {
+    Arrays.fill(this.values,
+                null);
+    this.size = 0;
+  }
+  
+  /**
+   * Number of values, that are not null.
+   *
+   * @return number of values
+   */
+  int size() {
+    return this.size;
+  }
+  
+  /**
+   * Returns the values, that are not null, ordered by id.
+   *
+   * @return list of values
+   */
+  @SuppressWarnings("unchecked")
+  List<T> values() {
+    List<T> list = new ArrayList<>();
+    for (Object value : this.values) {
+      if (value != null) {
+        list.add((T) value);
+      }
+    }
+    return list;
+  }
+  
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Table of the component ids.
+ * <p>
+ * Every component (controller, composite, shell and popup) gets a dense
+ * numeric id once it is registered. The factories use the id as index
+ * of their arrays. The ids are assigned at runtime, cause the
+ * application and its modules are processed separately.
+ */
+@NaluInternalUse
+public class ComponentIdTable {
+  
+  /* id, in case the component is unknown */
+  public static final int NO_ID = -1;
+  
+  /* ids (key: name of the component, value: id) */
+  private final Map<String, Integer> ids;
+  /* names of the components (index: id) */
+  private final List<String>         names;
+  
+  ComponentIdTable() {
+    this.ids   = new HashMap<>();
+    this.names = new ArrayList<>();
+  }
+  
+  public static ComponentIdTable get() {
+    return ApplicationScope.getDefault()
+                           .getComponentIdTable();
+  }
+  
+  /**
+   * Returns the id of the component. In case the component is unknown,
+   * the next free id is assigned.
+   *
+   * @param name name of the component (f.e.: the class name)
+   * @return id of the component
+   */
+  public int register(String name) {
+    Integer id = this.ids.get(name);
+    if (Objects.isNull(id)) {
+      id = this.names.size();
+      this.ids.put(name,
+                   id);
+      this.names.add(name);
+    }
+    return id;
+  }
+  
+  /**
+   * Returns the id of the component.
+   *
+   * @param name name of the component (f.e.: the class name)
+   * @return id of the component or NO_ID, in case the component is unknown
+   */
+  public int getId(String name) {
+    Integer id = this.ids.get(name);
+    return Objects.isNull(id) ? ComponentIdTable.NO_ID : id;
+  }
+  
+  /**
+   * Returns the name of the component.
+   *
+   * @param id id of the component
+   * @return name of the component or null
+   */
+  public String getName(int id) {
+    return id < 0 || id >= this.names.size() ? null : this.names.get(id);
+  }
+  
+  /**
+   * Number of assigned ids.
+   *
+   * @return number of assigned ids
+   */
+  public int size() {
+    return this.names.size();
+  }
+  
+}
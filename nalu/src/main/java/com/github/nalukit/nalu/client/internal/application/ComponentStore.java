@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Store of cached components indexed by component id
+ * (see {@link ComponentIdTable}).
+ * <p>
+ * The store keeps its entries in access order (least recently used
+ * first) and the time of the last use of every entry. The order is kept
+ * in arrays linking the ids, so that lookups do not box the id.
+ *
+ * @param <T> type of the value
+ */
+class ComponentStore<T> {
+  
+  private Object[] values;
+  /* time of the last use (index: component id) */
+  private double[] times;
+  /* id of the previous entry in access order (index: component id) */
+  private int[]    previous;
+  /* id of the next entry in access order (index: component id) */
+  private int[]    next;
+  /* least recently used entry */
+  private int      first;
+  /* most recently used entry */
+  private int      last;
+  /* number of entries */
+  private int      size;
+  
+  ComponentStore() {
+    this.values   = new Object[16];
+    this.times    = new double[16];
+    this.previous = new int[16];
+    this.next     = new int[16];
+    this.first    = ComponentIdTable.NO_ID;
+    this.last     = ComponentIdTable.NO_ID;
+  }
+  
+  /**
+   * Returns the value and marks it as most recently used.
+   *
+   * @param id the component id
+   * @return the value or null
+   */
+  T get(int id) {
+    T value = this.peek(id);
+    if (value != null) {
+      this.unlink(id);
+      this.linkLast(id);
+    }
+    return value;
+  }
+  
+  /**
+   * Returns the value without changing the access order.
+   *
+   * @param id the component id
+   * @return the value or null
+   */
+  @SuppressWarnings("unchecked")
+  T peek(int id) {
+    return id < 0 || id >= this.values.length ? null : (T) this.values[id];
+  }
+  
+  boolean contains(int id) {
+    return this.peek(id) != null;
+  }
+  
+  /**
+   * Stores the value as most recently used entry.
+   *
+   * @param id    the component id
+   * @param value the value
+   * @param time  time of the last use
+   */
+  void put(int id,
+           T value,
+           double time) {
+    if (id >= this.values.length) {
+      this.grow(id + 1);
+    }
+    if (this.values[id] == null) {
+      this.size++;
+    } else {
+      this.unlink(id);
+    }
+    this.values[id] = value;
+    this.times[id]  = time;
+    this.linkLast(id);
+  }
+  
+  T remove(int id) {
+    T value = this.peek(id);
+    if (value != null) {
+      this.unlink(id);
+      this.values[id] = null;
+      this.size--;
+    }
+    return value;
+  }
+  
+  double getTime(int id) {
+    return this.times[id];
+  }
+  
+  void setTime(int id,
+               double time) {
+    if (this.contains(id)) {
+      this.times[id] = time;
+    }
+  }
+  
+  /**
+   * Returns the id of the least recently used entry.
+   *
+   * @return the id or NO_ID, in case the store is empty
+   */
+  int first() {
+    return this.first;
+  }
+  
+  /**
+   * Returns the id of the entry used after the entry of the id.
+   *
+   * @param id the component id
+   * @return the id or NO_ID, in case the entry is the most recently used one
+   */
+  int next(int id) {
+    return this.next[id];
+  }
+  
+  int size() {
+    return this.size;
+  }
+  
+  /**
+   * Returns the values in access order (least recently used first).
+   *
+   * @return list of values
+   */
+  List<T> values() {
+    List<T> list = new ArrayList<>(this.size);
+    for (int id = this.first; id != ComponentIdTable.NO_ID; id = this.next[id]) {
+      list.add(this.peek(id));
+    }
+    return list;
+  }
+  
+  void clear() {
+    Arrays.fill(this.values,
+                null);
+    this.first = ComponentIdTable.NO_ID;
+    this.last  = ComponentIdTable.NO_ID;
+    this.size  = 0;
+  }
+  
+  private void linkLast(int id) {
+    this.previous[id] = this.last;
+    this.next[id]     = ComponentIdTable.NO_ID;
+    if (this.last == ComponentIdTable.NO_ID) {
+      this.first = id;
+    } else {
+      this.next[this.last] = id;
+    }
+    this.last = id;
+  }
+  
+  private void unlink(int id) {
+    int previousId = this.previous[id];
+    int nextId     = this.next[id];
+    if (previousId == ComponentIdTable.NO_ID) {
+      this.first = nextId;
+    } else {
+      this.next[previousId] = nextId;
+    }
+    if (nextId == ComponentIdTable.NO_ID) {
+      this.last = previousId;
+    } else {
+      this.previous[nextId] = previousId;
+    }
+  }
+  
+  private void grow(int minimumLength) {
+    int length = Math.max(minimumLength,
+                          this.values.length * 2);
+    this.values   = Arrays.copyOf(this.values,
+                                  length);
+    this.times    = Arrays.copyOf(this.times,
+                                  length);
+    this.previous = Arrays.copyOf(this.previous,
+                                  length);
+    this.next     = Arrays.copyOf(this.next,
+                                  length);
+  }
+  
+}
@@ -16,66 +16,132 @@
 
 package com.github.nalukit.nalu.client.internal.application;
 
+import com.github.nalukit.nalu.client.cache.CompositeCachePolicy;
 import com.github.nalukit.nalu.client.component.AbstractCompositeController;
 import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
 import com.github.nalukit.nalu.client.internal.Utils;
 import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
+import com.github.nalukit.nalu.client.metrics.NaluMetrics;
+import com.github.nalukit.nalu.client.metrics.NaluMetricsProvider;
+import com.github.nalukit.nalu.client.plugin.IsClock;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
 
 @NaluInternalUse
 public class CompositeFactory {
   
-  private final static String DELIMITER = "<<||>>";
+  /* ids of the components */
+  private final  ComponentIdTable                                              componentIdTable;
+  /* controller factory of the application */
+  private final  ControllerFactory                                             controllerFactory;
+  /* metrics of the application */
+  private final  NaluMetricsProvider                                           metricsProvider;
+  /* components (index: component id, Value: CompositeCreator */
+  private final  CreatorArray<IsCompositeCreator>                              compositeCreatorFactory;
+  /* map of stored components in access order (key: parent, selector and class name, Value: instance of controller */
+  private final  Map<CompositeKey, Entry<AbstractCompositeController<?, ?, ?>>> compositeControllerStore;
+  /* global cached composites in access order (index: component id, time: last use) */
+  private final  ComponentStore<CompositeInstance>                             cachedGlobalCompositeInstances;
+  /* active composites */
+  private final  Set<AbstractCompositeController<?, ?, ?>>                     activeComposites;
+  /* eviction policy of the stores */
+  private        CompositeCachePolicy                                          cachePolicy;
+  /* source of the current time (the clock of the router) */
+  private        IsClock                                                       clock;
   
-  /* instance of the controller factory */
-  private static CompositeFactory                                  instance;
-  /* map of components (key: name of class, Value: ControllerCreator */
-  private final  Map<String, IsCompositeCreator>                   compositeCreatorFactory;
-  /* map of stored components (key: name of class, Value: instance of controller */
-  private final  Map<String, AbstractCompositeController<?, ?, ?>> compositeControllerStore;
-  /* list of global cached composites */
-  private final  Map<String, CompositeInstance>                    cachedGlobalCompositeInstances;
-  
-  private CompositeFactory() {
-    this.compositeCreatorFactory        = new HashMap<>();
-    this.compositeControllerStore       = new HashMap<>();
-    this.cachedGlobalCompositeInstances = new HashMap<>();
+  CompositeFactory(ComponentIdTable componentIdTable,
+                   ControllerFactory controllerFactory,
+                   NaluMetricsProvider metricsProvider) {
+    this.componentIdTable               = componentIdTable;
+    this.controllerFactory              = controllerFactory;
+    this.metricsProvider                = metricsProvider;
+    this.compositeCreatorFactory        = new CreatorArray<>();
+    this.compositeControllerStore       = new LinkedHashMap<>(16,
+                                                              0.75f,
+                                                              true);
+    this.cachedGlobalCompositeInstances = new ComponentStore<>();
+    this.activeComposites               = new HashSet<>();
+    this.cachePolicy                    = CompositeCachePolicy.create();
+    this.clock                          = IsClock.nanoTime();
+    this.metricsProvider.registerGauge(NaluMetrics.COMPOSITE_CACHE_SIZE,
+                                       () -> this.compositeControllerStore.size() + this.cachedGlobalCompositeInstances.size());
   }
   
   public static CompositeFactory get() {
-    if (instance == null) {
-      instance = new CompositeFactory();
-    }
-    return instance;
+    return ApplicationScope.getDefault()
+                           .getCompositeFactory();
   }
   
   public void registerComposite(String controller,
                                 IsCompositeCreator creator) {
-    this.compositeCreatorFactory.put(controller,
+    this.registerComposite(this.componentIdTable.register(controller),
+                           creator);
+  }
+  
+  public void registerComposite(int compositeId,
+                                IsCompositeCreator creator) {
+    this.compositeCreatorFactory.set(compositeId,
                                      creator);
   }
   
+  /**
+   * Registers the creator of a composite. The creator is instantiated
+   * the first time the composite is requested.
+   *
+   * @param controller class name of the composite
+   * @param creator    supplier of the creator
+   */
+  public void registerComposite(String controller,
+                                Supplier<IsCompositeCreator> creator) {
+    this.compositeCreatorFactory.setSupplier(this.componentIdTable.register(controller),
+                                             creator);
+  }
+  
   public CompositeInstance getComposite(String parentControllerClassName,
                                         String compositeControllerClassName,
                                         String selector,
                                         boolean scopeGlobal,
                                         String... params)
       throws RoutingInterceptionException {
+    return this.getComposite(parentControllerClassName,
+                             this.componentIdTable.getId(compositeControllerClassName),
+                             selector,
+                             scopeGlobal,
+                             params);
+  }
+  
+  public CompositeInstance getComposite(String parentControllerClassName,
+                                        int compositeId,
+                                        String selector,
+                                        boolean scopeGlobal,
+                                        String... params)
+      throws RoutingInterceptionException {
     // in case scopeGlobal is true ,check if the instance already exists
     if (scopeGlobal) {
-      if (!Objects.isNull(this.cachedGlobalCompositeInstances.get(compositeControllerClassName))) {
-        return this.cachedGlobalCompositeInstances.get(compositeControllerClassName);
+      CompositeInstance compositeInstance = this.getGlobal(compositeId);
+      if (!Objects.isNull(compositeInstance)) {
+        this.metricsProvider.getMetrics()
+                            .counter(NaluMetrics.COMPOSITE_CACHE_HITS)
+                            .increment();
+        return compositeInstance;
       }
     }
     // ok, global cache is empty ... create it!
-    if (this.compositeCreatorFactory.containsKey(compositeControllerClassName)) {
-      IsCompositeCreator compositeCreator = this.compositeCreatorFactory.get(compositeControllerClassName);
+    IsCompositeCreator compositeCreator = this.compositeCreatorFactory.get(compositeId);
+    if (!Objects.isNull(compositeCreator)) {
       CompositeInstance compositeInstance = compositeCreator.create(parentControllerClassName,
                                                                     selector,
                                                                     scopeGlobal);
+      this.metricsProvider.getMetrics()
+                          .counter(NaluMetrics.COMPOSITE_CREATIONS)
+                          .increment();
       if (scopeGlobal) {
         // oh ... global scope! store the compositeInstance
         compositeInstance.setCached(true);
@@ -83,8 +149,10 @@ public class CompositeFactory {
                          .setCachedGlobal(true);
         compositeInstance.getComposite()
                          .setSelector(null);
-        this.cachedGlobalCompositeInstances.put(compositeControllerClassName,
-                                                compositeInstance);
+        this.cachedGlobalCompositeInstances.put(compositeId,
+                                                compositeInstance,
+                                                this.clock.now());
+        this.evictComposites(compositeInstance.getComposite());
       }
       compositeCreator.setParameter(compositeInstance.getComposite(),
                                     params);
@@ -96,32 +164,58 @@ public class CompositeFactory {
   public AbstractCompositeController<?, ?, ?> getCompositeFormStore(String parentControllerClassName,
                                                                     String controllerClassName,
                                                                     String selector) {
-    String key = this.createKey(parentControllerClassName,
-                                controllerClassName,
-                                selector);
-    return this.compositeControllerStore.get(key);
+    return this.get(CompositeKey.create(this.componentIdTable,
+                                        parentControllerClassName,
+                                        controllerClassName,
+                                        selector));
   }
   
-  private String createKey(String parentClassName,
-                           String compositeClassName,
-                           String selector) {
-    StringBuilder sb = new StringBuilder();
-    sb.append(this.classFormatter(parentClassName))
-      .append(CompositeFactory.DELIMITER);
-    if (selector != null) {
-      sb.append(selector)
-        .append(CompositeFactory.DELIMITER);
-    } else {
-      sb.append("*")
-        .append(CompositeFactory.DELIMITER);
-    }
-    sb.append(this.classFormatter(compositeClassName));
-    return sb.toString();
+  /**
+   * Sets the eviction policy of the composite caches and
+   * evicts the composites exceeding the new limits.
+   *
+   * @param cachePolicy the policy
+   */
+  public void setCachePolicy(CompositeCachePolicy cachePolicy) {
+    this.cachePolicy = Objects.isNull(cachePolicy) ? CompositeCachePolicy.create() : cachePolicy;
+    this.evictComposites(null);
+  }
+  
+  /**
+   * Sets the clock used to measure the time to live.
+   * <p>
+   * Called by the router, so that the factory uses the clock of the router.
+   *
+   * @param clock the clock
+   */
+  public void setClock(IsClock clock) {
+    this.clock = clock;
   }
   
-  private String classFormatter(String className) {
-    return className.replace(".",
-                             "_");
+  /**
+   * Marks the composite as active. Active composites are not evicted.
+   * <p>
+   * Called by the router after activating a composite.
+   *
+   * @param compositeController the activated composite
+   */
+  public void markActive(AbstractCompositeController<?, ?, ?> compositeController) {
+    this.activeComposites.add(compositeController);
+  }
+  
+  /**
+   * Marks the composite as inactive and evicts the composites
+   * exceeding the limits of the policy.
+   * <p>
+   * Called by the router after deactivating a composite.
+   *
+   * @param compositeController the deactivated composite
+   */
+  public void markInactive(AbstractCompositeController<?, ?, ?> compositeController) {
+    if (this.activeComposites.remove(compositeController)) {
+      this.touch(compositeController);
+      this.evictComposites(null);
+    }
   }
   
   /**
@@ -135,12 +229,11 @@ public class CompositeFactory {
    * @param <C>        type of controller
    */
   public <C extends AbstractCompositeController<?, ?, ?>> void storeInCache(C controller) {
-    String key = this.createKey(controller.getParentClassName(),
-                                controller.getClass()
-                                          .getCanonicalName(),
-                                controller.getSelector());
-    this.compositeControllerStore.put(key,
-                                      controller);
+    this.compositeControllerStore.put(this.createKey(controller),
+                                      new Entry<>(controller,
+                                                  this.clock.now()));
+    // the stored composite is about to be shown -> do not evict it
+    this.evictComposites(controller);
   }
   
   /**
@@ -155,11 +248,7 @@ public class CompositeFactory {
    * @param <C>        type of controller
    */
   public <C extends AbstractCompositeController<?, ?, ?>> void removeFromCache(C controller) {
-    String key = this.createKey(controller.getParentClassName(),
-                                controller.getClass()
-                                          .getCanonicalName(),
-                                controller.getSelector());
-    this.compositeControllerStore.remove(key);
+    this.compositeControllerStore.remove(this.createKey(controller));
   }
   
   /**
@@ -176,6 +265,8 @@ public class CompositeFactory {
    */
   public void clearCompositeControllerCache() {
     this.compositeControllerStore.values()
+                                 .stream()
+                                 .map(entry -> entry.value)
                                  .forEach(controller -> {
                                    Utils.get()
                                         .deactivateCompositeController(controller);
@@ -185,4 +276,188 @@ public class CompositeFactory {
     this.compositeControllerStore.clear();
   }
   
+  private CompositeKey createKey(AbstractCompositeController<?, ?, ?> controller) {
+    return CompositeKey.create(this.componentIdTable,
+                               controller.getParentClassName(),
+                               controller.getClass()
+                                         .getCanonicalName(),
+                               controller.getSelector());
+  }
+  
+  /**
+   * Returns the stored composite of the key and updates the time of the last use.
+   * An expired composite is evicted.
+   */
+  private AbstractCompositeController<?, ?, ?> get(CompositeKey key) {
+    Entry<AbstractCompositeController<?, ?, ?>> entry = this.compositeControllerStore.get(key);
+    if (Objects.isNull(entry)) {
+      return null;
+    }
+    if (this.isExpired(entry.lastUse,
+                       entry.value)) {
+      this.compositeControllerStore.remove(key);
+      this.evict(entry.value,
+                 "expired");
+      return null;
+    }
+    entry.lastUse = this.clock.now();
+    return entry.value;
+  }
+  
+  /**
+   * Returns the global composite of the id and updates the time of the last use.
+   * An expired composite is evicted.
+   */
+  private CompositeInstance getGlobal(int compositeId) {
+    CompositeInstance compositeInstance = this.cachedGlobalCompositeInstances.get(compositeId);
+    if (Objects.isNull(compositeInstance)) {
+      return null;
+    }
+    if (this.isExpired(this.cachedGlobalCompositeInstances.getTime(compositeId),
+                       compositeInstance.getComposite())) {
+      this.cachedGlobalCompositeInstances.remove(compositeId);
+      this.evict(compositeInstance.getComposite(),
+                 "expired");
+      return null;
+    }
+    this.cachedGlobalCompositeInstances.setTime(compositeId,
+                                                this.clock.now());
+    return compositeInstance;
+  }
+  
+  private void touch(AbstractCompositeController<?, ?, ?> compositeController) {
+    for (Entry<AbstractCompositeController<?, ?, ?>> entry : this.compositeControllerStore.values()) {
+      if (entry.value == compositeController) {
+        entry.lastUse = this.clock.now();
+      }
+    }
+    for (int id = this.cachedGlobalCompositeInstances.first(); id != ComponentIdTable.NO_ID; id = this.cachedGlobalCompositeInstances.next(id)) {
+      if (this.cachedGlobalCompositeInstances.peek(id)
+                                             .getComposite() == compositeController) {
+        this.cachedGlobalCompositeInstances.setTime(id,
+                                                    this.clock.now());
+      }
+    }
+  }
+  
+  /**
+   * Evicts the composites exceeding the limits of the policy
+   * from both stores.
+   *
+   * @param protectedComposite composite, that must not be evicted (or null)
+   */
+  private void evictComposites(AbstractCompositeController<?, ?, ?> protectedComposite) {
+    this.evictStoredComposites(protectedComposite);
+    this.evictGlobalComposites(protectedComposite);
+  }
+  
+  private void evictStoredComposites(AbstractCompositeController<?, ?, ?> protectedComposite) {
+    // candidates in access order (least recently used first)
+    List<CompositeKey> candidates = new ArrayList<>();
+    for (Map.Entry<CompositeKey, Entry<AbstractCompositeController<?, ?, ?>>> mapEntry : this.compositeControllerStore.entrySet()) {
+      AbstractCompositeController<?, ?, ?> composite = mapEntry.getValue().value;
+      if (composite != protectedComposite && this.isEvictable(composite)) {
+        candidates.add(mapEntry.getKey());
+      }
+    }
+    // time to live
+    for (CompositeKey key : new ArrayList<>(candidates)) {
+      Entry<AbstractCompositeController<?, ?, ?>> entry = this.compositeControllerStore.get(key);
+      if (this.isExpired(entry.lastUse,
+                         entry.value)) {
+        this.compositeControllerStore.remove(key);
+        candidates.remove(key);
+        this.evict(entry.value,
+                   "expired");
+      }
+    }
+    // size
+    int maximumSize = this.cachePolicy.getMaximumSize();
+    if (maximumSize > 0) {
+      while (this.compositeControllerStore.size() > maximumSize && !candidates.isEmpty()) {
+        Entry<AbstractCompositeController<?, ?, ?>> entry = this.compositeControllerStore.remove(candidates.remove(0));
+        this.evict(entry.value,
+                   "size");
+      }
+    }
+  }
+  
+  private void evictGlobalComposites(AbstractCompositeController<?, ?, ?> protectedComposite) {
+    // candidates in access order (least recently used first)
+    int[] candidates = new int[this.cachedGlobalCompositeInstances.size()];
+    int   count      = 0;
+    for (int id = this.cachedGlobalCompositeInstances.first(); id != ComponentIdTable.NO_ID; id = this.cachedGlobalCompositeInstances.next(id)) {
+      AbstractCompositeController<?, ?, ?> composite = this.cachedGlobalCompositeInstances.peek(id)
+                                                                                          .getComposite();
+      if (composite != protectedComposite && this.isEvictable(composite)) {
+        candidates[count++] = id;
+      }
+    }
+    // time to live
+    for (int i = 0; i < count; i++) {
+      if (this.isExpired(this.cachedGlobalCompositeInstances.getTime(candidates[i]),
+                         this.cachedGlobalCompositeInstances.peek(candidates[i])
+                                                            .getComposite())) {
+        this.evict(this.cachedGlobalCompositeInstances.remove(candidates[i])
+                                                      .getComposite(),
+                   "expired");
+      }
+    }
+    // size
+    int maximumSize = this.cachePolicy.getMaximumSize();
+    if (maximumSize > 0) {
+      for (int i = 0; i < count && this.cachedGlobalCompositeInstances.size() > maximumSize; i++) {
+        CompositeInstance compositeInstance = this.cachedGlobalCompositeInstances.remove(candidates[i]);
+        if (!Objects.isNull(compositeInstance)) {
+          this.evict(compositeInstance.getComposite(),
+                     "size");
+        }
+      }
+    }
+  }
+  
+  private boolean isExpired(double lastUse,
+                            AbstractCompositeController<?, ?, ?> composite) {
+    return this.cachePolicy.getTimeToLive() > 0 &&
+           this.clock.now() - lastUse > this.cachePolicy.getTimeToLive() &&
+           this.isEvictable(composite);
+  }
+  
+  /**
+   * Composites, that are attached or belong to a cached controller, are not evicted.
+   * They are stopped together with the controller.
+   */
+  private boolean isEvictable(AbstractCompositeController<?, ?, ?> composite) {
+    return !this.activeComposites.contains(composite) &&
+           (Objects.isNull(composite.getParentClassName()) ||
+            !this.controllerFactory.isCached(composite.getParentClassName()));
+  }
+  
+  private void evict(AbstractCompositeController<?, ?, ?> composite,
+                     String cause) {
+    // force stopping the composite
+    composite.setCached(false);
+    Utils.get()
+         .stopCompositeController(composite);
+    this.metricsProvider.getMetrics()
+                        .counter(NaluMetrics.COMPOSITE_EVICTIONS,
+                                 cause)
+                        .increment();
+  }
+  
+  private static class Entry<V> {
+    
+    /* the cached value */
+    private final V      value;
+    /* time of the last use */
+    private       double lastUse;
+    
+    private Entry(V value,
+                  double lastUse) {
+      this.value   = value;
+      this.lastUse = lastUse;
+    }
+    
+  }
+  
 }
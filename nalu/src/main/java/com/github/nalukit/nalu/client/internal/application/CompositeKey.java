@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import java.util.Objects;
+
+/**
+ * Key of a cached composite: component id of the parent controller,
+ * selector and component id of the composite.
+ * <p>
+ * The key is immutable and computes its hash code once.
+ */
+final class CompositeKey {
+  
+  private final int    parentId;
+  private final String selector;
+  private final int    compositeId;
+  private final int    hashCode;
+  
+  private CompositeKey(int parentId,
+                       String selector,
+                       int compositeId) {
+    this.parentId    = parentId;
+    this.selector    = selector;
+    this.compositeId = compositeId;
+    this.hashCode    = 31 * (31 * parentId + selector.hashCode()) + compositeId;
+  }
+  
+  /**
+   * Creates the key of a composite.
+   *
+   * @param componentIdTable   ids of the components
+   * @param parentClassName    class name of the parent controller
+   * @param compositeClassName class name of the composite
+   * @param selector           the selector (null in case of a global composite)
+   * @return the key
+   */
+  static CompositeKey create(ComponentIdTable componentIdTable,
+                             String parentClassName,
+                             String compositeClassName,
+                             String selector) {
+    return new CompositeKey(componentIdTable.register(parentClassName),
+                            Objects.isNull(selector) ? "*" : selector,
+                            componentIdTable.register(compositeClassName));
+  }
+  
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof CompositeKey)) {
+      return false;
+    }
+    CompositeKey that = (CompositeKey) o;
+    return this.hashCode == that.hashCode &&
+           this.parentId == that.parentId &&
+           this.compositeId == that.compositeId &&
+           this.selector.equals(that.selector);
+  }
+  
+  @Override
+  public int hashCode() {
+    return this.hashCode;
+  }
+  
+}
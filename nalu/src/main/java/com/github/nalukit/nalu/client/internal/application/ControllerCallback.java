@@ -10,4 +10,17 @@ public interface ControllerCallback {
   
   void onFinish(ControllerInstance controllerInstance);
   
+  /**
+   * Returns the token of the routing, that requested the controller.
+   * <p>
+   * In case the token is canceled, the controller will be stopped and
+   * the callback will not be called. Callbacks, that do not belong to a
+   * routing, return {@link RoutingToken#NONE}.
+   *
+   * @return token of the routing
+   */
+  default RoutingToken getRoutingToken() {
+    return RoutingToken.NONE;
+  }
+  
 }
@@ -24,35 +24,33 @@ import java.util.*;
 @NaluInternalUse
 public class ControllerCompositeConditionFactory {
   
-  /* instance of the controller factory */
-  private static ControllerCompositeConditionFactory   instance;
-  /* map of conditions (key: controller name, value: ConditionContainer)  */
-  private final  Map<String, List<ConditionContainer>> conditionContainerMap;
+  /* ids of the components */
+  private final ComponentIdTable                         componentIdTable;
+  /* conditions (index: component id of the controller, value: ConditionContainer)  */
+  private final ComponentArray<List<ConditionContainer>> conditionContainerMap;
   
-  private ControllerCompositeConditionFactory() {
-    this.conditionContainerMap = new HashMap<>();
+  ControllerCompositeConditionFactory(ComponentIdTable componentIdTable) {
+    this.componentIdTable      = componentIdTable;
+    this.conditionContainerMap = new ComponentArray<>();
   }
   
   public static ControllerCompositeConditionFactory get() {
-    if (instance == null) {
-      instance = new ControllerCompositeConditionFactory();
-    }
-    return instance;
+    return ApplicationScope.getDefault()
+                           .getControllerCompositeConditionFactory();
   }
   
   public void registerCondition(String controllerClassName,
                                 String compositeName,
                                 IsLoadCompositeCondition condition) {
-    if (this.conditionContainerMap.containsKey(controllerClassName)) {
-      this.conditionContainerMap.get(controllerClassName)
-                                .add(new ConditionContainer(compositeName,
-                                                            condition));
-    } else {
-      this.conditionContainerMap.computeIfAbsent(controllerClassName,
-                                                 v -> new ArrayList<>())
-                                .add(new ConditionContainer(compositeName,
-                                                            condition));
+    int                      controllerId        = this.componentIdTable.register(controllerClassName);
+    List<ConditionContainer> conditionContainers = this.conditionContainerMap.get(controllerId);
+    if (Objects.isNull(conditionContainers)) {
+      conditionContainers = new ArrayList<>();
+      this.conditionContainerMap.set(controllerId,
+                                     conditionContainers);
     }
+    conditionContainers.add(new ConditionContainer(compositeName,
+                                                   condition));
   }
   
   /**
@@ -68,7 +66,17 @@ public class ControllerCompositeConditionFactory {
                                String compositeName,
                                String route,
                                String... params) {
-    List<ConditionContainer> conditionContainers = this.conditionContainerMap.get(controllerClassName);
+    return this.loadComposite(this.componentIdTable.getId(controllerClassName),
+                              compositeName,
+                              route,
+                              params);
+  }
+  
+  public boolean loadComposite(int controllerId,
+                               String compositeName,
+                               String route,
+                               String... params) {
+    List<ConditionContainer> conditionContainers = this.conditionContainerMap.get(controllerId);
     if (Objects.isNull(conditionContainers)) {
       return false;
     }
@@ -16,49 +16,101 @@
 
 package com.github.nalukit.nalu.client.internal.application;
 
+import com.github.nalukit.nalu.client.cache.ControllerCachePolicy;
 import com.github.nalukit.nalu.client.component.AbstractComponentController;
 import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
 import com.github.nalukit.nalu.client.internal.Utils;
 import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
+import com.github.nalukit.nalu.client.metrics.NaluMetrics;
+import com.github.nalukit.nalu.client.metrics.NaluMetricsProvider;
+import com.github.nalukit.nalu.client.plugin.IsClock;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
 
 @NaluInternalUse
 public class ControllerFactory {
   
-  /* instance of the controller factory */
-  private static ControllerFactory                                 instance;
-  /* map of components (key: name of class, Value: ControllerCreator */
-  private final  Map<String, IsControllerCreator>                  controllerFactory;
-  /* map of stored components (key: name of class, Value: instance of controller */
-  private final  Map<String, AbstractComponentController<?, ?, ?>> controllerStore;
+  /* ids of the components */
+  private final  ComponentIdTable                                     componentIdTable;
+  /* metrics of the application */
+  private final  NaluMetricsProvider                                  metricsProvider;
+  /* components (index: component id, Value: ControllerCreator */
+  private final  CreatorArray<IsControllerCreator>                    controllerFactory;
+  /* stored components in access order (index: component id, Value: instance of controller, time: last activation) */
+  private final  ComponentStore<AbstractComponentController<?, ?, ?>> controllerStore;
+  /* active components (index: component id) */
+  private final  ComponentArray<Boolean>                              activeControllers;
+  /* eviction policy of the store */
+  private        ControllerCachePolicy                                cachePolicy;
+  /* source of the current time (the clock of the router) */
+  private        IsClock                                              clock;
   
-  private ControllerFactory() {
-    this.controllerFactory = new HashMap<>();
-    this.controllerStore   = new HashMap<>();
+  ControllerFactory(ComponentIdTable componentIdTable,
+                    NaluMetricsProvider metricsProvider) {
+    this.componentIdTable  = componentIdTable;
+    this.metricsProvider   = metricsProvider;
+    this.controllerFactory = new CreatorArray<>();
+    this.controllerStore   = new ComponentStore<>();
+    this.activeControllers = new ComponentArray<>();
+    this.cachePolicy       = ControllerCachePolicy.create();
+    this.clock             = IsClock.nanoTime();
+    this.metricsProvider.registerGauge(NaluMetrics.CONTROLLER_CACHE_SIZE,
+                                       this.controllerStore::size);
   }
   
   public static ControllerFactory get() {
-    if (instance == null) {
-      instance = new ControllerFactory();
-    }
-    return instance;
+    return ApplicationScope.getDefault()
+                           .getControllerFactory();
   }
   
   public void registerController(String controller,
                                  IsControllerCreator creator) {
-    this.controllerFactory.put(controller,
+    this.registerController(this.componentIdTable.register(controller),
+                            creator);
+  }
+  
+  public void registerController(int controllerId,
+                                 IsControllerCreator creator) {
+    this.controllerFactory.set(controllerId,
                                creator);
   }
   
+  /**
+   * Registers the creator of a controller. The creator is instantiated
+   * the first time the controller is requested.
+   *
+   * @param controller class name of the controller
+   * @param creator    supplier of the creator
+   */
+  public void registerController(String controller,
+                                 Supplier<IsControllerCreator> creator) {
+    this.controllerFactory.setSupplier(this.componentIdTable.register(controller),
+                                       creator);
+  }
+  
   public void controller(String route,
                          String controller,
                          ControllerCallback callback,
                          String... params) {
-    if (this.controllerFactory.containsKey(controller)) {
-      IsControllerCreator controllerCreator  = this.controllerFactory.get(controller);
-      ControllerInstance  controllerInstance = controllerCreator.create(route);
+    this.controller(route,
+                    this.componentIdTable.getId(controller),
+                    callback,
+                    params);
+  }
+  
+  public void controller(String route,
+                         int controllerId,
+                         ControllerCallback callback,
+                         String... params) {
+    IsControllerCreator controllerCreator = this.controllerFactory.get(controllerId);
+    if (!Objects.isNull(controllerCreator)) {
+      ControllerInstance controllerInstance = controllerCreator.create(route);
+      this.metricsProvider.getMetrics()
+                          .counter(controllerInstance.isCached() ?
+                                   NaluMetrics.CONTROLLER_CACHE_HITS :
+                                   NaluMetrics.CONTROLLER_CACHE_MISSES)
+                          .increment();
       try {
         controllerCreator.setParameter(controllerInstance.getController(),
                                        params);
@@ -71,8 +123,15 @@ public class ControllerFactory {
         try {
           controllerInstance.getController()
                             .bind(() -> {
-                                controllerCreator.onFinishCreating(controllerInstance.getController());
-                                callback.onFinish(controllerInstance);
+                              // the routing is superseded by a newer routing -> stop the controller
+                              if (callback.getRoutingToken()
+                                          .isCanceled()) {
+                                Utils.get()
+                                     .discardController(controllerInstance.getController());
+                                return;
+                              }
+                              controllerCreator.onFinishCreating(controllerInstance.getController());
+                              callback.onFinish(controllerInstance);
                             });
         } catch (RoutingInterceptionException e) {
           callback.onRoutingInterceptionException(e);
@@ -82,12 +141,95 @@ public class ControllerFactory {
   }
   
   public AbstractComponentController<?, ?, ?> getControllerFormStore(String controllerClassName) {
-    return this.controllerStore.get(this.classFormatter(controllerClassName));
+    return this.getControllerFormStore(this.componentIdTable.getId(controllerClassName));
   }
   
-  private String classFormatter(String className) {
-    return className.replace(".",
-                             "_");
+  public AbstractComponentController<?, ?, ?> getControllerFormStore(int controllerId) {
+    // an expired controller will be evicted and created again
+    if (this.isExpired(controllerId)) {
+      this.evict(controllerId,
+                 "expired");
+      return null;
+    }
+    return this.controllerStore.get(controllerId);
+  }
+  
+  /**
+   * Sets the eviction policy of the controller cache and
+   * evicts the controllers exceeding the new limits.
+   *
+   * @param cachePolicy the policy
+   */
+  public void setCachePolicy(ControllerCachePolicy cachePolicy) {
+    this.cachePolicy = Objects.isNull(cachePolicy) ? ControllerCachePolicy.create() : cachePolicy;
+    this.evictControllers(ComponentIdTable.NO_ID);
+  }
+  
+  /**
+   * Sets the clock used to measure the time to live.
+   * <p>
+   * Called by the router, so that the factory uses the clock of the router.
+   *
+   * @param clock the clock
+   */
+  public void setClock(IsClock clock) {
+    this.clock = clock;
+  }
+  
+  /**
+   * Marks the controller as active. Active controllers are not evicted.
+   * <p>
+   * Called by the router after activating a controller.
+   *
+   * @param controller the activated controller
+   */
+  public void markActive(AbstractComponentController<?, ?, ?> controller) {
+    int id = this.getId(controller);
+    this.activeControllers.set(id,
+                               true);
+    if (this.controllerStore.contains(id)) {
+      // update access order
+      this.controllerStore.get(id);
+      this.controllerStore.setTime(id,
+                                   this.clock.now());
+    }
+  }
+  
+  /**
+   * Marks the controller as inactive and evicts the controllers
+   * exceeding the limits of the policy.
+   * <p>
+   * Called by the router after deactivating a controller.
+   *
+   * @param controller the deactivated controller
+   */
+  public void markInactive(AbstractComponentController<?, ?, ?> controller) {
+    int id = this.getId(controller);
+    this.activeControllers.remove(id);
+    if (this.controllerStore.contains(id)) {
+      this.controllerStore.setTime(id,
+                                   this.clock.now());
+      this.evictControllers(ComponentIdTable.NO_ID);
+    }
+  }
+  
+  /**
+   * Checks, if the controller is cached (without updating the access order).
+   *
+   * @param controllerClassName class name of the controller
+   * @return true, if the controller is inside the store
+   */
+  public boolean isCached(String controllerClassName) {
+    return this.isCached(this.componentIdTable.getId(controllerClassName));
+  }
+  
+  public boolean isCached(int controllerId) {
+    return this.controllerStore.contains(controllerId);
+  }
+  
+  private int getId(AbstractComponentController<?, ?, ?> controller) {
+    return this.componentIdTable.register(controller.getClass()
+                                                    .getCanonicalName());
   }
   
   /**
@@ -100,10 +242,12 @@ public class ControllerFactory {
    * @param <C>        type of controller
    */
   public <C extends AbstractComponentController<?, ?, ?>> void storeInCache(C controller) {
-    String key = this.classFormatter(controller.getClass()
-                                               .getCanonicalName());
-    this.controllerStore.put(key,
-                             controller);
+    int id = this.getId(controller);
+    this.controllerStore.put(id,
+                             controller,
+                             this.clock.now());
+    // the stored controller is about to be shown -> do not evict it
+    this.evictControllers(id);
   }
   
   /**
@@ -118,9 +262,8 @@ public class ControllerFactory {
    * @param <C>        type of controller
    */
   public <C extends AbstractComponentController<?, ?, ?>> void removeFromCache(C controller) {
-    String key = this.classFormatter(controller.getClass()
-                                               .getCanonicalName());
-    this.controllerStore.remove(key);
+    int id = this.getId(controller);
+    this.controllerStore.remove(id);
   }
   
   /**
@@ -156,6 +299,87 @@ public class ControllerFactory {
                                .stopController(controller);
                         });
     this.controllerStore.clear();
+    this.activeControllers.clear();
+  }
+  
+  private boolean isExpired(int id) {
+    if (this.cachePolicy.getTimeToLive() <= 0 || this.isActive(id)) {
+      return false;
+    }
+    return this.controllerStore.contains(id) &&
+           this.clock.now() - this.controllerStore.getTime(id) > this.cachePolicy.getTimeToLive();
+  }
+  
+  /**
+   * Evicts the inactive controllers exceeding the limits of the policy.
+   * Expired controllers are evicted first, followed by the least
+   * recently used controllers.
+   *
+   * @param protectedId id of a controller, that must not be evicted (or NO_ID)
+   */
+  private void evictControllers(int protectedId) {
+    // candidates in access order (least recently used first)
+    int[] candidates = new int[this.controllerStore.size()];
+    int   count      = 0;
+    for (int id = this.controllerStore.first(); id != ComponentIdTable.NO_ID; id = this.controllerStore.next(id)) {
+      if (!this.isActive(id) && id != protectedId) {
+        candidates[count++] = id;
+      }
+    }
+    // time to live
+    for (int i = 0; i < count; i++) {
+      if (this.isExpired(candidates[i])) {
+        this.evict(candidates[i],
+                   "expired");
+      }
+    }
+    // size
+    int maximumSize = this.cachePolicy.getMaximumSize();
+    if (maximumSize > 0) {
+      for (int i = 0; i < count && this.controllerStore.size() > maximumSize; i++) {
+        this.evict(candidates[i],
+                   "size");
+      }
+    }
+    // weight
+    int maximumWeight = this.cachePolicy.getMaximumWeight();
+    if (maximumWeight > 0) {
+      int weight = 0;
+      for (AbstractComponentController<?, ?, ?> controller : this.controllerStore.values()) {
+        weight += this.cachePolicy.weigh(controller);
+      }
+      for (int i = 0; i < count && weight > maximumWeight; i++) {
+        AbstractComponentController<?, ?, ?> controller = this.controllerStore.peek(candidates[i]);
+        if (!Objects.isNull(controller)) {
+          weight -= this.cachePolicy.weigh(controller);
+          this.evict(candidates[i],
+                     "weight");
+        }
+      }
+    }
+  }
+  
+  private boolean isActive(int id) {
+    return !Objects.isNull(this.activeControllers.get(id));
+  }
+  
+  private void evict(int id,
+                     String cause) {
+    AbstractComponentController<?, ?, ?> controller = this.controllerStore.remove(id);
+    if (Objects.isNull(controller)) {
+      return;
+    }
+    // the controller is already deactivated -> stop composites and controller
+    controller.getComposites()
+              .values()
+              .forEach(compositeController -> Utils.get()
+                                                   .stopCompositeController(compositeController));
+    Utils.get()
+         .stopController(controller);
+    this.metricsProvider.getMetrics()
+                        .counter(NaluMetrics.CONTROLLER_EVICTIONS,
+                                 cause)
+                        .increment();
   }
   
 }
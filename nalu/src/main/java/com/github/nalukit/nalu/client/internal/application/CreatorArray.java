@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Creators indexed by component id (see {@link ComponentIdTable}).
+ * <p>
+ * A creator can be registered as instance or as supplier. A supplier
+ * is called the first time the creator is requested, so that creators
+ * of components, that are never used, are never instantiated.
+ *
+ * @param <T> type of the creator
+ */
+class CreatorArray<T> {
+  
+  /* created creators */
+  private final ComponentArray<T>           creators;
+  /* suppliers of creators, that are not created yet */
+  private final ComponentArray<Supplier<T>> suppliers;
+  
+  CreatorArray() {
+    this.creators  = new ComponentArray<>();
+    this.suppliers = new ComponentArray<>();
+  }
+  
+  void set(int id,
+           T creator) {
+    this.suppliers.remove(id);
+    this.creators.set(id,
+                      creator);
+  }
+  
+  void setSupplier(int id,
+                   Supplier<T> supplier) {
+    this.creators.remove(id);
+    this.suppliers.set(id,
+                       supplier);
+  }
+  
+  /**
+   * Returns the creator of the id. In case the creator is registered
+   * as supplier, the creator gets created.
+   *
+   * @param id the component id
+   * @return the creator or null
+   */
+  T get(int id) {
+    T creator = this.creators.get(id);
+    if (Objects.isNull(creator)) {
+      Supplier<T> supplier = this.suppliers.remove(id);
+      if (!Objects.isNull(supplier)) {
+        creator = supplier.get();
+        this.creators.set(id,
+                          creator);
+      }
+    }
+    return creator;
+  }
+  
+}
@@ -27,20 +27,16 @@ import java.util.Objects;
 @NaluInternalUse
 public class PopUpConditionFactory {
 
-  /* instance of the controller factory */
-  private static PopUpConditionFactory             instance;
   /* map of popup condition */
-  private final  Map<String, IsShowPopUpCondition> conditionMap;
+  private final Map<String, IsShowPopUpCondition> conditionMap;
 
-  private PopUpConditionFactory() {
+  PopUpConditionFactory() {
     this.conditionMap = new HashMap<>();
   }
 
   public static PopUpConditionFactory get() {
-    if (instance == null) {
-      instance = new PopUpConditionFactory();
-    }
-    return instance;
+    return ApplicationScope.getDefault()
+                           .getPopUpConditionFactory();
   }
 
   public void registerCondition(String popUpName,
@@ -22,43 +22,66 @@ import com.github.nalukit.nalu.client.component.IsShowPopUpCondition;
 import com.github.nalukit.nalu.client.component.event.ShowPopUpEvent;
 import com.github.nalukit.nalu.client.filter.IsPopUpFilter;
 import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
+import com.github.nalukit.nalu.client.metrics.NaluMetrics;
+import com.github.nalukit.nalu.client.metrics.NaluMetricsProvider;
 import org.gwtproject.event.shared.EventBus;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 @NaluInternalUse
 public class PopUpControllerFactory {
 
-  /* instance of the popup controller factory */
-  private static PopUpControllerFactory                instance;
-  /* map of components (key: name of class, Value: ControllerCreator */
-  private final  Map<String, IsPopUpControllerCreator> creatorStore;
-  /* map of components (key: name of class, Value: controller instance */
-  private final  Map<String, PopUpControllerInstance>  popUpControllerStore;
+  /* ids of the components */
+  private final  ComponentIdTable                         componentIdTable;
+  /* conditions of the popups */
+  private final  PopUpConditionFactory                    popUpConditionFactory;
+  /* metrics of the application */
+  private final  NaluMetricsProvider                      metricsProvider;
+  /* components (index: component id, Value: ControllerCreator */
+  private final  CreatorArray<IsPopUpControllerCreator>   creatorStore;
+  /* components (index: component id, Value: controller instance */
+  private final  ComponentArray<PopUpControllerInstance>  popUpControllerStore;
   /* map of filters (key: name of class, Value: filter instance */
-  private final  Map<String, AbstractPopUpFilter<?>>   popUpFilterStore;
+  private final  Map<String, AbstractPopUpFilter<?>>      popUpFilterStore;
   /* Nalu event bus to catch the ShowPopUpEvents */
-  private        EventBus                              eventBus;
+  private        EventBus                                 eventBus;
 
-  private PopUpControllerFactory() {
-    this.creatorStore         = new HashMap<>();
-    this.popUpControllerStore = new HashMap<>();
-    this.popUpFilterStore     = new HashMap<>();
+  PopUpControllerFactory(ComponentIdTable componentIdTable,
+                         PopUpConditionFactory popUpConditionFactory,
+                         NaluMetricsProvider metricsProvider) {
+    this.componentIdTable      = componentIdTable;
+    this.popUpConditionFactory = popUpConditionFactory;
+    this.metricsProvider       = metricsProvider;
+    this.creatorStore          = new CreatorArray<>();
+    this.popUpControllerStore  = new ComponentArray<>();
+    this.popUpFilterStore      = new HashMap<>();
   }
 
   public static PopUpControllerFactory get() {
-    if (instance == null) {
-      instance = new PopUpControllerFactory();
-    }
-    return instance;
+    return ApplicationScope.getDefault()
+                           .getPopUpControllerFactory();
   }
 
   public void registerPopUpController(String popUpName,
                                       IsPopUpControllerCreator creator) {
-    this.creatorStore.put(popUpName,
+    this.creatorStore.set(this.componentIdTable.register(popUpName),
                           creator);
   }
 
+  /**
+   * Registers the creator of a popup. The creator is instantiated
+   * the first time the popup is shown.
+   *
+   * @param popUpName name of the popup
+   * @param creator   supplier of the creator
+   */
+  public void registerPopUpController(String popUpName,
+                                      Supplier<IsPopUpControllerCreator> creator) {
+    this.creatorStore.setSupplier(this.componentIdTable.register(popUpName),
+                                  creator);
+  }
+
   public void registerPopUpFilter(String popUpName,
                                   AbstractPopUpFilter<?> filter) {
     this.popUpFilterStore.put(popUpName,
@@ -91,19 +114,24 @@ public class PopUpControllerFactory {
                                .onCancel();
         }
       }
+      this.countPopUp(NaluMetrics.POPUP_CANCELED,
+                      event);
       return;
     }
 
-    if (!PopUpConditionFactory.get().showPopUp(event)) {
+    if (!this.popUpConditionFactory.showPopUp(event)) {
+      this.countPopUp(NaluMetrics.POPUP_CANCELED,
+                      event);
       return;
     }
 
+    int                      popUpId                  = this.componentIdTable.getId(event.getName());
     IsPopUpControllerCreator creator                  = null;
-    PopUpControllerInstance  popUpComponentController = this.popUpControllerStore.get(event.getName());
+    PopUpControllerInstance  popUpComponentController = this.popUpControllerStore.get(popUpId);
     if (Objects.isNull(popUpComponentController)) {
-      PopUpControllerInstance instance = this.popUpControllerStore.get(event.getName());
+      PopUpControllerInstance instance = this.popUpControllerStore.get(popUpId);
       if (Objects.isNull(instance)) {
-        creator = this.creatorStore.get(event.getName());
+        creator = this.creatorStore.get(popUpId);
         if (Objects.isNull(creator)) {
           LogEvent.create()
                   .sdmOnly(false)
@@ -111,7 +139,7 @@ public class PopUpControllerFactory {
           return;
         }
         instance = creator.create();
-        this.popUpControllerStore.put(event.getName(),
+        this.popUpControllerStore.set(popUpId,
                                       instance);
         popUpComponentController = instance;
       }
@@ -120,6 +148,8 @@ public class PopUpControllerFactory {
                             .setDataStore(event.getDataStore());
     popUpComponentController.getController()
                             .setCommandStore(event.getCommandStore());
+    this.countPopUp(NaluMetrics.POPUP_SHOWN,
+                    event);
     PopUpControllerInstance finalPopUpComponentController = popUpComponentController;
     if (creator == null) {
       finalPopUpComponentController.getController()
@@ -137,4 +167,12 @@ public class PopUpControllerFactory {
     }
   }
 
+  private void countPopUp(String name,
+                          ShowPopUpEvent event) {
+    this.metricsProvider.getMetrics()
+                        .counter(name,
+                                 event.getName())
+                        .increment();
+  }
+
 }
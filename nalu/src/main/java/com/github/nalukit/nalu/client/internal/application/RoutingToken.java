@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
+
+/**
+ * Token of a routing.
+ * <p>
+ * Every routing gets a new token with a monotonically increasing
+ * generation. Once a newer routing starts, the token of the previous
+ * routing gets canceled. Callbacks of a canceled routing must not
+ * be executed anymore.
+ */
+@NaluInternalUse
+public final class RoutingToken {
+  
+  /* token of callbacks, that do not belong to a routing - never canceled */
+  public static final RoutingToken NONE = new RoutingToken(0);
+  
+  /* generation of the routing */
+  private final int     generation;
+  /* true, if the routing is superseded by a newer one */
+  private       boolean canceled;
+  
+  public RoutingToken(int generation) {
+    this.generation = generation;
+  }
+  
+  /**
+   * Returns the generation of the routing.
+   *
+   * @return generation of the routing
+   */
+  public int getGeneration() {
+    return this.generation;
+  }
+  
+  /**
+   * Returns true, if the routing is superseded by a newer one.
+   *
+   * @return true, if canceled
+   */
+  public boolean isCanceled() {
+    return this.canceled;
+  }
+  
+  /**
+   * Cancels the routing. The token {@link #NONE} can not be canceled.
+   */
+  public void cancel() {
+    if (this == NONE) {
+      return;
+    }
+    this.canceled = true;
+  }
+  
+}
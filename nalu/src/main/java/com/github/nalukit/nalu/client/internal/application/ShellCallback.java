@@ -12,4 +12,17 @@ public interface ShellCallback {
   
   void onRoutingInterceptionException(RoutingInterceptionException e);
   
+  /**
+   * Returns the token of the routing, that requested the shell.
+   * <p>
+   * In case the token is canceled, the shell will be discarded and
+   * the callback will not be called. Callbacks, that do not belong to a
+   * routing, return {@link RoutingToken#NONE}.
+   *
+   * @return token of the routing
+   */
+  default RoutingToken getRoutingToken() {
+    return RoutingToken.NONE;
+  }
+  
 }
@@ -19,43 +19,73 @@ package com.github.nalukit.nalu.client.internal.application;
 import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
 import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
 
 @NaluInternalUse
 public class ShellFactory {
   
-  /* instance of the controller factory */
-  private static ShellFactory instance;
+  /* ids of the components */
+  private final ComponentIdTable             componentIdTable;
+  /* components (index: component id, Value: ShellCreator */
+  private final CreatorArray<IsShellCreator> shellFactory;
   
-  /* map of components (key: name of class, Value: ShellCreator */
-  private Map<String, IsShellCreator> shellFactory;
-  
-  private ShellFactory() {
-    this.shellFactory = new HashMap<>();
+  ShellFactory(ComponentIdTable componentIdTable) {
+    this.componentIdTable = componentIdTable;
+    this.shellFactory     = new CreatorArray<>();
   }
   
   public static ShellFactory get() {
-    if (instance == null) {
-      instance = new ShellFactory();
-    }
-    return instance;
+    return ApplicationScope.getDefault()
+                           .getShellFactory();
   }
   
   public void registerShell(String shellName,
                             IsShellCreator creator) {
-    this.shellFactory.put(shellName,
+    this.registerShell(this.componentIdTable.register(shellName),
+                       creator);
+  }
+  
+  public void registerShell(int shellId,
+                            IsShellCreator creator) {
+    this.shellFactory.set(shellId,
                           creator);
   }
   
+  /**
+   * Registers the creator of a shell. The creator is instantiated
+   * the first time the shell is requested.
+   *
+   * @param shellName class name of the shell
+   * @param creator   supplier of the creator
+   */
+  public void registerShell(String shellName,
+                            Supplier<IsShellCreator> creator) {
+    this.shellFactory.setSupplier(this.componentIdTable.register(shellName),
+                                  creator);
+  }
+  
   public void shell(String shellName,
                     ShellCallback callback) {
-    if (this.shellFactory.containsKey(shellName)) {
-      IsShellCreator shellCreator  = this.shellFactory.get(shellName);
-      ShellInstance  shellInstance = shellCreator.create();
+    this.shell(this.componentIdTable.getId(shellName),
+               callback);
+  }
+  
+  public void shell(int shellId,
+                    ShellCallback callback) {
+    IsShellCreator shellCreator = this.shellFactory.get(shellId);
+    if (!Objects.isNull(shellCreator)) {
+      ShellInstance shellInstance = shellCreator.create();
       try {
         shellInstance.getShell()
                      .bind(() -> {
+                       // the routing is superseded by a newer routing -> discard the shell
+                       if (callback.getRoutingToken()
+                                   .isCanceled()) {
+                         shellInstance.getShell()
+                                      .removeHandlers();
+                         return;
+                       }
                        try {
                          shellCreator.onFinishCreating();
                          callback.onFinish(shellInstance);
@@ -22,6 +22,7 @@ import com.github.nalukit.nalu.client.component.AlwaysShowPopUp;
 import com.github.nalukit.nalu.client.context.AbstractModuleContext;
 import com.github.nalukit.nalu.client.context.ContextDataStore;
 import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
+import com.github.nalukit.nalu.client.internal.application.ApplicationScope;
 import com.github.nalukit.nalu.client.internal.route.RouterConfiguration;
 import com.github.nalukit.nalu.client.module.IsModule;
 import com.github.nalukit.nalu.client.module.IsModuleLoader;
@@ -34,9 +35,10 @@ import org.gwtproject.event.shared.SimpleEventBus;
 public abstract class AbstractModule<C extends AbstractModuleContext>
     implements IsModule<C> {
 
-  protected Router         router;
-  protected C              moduleContext;
-  protected SimpleEventBus eventBus;
+  protected Router           router;
+  protected C                moduleContext;
+  protected SimpleEventBus   eventBus;
+  protected ApplicationScope applicationScope;
 
   protected AlwaysLoadComposite alwaysLoadComposite;
   protected AlwaysShowPopUp     alwaysShowPopUp;
@@ -91,6 +93,17 @@ public abstract class AbstractModule<C extends AbstractModuleContext>
     this.router = router;
   }
 
+  /**
+   * Sets the registries of the application
+   *
+   * @param applicationScope registries of the application
+   */
+  @Override
+  @NaluInternalUse
+  public void setApplicationScope(ApplicationScope applicationScope) {
+    this.applicationScope = applicationScope;
+  }
+
   @Override
   @NaluInternalUse
   public void loadModule(RouterConfiguration routeConfiguration) {
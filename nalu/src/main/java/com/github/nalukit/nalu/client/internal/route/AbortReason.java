@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+/**
+ * Reasons of an aborted routing.
+ * <p>
+ * The tag of the reason is used to count the aborted routings
+ * (see {@link com.github.nalukit.nalu.client.metrics.NaluMetrics#ROUTER_ABORTS}).
+ */
+enum AbortReason {
+  
+  LOOP_DETECTED("loop detected"),
+  FILTER_REJECTED("filter rejected"),
+  FILTER_TIMED_OUT("filter timed out"),
+  NO_MATCHING_ROUTE("no matching route"),
+  SUPERSEDED("superseded");
+  
+  /* tag of the metrics */
+  private final String tag;
+  
+  AbortReason(String tag) {
+    this.tag = tag;
+  }
+  
+  String getTag() {
+    return this.tag;
+  }
+  
+}
@@ -18,22 +18,32 @@ package com.github.nalukit.nalu.client.internal.route;
 
 import com.github.nalukit.nalu.client.NaluConstants;
 import com.github.nalukit.nalu.client.application.event.LogEvent;
+import com.github.nalukit.nalu.client.cache.CompositeCachePolicy;
+import com.github.nalukit.nalu.client.cache.ControllerCachePolicy;
 import com.github.nalukit.nalu.client.component.*;
 import com.github.nalukit.nalu.client.event.NaluErrorEvent;
 import com.github.nalukit.nalu.client.event.RouterStateEvent;
 import com.github.nalukit.nalu.client.event.RouterStateEvent.RouterState;
+import com.github.nalukit.nalu.client.event.RoutingTimingEvent;
+import com.github.nalukit.nalu.client.event.RoutingTimingEvent.Phase;
 import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
+import com.github.nalukit.nalu.client.filter.IsAsyncFilter;
 import com.github.nalukit.nalu.client.filter.IsFilter;
 import com.github.nalukit.nalu.client.internal.CompositeControllerReference;
-import com.github.nalukit.nalu.client.internal.PropertyFactory;
 import com.github.nalukit.nalu.client.internal.Utils;
 import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
 import com.github.nalukit.nalu.client.internal.application.*;
+import com.github.nalukit.nalu.client.metrics.NaluMetrics;
+import com.github.nalukit.nalu.client.metrics.NaluMetricsProvider;
 import com.github.nalukit.nalu.client.module.IsModule;
+import com.github.nalukit.nalu.client.plugin.IsClock;
 import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin;
 import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin.ConfirmHandler;
-import com.github.nalukit.nalu.client.seo.SeoDataProvider;
+import com.github.nalukit.nalu.client.plugin.IsRoutingScheduler;
+import com.github.nalukit.nalu.client.preload.ControllerWarmPool;
+import com.github.nalukit.nalu.client.preload.RoutePreloader;
 import com.github.nalukit.nalu.client.tracker.IsTracker;
+import org.gwtproject.event.shared.HandlerRegistration;
 import org.gwtproject.event.shared.SimpleEventBus;
 
 import java.util.*;
@@ -68,14 +78,47 @@ abstract class AbstractRouter
   private   String                             lastAddedShell;
   // instance of the current shell
   private   IsShell                            shell;
-  // list of routes used for handling the current route - used to detect loops
-  private   List<String>                       loopDetectionList;
+  // token of the current routing - gets canceled, once a new routing starts
+  private   RoutingToken                       routingToken;
+  // asynchronous filters of the current routing
+  private   AsyncFilterPipeline                asyncFilterPipeline;
+  // clock used to measure the phases of a routing
+  private   IsClock                            clock;
+  // timer of the current routing
+  private   RoutingTimer                       routingTimer;
+  // routes used for handling the current route - used to detect loops
+  private   LoopDetector                       loopDetector;
+  // number of routing steps in execution - routings requested by a step are hops of the current routing
+  private   int                                routingDepth;
   // the tracker: if not null, track the users routing
   private   IsTracker                          tracker;
   // the application event bus
   private   SimpleEventBus                     eventBus;
+  // registration of the handler counting the errors
+  private   HandlerRegistration                errorHandlerRegistration;
+  // scheduler used to coalesce routings - if null, routings are executed immediately
+  private   IsRoutingScheduler                 routingScheduler;
+  // the last requested routing, waiting for the scheduler
+  private   RoutingRequest                     pendingRoutingRequest;
+  // controllers created ahead of the navigation
+  private   PrefetchCache                      prefetchCache;
+  // token of the prefetches - gets canceled, once the cache is cleared
+  private   RoutingToken                       prefetchToken;
+  // predictive preloading: if not null, prefetch the likely next routes
+  private   RoutePreloader                     routePreloader;
+  // registries of the application
+  private   ApplicationScope                   applicationScope;
+  // metrics of the application
+  private   NaluMetricsProvider                metricsProvider;
+  // controllers created during idle time
+  private   ControllerPool                     controllerPool;
+  // configuration of the warm pool (might be null)
+  private   ControllerWarmPool                 controllerWarmPool;
+  // token of the warm pool - gets canceled, once the pool is cleared
+  private   RoutingToken                       controllerPoolToken;
 
-  AbstractRouter(List<CompositeControllerReference> compositeControllerReferences,
+  AbstractRouter(ApplicationScope applicationScope,
+                 List<CompositeControllerReference> compositeControllerReferences,
                  ShellConfiguration shellConfiguration,
                  RouterConfiguration routerConfiguration,
                  IsNaluProcessorPlugin plugin,
@@ -87,6 +130,10 @@ abstract class AbstractRouter
                  boolean usingColonForParametersInUrl,
                  boolean stayOnSite,
                  boolean removeUrlParameterAtStart) {
+    // save the registries of the application
+    this.applicationScope = applicationScope;
+    // the router reports to the metrics of its application
+    this.metricsProvider = applicationScope.getMetricsProvider();
     // save the composite configuration reference
     this.compositeControllerReferences = compositeControllerReferences;
     // save the shell configuration reference
@@ -98,17 +145,32 @@ abstract class AbstractRouter
     // save the tracker
     this.tracker = tracker;
     // instantiate lists, etc.
-    this.activeComponents  = new HashMap<>();
-    this.loopDetectionList = new ArrayList<>();
+    this.activeComponents    = new HashMap<>();
+    this.loopDetector        = new LoopDetector();
+    this.routingToken        = new RoutingToken(0);
+    this.clock               = plugin.getClock();
+    this.prefetchCache       = new PrefetchCache(this.clock);
+    this.prefetchToken       = new RoutingToken(0);
+    this.controllerPool      = new ControllerPool();
+    this.controllerPoolToken = new RoutingToken(0);
+    this.metricsProvider.registerGauge(NaluMetrics.ROUTER_PREFETCH_SIZE,
+                                       this.prefetchCache::size);
+    this.metricsProvider.registerGauge(NaluMetrics.ROUTER_WARM_POOL_SIZE,
+                                       this.controllerPool::size);
+    // the time to live of cached components uses the clock of the router
+    this.applicationScope.getControllerFactory()
+                         .setClock(this.clock);
+    this.applicationScope.getCompositeFactory()
+                         .setClock(this.clock);
     // set up PropertyFactory
-    PropertyFactory.get()
-                   .register(startRoute,
-                             illegalRouteTarget,
-                             hasHistory,
-                             usingHash,
-                             usingColonForParametersInUrl,
-                             stayOnSite,
-                             removeUrlParameterAtStart);
+    this.applicationScope.getPropertyFactory()
+                         .register(startRoute,
+                                   illegalRouteTarget,
+                                   hasHistory,
+                                   usingHash,
+                                   usingColonForParametersInUrl,
+                                   stayOnSite,
+                                   removeUrlParameterAtStart);
   }
 
   /**
@@ -116,10 +178,13 @@ abstract class AbstractRouter
    */
   @Override
   public void clearCache() {
-    ControllerFactory.get()
-                     .clearControllerCache();
-    CompositeFactory.get()
-                    .clearCompositeControllerCache();
+    this.applicationScope.getControllerFactory()
+                         .clearControllerCache();
+    this.applicationScope.getCompositeFactory()
+                         .clearCompositeControllerCache();
+    this.clearPrefetchCache();
+    // discard the pooled controllers and fill the pool again
+    this.setControllerWarmPool(this.controllerWarmPool);
   }
 
   /**
@@ -135,9 +200,9 @@ abstract class AbstractRouter
   @Override
   public String generate(String route,
                          String... params) {
-    return RouteParser.get()
-                      .generate(route,
-                                params);
+    return this.applicationScope.getRouteParser()
+                                .generate(this.routerConfiguration.getRouteTemplate(route),
+                                          params);
   }
 
   /**
@@ -159,16 +224,12 @@ abstract class AbstractRouter
     this.fireRouterStateEvent(RouterState.START_ROUTING,
                               newRoute,
                               params);
-    // first, we track the new route (if there is a tracker!)
-    if (!Objects.isNull(this.tracker)) {
-      this.tracker.track(newRoute,
-                         params);
-    }
     // let's do the routing!
     this.route(newRoute,
                false,
                false,
                false,
+               true,
                params);
   }
 
@@ -193,16 +254,12 @@ abstract class AbstractRouter
     this.fireRouterStateEvent(RouterState.START_ROUTING,
                               newRoute,
                               params);
-    // first, we track the new route (if there is a tracker!)
-    if (!Objects.isNull(this.tracker)) {
-      this.tracker.track(newRoute,
-                         params);
-    }
     // let's do the routing!
     this.route(newRoute,
                true,
                false,
                false,
+               true,
                params);
   }
 
@@ -229,16 +286,12 @@ abstract class AbstractRouter
     this.fireRouterStateEvent(RouterState.START_ROUTING,
                               newRoute,
                               params);
-    // first, we track the new route (if there is a tracker!)
-    if (!Objects.isNull(this.tracker)) {
-      this.tracker.track(newRoute,
-                         params);
-    }
     // let's do the routing!
     this.route(newRoute,
                true,
                false,
                true,
+               true,
                params);
   }
 
@@ -261,16 +314,12 @@ abstract class AbstractRouter
     this.fireRouterStateEvent(RouterState.START_ROUTING,
                               newRoute,
                               params);
-    // first, we track the new route (if there is a tracker!)
-    if (!Objects.isNull(this.tracker)) {
-      this.tracker.track(newRoute,
-                         params);
-    }
     // let's do the routing!
     this.route(newRoute,
                false,
                false,
                true,
+               true,
                params);
   }
 
@@ -282,8 +331,8 @@ abstract class AbstractRouter
    */
   @Override
   public <C extends AbstractComponentController<?, ?, ?>> void removeFromCache(C controller) {
-    ControllerFactory.get()
-                     .removeFromCache(controller);
+    this.applicationScope.getControllerFactory()
+                         .removeFromCache(controller);
     controller.setCached(false);
   }
 
@@ -295,8 +344,8 @@ abstract class AbstractRouter
    */
   @Override
   public <C extends AbstractCompositeController<?, ?, ?>> void removeFromCache(C compositeController) {
-    CompositeFactory.get()
-                    .removeFromCache(compositeController);
+    this.applicationScope.getCompositeFactory()
+                         .removeFromCache(compositeController);
     compositeController.setCached(false);
   }
 
@@ -309,8 +358,8 @@ abstract class AbstractRouter
    */
   @Override
   public <C extends AbstractComponentController<?, ?, ?>> void storeInCache(C controller) {
-    ControllerFactory.get()
-                     .storeInCache(controller);
+    this.applicationScope.getControllerFactory()
+                         .storeInCache(controller);
     controller.setCached(true);
   }
 
@@ -323,8 +372,8 @@ abstract class AbstractRouter
    */
   @Override
   public <C extends AbstractCompositeController<?, ?, ?>> void storeInCache(C compositeController) {
-    CompositeFactory.get()
-                    .storeInCache(compositeController);
+    this.applicationScope.getCompositeFactory()
+                         .storeInCache(compositeController);
     compositeController.setCached(true);
   }
 
@@ -387,6 +436,35 @@ abstract class AbstractRouter
 
   void handleRouting(String hash,
                      boolean forceRouting) {
+    this.handleRouting(hash,
+                       forceRouting,
+                       false);
+  }
+
+  private void handleRouting(String hash,
+                             boolean forceRouting,
+                             boolean redirect) {
+    // a routing, which is not requested by the current routing, starts a new chain of hops.
+    // the hops of a superseded routing (canceled, rejected, waiting for an async filter, ...)
+    // must not be part of the loop detection anymore
+    if (!redirect) {
+      this.loopDetector.clear();
+    }
+    this.executeStep(() -> this.startRouting(hash,
+                                             forceRouting));
+  }
+
+  private void startRouting(String hash,
+                            boolean forceRouting) {
+    // a new routing starts ... the running one is superseded
+    this.routingToken.cancel();
+    if (!Objects.isNull(this.asyncFilterPipeline)) {
+      this.asyncFilterPipeline.cancel();
+      this.asyncFilterPipeline = null;
+    }
+    this.routingToken = new RoutingToken(this.routingToken.getGeneration() + 1);
+    RoutingToken routingToken = this.routingToken;
+    this.routingTimer = new RoutingTimer(this.clock);
     // in some cases the hash contains protocol, port and URI, we clean it
     if (hash.contains("#")) {
       hash = hash.substring(hash.indexOf("#") + 1);
@@ -396,20 +474,26 @@ abstract class AbstractRouter
       hash = hash.substring(0,
                             hash.indexOf("&") + 1);
     }
-    // save hash to loop detector list ...
-    if (this.loopDetectionList.contains(pimpUpHashForLoopDetection(hash))) {
+    // save hash to loop detector ...
+    if (!this.loopDetector.add(hash,
+                               this.applicationScope.getPropertyFactory()
+                                                    .getMaximumNumberOfRoutingHops())) {
       // fire Router StateEvent
       try {
         // parse it again to get more informations to add to the event
-        RouteResult routeResult = this.parse(hash);
+        RouteContext routeContext = this.createRouteContext(hash);
         this.fireRouterStateEvent(RouterState.ROUTING_ABORTED,
-                                  routeResult.getRoute(),
-                                  routeResult.getParameterValues()
-                                             .toArray(new String[0]));
+                                  routeContext.getRoute(),
+                                  routeContext.getParams(),
+                                  AbortReason.LOOP_DETECTED,
+                                  "loop detected");
       } catch (RouterException e) {
         // Ups ... does not work ... lets use the hash
         this.fireRouterStateEvent(RouterState.ROUTING_ABORTED,
-                                  hash);
+                                  hash,
+                                  new String[0],
+                                  AbortReason.LOOP_DETECTED,
+                                  "loop detected");
       }
       // loop discovered .... -> create message
       StringBuilder sb = new StringBuilder();
@@ -423,88 +507,116 @@ abstract class AbstractRouter
       this.eventBus.fireEvent(NaluErrorEvent.createNaluError()
                                             .errorId(NaluConstants.NALU_ERROR_LOOP_DETECTED)
                                             .message(sb.toString())
-                                            .route(this.loopDetectionList.get(0)));
-      // clear loop detection list ...
-      this.loopDetectionList.clear();
+                                            .route(this.loopDetector.getFirst()));
+      // clear loop detector ...
+      this.loopDetector.clear();
       // abort handling!
       return;
-    } else {
-      this.loopDetectionList.add(pimpUpHashForLoopDetection(hash));
     }
     // parse hash ...
 
-    RouteResult routeResult;
+    RouteContext routeContext;
     try {
-      routeResult = this.parse(hash);
+      routeContext = this.createRouteContext(hash);
       // once the hash is parsed, we save the route as currentRoute!
-      this.currentRoute = routeResult.getRoute();
+      this.currentRoute = routeContext.getRoute();
       // once the hash is parsed, we save the parameter as currentParameters!
-      this.currentParameters = routeResult.getParameterValues()
-                                          .toArray(new String[0]);
+      this.currentParameters = routeContext.getParams();
     } catch (RouterException e) {
       this.handleRouterException(hash,
                                  e);
       return;
     }
+    this.routingTimer.lap(Phase.PARSE);
     // First we have to check if there is a filter
     // if there are filters ==>  filter the route
-    for (IsFilter filter : this.routerConfiguration.getFilters()) {
-      if (!filter.filter(addLeadingSlash(routeResult.getRoute()),
-                         routeResult.getParameterValues()
-                                    .toArray(new String[0]))) {
-        // fire Router StateEvent
-        this.fireRouterStateEvent(RouterState.ROUTING_ABORTED,
-                                  routeResult.getRoute(),
-                                  routeResult.getParameterValues()
-                                             .toArray(new String[0]));
-        // redirect to new route!
-        String        redirectTo = filter.redirectTo();
-        String[]      parms      = filter.parameters();
-        StringBuilder sb         = new StringBuilder();
-        sb.append("Router: filter >>")
-          .append(filter.getClass()
-                        .getCanonicalName())
-          .append("<< intercepts routing! New route: >>")
-          .append(redirectTo)
-          .append("<<");
-        if (Arrays.asList(parms)
-                  .size() > 0) {
-          sb.append(" with parameters: ");
-          Stream.of(parms)
-                .forEach(p -> sb.append(">>")
-                                .append(p)
-                                .append("<< "));
-        }
-        this.eventBus.fireEvent(LogEvent.create()
-                                        .sdmOnly(true)
-                                        .addMessage(sb.toString()));
-        this.route(redirectTo,
-                   true,
-                   true,
-                   false,
-                   parms);
+    // (asynchronous filters are evaluated after the synchronous ones)
+    List<IsAsyncFilter> asyncFilters = new ArrayList<>();
+    for (IsFilter filter : this.routerConfiguration.getFilters(routeContext.getRoute())) {
+      if (filter instanceof IsAsyncFilter) {
+        asyncFilters.add((IsAsyncFilter) filter);
+      } else if (!filter.filter(routeContext.getRoute(),
+                                routeContext.getParams())) {
+        this.interceptRouting(routeContext,
+                              filter,
+                              AbortReason.FILTER_REJECTED,
+                              "intercepts routing");
         return;
       }
     }
+    if (asyncFilters.isEmpty()) {
+      this.continueRouting(hash,
+                           forceRouting,
+                           routeContext,
+                           routingToken);
+      return;
+    }
+    String finalHash = hash;
+    this.asyncFilterPipeline = new AsyncFilterPipeline(asyncFilters,
+                                                       this.plugin::schedule,
+                                                       new AsyncFilterPipeline.Callback() {
+
+                                                         @Override
+                                                         public void onAccept() {
+                                                           if (!routingToken.isCanceled()) {
+                                                             executeStep(() -> continueRouting(finalHash,
+                                                                                               forceRouting,
+                                                                                               routeContext,
+                                                                                               routingToken));
+                                                           }
+                                                         }
+
+                                                         @Override
+                                                         public void onReject(IsAsyncFilter filter,
+                                                                              boolean timeout) {
+                                                           if (!routingToken.isCanceled()) {
+                                                             if (timeout) {
+                                                               executeStep(() -> interceptRouting(routeContext,
+                                                                                                  filter,
+                                                                                                  AbortReason.FILTER_TIMED_OUT,
+                                                                                                  "timed out"));
+                                                             } else {
+                                                               executeStep(() -> interceptRouting(routeContext,
+                                                                                                  filter,
+                                                                                                  AbortReason.FILTER_REJECTED,
+                                                                                                  "intercepts routing"));
+                                                             }
+                                                           }
+                                                         }
+                                                       });
+    this.asyncFilterPipeline.start(routeContext.getRoute(),
+                                   routeContext.getParams());
+  }
+
+  private void continueRouting(String hash,
+                               boolean forceRouting,
+                               RouteContext routeContext,
+                               RoutingToken routingToken) {
+    this.routingTimer.lap(Phase.FILTER);
     // search for a matching routing
-    List<RouteConfig> routeConfigurations = this.routerConfiguration.match(routeResult.getRoute());
+    List<RouteConfig> routeConfigurations = this.routerConfiguration.match(routeContext.getRoute());
     // check whether or not the routing is possible ...
     if (forceRouting) {
       // in case of 'forceRouting' we route without confirmation!
       doRouting(hash,
-                routeResult,
-                routeConfigurations);
+                routeContext,
+                routeConfigurations,
+                routingToken);
     } else {
-      String finalHash = hash;
       this.confirmRouting(routeConfigurations,
                           new ConfirmHandler() {
 
                             @Override
                             public void onOk() {
+                              // in the meantime, a newer routing started
+                              if (routingToken.isCanceled()) {
+                                return;
+                              }
                               // in case of 'forceRouting' we route without confirmation!
-                              doRouting(finalHash,
-                                        routeResult,
-                                        routeConfigurations);
+                              executeStep(() -> doRouting(hash,
+                                                          routeContext,
+                                                          routeConfigurations,
+                                                          routingToken));
 
                             }
 
@@ -513,31 +625,85 @@ abstract class AbstractRouter
                               plugin.route(lastExecutedHash,
                                            false,
                                            false);
-                              // clear loop detection list ...
-                              loopDetectionList.clear();
+                              // clear loop detector ...
+                              loopDetector.clear();
                             }
                           });
     }
   }
 
+  private void interceptRouting(RouteContext routeContext,
+                                IsFilter filter,
+                                AbortReason abortReason,
+                                String reason) {
+    this.metricsProvider.getMetrics()
+                        .counter(NaluMetrics.ROUTER_FILTER_REJECTIONS,
+                                 filter.getClass()
+                                       .getCanonicalName())
+                        .increment();
+    // fire Router StateEvent
+    this.fireRouterStateEvent(RouterState.ROUTING_ABORTED,
+                              routeContext.getRoute(),
+                              routeContext.getParams(),
+                              abortReason,
+                              "filter >>" +
+                              filter.getClass()
+                                    .getCanonicalName() +
+                              "<< " +
+                              reason);
+    // redirect to new route!
+    String        redirectTo = filter.redirectTo();
+    String[]      parms      = filter.parameters();
+    StringBuilder sb         = new StringBuilder();
+    sb.append("Router: filter >>")
+      .append(filter.getClass()
+                    .getCanonicalName())
+      .append("<< ")
+      .append(reason)
+      .append("! New route: >>")
+      .append(redirectTo)
+      .append("<<");
+    if (Arrays.asList(parms)
+              .size() > 0) {
+      sb.append(" with parameters: ");
+      Stream.of(parms)
+            .forEach(p -> sb.append(">>")
+                            .append(p)
+                            .append("<< "));
+    }
+    this.eventBus.fireEvent(LogEvent.create()
+                                    .sdmOnly(true)
+                                    .addMessage(sb.toString()));
+    this.route(redirectTo,
+               true,
+               true,
+               false,
+               parms);
+  }
+
   private void doRouting(String hash,
-                         RouteResult routeResult,
-                         List<RouteConfig> routeConfigurations) {
+                         RouteContext routeContext,
+                         List<RouteConfig> routeConfigurations,
+                         RoutingToken routingToken) {
+    this.routingTimer.lap(Phase.CONFIRM);
     // call stop for all elements
     this.stopController(routeConfigurations,
-                        !routeResult.getShell()
-                                    .equals(this.lastAddedShell));
+                        !routeContext.getShell()
+                                     .equals(this.lastAddedShell));
+    this.routingTimer.lap(Phase.STOP_CONTROLLER);
     // handle shellCreator
     // in case shellCreator changed or is not set, use the actual shellCreator!
-    if (!routeResult.getShell()
-                    .equals(this.lastAddedShell)) {
+    if (!routeContext.getShell()
+                     .equals(this.lastAddedShell)) {
       updateShell(hash,
-                  routeResult,
-                  routeConfigurations);
+                  routeContext,
+                  routeConfigurations,
+                  routingToken);
     } else {
       postProcessHandleRouting(hash,
-                               routeResult,
-                               routeConfigurations);
+                               routeContext,
+                               routeConfigurations,
+                               routingToken);
     }
   }
 
@@ -588,22 +754,18 @@ abstract class AbstractRouter
   @Override
   public void handleRouterException(String hash,
                                     RouterException e) {
-    if (PropertyFactory.get()
-                       .getIllegalRouteTarget() == null ||
-        PropertyFactory.get()
-                       .getIllegalRouteTarget()
-                       .isEmpty()) {
+    if (this.applicationScope.getPropertyFactory()
+                             .getIllegalRouteTarget() == null ||
+        this.applicationScope.getPropertyFactory()
+                             .getIllegalRouteTarget()
+                             .isEmpty()) {
       // fire Router StateEvent
-      try {
-        RouteResult routeResult = this.parse(hash);
-        this.fireRouterStateEvent(RouterState.ROUTING_ABORTED,
-                                  routeResult.getRoute(),
-                                  routeResult.getParameterValues()
-                                             .toArray(new String[0]));
-      } catch (RouterException e1) {
-        this.fireRouterStateEvent(RouterState.ROUTING_ABORTED,
-                                  hash);
-      }
+      // (no need to parse the hash again - it is already rejected)
+      this.fireRouterStateEvent(RouterState.ROUTING_ABORTED,
+                                hash,
+                                new String[0],
+                                AbortReason.NO_MATCHING_ROUTE,
+                                "no matching route");
       // Fire error event ....
       StringBuilder sb = new StringBuilder();
       sb.append("no matching route for hash >>")
@@ -617,8 +779,8 @@ abstract class AbstractRouter
                                             .message(sb.toString())
                                             .route(hash));
     } else {
-      this.route(PropertyFactory.get()
-                                .getIllegalRouteTarget());
+      this.route(this.applicationScope.getPropertyFactory()
+                                      .getIllegalRouteTarget());
     }
   }
 
@@ -632,11 +794,25 @@ abstract class AbstractRouter
   @Override
   public RouteResult parse(String route)
       throws RouterException {
-    String decodedUrl = this.plugin.decode(route);
-    return RouteParser.get()
-                      .parse(decodedUrl,
-                             this.shellConfiguration,
-                             this.routerConfiguration);
+    return this.applicationScope.getRouteParser()
+                                .parse(route,
+                                       this.plugin::decode,
+                                       this.shellConfiguration,
+                                       this.routerConfiguration);
+  }
+
+  /**
+   * Parses the hash and creates the context of the routing.
+   *
+   * @param hash the hash to parse
+   * @return the context of the routing
+   * @throws RouterException in case the hash can not be parsed
+   */
+  private RouteContext createRouteContext(String hash)
+      throws RouterException {
+    return RouteContext.create(hash,
+                               this.plugin::decode,
+                               this.parse(hash));
   }
 
   /**
@@ -670,13 +846,197 @@ abstract class AbstractRouter
   @NaluInternalUse
   public void setEventBus(SimpleEventBus eventBus) {
     this.eventBus = eventBus;
+    // count the errors (only on the current event bus)
+    if (!Objects.isNull(this.errorHandlerRegistration)) {
+      this.errorHandlerRegistration.removeHandler();
+    }
+    this.errorHandlerRegistration = this.eventBus.addHandler(NaluErrorEvent.TYPE,
+                                                             e -> this.metricsProvider.getMetrics()
+                                                                                      .counter(NaluMetrics.ERRORS,
+                                                                                               Objects.isNull(e.getErrorId()) ? "" : e.getErrorId())
+                                                                                      .increment());
+  }
+
+  /**
+   * Sets the scheduler used to coalesce routings.
+   *
+   * @param routingScheduler the scheduler or null to disable coalescing
+   */
+  @Override
+  public void setRoutingScheduler(IsRoutingScheduler routingScheduler) {
+    this.routingScheduler = routingScheduler;
+  }
+
+  /**
+   * Sets the clock used to measure the phases of a routing
+   * and the time to live of cached controllers and composites.
+   *
+   * @param clock the clock
+   */
+  @Override
+  public void setClock(IsClock clock) {
+    this.clock = clock;
+    // the time to live of cached components uses the same clock
+    this.applicationScope.getControllerFactory()
+                         .setClock(clock);
+    this.applicationScope.getCompositeFactory()
+                         .setClock(clock);
+  }
+
+  /**
+   * Sets the limits of the prefetch cache.
+   *
+   * @param maximumSize maximum number of prefetched controllers (0 disables prefetching)
+   * @param timeToLive  time to live of a prefetched controller in ms
+   */
+  @Override
+  public void setPrefetchLimits(int maximumSize,
+                                int timeToLive) {
+    this.prefetchCache.setLimits(maximumSize,
+                                 timeToLive);
+  }
+
+  /**
+   * Sets the preloader used to prefetch the likely next routes.
+   *
+   * @param routePreloader the preloader or null to disable preloading
+   */
+  @Override
+  public void setRoutePreloader(RoutePreloader routePreloader) {
+    this.routePreloader = routePreloader;
+  }
+
+  /**
+   * Sets the warm pool and schedules the creation of the pooled controllers.
+   *
+   * @param controllerWarmPool the warm pool or null to discard the pooled controllers
+   */
+  @Override
+  public void setControllerWarmPool(ControllerWarmPool controllerWarmPool) {
+    // controllers, that are still created, are discarded once bound
+    this.controllerPoolToken.cancel();
+    this.controllerPoolToken = new RoutingToken(0);
+    this.controllerPool.clear();
+    this.controllerWarmPool = controllerWarmPool;
+    if (Objects.isNull(controllerWarmPool)) {
+      return;
+    }
+    controllerWarmPool.getCapacities()
+                      .forEach((route, capacity) -> {
+                        for (RouteConfig routeConfiguration : this.routerConfiguration.match(route)) {
+                          this.controllerPool.setCapacity(ControllerPool.createKey(routeConfiguration.getClassName(),
+                                                                                   routeConfiguration.getRoute()),
+                                                          capacity);
+                          this.fillControllerPool(routeConfiguration);
+                        }
+                      });
+  }
+
+  /**
+   * Sets the eviction policy of the controller cache.
+   *
+   * @param cachePolicy the policy
+   */
+  @Override
+  public void setControllerCachePolicy(ControllerCachePolicy cachePolicy) {
+    this.applicationScope.getControllerFactory()
+                         .setCachePolicy(cachePolicy);
+  }
+
+  /**
+   * Sets the eviction policy of the composite caches.
+   *
+   * @param cachePolicy the policy
+   */
+  @Override
+  public void setCompositeCachePolicy(CompositeCachePolicy cachePolicy) {
+    this.applicationScope.getCompositeFactory()
+                         .setCachePolicy(cachePolicy);
+  }
+
+  /**
+   * Creates and binds the controllers and composites of the route and
+   * stores them inside the prefetch cache.
+   * <p>
+   * Cached controllers are not prefetched. Composites with global scope
+   * are not prefetched either, cause they are shared.
+   *
+   * @param route  route to prefetch
+   * @param params parameters of the route
+   */
+  @Override
+  public void prefetch(String route,
+                       String... params) {
+    if (!this.prefetchCache.isEnabled()) {
+      return;
+    }
+    RouteContext routeContext;
+    try {
+      routeContext = this.createRouteContext(this.generate(route,
+                                                           params));
+    } catch (RouterException e) {
+      this.eventBus.fireEvent(LogEvent.create()
+                                      .sdmOnly(true)
+                                      .addMessage("Router: prefetch of route >>" + route + "<< failed: " + e.getMessage()));
+      return;
+    }
+    RoutingToken prefetchToken = this.prefetchToken;
+    for (RouteConfig routeConfiguration : this.routerConfiguration.match(routeContext.getRoute())) {
+      RouteKey key = PrefetchCache.createKey(routeConfiguration.getClassName(),
+                                             routeConfiguration.getRoute(),
+                                             routeContext.getParams());
+      if (this.prefetchCache.contains(key)) {
+        continue;
+      }
+      // cached controllers need no prefetch - requesting them would set
+      // the parameters of the instance on screen
+      if (this.applicationScope.getControllerFactory()
+                               .isCached(this.getControllerId(routeConfiguration))) {
+        continue;
+      }
+      this.applicationScope.getControllerFactory()
+                           .controller(routeConfiguration.getRoute(),
+                                       this.getControllerId(routeConfiguration),
+                                       new ControllerCallback() {
+
+                                         @Override
+                                         public void onRoutingInterceptionException(RoutingInterceptionException e) {
+                                           // a prefetch never routes - the routing will handle the exception
+                                           eventBus.fireEvent(LogEvent.create()
+                                                                      .sdmOnly(true)
+                                                                      .addMessage("Router: prefetch of controller >>" +
+                                                                                  e.getControllerClassName() +
+                                                                                  "<< intercepted"));
+                                         }
+
+                                         @Override
+                                         public void onFinish(ControllerInstance controllerInstance) {
+                                           // the controller was cached in the meantime
+                                           if (Objects.isNull(controllerInstance.getController()) || controllerInstance.isCached()) {
+                                             return;
+                                           }
+                                           prefetchCache.put(key,
+                                                             controllerInstance,
+                                                             prefetchComposites(routeConfiguration,
+                                                                                controllerInstance,
+                                                                                routeContext));
+                                         }
+
+                                         @Override
+                                         public RoutingToken getRoutingToken() {
+                                           return prefetchToken;
+                                         }
+                                       },
+                                       routeContext.getParams());
+    }
   }
 
   /**
    * Add a module to the application.
    * <p>
-   * The method wil inject the router, event bus, context
-   * and the alwaysLoadComposite-flag into the module.
+   * The method wil inject the router, event bus, context, the
+   * registries of the application and the alwaysLoadComposite-flag
+   * into the module.
    * <p>
    * Besides that, the method adds the shell- and
    * route-configuration and also the controller-configurations.
@@ -688,6 +1048,7 @@ abstract class AbstractRouter
   public <M extends IsModule<?>> void addModule(M module) {
     module.setRouter(this);
     module.setEventBus(this.eventBus);
+    module.setApplicationScope(this.applicationScope);
     module.setAlwaysLoadComposite(this.alwaysLoadComposite);
     module.setAlwaysShowPopUp(this.alwaysShowPopUp);
     module.loadModule(this.routerConfiguration);
@@ -695,36 +1056,97 @@ abstract class AbstractRouter
                            .addAll(module.getShellConfigs());
     this.routerConfiguration.getRouters()
                             .addAll(module.getRouteConfigs());
+    this.routerConfiguration.registerRouteMatcher(module.getRouteMatcher());
     this.compositeControllerReferences.addAll(module.getCompositeReferences());
   }
 
   private void postProcessHandleRouting(String hash,
-                                        RouteResult routeResult,
-                                        List<RouteConfig> routeConfigurations) {
+                                        RouteContext routeContext,
+                                        List<RouteConfig> routeConfigurations,
+                                        RoutingToken routingToken) {
     // routing
     for (RouteConfig routeConfiguration : routeConfigurations) {
+      // a newer routing started (f.e.: a controller intercepts the routing) - stop here
+      if (routingToken.isCanceled()) {
+        return;
+      }
       // check weather the controller instance is used in Redraw mode or not!
       if (this.activeComponents.get(routeConfiguration.getSelector()) != null) {
         ControllerInstance controllerInstance = this.activeComponents.get(routeConfiguration.getSelector());
         doRouting(hash,
-                  routeResult,
+                  routeContext,
                   routeConfiguration,
-                  controllerInstance);
+                  controllerInstance,
+                  null);
       } else {
         this.handleRouteConfig(routeConfiguration,
-                               routeResult,
-                               hash);
+                               routeContext,
+                               hash,
+                               routingToken);
       }
     }
+    if (routingToken.isCanceled()) {
+      return;
+    }
     this.shell.onAttachedComponent();
+    this.routingTimer.lap(Phase.ATTACH);
     // update seo-meta-data
-    SeoDataProvider.get()
-                   .update();
+    this.applicationScope.getSeoDataProvider()
+                         .update();
+    this.routingTimer.lap(Phase.SEO);
     // fire Router StateEvent
     this.fireRouterStateEvent(RouterState.ROUTING_DONE,
-                              routeResult.getRoute(),
-                              routeResult.getParameterValues()
-                                         .toArray(new String[0]));
+                              routeContext.getRoute(),
+                              routeContext.getParams());
+    // fire timings of the routing
+    double total = this.routingTimer.getTotal();
+    this.eventBus.fireEvent(new RoutingTimingEvent(routeContext.getRoute(),
+                                                   routeContext.getParams(),
+                                                   this.routingTimer.getTimings(),
+                                                   total));
+    this.metricsProvider.getMetrics()
+                        .counter(NaluMetrics.ROUTER_NAVIGATIONS)
+                        .increment();
+    this.metricsProvider.getMetrics()
+                        .timer(NaluMetrics.ROUTER_NAVIGATION_TIME)
+                        .record(total);
+    // prefetch the likely next routes
+    this.preload(routeContext.getRoute(),
+                 routingToken);
+  }
+
+  private void preload(String route,
+                       RoutingToken routingToken) {
+    RoutePreloader routePreloader = this.routePreloader;
+    if (Objects.isNull(routePreloader)) {
+      return;
+    }
+    // a save is already scheduled, in case the statistics are modified
+    boolean savePending = routePreloader.isModified();
+    routePreloader.record(route);
+    if (!savePending && routePreloader.isModified()) {
+      this.plugin.scheduleIdle(routePreloader::save);
+    }
+    List<String> routes = routePreloader.getRoutesToPreload(route);
+    if (routes.isEmpty()) {
+      return;
+    }
+    this.plugin.scheduleIdle(() -> {
+      // the user already left the route
+      if (routingToken.isCanceled()) {
+        return;
+      }
+      int budget = routePreloader.getMaximumControllers();
+      for (String nextRoute : routes) {
+        int controllers = this.routerConfiguration.match(nextRoute)
+                                                  .size();
+        if (controllers > budget) {
+          continue;
+        }
+        budget -= controllers;
+        this.prefetch(nextRoute);
+      }
+    });
   }
 
   private void stopController(List<RouteConfig> routeConfigurations,
@@ -761,11 +1183,15 @@ abstract class AbstractRouter
                            .stopCompositeController(s);
                     }
                   }
+                  this.applicationScope.getCompositeFactory()
+                                       .markInactive(s);
                 });
 
       Utils.get()
            .deactivateController(controller,
                                  handlingModeReuse);
+      this.applicationScope.getControllerFactory()
+                           .markInactive(controller);
       if (!controller.isCached() && !handlingModeReuse) {
         Utils.get()
              .stopController(controller);
@@ -782,106 +1208,166 @@ abstract class AbstractRouter
   }
 
   private void updateShell(String hash,
-                           RouteResult routeResult,
-                           List<RouteConfig> routeConfigurations) {
+                           RouteContext routeContext,
+                           List<RouteConfig> routeConfigurations,
+                           RoutingToken routingToken) {
     // add shellCreator to the viewport
-    ShellConfig shellConfig = this.shellConfiguration.match(routeResult.getShell());
+    ShellConfig shellConfig = this.shellConfiguration.match(routeContext.getShell());
     if (!Objects.isNull(shellConfig)) {
-      ShellFactory.get()
-                  .shell(shellConfig.getClassName(),
-                         new ShellCallback() {
-
-                           @Override
-                           public void onFinish(ShellInstance shellInstance) {
-                             // in case there is an instance of an shellCreator existing, call the onDetach method inside the shellCreator
-                             if (!Objects.isNull(shell)) {
-                               detachShell();
-                             }
-                             // set newe shellCreator value
-                             shell = shellInstance.getShell();
-                             // save the last added shellCreator ....
-                             lastAddedShell = routeResult.getShell();
-                             shellInstance.getShell()
-                                          .attachShell();
-                             // get shellCreator matching root configs ...
-                             List<RouteConfig> shellMatchingRouteConfigurations = routerConfiguration.match(routeResult.getShell());
-                             for (RouteConfig routeConfiguration : shellMatchingRouteConfigurations) {
-                               handleRouteConfig(routeConfiguration,
-                                                 routeResult,
-                                                 hash);
-                             }
-                             postProcessHandleRouting(hash,
-                                                      routeResult,
-                                                      routeConfigurations);
-                           }
-
-                           private void detachShell() {
-                             shell.detachShell();
-                           }
-
-                           @Override
-                           public void onShellNotFound() {
-                             eventBus.fireEvent(NaluErrorEvent.createNaluError()
-                                                              .errorId(NaluConstants.NALU_ERROR_SHELL_NOT_FOUND)
-                                                              .message("no shell found for route: >>" +
-                                                                       shellConfig.getRoute() +
-                                                                       "<<")
-                                                              .route(shellConfig.getRoute()));
-                           }
-
-                           @Override
-                           public void onRoutingInterceptionException(RoutingInterceptionException e) {
-                             logControllerInterceptsRouting(e.getControllerClassName(),
-                                                            e.getRoute(),
-                                                            e.getParameter());
-                           }
-                         });
-    }
-  }
+      this.applicationScope.getShellFactory()
+                           .shell(this.getShellId(shellConfig),
+                                  new ShellCallback() {
+
+                                    @Override
+                                    public void onFinish(ShellInstance shellInstance) {
+                                      // in case there is an instance of an shellCreator existing, call the onDetach method inside the shellCreator
+                                      if (!Objects.isNull(shell)) {
+                                        detachShell();
+                                      }
+                                      // set newe shellCreator value
+                                      shell = shellInstance.getShell();
+                                      // save the last added shellCreator ....
+                                      lastAddedShell = routeContext.getShell();
+                                      shellInstance.getShell()
+                                                   .attachShell();
+                                      routingTimer.lap(Phase.SHELL);
+                                      // get shellCreator matching root configs ...
+                                      List<RouteConfig> shellMatchingRouteConfigurations = routerConfiguration.match(routeContext.getShell());
+                                      for (RouteConfig routeConfiguration : shellMatchingRouteConfigurations) {
+                                        handleRouteConfig(routeConfiguration,
+                                                          routeContext,
+                                                          hash,
+                                                          routingToken);
+                                      }
+                                      postProcessHandleRouting(hash,
+                                                               routeContext,
+                                                               routeConfigurations,
+                                                               routingToken);
+                                    }
+
+                                    @Override
+                                    public RoutingToken getRoutingToken() {
+                                      return routingToken;
+                                    }
+
+                                    private void detachShell() {
+                                      shell.detachShell();
+                                    }
+
+                                    @Override
+                                    public void onShellNotFound() {
+                                      eventBus.fireEvent(NaluErrorEvent.createNaluError()
+                                                                       .errorId(NaluConstants.NALU_ERROR_SHELL_NOT_FOUND)
+                                                                       .message("no shell found for route: >>" +
+                                                                                shellConfig.getRoute() +
+                                                                                "<<")
+                                                                       .route(shellConfig.getRoute()));
+                                    }
 
-  private String addLeadingSlash(String value) {
-    if (value.startsWith("/")) {
-      return value;
+                                    @Override
+                                    public void onRoutingInterceptionException(RoutingInterceptionException e) {
+                                      logControllerInterceptsRouting(e.getControllerClassName(),
+                                                                     e.getRoute(),
+                                                                     e.getParameter());
+                                    }
+                                  });
     }
-    return "/" + value;
   }
 
   private void handleRouteConfig(RouteConfig routeConfiguration,
-                                 RouteResult routeResult,
-                                 String hash) {
-    ControllerFactory.get()
-                     .controller(routeConfiguration.getRoute(),
-                                 routeConfiguration.getClassName(),
-                                 new ControllerCallback() {
-
-                                   @Override
-                                   public void onRoutingInterceptionException(RoutingInterceptionException e) {
-                                     logControllerInterceptsRouting(e.getControllerClassName(),
-                                                                    e.getRoute(),
-                                                                    e.getParameter());
-                                     route(e.getRoute(),
-                                           true,
-                                           true,
-                                           false,
-                                           e.getParameter());
-                                   }
+                                 RouteContext routeContext,
+                                 String hash,
+                                 RoutingToken routingToken) {
+    // use the prefetched controller (if there is one)
+    PrefetchCache.Entry prefetched = this.prefetchCache.take(PrefetchCache.createKey(routeConfiguration.getClassName(),
+                                                                                     routeConfiguration.getRoute(),
+                                                                                     routeContext.getParams()));
+    if (!Objects.isNull(prefetched)) {
+      this.metricsProvider.getMetrics()
+                          .counter(NaluMetrics.ROUTER_PREFETCH_HITS)
+                          .increment();
+      this.doRouting(hash,
+                     routeContext,
+                     routeConfiguration,
+                     prefetched.getControllerInstance(),
+                     prefetched);
+      return;
+    }
+    // use a controller of the warm pool (if there is one)
+    ControllerInstance pooled = this.controllerPool.take(ControllerPool.createKey(routeConfiguration.getClassName(),
+                                                                                  routeConfiguration.getRoute()));
+    if (!Objects.isNull(pooled)) {
+      this.metricsProvider.getMetrics()
+                          .counter(NaluMetrics.ROUTER_WARM_POOL_HITS)
+                          .increment();
+      try {
+        pooled.getControllerCreator()
+              .setParameter(pooled.getController(),
+                            routeContext.getParams());
+      } catch (RoutingInterceptionException e) {
+        // the pooled controller is not used - same as an unused prefetch
+        Utils.get()
+             .discardController(pooled.getController());
+        this.logControllerInterceptsRouting(e.getControllerClassName(),
+                                            e.getRoute(),
+                                            e.getParameter());
+        this.route(e.getRoute(),
+                   true,
+                   true,
+                   false,
+                   e.getParameter());
+        this.fillControllerPool(routeConfiguration);
+        return;
+      }
+      this.doRouting(hash,
+                     routeContext,
+                     routeConfiguration,
+                     pooled,
+                     null);
+      // refill the pool after the routing, so it stays off the critical path
+      this.fillControllerPool(routeConfiguration);
+      return;
+    }
+    this.applicationScope.getControllerFactory()
+                         .controller(routeConfiguration.getRoute(),
+                                     this.getControllerId(routeConfiguration),
+                                     new ControllerCallback() {
 
-                                   @Override
-                                   public void onFinish(ControllerInstance controller) {
-                                     doRouting(hash,
-                                               routeResult,
-                                               routeConfiguration,
-                                               controller);
-                                   }
-                                 },
-                                 routeResult.getParameterValues()
-                                            .toArray(new String[0]));
+                                       @Override
+                                       public void onRoutingInterceptionException(RoutingInterceptionException e) {
+                                         logControllerInterceptsRouting(e.getControllerClassName(),
+                                                                        e.getRoute(),
+                                                                        e.getParameter());
+                                         route(e.getRoute(),
+                                               true,
+                                               true,
+                                               false,
+                                               e.getParameter());
+                                       }
+
+                                       @Override
+                                       public void onFinish(ControllerInstance controller) {
+                                         doRouting(hash,
+                                                   routeContext,
+                                                   routeConfiguration,
+                                                   controller,
+                                                   null);
+                                       }
+
+                                       @Override
+                                       public RoutingToken getRoutingToken() {
+                                         return routingToken;
+                                       }
+                                     },
+                                     routeContext.getParams());
   }
 
   private void doRouting(String hash,
-                         RouteResult routeResult,
+                         RouteContext routeContext,
                          RouteConfig routeConfiguration,
-                         ControllerInstance controllerInstance) {
+                         ControllerInstance controllerInstance,
+                         PrefetchCache.Entry prefetched) {
+    this.routingTimer.lap(Phase.CONTROLLER);
     if (Objects.isNull(controllerInstance.getController())) {
       String sb = "no controller found for hash >>" + hash + "<<";
       this.eventBus.fireEvent(LogEvent.create()
@@ -890,7 +1376,7 @@ abstract class AbstractRouter
       this.eventBus.fireEvent(NaluErrorEvent.createNaluError()
                                             .errorId(NaluConstants.NALU_ERROR_NO_CONTROLLER_INSTANCE_FOUND)
                                             .message(sb)
-                                            .route(routeResult.getRoute()));
+                                            .route(routeContext.getRoute()));
     } else {
       // inject the router instance into the controller!
       // (we do it for cached and not cached controllers,
@@ -912,20 +1398,24 @@ abstract class AbstractRouter
           compositeForController.forEach(s -> {
             try {
               // check for composite loader
-              if (ControllerCompositeConditionFactory.get()
-                                                     .loadComposite(controllerInstance.getControllerClassName(),
-                                                                    s.getComposite(),
-                                                                    routeResult.getRoute(),
-                                                                    routeResult.getParameterValues()
-                                                                               .toArray(new String[routeResult.getParameterValues()
-                                                                                                              .size()]))) {
-                CompositeInstance compositeInstance = CompositeFactory.get()
-                                                                      .getComposite(controllerInstance.getControllerClassName(),
-                                                                                    s.getComposite(),
-                                                                                    s.getSelector(),
-                                                                                    s.isScopeGlobal(),
-                                                                                    routeResult.getParameterValues()
-                                                                                               .toArray(new String[0]));
+              if (this.applicationScope.getControllerCompositeConditionFactory()
+                                       .loadComposite(this.getControllerId(routeConfiguration),
+                                                      s.getComposite(),
+                                                      routeContext.getRoute(),
+                                                      routeContext.getParams())) {
+                // use the prefetched composite (if there is one)
+                CompositeInstance compositeInstance = Objects.isNull(prefetched) ?
+                                                      null :
+                                                      prefetched.takeComposite(s.getComposite(),
+                                                                               s.getSelector());
+                if (Objects.isNull(compositeInstance)) {
+                  compositeInstance = this.applicationScope.getCompositeFactory()
+                                                           .getComposite(controllerInstance.getControllerClassName(),
+                                                                         this.getCompositeId(s),
+                                                                         s.getSelector(),
+                                                                         s.isScopeGlobal(),
+                                                                         routeContext.getParams());
+                }
                 if (compositeInstance == null) {
                   this.eventBus.fireEvent(LogEvent.create()
                                                   .sdmOnly(true)
@@ -961,6 +1451,11 @@ abstract class AbstractRouter
           });
         }
       }
+      // prefetched composites, that are not loaded anymore
+      if (!Objects.isNull(prefetched)) {
+        prefetched.discardComposites();
+      }
+      this.routingTimer.lap(Phase.COMPOSITE);
       // add element to DOM
       if (!handlingModeReuse) {
         this.append(routeConfiguration.getSelector(),
@@ -1010,21 +1505,18 @@ abstract class AbstractRouter
                                                                                      .filter(CompositeControllerReference::isScopeGlobal)
                                                                                      .collect(Collectors.toList());
           for (CompositeControllerReference compositeControllerReference : globalComposite) {
-            if (ControllerCompositeConditionFactory.get()
-                                                   .loadComposite(controllerInstance.getControllerClassName(),
-                                                                  compositeControllerReference.getComposite(),
-                                                                  routeResult.getRoute(),
-                                                                  routeResult.getParameterValues()
-                                                                             .toArray(new String[routeResult.getParameterValues()
-                                                                                                            .size()]))) {
+            if (this.applicationScope.getControllerCompositeConditionFactory()
+                                     .loadComposite(this.getControllerId(routeConfiguration),
+                                                    compositeControllerReference.getComposite(),
+                                                    routeContext.getRoute(),
+                                                    routeContext.getParams())) {
               try {
-                CompositeInstance compositeInstance = CompositeFactory.get()
-                                                                      .getComposite(controllerInstance.getControllerClassName(),
-                                                                                    compositeControllerReference.getComposite(),
-                                                                                    compositeControllerReference.getSelector(),
-                                                                                    true,
-                                                                                    routeResult.getParameterValues()
-                                                                                               .toArray(new String[0]));
+                CompositeInstance compositeInstance = this.applicationScope.getCompositeFactory()
+                                                                           .getComposite(controllerInstance.getControllerClassName(),
+                                                                                         this.getCompositeId(compositeControllerReference),
+                                                                                         compositeControllerReference.getSelector(),
+                                                                                         true,
+                                                                                         routeContext.getParams());
                 this.append(compositeControllerReference.getSelector(),
                             compositeInstance.getComposite());
               } catch (RoutingInterceptionException e) {
@@ -1049,6 +1541,7 @@ abstract class AbstractRouter
                           .onAttach();
         compositeControllers.forEach(AbstractCompositeController::onAttach);
       }
+      this.routingTimer.lap(Phase.ATTACH);
       // in case the controller is cached, we call only activate  ...
       if (controllerInstance.isCached() || handlingModeReuse) {
         // in case we have a REDRAW handling mode, set the parameters
@@ -1056,8 +1549,7 @@ abstract class AbstractRouter
           try {
             controllerInstance.getControllerCreator()
                               .setParameter(controllerInstance.getController(),
-                                            routeResult.getParameterValues()
-                                                       .toArray(new String[0]));
+                                            routeContext.getParams());
           } catch (RoutingInterceptionException e) {
             this.logControllerInterceptsRouting(e.getControllerClassName(),
                                                 e.getRoute(),
@@ -1096,10 +1588,20 @@ abstract class AbstractRouter
         controllerInstance.getController()
                           .activate();
       }
+      this.applicationScope.getControllerFactory()
+                           .markActive(controllerInstance.getController());
+      compositeControllers.forEach(s -> this.applicationScope.getCompositeFactory()
+                                                             .markActive(s));
+      controllerInstance.getController()
+                        .getComposites()
+                        .values()
+                        .forEach(s -> this.applicationScope.getCompositeFactory()
+                                                           .markActive(s));
+      this.routingTimer.lap(Phase.ACTIVATE);
       // save current hash
       this.lastExecutedHash = hash;
-      // clear loop detection list ...
-      this.loopDetectionList.clear();
+      // clear loop detector ...
+      this.loopDetector.clear();
     }
   }
 
@@ -1171,6 +1673,155 @@ abstract class AbstractRouter
     }
   }
 
+  private Map<String, CompositeInstance> prefetchComposites(RouteConfig routeConfiguration,
+                                                            ControllerInstance controllerInstance,
+                                                            RouteContext routeContext) {
+    Map<String, CompositeInstance> composites = new HashMap<>();
+    for (CompositeControllerReference reference : this.getCompositeForController(controllerInstance.getControllerClassName())) {
+      // global composites are shared -> no prefetch
+      if (reference.isScopeGlobal() ||
+          !this.applicationScope.getControllerCompositeConditionFactory()
+                                .loadComposite(this.getControllerId(routeConfiguration),
+                                               reference.getComposite(),
+                                               routeContext.getRoute(),
+                                               routeContext.getParams())) {
+        continue;
+      }
+      try {
+        CompositeInstance compositeInstance = this.applicationScope.getCompositeFactory()
+                                                                   .getComposite(controllerInstance.getControllerClassName(),
+                                                                                 this.getCompositeId(reference),
+                                                                                 reference.getSelector(),
+                                                                                 false,
+                                                                                 routeContext.getParams());
+        if (!Objects.isNull(compositeInstance)) {
+          compositeInstance.getComposite()
+                           .setRouter(this);
+          composites.put(PrefetchCache.createCompositeKey(reference.getComposite(),
+                                                          reference.getSelector()),
+                         compositeInstance);
+        }
+      } catch (RoutingInterceptionException e) {
+        // the routing will create the composite again and handle the exception
+      }
+    }
+    return composites;
+  }
+
+  /**
+   * Creates and binds one controller of the route configuration during
+   * idle time and adds it to the pool. Repeats, until the capacity of the
+   * route configuration is reached.
+   *
+   * @param routeConfiguration the route configuration
+   */
+  private void fillControllerPool(RouteConfig routeConfiguration) {
+    RouteKey key = ControllerPool.createKey(routeConfiguration.getClassName(),
+                                            routeConfiguration.getRoute());
+    if (this.controllerPool.getMissing(key) <= 0) {
+      return;
+    }
+    RoutingToken controllerPoolToken = this.controllerPoolToken;
+    this.plugin.scheduleIdle(() -> {
+      if (controllerPoolToken.isCanceled() || this.controllerPool.getMissing(key) <= 0) {
+        return;
+      }
+      // cached controllers need no pool - requesting them would set
+      // the parameters of the instance on screen
+      if (this.applicationScope.getControllerFactory()
+                               .isCached(this.getControllerId(routeConfiguration))) {
+        this.controllerPool.setCapacity(key,
+                                        0);
+        return;
+      }
+      this.applicationScope.getControllerFactory()
+                           .controller(routeConfiguration.getRoute(),
+                                       this.getControllerId(routeConfiguration),
+                                       new ControllerCallback() {
+
+                                         @Override
+                                         public void onRoutingInterceptionException(RoutingInterceptionException e) {
+                                           // the pool never routes - the routing will set the parameters again
+                                           eventBus.fireEvent(LogEvent.create()
+                                                                      .sdmOnly(true)
+                                                                      .addMessage("Router: warm pool creation of controller >>" +
+                                                                                  e.getControllerClassName() +
+                                                                                  "<< intercepted"));
+                                         }
+
+                                         @Override
+                                         public void onFinish(ControllerInstance controllerInstance) {
+                                           if (Objects.isNull(controllerInstance.getController())) {
+                                             return;
+                                           }
+                                           // cached controllers need no pool
+                                           if (controllerInstance.isCached()) {
+                                             controllerPool.setCapacity(key,
+                                                                        0);
+                                             return;
+                                           }
+                                           controllerPool.add(key,
+                                                              controllerInstance);
+                                           fillControllerPool(routeConfiguration);
+                                         }
+
+                                         @Override
+                                         public RoutingToken getRoutingToken() {
+                                           return controllerPoolToken;
+                                         }
+                                       });
+    });
+  }
+
+  private void clearPrefetchCache() {
+    // prefetches, that are still running, are discarded once bound
+    this.prefetchToken.cancel();
+    this.prefetchToken = new RoutingToken(0);
+    this.prefetchCache.clear();
+  }
+
+  /**
+   * Returns the component id of the controller of the route configuration.
+   * The id is resolved once and kept inside the configuration.
+   */
+  private int getControllerId(RouteConfig routeConfiguration) {
+    int id = routeConfiguration.getClassId();
+    if (id == ComponentIdTable.NO_ID) {
+      id = this.applicationScope.getComponentIdTable()
+                                .register(routeConfiguration.getClassName());
+      routeConfiguration.setClassId(id);
+    }
+    return id;
+  }
+
+  /**
+   * Returns the component id of the shell of the shell configuration.
+   * The id is resolved once and kept inside the configuration.
+   */
+  private int getShellId(ShellConfig shellConfig) {
+    int id = shellConfig.getClassId();
+    if (id == ComponentIdTable.NO_ID) {
+      id = this.applicationScope.getComponentIdTable()
+                                .register(shellConfig.getClassName());
+      shellConfig.setClassId(id);
+    }
+    return id;
+  }
+
+  /**
+   * Returns the component id of the composite of the reference.
+   * The id is resolved once and kept inside the reference.
+   */
+  private int getCompositeId(CompositeControllerReference reference) {
+    int id = reference.getCompositeId();
+    if (id == ComponentIdTable.NO_ID) {
+      id = this.applicationScope.getComponentIdTable()
+                                .register(reference.getComposite());
+      reference.setCompositeId(id);
+    }
+    return id;
+  }
+
   private List<CompositeControllerReference> getCompositeForController(String controllerClassName) {
     return this.compositeControllerReferences.stream()
                                              .filter(s -> controllerClassName.equals(s.getController()))
@@ -1182,54 +1833,149 @@ abstract class AbstractRouter
                      boolean replaceState,
                      boolean stealthMode,
                      String... params) {
-    String newRouteWithParams = this.generate(newRoute,
-                                              params);
+    this.route(newRoute,
+               forceRouting,
+               replaceState,
+               stealthMode,
+               false,
+               true,
+               params);
+  }
+
+  private void route(String newRoute,
+                     boolean forceRouting,
+                     boolean replaceState,
+                     boolean stealthMode,
+                     boolean track,
+                     String... params) {
+    this.route(newRoute,
+               forceRouting,
+               replaceState,
+               stealthMode,
+               track,
+               false,
+               params);
+  }
+
+  private void route(String newRoute,
+                     boolean forceRouting,
+                     boolean replaceState,
+                     boolean stealthMode,
+                     boolean track,
+                     boolean redirect,
+                     String... params) {
+    // routings requested while a routing step is executed are hops of the current routing
+    RoutingRequest routingRequest = new RoutingRequest(newRoute,
+                                                       forceRouting,
+                                                       replaceState,
+                                                       stealthMode,
+                                                       track,
+                                                       redirect || this.routingDepth > 0,
+                                                       params);
+    // no scheduler ==> no coalescing
+    if (Objects.isNull(this.routingScheduler)) {
+      this.executeRoutingRequest(routingRequest);
+      return;
+    }
+    if (Objects.isNull(this.pendingRoutingRequest)) {
+      this.routingScheduler.schedule(this::executePendingRoutingRequest);
+    } else {
+      // the pending routing gets superseded by the new one
+      this.abortRoutingRequest(this.pendingRoutingRequest,
+                               routingRequest);
+    }
+    this.pendingRoutingRequest = routingRequest;
+  }
+
+  private void executePendingRoutingRequest() {
+    RoutingRequest routingRequest = this.pendingRoutingRequest;
+    this.pendingRoutingRequest = null;
+    if (!Objects.isNull(routingRequest)) {
+      this.executeRoutingRequest(routingRequest);
+    }
+  }
+
+  private void executeRoutingRequest(RoutingRequest routingRequest) {
+    // first, we track the new route (if there is a tracker!)
+    if (routingRequest.track && !Objects.isNull(this.tracker)) {
+      this.tracker.track(routingRequest.route,
+                         routingRequest.params);
+    }
+    String newRouteWithParams = this.generate(routingRequest.route,
+                                              routingRequest.params);
     this.plugin.route(newRouteWithParams,
-                      replaceState,
-                      stealthMode);
+                      routingRequest.replaceState,
+                      routingRequest.stealthMode);
     this.handleRouting(newRouteWithParams,
-                       forceRouting);
+                       routingRequest.forceRouting,
+                       routingRequest.redirect);
   }
 
-  private String pimpUpHashForLoopDetection(String hash) {
-    String value = hash;
-    if (value.startsWith("#")) {
-      value = value.substring(1);
-    }
-    if (value.startsWith("/")) {
-      value = value.substring(1);
+  private void executeStep(Runnable step) {
+    this.routingDepth++;
+    try {
+      step.run();
+    } finally {
+      this.routingDepth--;
     }
-    return value;
+  }
+
+  private void abortRoutingRequest(RoutingRequest routingRequest,
+                                   RoutingRequest supersededBy) {
+    String reason = "superseded by routing to >>" + supersededBy.route + "<<";
+    this.fireRouterStateEvent(RouterState.ROUTING_ABORTED,
+                              routingRequest.route,
+                              routingRequest.params,
+                              AbortReason.SUPERSEDED,
+                              reason);
+    this.eventBus.fireEvent(LogEvent.create()
+                                    .sdmOnly(true)
+                                    .addMessage("Router: routing to >>" + routingRequest.route + "<< " + reason + " --> Routing aborted!"));
   }
 
   /**
    * Fires a router state event to inform the application about the state
    * of routing.
    *
-   * @param state routing state
-   * @param route current route
+   * @param state  routing state
+   * @param route  current route
+   * @param params parameter
    */
   private void fireRouterStateEvent(RouterState state,
-                                    String route) {
+                                    String route,
+                                    String... params) {
     this.fireRouterStateEvent(state,
                               route,
-                              new String[0]);
+                              params,
+                              null,
+                              null);
   }
 
   /**
    * Fires a router state event to inform the application about the state
    * of routing.
    *
-   * @param state  routing state
-   * @param route  current route
-   * @param params parameter
+   * @param state       routing state
+   * @param route       current route
+   * @param params      parameter
+   * @param abortReason reason of an abort (used as tag of the metrics)
+   * @param reason      description of the abort reason
    */
   private void fireRouterStateEvent(RouterState state,
                                     String route,
-                                    String... params) {
+                                    String[] params,
+                                    AbortReason abortReason,
+                                    String reason) {
+    if (RouterState.ROUTING_ABORTED == state && !Objects.isNull(abortReason)) {
+      this.metricsProvider.getMetrics()
+                          .counter(NaluMetrics.ROUTER_ABORTS,
+                                   abortReason.getTag())
+                          .increment();
+    }
     this.eventBus.fireEvent(new RouterStateEvent(state,
                                                  route,
-                                                 params));
+                                                 params,
+                                                 reason));
   }
 
   private void logControllerInterceptsRouting(String controllerClassName,
@@ -1254,4 +2000,35 @@ abstract class AbstractRouter
                                     .addMessage(sb.toString()));
   }
 
+  /**
+   * A requested routing
+   */
+  private static class RoutingRequest {
+
+    private final String   route;
+    private final boolean  forceRouting;
+    private final boolean  replaceState;
+    private final boolean  stealthMode;
+    private final boolean  track;
+    private final boolean  redirect;
+    private final String[] params;
+
+    private RoutingRequest(String route,
+                           boolean forceRouting,
+                           boolean replaceState,
+                           boolean stealthMode,
+                           boolean track,
+                           boolean redirect,
+                           String[] params) {
+      this.route        = route;
+      this.forceRouting = forceRouting;
+      this.replaceState = replaceState;
+      this.stealthMode  = stealthMode;
+      this.track        = track;
+      this.redirect     = redirect;
+      this.params       = params;
+    }
+
+  }
+
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import com.github.nalukit.nalu.client.filter.IsAsyncFilter;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Evaluates the asynchronous filters of a routing.
+ * <p>
+ * All filters are started at once. The first rejection (or timeout)
+ * stops the pipeline and cancels the filters, that are still running.
+ * Results arriving after the pipeline is finished are ignored.
+ */
+class AsyncFilterPipeline {
+  
+  /* filters to evaluate */
+  private final List<IsAsyncFilter>           filters;
+  /* timer used for the timeouts of the filters */
+  private final BiConsumer<Runnable, Integer> timer;
+  /* callback to call, once the pipeline is finished */
+  private final Callback                      callback;
+  /* true, if the result of the filter is known */
+  private final boolean[]                     done;
+  /* number of filters without result */
+  private       int                           pending;
+  /* true, if the pipeline is finished */
+  private       boolean                       finished;
+  
+  AsyncFilterPipeline(List<IsAsyncFilter> filters,
+                      BiConsumer<Runnable, Integer> timer,
+                      Callback callback) {
+    this.filters  = filters;
+    this.timer    = timer;
+    this.callback = callback;
+    this.done     = new boolean[filters.size()];
+    this.pending  = filters.size();
+  }
+  
+  /**
+   * Starts all filters.
+   *
+   * @param route  the route to filter
+   * @param params the parameters of the route
+   */
+  void start(String route,
+             String[] params) {
+    if (this.pending == 0) {
+      this.finished = true;
+      this.callback.onAccept();
+      return;
+    }
+    for (int i = 0; i < this.filters.size() && !this.finished; i++) {
+      int           index  = i;
+      IsAsyncFilter filter = this.filters.get(i);
+      if (filter.getTimeout() > 0) {
+        this.timer.accept(() -> this.onResult(index,
+                                              false,
+                                              true),
+                          filter.getTimeout());
+      }
+      // every filter gets its own copy of the parameters
+      filter.filter(route,
+                    params.clone(),
+                    result -> this.onResult(index,
+                                            result,
+                                            false));
+    }
+  }
+  
+  /**
+   * Cancels the pipeline. Running filters get canceled, the callback
+   * will not be called.
+   */
+  void cancel() {
+    if (!this.finished) {
+      this.finished = true;
+      this.cancelPendingFilters();
+    }
+  }
+  
+  /**
+   * Returns true, if the pipeline is finished (all filters accepted,
+   * one filter rejected or the pipeline was canceled).
+   *
+   * @return true, if finished
+   */
+  boolean isFinished() {
+    return this.finished;
+  }
+  
+  private void onResult(int index,
+                        boolean result,
+                        boolean timeout) {
+    if (this.finished || this.done[index]) {
+      return;
+    }
+    this.done[index] = true;
+    this.pending--;
+    if (result) {
+      if (this.pending == 0) {
+        this.finished = true;
+        this.callback.onAccept();
+      }
+    } else {
+      this.finished = true;
+      if (timeout) {
+        this.filters.get(index)
+                    .cancel();
+      }
+      this.cancelPendingFilters();
+      this.callback.onReject(this.filters.get(index),
+                             timeout);
+    }
+  }
+  
+  private void cancelPendingFilters() {
+    for (int i = 0; i < this.filters.size(); i++) {
+      if (!this.done[i]) {
+        this.done[i] = true;
+        this.filters.get(i)
+                    .cancel();
+      }
+    }
+  }
+  
+  interface Callback {
+    
+    /**
+     * All filters accept the routing.
+     */
+    void onAccept();
+    
+    /**
+     * A filter rejects the routing.
+     *
+     * @param filter  the rejecting filter
+     * @param timeout true, if the filter did not answer in time
+     */
+    void onReject(IsAsyncFilter filter,
+                  boolean timeout);
+    
+  }
+  
+}
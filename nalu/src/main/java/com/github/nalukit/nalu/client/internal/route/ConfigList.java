@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * List of configurations, that reports its changes.
+ * <p>
+ * Appending elements calls the append listener, so that an index can be
+ * updated on the next lookup. All other changes call the change listener,
+ * so that an index can be rebuild.
+ *
+ * @param <E> type of the configuration
+ */
+class ConfigList<E>
+    extends AbstractList<E>
+    implements RandomAccess {
+  
+  private final List<E> elements;
+  
+  /* called after elements are appended */
+  private final Runnable onAppend;
+  
+  /* called after all other changes */
+  private final Runnable onChange;
+  
+  ConfigList(Runnable onAppend,
+             Runnable onChange) {
+    this.elements = new ArrayList<>();
+    this.onAppend = onAppend;
+    this.onChange = onChange;
+  }
+  
+  @Override
+  public E get(int index) {
+    return this.elements.get(index);
+  }
+  
+  @Override
+  public int size() {
+    return this.elements.size();
+  }
+  
+  @Override
+  public E set(int index,
+               E element) {
+    E previous = this.elements.set(index,
+                                   element);
+    this.onChange.run();
+    return previous;
+  }
+  
+  @Override
+  public void add(int index,
+                  E element) {
+    boolean append = index == this.elements.size();
+    this.elements.add(index,
+                      element);
+    this.modCount++;
+    this.fireChange(append);
+  }
+  
+  @Override
+  public boolean addAll(Collection<? extends E> c) {
+    return this.addAll(this.elements.size(),
+                       c);
+  }
+  
+  @Override
+  public boolean addAll(int index,
+                        Collection<? extends E> c) {
+    boolean append  = index == this.elements.size();
+    boolean changed = this.elements.addAll(index,
+                                           c);
+    if (changed) {
+      this.modCount++;
+      this.fireChange(append);
+    }
+    return changed;
+  }
+  
+  @Override
+  public E remove(int index) {
+    E element = this.elements.remove(index);
+    this.modCount++;
+    this.onChange.run();
+    return element;
+  }
+  
+  @Override
+  protected void removeRange(int fromIndex,
+                             int toIndex) {
+    this.elements.subList(fromIndex,
+                          toIndex)
+                 .clear();
+    this.modCount++;
+    this.onChange.run();
+  }
+  
+  private void fireChange(boolean append) {
+    if (append) {
+      this.onAppend.run();
+    } else {
+      this.onChange.run();
+    }
+  }
+  
+}
@@ -72,8 +72,9 @@ public interface ConfigurableRouter
   /**
    * Add a module to the application.
    * <p>
-   * The method wil inject the router, event bus, context
-   * and the alwaysLoadComposite-flag into the module.
+   * The method wil inject the router, event bus, context, the
+   * registries of the application and the alwaysLoadComposite-flag
+   * into the module.
    * <p>
    * Besides that, the method adds the shell- and
    * route-configuration and also the controller-configurations.
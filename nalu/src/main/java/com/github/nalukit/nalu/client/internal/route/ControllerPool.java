@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import com.github.nalukit.nalu.client.internal.Utils;
+import com.github.nalukit.nalu.client.internal.application.ControllerInstance;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Stores controllers, that are created and bound during idle time
+ * (see {@link com.github.nalukit.nalu.client.preload.ControllerWarmPool}).
+ * <p>
+ * The pool is keyed by the class name of the controller and the route.
+ * Every key has its own capacity. Controllers exceeding the capacity
+ * and controllers removed without being used are discarded.
+ */
+class ControllerPool {
+  
+  /* capacities (key: class name of controller + route) */
+  private final Map<RouteKey, Integer>                        capacities;
+  /* pooled controllers (key: class name of controller + route) */
+  private final Map<RouteKey, LinkedList<ControllerInstance>> instances;
+  
+  ControllerPool() {
+    this.capacities = new HashMap<>();
+    this.instances  = new HashMap<>();
+  }
+  
+  /**
+   * Creates the key of a pooled controller.
+   *
+   * @param controllerClassName class name of the controller
+   * @param route               the route (with '*' as placeholder for parameters)
+   * @return key of the controller
+   */
+  static RouteKey createKey(String controllerClassName,
+                            String route) {
+    return new RouteKey(controllerClassName,
+                        route);
+  }
+  
+  /**
+   * Sets the capacity of the key. Controllers exceeding the capacity
+   * are discarded.
+   *
+   * @param key      the key
+   * @param capacity maximum number of pooled controllers
+   */
+  void setCapacity(RouteKey key,
+                   int capacity) {
+    this.capacities.put(key,
+                        capacity);
+    LinkedList<ControllerInstance> list = this.instances.get(key);
+    while (!Objects.isNull(list) && list.size() > Math.max(capacity,
+                                                           0)) {
+      this.discard(list.removeLast());
+    }
+  }
+  
+  /**
+   * Returns the number of controllers missing to reach the capacity.
+   *
+   * @param key the key
+   * @return number of missing controllers
+   */
+  int getMissing(RouteKey key) {
+    Integer                        capacity = this.capacities.get(key);
+    LinkedList<ControllerInstance> list     = this.instances.get(key);
+    if (Objects.isNull(capacity)) {
+      return 0;
+    }
+    return capacity - (Objects.isNull(list) ? 0 : list.size());
+  }
+  
+  /**
+   * Adds a controller to the pool. In case the pool of the key
+   * is full, the controller is discarded.
+   *
+   * @param key                the key
+   * @param controllerInstance the created and bound controller
+   */
+  void add(RouteKey key,
+           ControllerInstance controllerInstance) {
+    if (this.getMissing(key) <= 0) {
+      this.discard(controllerInstance);
+      return;
+    }
+    this.instances.computeIfAbsent(key,
+                                   k -> new LinkedList<>())
+                  .add(controllerInstance);
+  }
+  
+  /**
+   * Removes a controller of the key from the pool and returns it.
+   *
+   * @param key the key
+   * @return the controller or null, if the pool of the key is empty
+   */
+  ControllerInstance take(RouteKey key) {
+    LinkedList<ControllerInstance> list = this.instances.get(key);
+    return Objects.isNull(list) || list.isEmpty() ? null : list.removeFirst();
+  }
+  
+  /**
+   * Returns the number of pooled controllers.
+   *
+   * @return number of controllers
+   */
+  int size() {
+    int size = 0;
+    for (LinkedList<ControllerInstance> list : this.instances.values()) {
+      size += list.size();
+    }
+    return size;
+  }
+  
+  /**
+   * Discards all pooled controllers and removes the capacities.
+   */
+  void clear() {
+    List<ControllerInstance> list = new ArrayList<>();
+    this.instances.values()
+                  .forEach(list::addAll);
+    this.instances.clear();
+    this.capacities.clear();
+    list.forEach(this::discard);
+  }
+  
+  private void discard(ControllerInstance controllerInstance) {
+    Utils.get()
+         .discardController(controllerInstance.getController());
+  }
+  
+}
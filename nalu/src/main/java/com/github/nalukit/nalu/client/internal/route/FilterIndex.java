@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import com.github.nalukit.nalu.client.filter.IsFilter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Index of the filters, that are limited to route patterns.
+ * <p>
+ * A pattern matches the route itself and all routes below the pattern
+ * (the pattern '/application/person' matches the routes
+ * '/application/person' and '/application/person/*&#47;detail'). The
+ * pattern '/' matches all routes.
+ * <p>
+ * The filters are stored by pattern. To find the filters of a route,
+ * the index looks up the route and each of its parent routes. The result
+ * is cached per route, so that a routing needs only one lookup.
+ */
+class FilterIndex {
+  
+  /* filters keyed by pattern */
+  private final Map<String, List<Entry>>    patterns;
+  /* filters keyed by route - cache of the lookups */
+  private final Map<String, List<IsFilter>> cache;
+  /* number of added filters */
+  private       int                         size;
+  
+  FilterIndex() {
+    this.patterns = new HashMap<>();
+    this.cache    = new HashMap<>();
+  }
+  
+  /**
+   * Adds a filter for the patterns.
+   *
+   * @param filter the filter
+   * @param routes the route patterns of the filter
+   */
+  void add(IsFilter filter,
+           String... routes) {
+    Entry entry = new Entry(this.size++,
+                            filter);
+    for (String route : routes) {
+      List<Entry> entries = this.patterns.computeIfAbsent(this.normalize(route),
+                                                          k -> new ArrayList<>());
+      if (!entries.contains(entry)) {
+        entries.add(entry);
+      }
+    }
+    this.cache.clear();
+  }
+  
+  /**
+   * Returns true, if the index does not contain any filter.
+   *
+   * @return true, if empty
+   */
+  boolean isEmpty() {
+    return this.size == 0;
+  }
+  
+  /**
+   * Returns the filters, that have a pattern matching the route, in the
+   * order the filters are added.
+   *
+   * @param route the route (with '*' as placeholder for parameters)
+   * @return list of matching filters
+   */
+  List<IsFilter> match(String route) {
+    List<IsFilter> filters = this.cache.get(route);
+    if (Objects.isNull(filters)) {
+      filters = this.lookup(this.normalize(route));
+      this.cache.put(route,
+                     filters);
+    }
+    return filters;
+  }
+  
+  private List<IsFilter> lookup(String route) {
+    List<Entry> entries = new ArrayList<>();
+    // route & parent routes (the root pattern is the empty string)
+    this.collect("",
+                 entries);
+    for (int i = route.indexOf('/',
+                               1); i > 0; i = route.indexOf('/',
+                                                            i + 1)) {
+      this.collect(route.substring(0,
+                                   i),
+                   entries);
+    }
+    this.collect(route,
+                 entries);
+    if (entries.isEmpty()) {
+      return Collections.emptyList();
+    }
+    entries.sort((e1, e2) -> Integer.compare(e1.index,
+                                             e2.index));
+    List<IsFilter> filters = new ArrayList<>();
+    for (Entry entry : entries) {
+      filters.add(entry.filter);
+    }
+    return Collections.unmodifiableList(filters);
+  }
+  
+  private void collect(String pattern,
+                       List<Entry> entries) {
+    List<Entry> list = this.patterns.get(pattern);
+    if (!Objects.isNull(list)) {
+      for (Entry entry : list) {
+        if (!entries.contains(entry)) {
+          entries.add(entry);
+        }
+      }
+    }
+  }
+  
+  private String normalize(String route) {
+    String value = route.startsWith("/") ? route : "/" + route;
+    while (value.endsWith("/")) {
+      value = value.substring(0,
+                              value.length() - 1);
+    }
+    return value;
+  }
+  
+  private static class Entry {
+    
+    /* position of the filter */
+    private final int      index;
+    private final IsFilter filter;
+    
+    private Entry(int index,
+                  IsFilter filter) {
+      this.index  = index;
+      this.filter = filter;
+    }
+    
+  }
+  
+}
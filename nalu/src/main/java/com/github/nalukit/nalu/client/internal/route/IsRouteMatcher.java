@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
+
+/**
+ * Route matcher generated by the processor for the routes of an
+ * application or a module.
+ * <p>
+ * The matcher knows all routes at compile time and matches an already
+ * split route without interpreting the route configurations at runtime.
+ */
+@NaluInternalUse
+public interface IsRouteMatcher {
+  
+  /* value returned by match, in case no route matches */
+  int NO_MATCH = -1;
+  
+  /**
+   * Returns the routes handled by this matcher. The route id returned by
+   * {@link #match(String[], boolean)} is the index of the route inside
+   * this array.
+   *
+   * @return routes of the matcher
+   */
+  String[] getRoutes();
+  
+  /**
+   * Looks for the first route that matches the parts of the route
+   * (respecting parameters).
+   *
+   * @param partsOfRoute                 the parts of the route (splitted by '/', without leading '/')
+   * @param usingColonForParametersInUrl true, if parameters are prefixed with ':'
+   * @return the route id of the first matching route or NO_MATCH
+   */
+  int match(String[] partsOfRoute,
+            boolean usingColonForParametersInUrl);
+  
+  /**
+   * Returns the compiled templates of the routes handled by this matcher.
+   *
+   * @return route templates
+   */
+  default RouteTemplate[] getRouteTemplates() {
+    return new RouteTemplate[0];
+  }
+  
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Detects loops while routing.
+ * <p>
+ * The detector remembers the hashes of a routing (including the
+ * redirects of filters, etc.) in the order they are routed. A loop is
+ * detected, in case a hash is routed twice or the number of hashes
+ * exceeds the maximum number of hops.
+ */
+class LoopDetector {
+  
+  /* normalized hashes in the order they are routed */
+  private final Set<String> hashes;
+  
+  LoopDetector() {
+    this.hashes = new LinkedHashSet<>();
+  }
+  
+  /**
+   * Adds the hash to the detector.
+   *
+   * @param hash                       the hash to route
+   * @param maximumNumberOfRoutingHops maximum number of routed hashes (0 = no limit)
+   * @return true, if the hash can be routed, false, in case a loop is detected
+   */
+  boolean add(String hash,
+              int maximumNumberOfRoutingHops) {
+    if (maximumNumberOfRoutingHops > 0 && this.hashes.size() >= maximumNumberOfRoutingHops) {
+      return false;
+    }
+    return this.hashes.add(this.normalize(hash));
+  }
+  
+  /**
+   * Returns the first hash of the routing.
+   *
+   * @return first routed hash or null, if there is none
+   */
+  String getFirst() {
+    return this.hashes.isEmpty() ? null : this.hashes.iterator()
+                                                     .next();
+  }
+  
+  void clear() {
+    this.hashes.clear();
+  }
+  
+  int size() {
+    return this.hashes.size();
+  }
+  
+  private String normalize(String hash) {
+    int start = 0;
+    if (hash.startsWith("#")) {
+      start++;
+    }
+    if (hash.startsWith("/",
+                        start)) {
+      start++;
+    }
+    return start == 0 ? hash : hash.substring(start);
+  }
+  
+}
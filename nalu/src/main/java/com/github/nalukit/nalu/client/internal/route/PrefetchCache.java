@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import com.github.nalukit.nalu.client.internal.Utils;
+import com.github.nalukit.nalu.client.internal.application.CompositeInstance;
+import com.github.nalukit.nalu.client.internal.application.ControllerInstance;
+import com.github.nalukit.nalu.client.plugin.IsClock;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Stores controllers, that are created and bound ahead of the
+ * navigation (see {@link com.github.nalukit.nalu.client.Router#prefetch(String, String...)}).
+ * <p>
+ * An entry is keyed by the class name of the controller, the route and
+ * the parameters. The cache holds a limited number of entries. In case
+ * the cache is full, the oldest entry is removed. Entries older than the
+ * time to live are not used anymore.
+ * <p>
+ * Entries, that are removed without being used, are discarded: the
+ * controller and its composites are stopped and the handlers removed.
+ */
+class PrefetchCache {
+  
+  /* default number of entries */
+  static final int DEFAULT_MAXIMUM_SIZE = 5;
+  /* default time to live of an entry (in ms) */
+  static final int DEFAULT_TIME_TO_LIVE = 30000;
+  
+  private final static String DELIMITER = "<<||>>";
+  
+  /* entries in insertion order */
+  private final LinkedHashMap<RouteKey, Entry> entries;
+  /* source of the current time (the clock of the router) */
+  private final IsClock                        clock;
+  /* maximum number of entries */
+  private       int                            maximumSize;
+  /* time to live of an entry (in ms) */
+  private       int                            timeToLive;
+  
+  PrefetchCache(IsClock clock) {
+    this.entries     = new LinkedHashMap<>();
+    this.clock       = clock;
+    this.maximumSize = PrefetchCache.DEFAULT_MAXIMUM_SIZE;
+    this.timeToLive  = PrefetchCache.DEFAULT_TIME_TO_LIVE;
+  }
+  
+  /**
+   * Creates the key of an entry.
+   *
+   * @param controllerClassName class name of the controller
+   * @param route               the route (with '*' as placeholder for parameters)
+   * @param params              the parameters of the route
+   * @return key of the entry
+   */
+  static RouteKey createKey(String controllerClassName,
+                            String route,
+                            String... params) {
+    return new RouteKey(controllerClassName,
+                        route,
+                        params);
+  }
+  
+  /**
+   * Creates the key of a composite inside an entry.
+   *
+   * @param compositeClassName class name of the composite
+   * @param selector           selector of the composite
+   * @return key of the composite
+   */
+  static String createCompositeKey(String compositeClassName,
+                                   String selector) {
+    return compositeClassName + PrefetchCache.DELIMITER + selector;
+  }
+  
+  /**
+   * Sets the limits of the cache. Entries exceeding the new limits
+   * are discarded.
+   *
+   * @param maximumSize maximum number of entries (0 disables prefetching)
+   * @param timeToLive  time to live of an entry in ms
+   */
+  void setLimits(int maximumSize,
+                 int timeToLive) {
+    this.maximumSize = Math.max(0,
+                                maximumSize);
+    this.timeToLive  = timeToLive;
+    this.evict();
+  }
+  
+  /**
+   * Returns true, if prefetching is enabled.
+   *
+   * @return true, if the cache can hold entries
+   */
+  boolean isEnabled() {
+    return this.maximumSize > 0;
+  }
+  
+  /**
+   * Returns true, if the cache contains a valid entry for the key.
+   * <p>
+   * The method does not change the cache. Expired entries are discarded
+   * with the next change of the cache.
+   *
+   * @param key the key
+   * @return true, if there is a valid entry
+   */
+  boolean contains(RouteKey key) {
+    Entry entry = this.entries.get(key);
+    return !Objects.isNull(entry) && !this.isExpired(entry,
+                                                     this.clock.now());
+  }
+  
+  /**
+   * Adds an entry. In case there is already an entry for the key,
+   * the old one gets discarded. In case the cache is full, the oldest
+   * entry gets discarded.
+   *
+   * @param key                the key of the entry
+   * @param controllerInstance the created controller
+   * @param composites         the created composites (key: class name of composite + selector)
+   */
+  void put(RouteKey key,
+           ControllerInstance controllerInstance,
+           Map<String, CompositeInstance> composites) {
+    if (!this.isEnabled()) {
+      this.discard(new Entry(controllerInstance,
+                             composites,
+                             0));
+      return;
+    }
+    Entry old = this.entries.remove(key);
+    if (!Objects.isNull(old)) {
+      this.discard(old);
+    }
+    this.entries.put(key,
+                     new Entry(controllerInstance,
+                               composites,
+                               this.clock.now() + this.timeToLive));
+    this.evict();
+  }
+  
+  /**
+   * Removes the entry of the key from the cache and returns it.
+   *
+   * @param key the key of the entry
+   * @return the entry or null, if there is no valid entry
+   */
+  Entry take(RouteKey key) {
+    this.removeExpired();
+    return this.entries.remove(key);
+  }
+  
+  /**
+   * Returns the number of valid entries.
+   * <p>
+   * The method does not change the cache. Expired entries are discarded
+   * with the next change of the cache.
+   *
+   * @return number of entries
+   */
+  int size() {
+    double now  = this.clock.now();
+    int    size = 0;
+    for (Entry entry : this.entries.values()) {
+      if (!this.isExpired(entry,
+                          now)) {
+        size++;
+      }
+    }
+    return size;
+  }
+  
+  /**
+   * Discards all entries.
+   */
+  void clear() {
+    List<Entry> list = new ArrayList<>(this.entries.values());
+    this.entries.clear();
+    list.forEach(this::discard);
+  }
+  
+  private void evict() {
+    this.removeExpired();
+    Iterator<Entry> iterator = this.entries.values()
+                                           .iterator();
+    while (this.entries.size() > this.maximumSize && iterator.hasNext()) {
+      Entry entry = iterator.next();
+      iterator.remove();
+      this.discard(entry);
+    }
+  }
+  
+  private void removeExpired() {
+    double          now      = this.clock.now();
+    Iterator<Entry> iterator = this.entries.values()
+                                           .iterator();
+    while (iterator.hasNext()) {
+      Entry entry = iterator.next();
+      if (this.isExpired(entry,
+                         now)) {
+        iterator.remove();
+        this.discard(entry);
+      }
+    }
+  }
+  
+  private boolean isExpired(Entry entry,
+                            double now) {
+    return entry.expiration <= now;
+  }
+  
+  private void discard(Entry entry) {
+    entry.discardComposites();
+    Utils.get()
+         .discardController(entry.getControllerInstance()
+                                 .getController());
+  }
+  
+  static class Entry {
+    
+    /* the created controller */
+    private final ControllerInstance             controllerInstance;
+    /* the created composites (key: class name of composite + selector) */
+    private final Map<String, CompositeInstance> composites;
+    /* point of time, the entry expires */
+    private final double                         expiration;
+    
+    private Entry(ControllerInstance controllerInstance,
+                  Map<String, CompositeInstance> composites,
+                  double expiration) {
+      this.controllerInstance = controllerInstance;
+      this.composites         = new HashMap<>(composites);
+      this.expiration         = expiration;
+    }
+    
+    ControllerInstance getControllerInstance() {
+      return this.controllerInstance;
+    }
+    
+    Map<String, CompositeInstance> getComposites() {
+      return this.composites;
+    }
+    
+    /**
+     * Removes the composite from the entry.
+     *
+     * @param compositeClassName class name of the composite
+     * @param selector           selector of the composite
+     * @return the created composite or null
+     */
+    CompositeInstance takeComposite(String compositeClassName,
+                                    String selector) {
+      return this.composites.remove(PrefetchCache.createCompositeKey(compositeClassName,
+                                                                     selector));
+    }
+    
+    /**
+     * Discards all composites, that are not used.
+     */
+    void discardComposites() {
+      this.composites.values()
+                     .forEach(compositeInstance -> Utils.get()
+                                                        .discardCompositeController(compositeInstance.getComposite()));
+      this.composites.clear();
+    }
+    
+  }
+  
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Bounded LRU cache of hashes, that could not be parsed.
+ * <p>
+ * The cache stores the message of the router exception, so that a
+ * rejected hash can be rejected again without parsing it.
+ */
+class RejectedHashCache {
+  
+  /* default number of cached hashes */
+  static final  int                 DEFAULT_SIZE = 64;
+  /* maximum number of cached hashes */
+  private final int                 maximumSize;
+  /* rejected hashes and the message of the exception - access ordered */
+  private final Map<String, String> entries;
+  /* number of rejected hashes found in the cache */
+  private       long                hits;
+  
+  RejectedHashCache(int maximumSize) {
+    this.maximumSize = maximumSize;
+    this.entries     = new LinkedHashMap<String, String>(16,
+                                                         0.75f,
+                                                         true) {
+      
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+        return size() > RejectedHashCache.this.maximumSize;
+      }
+      
+    };
+  }
+  
+  /**
+   * Returns the message of the exception thrown while parsing the hash.
+   *
+   * @param hash the raw hash
+   * @return the message or null, if the hash is not rejected
+   */
+  String get(String hash) {
+    String message = this.entries.get(hash);
+    if (!Objects.isNull(message)) {
+      this.hits++;
+    }
+    return message;
+  }
+  
+  void put(String hash,
+           String message) {
+    this.entries.put(hash,
+                     message);
+  }
+  
+  void clear() {
+    this.entries.clear();
+  }
+  
+  int getMaximumSize() {
+    return this.maximumSize;
+  }
+  
+  long getHits() {
+    return this.hits;
+  }
+  
+}
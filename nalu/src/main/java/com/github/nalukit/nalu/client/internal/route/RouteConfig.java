@@ -16,10 +16,11 @@
 
 package com.github.nalukit.nalu.client.internal.route;
 
+import com.github.nalukit.nalu.client.internal.application.ComponentIdTable;
+
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class RouteConfig {
   
@@ -32,6 +33,12 @@ public class RouteConfig {
   /* route without shellCreator */
   private String routeWithoutShell;
   
+  /* segments of the route - literals or '*' */
+  private String[] segments;
+  
+  /* number of parameters ('*') inside the route */
+  private int numberOfParameters;
+  
   /* parameters */
   private List<String> parameters;
   
@@ -41,6 +48,9 @@ public class RouteConfig {
   /* class name of the class which uses this configuration */
   private String className;
   
+  /* component id of the class - resolved once by the router */
+  private int classId = ComponentIdTable.NO_ID;
+  
   @SuppressWarnings("unused")
   private RouteConfig() {
   }
@@ -51,18 +61,24 @@ public class RouteConfig {
                      String className) {
     super();
     
-    this.shell = new ArrayList<>();
-    
     this.route      = route;
     this.parameters = parameters;
     this.selector   = selector;
     this.className  = className;
+    // get segments from route
+    this.segments = RouterUtils.get()
+                               .split(route);
+    for (String segment : this.segments) {
+      if ("*".equals(segment)) {
+        this.numberOfParameters++;
+      }
+    }
     // get shellCreator from route
     String tmpValue = route;
     if (tmpValue.startsWith("/")) {
       tmpValue = tmpValue.substring(1);
     }
-    String shellFromRoute = "";
+    String shellFromRoute;
     if (tmpValue.contains("/")) {
       shellFromRoute         = tmpValue.substring(0,
                                                   tmpValue.indexOf("/"));
@@ -79,12 +95,13 @@ public class RouteConfig {
                                                 shellFromRoute.length() - 1);
     }
     if (shellFromRoute.contains("|")) {
-      this.shell = Arrays.asList(shellFromRoute.split("\\|"))
-                         .stream()
-                         .map(s -> "/" + s)
-                         .collect(Collectors.toList());
+      List<String> shells = new ArrayList<>();
+      for (String s : shellFromRoute.split("\\|")) {
+        shells.add("/" + s);
+      }
+      this.shell = Collections.unmodifiableList(shells);
     } else {
-      this.shell.add("/" + shellFromRoute);
+      this.shell = Collections.singletonList("/" + shellFromRoute);
     }
   }
   
@@ -92,41 +109,60 @@ public class RouteConfig {
     return route;
   }
   
+  int getClassId() {
+    return classId;
+  }
+  
+  void setClassId(int classId) {
+    this.classId = classId;
+  }
+  
   public boolean match(String route) {
-    if (this.matchShell(route)) {
-      return this.matchRouteWithoutShell(route);
+    // separate shellCreator from route - without creating new strings
+    int start = route.startsWith("/") ? 1 : 0;
+    int end   = route.indexOf("/",
+                              start);
+    if (end < 0) {
+      end = route.length();
     }
-    return false;
+    return this.matchShell(route,
+                           start,
+                           end) &&
+           this.matchRouteWithoutShell(route,
+                                       end);
   }
   
-  private boolean matchShell(String route) {
+  private boolean matchShell(String route,
+                             int shellStart,
+                             int shellEnd) {
     if (this.shell.contains("*")) {
       return true;
     }
-    // separate shellCreator from route
-    String shellOfRoute = route;
-    if (shellOfRoute.startsWith("/")) {
-      shellOfRoute = shellOfRoute.substring(1);
-    }
-    if (shellOfRoute.contains("/")) {
-      shellOfRoute = shellOfRoute.substring(0,
-                                            shellOfRoute.indexOf("/"));
+    int length = shellEnd - shellStart;
+    for (String s : this.shell) {
+      // s contains the leading '/'
+      if (s.length() == length + 1 &&
+          s.regionMatches(1,
+                          route,
+                          shellStart,
+                          length)) {
+        return true;
+      }
     }
-    return this.shell.contains("/" + shellOfRoute);
+    return false;
   }
   
-  private boolean matchRouteWithoutShell(String route) {
-    // separate shellCreator from route
-    String routeWithoutShell = route;
-    if (routeWithoutShell.startsWith("/")) {
-      routeWithoutShell = routeWithoutShell.substring(1);
-    }
-    if (routeWithoutShell.contains("/")) {
-      routeWithoutShell = routeWithoutShell.substring(routeWithoutShell.indexOf("/") + 1);
-    } else {
-      routeWithoutShell = "";
+  private boolean matchRouteWithoutShell(String route,
+                                         int routeWithoutShellStart) {
+    if (routeWithoutShellStart >= route.length()) {
+      return "/".equals(this.routeWithoutShell);
     }
-    return this.routeWithoutShell.equals("/" + routeWithoutShell);
+    int length = route.length() - routeWithoutShellStart;
+    return this.routeWithoutShell.length() == length &&
+           this.routeWithoutShell.regionMatches(0,
+                                                route,
+                                                routeWithoutShellStart,
+                                                length);
   }
   
   public List<String> getShell() {
@@ -137,6 +173,20 @@ public class RouteConfig {
     return routeWithoutShell;
   }
   
+  /**
+   * Returns the segments of the route (the shell is the first segment).
+   * Parameters are represented by '*'. The array must not be changed!
+   *
+   * @return segments of the route
+   */
+  String[] getSegments() {
+    return segments;
+  }
+  
+  public int getNumberOfParameters() {
+    return numberOfParameters;
+  }
+  
   public String getSelector() {
     return selector;
   }
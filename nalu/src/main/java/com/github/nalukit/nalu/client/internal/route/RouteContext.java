@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Immutable context of a routing.
+ * <p>
+ * The context is created once per routing, after the hash is parsed.
+ * It contains the normalized values of the routing, so that the
+ * router does not need to convert them again and again:
+ * <ul>
+ * <li>hash: the hash of the routing (after removing the URI and additional parameters)</li>
+ * <li>decoded hash: the decoded hash (decoded on first request)</li>
+ * <li>shell: the shell of the route</li>
+ * <li>route: the route with a leading '/' (parameters replaced by '*')</li>
+ * <li>params: the parameter values of the route</li>
+ * </ul>
+ * The parameter values are created once. Callers get a copy of them,
+ * so that the context stays unchanged.
+ */
+@NaluInternalUse
+public final class RouteContext {
+  
+  private final String                   hash;
+  private final Function<String, String> decoder;
+  private final String                   shell;
+  private final String                   route;
+  private final String[]                 params;
+  private       String                   decodedHash;
+  
+  private RouteContext(String hash,
+                       Function<String, String> decoder,
+                       String shell,
+                       String route,
+                       String[] params) {
+    this.hash        = hash;
+    this.decoder     = decoder;
+    this.shell       = shell;
+    this.route       = route;
+    this.params      = params;
+  }
+  
+  /**
+   * Creates the context of a routing.
+   *
+   * @param hash        the hash
+   * @param decoder     the decoder of the hash
+   * @param routeResult the result of parsing the hash
+   * @return the context
+   */
+  public static RouteContext create(String hash,
+                                    Function<String, String> decoder,
+                                    RouteResult routeResult) {
+    String route = routeResult.getRoute();
+    return new RouteContext(hash,
+                            decoder,
+                            routeResult.getShell(),
+                            route.startsWith("/") ? route : "/" + route,
+                            routeResult.getParameterValues()
+                                       .toArray(new String[0]));
+  }
+  
+  public String getHash() {
+    return hash;
+  }
+  
+  public String getDecodedHash() {
+    if (Objects.isNull(this.decodedHash)) {
+      this.decodedHash = this.decoder.apply(this.hash);
+    }
+    return decodedHash;
+  }
+  
+  public String getShell() {
+    return shell;
+  }
+  
+  public String getRoute() {
+    return route;
+  }
+  
+  /**
+   * Returns a copy of the parameter values of the route.
+   *
+   * @return the parameter values
+   */
+  public String[] getParams() {
+    return params.clone();
+  }
+  
+  /**
+   * Returns the parameter value at the index.
+   *
+   * @param index index of the parameter
+   * @return the parameter value
+   */
+  public String getParam(int index) {
+    return params[index];
+  }
+  
+  /**
+   * Returns the number of parameter values.
+   *
+   * @return number of parameter values
+   */
+  public int getParamCount() {
+    return params.length;
+  }
+  
+}
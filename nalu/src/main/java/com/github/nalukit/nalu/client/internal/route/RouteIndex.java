@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Compiled index of the route configurations.
+ * <p>
+ * The index contains a segment trie. The first level of the trie
+ * is the shell, followed by the literal segments of the route.
+ * Parameters ('*') are stored in a separate wildcard node. Besides
+ * the trie, the index holds a map of all routes, keyed by shell and
+ * route without shell, to resolve exact matches.
+ * <p>
+ * Route configurations can only be appended. The index remembers
+ * the position of each route configuration inside the route list,
+ * so that a lookup returns the same configuration as a sequential
+ * scan of the list.
+ */
+class RouteIndex {
+
+  /* root of the segment trie */
+  private final Node                           root;
+  /* route configurations keyed by shell + route without shell */
+  private final Map<String, List<RouteConfig>> exactRoutes;
+  /* first added route configuration */
+  private       RouteConfig                    first;
+  /* number of indexed route configurations */
+  private       int                            size;
+
+  RouteIndex() {
+    this.root        = new Node();
+    this.exactRoutes = new HashMap<>();
+  }
+
+  /**
+   * Appends a route configuration to the index.
+   *
+   * @param routeConfig the route configuration to add
+   */
+  void add(RouteConfig routeConfig) {
+    int index = this.size++;
+    if (Objects.isNull(this.first)) {
+      this.first = routeConfig;
+    }
+    // trie
+    Node node = this.root;
+    node.visit(index);
+    for (String part : routeConfig.getSegments()) {
+      node = node.getOrCreateChild(part);
+      node.visit(index);
+    }
+    if (Objects.isNull(node.routeConfig)) {
+      node.index       = index;
+      node.routeConfig = routeConfig;
+    }
+    // exact routes
+    for (String shell : routeConfig.getShell()) {
+      this.exactRoutes.computeIfAbsent(shell + routeConfig.getRouteWithoutShell(),
+                                       k -> new ArrayList<>())
+                      .add(routeConfig);
+    }
+  }
+
+  /**
+   * Returns the number of indexed route configurations.
+   *
+   * @return number of route configurations
+   */
+  int size() {
+    return this.size;
+  }
+
+  /**
+   * Looks for the first route configuration, that matches the route
+   * (respecting parameters). The result is the same as calling
+   * {@link RouterUtils#match(String, String)} for every route configuration
+   * and taking the first that matches.
+   *
+   * @param partsOfRoute                 the parts of the route containing parameter values
+   * @param usingColonForParametersInUrl true, if parameters are prefixed with ':'
+   * @return the first matching route configuration or null
+   */
+  RouteConfig findFirstMatch(String[] partsOfRoute,
+                             boolean usingColonForParametersInUrl) {
+    // an empty route matches every route configuration
+    if (partsOfRoute.length == 0) {
+      return this.first;
+    }
+    Node node = this.search(this.root,
+                            partsOfRoute,
+                            0,
+                            usingColonForParametersInUrl,
+                            null);
+    return Objects.isNull(node) ? null : node.routeConfig;
+  }
+
+  /**
+   * Returns all route configurations, which shell and route without
+   * shell are equal to the shell and the route without shell of the
+   * hash. The result is the same as calling
+   * {@link RouteConfig#match(String)} for every route configuration.
+   *
+   * @param hash the hash to look for
+   * @return list of matching route configurations
+   */
+  List<RouteConfig> match(String hash) {
+    String value = hash;
+    if (value.startsWith("/")) {
+      value = value.substring(1);
+    }
+    List<RouteConfig> result = this.exactRoutes.get(value.contains("/") ? "/" + value : "/" + value + "/");
+    return Objects.isNull(result) ? new ArrayList<>() : new ArrayList<>(result);
+  }
+
+  private Node search(Node node,
+                      String[] partsOfRoute,
+                      int depth,
+                      boolean usingColonForParametersInUrl,
+                      Node best) {
+    // nothing inside this node can beat the best result
+    if (!Objects.isNull(best) && node.minIndex >= best.index) {
+      return best;
+    }
+    if (depth == partsOfRoute.length) {
+      // route is consumed, remaining segments of the configuration have to be parameters
+      for (Node n = node; !Objects.isNull(n); n = n.wildcard) {
+        if (!Objects.isNull(n.routeConfig)) {
+          if (Objects.isNull(best) || n.index < best.index) {
+            best = n;
+          }
+        }
+      }
+      return best;
+    }
+    String part = partsOfRoute[depth];
+    if (usingColonForParametersInUrl && part.startsWith(":")) {
+      // parameter in url ==> only wildcard matches
+      if (!Objects.isNull(node.wildcard)) {
+        best = this.search(node.wildcard,
+                           partsOfRoute,
+                           depth + 1,
+                           true,
+                           best);
+      }
+      return best;
+    }
+    Node literal = node.getChild(part);
+    if (!Objects.isNull(literal)) {
+      best = this.search(literal,
+                         partsOfRoute,
+                         depth + 1,
+                         usingColonForParametersInUrl,
+                         best);
+    }
+    if (!usingColonForParametersInUrl && !Objects.isNull(node.wildcard) && literal != node.wildcard) {
+      best = this.search(node.wildcard,
+                         partsOfRoute,
+                         depth + 1,
+                         false,
+                         best);
+    }
+    return best;
+  }
+
+  private static class Node {
+
+    /* literal child nodes (created on demand) */
+    private Map<String, Node> literals;
+    /* parameter child node */
+    private Node              wildcard;
+    /* lowest list index of all route configurations inside this subtree */
+    private int               minIndex = Integer.MAX_VALUE;
+    /* list index of the route configuration ending at this node */
+    private int               index    = Integer.MAX_VALUE;
+    /* first route configuration ending at this node */
+    private RouteConfig       routeConfig;
+
+    private void visit(int index) {
+      if (index < this.minIndex) {
+        this.minIndex = index;
+      }
+    }
+
+    private Node getChild(String part) {
+      if ("*".equals(part)) {
+        return this.wildcard;
+      }
+      return Objects.isNull(this.literals) ? null : this.literals.get(part);
+    }
+
+    private Node getOrCreateChild(String part) {
+      if ("*".equals(part)) {
+        if (Objects.isNull(this.wildcard)) {
+          this.wildcard = new Node();
+        }
+        return this.wildcard;
+      }
+      if (Objects.isNull(this.literals)) {
+        this.literals = new HashMap<>();
+      }
+      return this.literals.computeIfAbsent(part,
+                                           k -> new Node());
+    }
+
+  }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import java.util.Arrays;
+
+/**
+ * Key of a controller created ahead of the routing: class name of the
+ * controller, route and parameters.
+ * <p>
+ * The key is immutable and computes its hash code once.
+ */
+final class RouteKey {
+  
+  private final String   controllerClassName;
+  private final String   route;
+  private final String[] params;
+  private final int      hashCode;
+  
+  RouteKey(String controllerClassName,
+           String route,
+           String... params) {
+    this.controllerClassName = controllerClassName;
+    this.route               = route;
+    this.params              = params.clone();
+    this.hashCode            = 31 * (31 * controllerClassName.hashCode() + route.hashCode()) + Arrays.hashCode(this.params);
+  }
+  
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof RouteKey)) {
+      return false;
+    }
+    RouteKey that = (RouteKey) o;
+    return this.hashCode == that.hashCode &&
+           this.controllerClassName.equals(that.controllerClassName) &&
+           this.route.equals(that.route) &&
+           Arrays.equals(this.params,
+                         that.params);
+  }
+  
+  @Override
+  public int hashCode() {
+    return this.hashCode;
+  }
+  
+}
@@ -1,30 +1,223 @@
 package com.github.nalukit.nalu.client.internal.route;
 
-import com.github.nalukit.nalu.client.Nalu;
 import com.github.nalukit.nalu.client.application.event.LogEvent;
+import com.github.nalukit.nalu.client.internal.PropertyFactory;
+import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
+import com.github.nalukit.nalu.client.internal.application.ApplicationScope;
 import org.gwtproject.event.shared.SimpleEventBus;
 
 import java.util.Objects;
-import java.util.Optional;
-import java.util.stream.Stream;
+import java.util.function.Function;
 
 public class RouteParser {
   
-  private static RouteParser instance = new RouteParser();
+  /* properties of the application (parameter style) */
+  private final PropertyFactory propertyFactory;
   
   private SimpleEventBus eventBus;
   
-  private RouteParser() {
+  /* parse result cache - null, if caching is disabled */
+  private RouteResultCache cache;
+  
+  /* rejected hashes - null, if the negative cache is disabled */
+  private RejectedHashCache rejectedHashes = new RejectedHashCache(RejectedHashCache.DEFAULT_SIZE);
+  
+  /* shell configuration used to create the cached results */
+  private ShellConfiguration cachedShellConfiguration;
+  
+  /* version of the shell configuration used to create the cached results */
+  private int cachedShellConfigurationVersion;
+  
+  /* router configuration used to create the cached results */
+  private RouterConfiguration cachedRouterConfiguration;
+  
+  /* version of the router configuration used to create the cached results */
+  private int cachedRouterConfigurationVersion;
+  
+  /* parameter style used to create the cached results */
+  private boolean cachedUsingColonForParametersInUrl;
+  
+  @NaluInternalUse
+  public RouteParser(PropertyFactory propertyFactory) {
+    this.propertyFactory = propertyFactory;
   }
   
   public static RouteParser get() {
-    return instance;
+    return ApplicationScope.getDefault()
+                           .getRouteParser();
   }
   
   public void setEventBus(SimpleEventBus eventBus) {
     this.eventBus = eventBus;
   }
   
+  /**
+   * Enables the parse result cache. The cache keeps the results of the
+   * last recently used hashes. Setting a size less than 1 disables the
+   * cache.
+   * <p>
+   * Changing the size of the cache will drop all cached results and
+   * reset the counters.
+   *
+   * @param maximumSize maximum number of cached parse results
+   */
+  public void setCacheSize(int maximumSize) {
+    this.cache = maximumSize > 0 ? new RouteResultCache(maximumSize) : null;
+  }
+  
+  /**
+   * Returns the maximum number of cached parse results.
+   *
+   * @return maximum size of the cache, 0 if the cache is disabled
+   */
+  public int getCacheSize() {
+    return Objects.isNull(this.cache) ? 0 : this.cache.getMaximumSize();
+  }
+  
+  /**
+   * Returns the number of parse results found in the cache.
+   *
+   * @return number of cache hits
+   */
+  public long getCacheHits() {
+    return Objects.isNull(this.cache) ? 0 : this.cache.getHits();
+  }
+  
+  /**
+   * Returns the number of hashes that needs to be parsed, because
+   * the parse result was not cached.
+   *
+   * @return number of cache misses
+   */
+  public long getCacheMisses() {
+    return Objects.isNull(this.cache) ? 0 : this.cache.getMisses();
+  }
+  
+  /**
+   * Returns the number of parse results that were removed from the cache
+   * to make room for new results.
+   *
+   * @return number of evictions
+   */
+  public long getCacheEvictions() {
+    return Objects.isNull(this.cache) ? 0 : this.cache.getEvictions();
+  }
+  
+  /**
+   * Sets the number of rejected hashes, that are remembered. A hash, that
+   * could not be parsed, will be rejected again without parsing it. Setting
+   * a size less than 1 disables the negative cache.
+   *
+   * @param maximumSize maximum number of remembered rejected hashes
+   */
+  public void setRejectedHashCacheSize(int maximumSize) {
+    this.rejectedHashes = maximumSize > 0 ? new RejectedHashCache(maximumSize) : null;
+  }
+  
+  /**
+   * Returns the maximum number of remembered rejected hashes.
+   *
+   * @return maximum size of the negative cache, 0 if it is disabled
+   */
+  public int getRejectedHashCacheSize() {
+    return Objects.isNull(this.rejectedHashes) ? 0 : this.rejectedHashes.getMaximumSize();
+  }
+  
+  /**
+   * Returns the number of hashes rejected without parsing them.
+   *
+   * @return number of negative cache hits
+   */
+  public long getRejectedHashCacheHits() {
+    return Objects.isNull(this.rejectedHashes) ? 0 : this.rejectedHashes.getHits();
+  }
+  
+  /**
+   * Removes all cached parse results and rejected hashes.
+   * <p>
+   * Changes of the shell or route configuration are detected
+   * automatically.
+   */
+  public void invalidateCache() {
+    if (!Objects.isNull(this.cache)) {
+      this.cache.clear();
+    }
+    if (!Objects.isNull(this.rejectedHashes)) {
+      this.rejectedHashes.clear();
+    }
+  }
+  
+  /**
+   * Decodes and parses the hash. In case the cache is enabled, the parse
+   * result is looked up with the raw (not decoded) hash first. Hashes, that
+   * were rejected before, are rejected without parsing them again.
+   *
+   * @param hash                the raw hash to parse
+   * @param decoder             function to decode the hash
+   * @param shellConfiguration  the shell configuration
+   * @param routerConfiguration the router configuration
+   * @return parse result
+   * @throws com.github.nalukit.nalu.client.internal.route.RouterException in case no controller is found for the routing
+   */
+  RouteResult parse(String hash,
+                    Function<String, String> decoder,
+                    ShellConfiguration shellConfiguration,
+                    RouterConfiguration routerConfiguration)
+      throws RouterException {
+    if (Objects.isNull(this.cache) && Objects.isNull(this.rejectedHashes)) {
+      return this.parse(decoder.apply(hash),
+                        shellConfiguration,
+                        routerConfiguration);
+    }
+    this.validateCaches(shellConfiguration,
+                        routerConfiguration);
+    if (!Objects.isNull(this.rejectedHashes)) {
+      String message = this.rejectedHashes.get(hash);
+      if (!Objects.isNull(message)) {
+        this.eventBus.fireEvent(LogEvent.create()
+                                        .sdmOnly(true)
+                                        .addMessage(message));
+        throw new RouterException(message);
+      }
+    }
+    RouteResult routeResult = Objects.isNull(this.cache) ? null : this.cache.get(hash);
+    if (Objects.isNull(routeResult)) {
+      try {
+        routeResult = this.parse(decoder.apply(hash),
+                                 shellConfiguration,
+                                 routerConfiguration);
+      } catch (RouterException e) {
+        if (!Objects.isNull(this.rejectedHashes)) {
+          this.rejectedHashes.put(hash,
+                                  e.getMessage());
+        }
+        throw e;
+      }
+      if (!Objects.isNull(this.cache)) {
+        this.cache.put(hash,
+                       routeResult);
+      }
+    }
+    return routeResult;
+  }
+  
+  /* results of other or changed configurations are useless ... */
+  private void validateCaches(ShellConfiguration shellConfiguration,
+                              RouterConfiguration routerConfiguration) {
+    if (this.cachedShellConfiguration != shellConfiguration ||
+        this.cachedShellConfigurationVersion != shellConfiguration.getVersion() ||
+        this.cachedRouterConfiguration != routerConfiguration ||
+        this.cachedRouterConfigurationVersion != routerConfiguration.getVersion() ||
+        this.cachedUsingColonForParametersInUrl != this.propertyFactory.isUsingColonForParametersInUrl()) {
+      this.invalidateCache();
+      this.cachedShellConfiguration           = shellConfiguration;
+      this.cachedShellConfigurationVersion    = shellConfiguration.getVersion();
+      this.cachedRouterConfiguration          = routerConfiguration;
+      this.cachedRouterConfigurationVersion   = routerConfiguration.getVersion();
+      this.cachedUsingColonForParametersInUrl = this.propertyFactory.isUsingColonForParametersInUrl();
+    }
+  }
+  
   /**
    * Parse the hash and divides it into shellCreator, route and parameters
    *
@@ -56,13 +249,9 @@ public class RouteParser {
       routeResult.setShell("/" + routeValue);
     }
     // check, if the shellCreator exists ....
-    Optional<String> optional = shellConfiguration.getShells()
-                                                  .stream()
-                                                  .map(ShellConfig::getRoute)
-                                                  .filter(f -> f.equals(routeResult.getShell()))
-                                                  .findAny();
-    if (optional.isPresent()) {
-      routeResult.setShell(optional.get());
+    ShellConfig shellConfig = shellConfiguration.findShell(routeResult.getShell());
+    if (!Objects.isNull(shellConfig)) {
+      routeResult.setShell(shellConfig.getRoute());
     } else {
       StringBuilder sb = new StringBuilder();
       sb.append("no matching shellCreator found for route >>")
@@ -79,30 +268,19 @@ public class RouteParser {
       routeValue = routeValue.substring(1);
     }
     if (routeValue.contains("/")) {
-      String searchRoute = routeValue;
-      Optional<RouteConfig> optionalRouterConfig = routerConfiguration.getRouters()
-                                                                      .stream()
-                                                                      .filter(rc -> Nalu.match(searchRoute,
-                                                                                               rc.getRoute()))
-                                                                      .findFirst();
-      if (optionalRouterConfig.isPresent()) {
-        routeResult.setRoute(optionalRouterConfig.get()
-                                                 .getRoute());
-        if (routeResult.getRoute()
-                       .contains("*")) {
-          String[] partsOfRoute = routeValue.split("/");
-          String compareRoute = optionalRouterConfig.get()
-                                                    .getRoute();
-          if (compareRoute.startsWith("/")) {
-            compareRoute = compareRoute.substring(1);
-          }
-          String[] partsOfRouteFromConfiguration = compareRoute.split("/");
+      RouteConfig routeConfig = routerConfiguration.findFirstMatch(routeValue,
+                                                                   this.propertyFactory.isUsingColonForParametersInUrl());
+      if (!Objects.isNull(routeConfig)) {
+        routeResult.setRoute(routeConfig.getRoute());
+        if (routeConfig.getNumberOfParameters() > 0) {
+          String[] partsOfRoute                  = routeValue.split("/");
+          String[] partsOfRouteFromConfiguration = routeConfig.getSegments();
           for (int i = 0; i < partsOfRouteFromConfiguration.length; i++) {
             if (partsOfRouteFromConfiguration[i].equals("*")) {
               if (partsOfRoute.length - 1 >= i) {
                 String parameterValue = partsOfRoute[i].replace(RouterConstants.NALU_SLASH_REPLACEMENT,
                                                                 "/");
-                if (Nalu.isUsingColonForParametersInUrl()) {
+                if (this.propertyFactory.isUsingColonForParametersInUrl()) {
                   if (parameterValue.length() > 0) {
                     if (parameterValue.startsWith(":")) {
                       parameterValue = parameterValue.substring(1);
@@ -130,9 +308,8 @@ public class RouteParser {
       }
     } else {
       String finalSearchPart = "/" + routeValue;
-      if (routerConfiguration.getRouters()
-                             .stream()
-                             .anyMatch(f -> f.match(finalSearchPart))) {
+      if (routerConfiguration.match(finalSearchPart)
+                             .size() > 0) {
         routeResult.setRoute("/" + routeValue);
       } else {
         StringBuilder sb = new StringBuilder();
@@ -160,67 +337,27 @@ public class RouteParser {
    */
   String generate(String route,
                   String... params) {
-    StringBuilder sb         = new StringBuilder();
-    String        routeValue = route;
-    if (routeValue.startsWith("/")) {
-      routeValue = routeValue.substring(1);
-    }
-    String[] partsOfRoute = routeValue.split("/");
-    
-    int parameterIndex = 0;
-    for (String s : partsOfRoute) {
-      sb.append("/");
-      if ("*".equals(s) || s.startsWith(":")) {
-        if (Nalu.isUsingColonForParametersInUrl()) {
-          sb.append(":");
-        }
-        if (params.length - 1 >= parameterIndex) {
-          sb.append(params[parameterIndex].replace("/",
-                                                   RouterConstants.NALU_SLASH_REPLACEMENT));
-          parameterIndex++;
-        }
-      } else {
-        sb.append(s);
-      }
-    }
-    
-    // in case there are more parameters then placesholders, we add them add the end!
-    long numberOfPlaceHolders = Stream.of(partsOfRoute)
-                                      .filter(s -> "*".equals(s) || s.startsWith(":"))
-                                      .count();
-    if (params.length > numberOfPlaceHolders) {
-      String sbExeption = "Warning: route >>" + route + "<< has less parameter placeholder >>" + numberOfPlaceHolders + "<< than the number of parameters in the list of parameters >>" + params.length + "<< --> adding Parameters add the end of the url";
+    return this.generate(RouteTemplate.compile(route),
+                         params);
+  }
+  
+  /**
+   * Generates a new route using a compiled route template.
+   *
+   * @param routeTemplate template of the route to navigate to
+   * @param params        parameters of the route
+   * @return generate String of new route
+   */
+  String generate(RouteTemplate routeTemplate,
+                  String... params) {
+    if (params.length > routeTemplate.getNumberOfParameters()) {
+      String sbExeption = "Warning: route >>" + routeTemplate.getRoute() + "<< has less parameter placeholder >>" + routeTemplate.getNumberOfParameters() + "<< than the number of parameters in the list of parameters >>" + params.length + "<< --> adding Parameters add the end of the url";
       this.eventBus.fireEvent(LogEvent.create()
                                       .sdmOnly(true)
                                       .addMessage(sbExeption));
-      for (int i = parameterIndex; i < params.length; i++) {
-        sb.append("/");
-        if (Nalu.isUsingColonForParametersInUrl()) {
-          sb.append(":");
-        }
-        if (!Objects.isNull(params[parameterIndex])) {
-          sb.append(params[parameterIndex].replace("/",
-                                                   RouterConstants.NALU_SLASH_REPLACEMENT));
-        } else {
-          sb.append("null");
-        }
-        parameterIndex++;
-      }
-    }
-    
-    // remove leading '/'
-    String generatedRoute = sb.toString();
-    if (generatedRoute.startsWith("/")) {
-      generatedRoute = generatedRoute.substring(1);
-    }
-    StringBuilder parameters = new StringBuilder();
-    for (int i = 0; i < params.length; i++) {
-      parameters.append(params[i]);
-      if (i < params.length - 1) {
-        parameters.append(",");
-      }
     }
-    return generatedRoute;
+    return routeTemplate.generate(this.propertyFactory.isUsingColonForParametersInUrl(),
+                                  params);
   }
   
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Bounded LRU cache of parse results, keyed by the raw hash.
+ * <p>
+ * The cache stores immutable snapshots of the route results. Every
+ * hit creates a new route result, so that callers can not change
+ * the cached values.
+ */
+class RouteResultCache {
+
+  /* maximum number of cached route results */
+  private final int                   maximumSize;
+  /* cached route results - access ordered */
+  private final Map<String, Snapshot> entries;
+  /* number of cache hits */
+  private       long                  hits;
+  /* number of cache misses */
+  private       long                  misses;
+  /* number of evicted route results */
+  private       long                  evictions;
+
+  RouteResultCache(int maximumSize) {
+    this.maximumSize = maximumSize;
+    this.entries     = new LinkedHashMap<String, Snapshot>(16,
+                                                           0.75f,
+                                                           true) {
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Snapshot> eldest) {
+        if (size() > RouteResultCache.this.maximumSize) {
+          RouteResultCache.this.evictions++;
+          return true;
+        }
+        return false;
+      }
+
+    };
+  }
+
+  /**
+   * Returns a copy of the cached route result.
+   *
+   * @param hash the raw hash
+   * @return copy of the cached route result or null, if the hash is not cached
+   */
+  RouteResult get(String hash) {
+    Snapshot snapshot = this.entries.get(hash);
+    if (Objects.isNull(snapshot)) {
+      this.misses++;
+      return null;
+    }
+    this.hits++;
+    return snapshot.toRouteResult();
+  }
+
+  /**
+   * Stores a snapshot of the route result.
+   *
+   * @param hash        the raw hash
+   * @param routeResult the route result of the hash
+   */
+  void put(String hash,
+           RouteResult routeResult) {
+    this.entries.put(hash,
+                     new Snapshot(routeResult));
+  }
+
+  /**
+   * Removes all cached route results. The counters will not be reset.
+   */
+  void clear() {
+    this.entries.clear();
+  }
+
+  int size() {
+    return this.entries.size();
+  }
+
+  int getMaximumSize() {
+    return this.maximumSize;
+  }
+
+  long getHits() {
+    return this.hits;
+  }
+
+  long getMisses() {
+    return this.misses;
+  }
+
+  long getEvictions() {
+    return this.evictions;
+  }
+
+  private static class Snapshot {
+
+    private final String   shell;
+    private final String   route;
+    private final String[] parameterValues;
+
+    private Snapshot(RouteResult routeResult) {
+      this.shell           = routeResult.getShell();
+      this.route           = routeResult.getRoute();
+      this.parameterValues = routeResult.getParameterValues()
+                                        .toArray(new String[0]);
+    }
+
+    private RouteResult toRouteResult() {
+      return new RouteResult(this.shell,
+                             this.route,
+                             new ArrayList<>(Arrays.asList(this.parameterValues)));
+    }
+
+  }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Compiled route used to generate a hash.
+ * <p>
+ * The template consists of the literal chunks of the route. Between two
+ * chunks a parameter value is inserted. F.e.: the route
+ * '/app/person/*&#47;edit' is compiled into the chunks 'app/person/' and '/edit'.
+ * <p>
+ * Templates are created by the processor for all declared routes. Other
+ * routes are compiled on demand.
+ */
+@NaluInternalUse
+public class RouteTemplate {
+  
+  /* the route of the template */
+  private final String   route;
+  /* literal chunks - there is a parameter between two chunks */
+  private final String[] chunks;
+  /* length of all chunks */
+  private final int      length;
+  
+  public RouteTemplate(String route,
+                       String[] chunks) {
+    this.route  = route;
+    this.chunks = chunks;
+    int length = 0;
+    for (String chunk : chunks) {
+      length += chunk.length();
+    }
+    this.length = length;
+  }
+  
+  /**
+   * Compiles a route into a template.
+   * <p>
+   * Parts of the route, that are '*' or start with ':', are parameters.
+   *
+   * @param route the route to compile
+   * @return the template
+   */
+  public static RouteTemplate compile(String route) {
+    String routeValue = route;
+    if (routeValue.startsWith("/")) {
+      routeValue = routeValue.substring(1);
+    }
+    List<String>  chunks = new ArrayList<>();
+    StringBuilder sb     = new StringBuilder();
+    String[]      parts  = routeValue.split("/");
+    for (int i = 0; i < parts.length; i++) {
+      if (i > 0) {
+        sb.append("/");
+      }
+      if ("*".equals(parts[i]) || parts[i].startsWith(":")) {
+        chunks.add(sb.toString());
+        sb.setLength(0);
+      } else {
+        sb.append(parts[i]);
+      }
+    }
+    chunks.add(sb.toString());
+    return new RouteTemplate(route,
+                             chunks.toArray(new String[0]));
+  }
+  
+  public String getRoute() {
+    return route;
+  }
+  
+  public String[] getChunks() {
+    return chunks;
+  }
+  
+  /**
+   * Returns the number of parameters of the template.
+   *
+   * @return number of parameters
+   */
+  public int getNumberOfParameters() {
+    return this.chunks.length - 1;
+  }
+  
+  /**
+   * Generates the hash (without leading '/').
+   * <p>
+   * Missing parameter values are left empty. In case there are more parameter
+   * values than parameters, the values are added at the end of the hash.
+   *
+   * @param usingColonForParametersInUrl true, if parameters are prefixed with ':'
+   * @param params                       parameter values
+   * @return the generated hash
+   */
+  public String generate(boolean usingColonForParametersInUrl,
+                         String... params) {
+    int capacity = this.length + (usingColonForParametersInUrl ? params.length + this.chunks.length : 0);
+    for (String param : params) {
+      capacity += Objects.isNull(param) ? 5 : param.length();
+    }
+    if (params.length > this.getNumberOfParameters()) {
+      capacity += params.length - this.getNumberOfParameters();
+    }
+    StringBuilder sb = new StringBuilder(capacity);
+    sb.append(this.chunks[0]);
+    for (int i = 1; i < this.chunks.length; i++) {
+      if (usingColonForParametersInUrl) {
+        sb.append(":");
+      }
+      if (params.length >= i) {
+        sb.append(params[i - 1].replace("/",
+                                        RouterConstants.NALU_SLASH_REPLACEMENT));
+      }
+      sb.append(this.chunks[i]);
+    }
+    // in case there are more parameters then placeholders, we add them add the end!
+    for (int i = this.getNumberOfParameters(); i < params.length; i++) {
+      sb.append("/");
+      if (usingColonForParametersInUrl) {
+        sb.append(":");
+      }
+      if (!Objects.isNull(params[i])) {
+        sb.append(params[i].replace("/",
+                                    RouterConstants.NALU_SLASH_REPLACEMENT));
+      } else {
+        sb.append("null");
+      }
+    }
+    return sb.toString();
+  }
+  
+}
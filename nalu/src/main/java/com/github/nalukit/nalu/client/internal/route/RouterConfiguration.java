@@ -19,8 +19,10 @@ package com.github.nalukit.nalu.client.internal.route;
 import com.github.nalukit.nalu.client.filter.IsFilter;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
 
 public class RouterConfiguration {
   
@@ -28,11 +30,36 @@ public class RouterConfiguration {
   
   private List<IsFilter> filters;
   
+  /* filters limited to route patterns */
+  private FilterIndex filterIndex;
+  
+  /* compiled index of the routers - null, in case it needs to be rebuild */
+  private RouteIndex routeIndex;
+  
+  /* generated route matchers - in the order of the routes they are covering */
+  private List<IsRouteMatcher> routeMatchers;
+  
+  /* number of routes covered by the route matchers */
+  private int numberOfMatchedRoutes;
+  
+  /* incremented with every change of the list */
+  private int version;
+  
+  /* compiled route templates of the declared routes keyed by route */
+  private Map<String, RouteTemplate> routeTemplates;
+  
+  /* number of routes with a compiled template */
+  private int numberOfTemplatedRoutes;
+  
   public RouterConfiguration() {
     super();
     
-    this.routers = new ArrayList<>();
-    this.filters = new ArrayList<>();
+    this.routers        = new ConfigList<>(() -> this.version++,
+                                           this::invalidate);
+    this.filters        = new ArrayList<>();
+    this.filterIndex    = new FilterIndex();
+    this.routeMatchers  = new ArrayList<>();
+    this.routeTemplates = new HashMap<>();
   }
   
   public List<RouteConfig> getRouters() {
@@ -43,10 +70,178 @@ public class RouterConfiguration {
     return filters;
   }
   
+  /**
+   * Adds a filter, that is only applied to routes matching one of
+   * the route patterns.
+   * <p>
+   * A pattern matches the route itself and all routes below the pattern.
+   * In case there is no pattern, the filter is applied to all routes.
+   *
+   * @param filter the filter
+   * @param routes the route patterns of the filter
+   */
+  public void addFilter(IsFilter filter,
+                        String... routes) {
+    if (routes.length == 0) {
+      this.filters.add(filter);
+    } else {
+      this.filterIndex.add(filter,
+                           routes);
+    }
+  }
+  
+  /**
+   * Returns the filters to apply to the route: the filters without route
+   * patterns followed by the filters with a pattern matching the route.
+   *
+   * @param route the route (with '*' as placeholder for parameters)
+   * @return list of filters to apply
+   */
+  public List<IsFilter> getFilters(String route) {
+    if (this.filterIndex.isEmpty()) {
+      return this.filters;
+    }
+    List<IsFilter> routeFilters = this.filterIndex.match(route);
+    if (routeFilters.isEmpty()) {
+      return this.filters;
+    }
+    if (this.filters.isEmpty()) {
+      return routeFilters;
+    }
+    List<IsFilter> list = new ArrayList<>(this.filters);
+    list.addAll(routeFilters);
+    return list;
+  }
+  
   public List<RouteConfig> match(String hash) {
-    return this.routers.stream()
-                       .filter(routeConfig -> routeConfig.match(hash))
-                       .collect(Collectors.toList());
+    return this.getRouteIndex()
+               .match(hash);
+  }
+  
+  /**
+   * Returns the first route configuration that matches the route
+   * (respecting parameters).
+   * <p>
+   * The result is the same as calling
+   * {@link RouterUtils#match(String, String, boolean, boolean)} for each
+   * route configuration and taking the first that matches.
+   *
+   * @param route                        the route containing parameter values
+   * @param usingColonForParametersInUrl true, if the application uses colons to mark parameters
+   * @return first matching route configuration or null, if there is no matching route
+   */
+  public RouteConfig findFirstMatch(String route,
+                                    boolean usingColonForParametersInUrl) {
+    String[] partsOfRoute = RouterUtils.get()
+                                       .split(route);
+    // ask the generated matchers first ...
+    int offset = 0;
+    for (IsRouteMatcher routeMatcher : this.routeMatchers) {
+      int routeId = routeMatcher.match(partsOfRoute,
+                                       usingColonForParametersInUrl);
+      if (routeId != IsRouteMatcher.NO_MATCH) {
+        return this.routers.get(offset + routeId);
+      }
+      offset = offset + routeMatcher.getRoutes().length;
+    }
+    if (offset == this.routers.size()) {
+      return null;
+    }
+    // ... and use the index for routes not covered by a matcher
+    return this.getRouteIndex()
+               .findFirstMatch(partsOfRoute,
+                               usingColonForParametersInUrl);
+  }
+  
+  /**
+   * Registers a generated route matcher for the last added routes.
+   * <p>
+   * The matcher is only used, in case its routes are the last added routes and
+   * directly follow the routes of the already registered matchers. Otherwise
+   * the routes are handled by the route index.
+   *
+   * @param routeMatcher the generated route matcher
+   */
+  public void registerRouteMatcher(IsRouteMatcher routeMatcher) {
+    if (Objects.isNull(routeMatcher)) {
+      return;
+    }
+    // templates do not depend on the order of the routes
+    for (RouteTemplate routeTemplate : routeMatcher.getRouteTemplates()) {
+      if (!this.routeTemplates.containsKey(routeTemplate.getRoute())) {
+        this.routeTemplates.put(routeTemplate.getRoute(),
+                                routeTemplate);
+      }
+    }
+    String[] routes = routeMatcher.getRoutes();
+    int      offset = this.routers.size() - routes.length;
+    if (offset != this.numberOfMatchedRoutes) {
+      return;
+    }
+    for (int i = 0; i < routes.length; i++) {
+      if (!routes[i].equals(this.routers.get(offset + i)
+                                        .getRoute())) {
+        return;
+      }
+    }
+    this.routeMatchers.add(routeMatcher);
+    this.numberOfMatchedRoutes = this.routers.size();
+  }
+  
+  /**
+   * Returns the compiled template of the route.
+   * <p>
+   * Only the templates of the declared routes are cached. A route, that
+   * is not declared, gets compiled with every call.
+   *
+   * @param route the route containing '*' instead of parameter values
+   * @return the route template
+   */
+  public RouteTemplate getRouteTemplate(String route) {
+    // compile the templates of new added routes ...
+    for (int i = this.numberOfTemplatedRoutes; i < this.routers.size(); i++) {
+      this.routeTemplates.computeIfAbsent(this.routers.get(i)
+                                                      .getRoute(),
+                                          RouteTemplate::compile);
+    }
+    this.numberOfTemplatedRoutes = this.routers.size();
+    RouteTemplate routeTemplate = this.routeTemplates.get(route);
+    if (Objects.isNull(routeTemplate)) {
+      return RouteTemplate.compile(route);
+    }
+    return routeTemplate;
+  }
+  
+  private RouteIndex getRouteIndex() {
+    if (Objects.isNull(this.routeIndex) || this.routeIndex.size() > this.routers.size()) {
+      this.routeIndex = new RouteIndex();
+    }
+    // index new added routes ...
+    for (int i = this.routeIndex.size(); i < this.routers.size(); i++) {
+      this.routeIndex.add(this.routers.get(i));
+    }
+    return this.routeIndex;
+  }
+  
+  /**
+   * Returns the version of the configuration. The version changes
+   * with every change of the list.
+   *
+   * @return version of the configuration
+   */
+  int getVersion() {
+    return this.version;
+  }
+  
+  private void invalidate() {
+    this.version++;
+    this.routeIndex = null;
+    // the route matchers no longer match the list of routes
+    this.routeMatchers.clear();
+    this.numberOfMatchedRoutes = 0;
+    // the templates might belong to removed routes
+    this.routeTemplates.clear();
+    this.numberOfTemplatedRoutes = 0;
   }
   
 }
@@ -17,6 +17,7 @@
 package com.github.nalukit.nalu.client.internal.route;
 
 import com.github.nalukit.nalu.client.internal.CompositeControllerReference;
+import com.github.nalukit.nalu.client.internal.application.ApplicationScope;
 import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin;
 import com.github.nalukit.nalu.client.tracker.IsTracker;
 
@@ -37,7 +38,36 @@ public final class RouterImpl
                     boolean usingColonForParametersInUrl,
                     boolean stayOnSide,
                     boolean removeUrlParameterAtStart) {
-    super(compositeControllerReferences,
+    this(ApplicationScope.getDefault(),
+         plugin,
+         shellConfiguration,
+         routerConfiguration,
+         compositeControllerReferences,
+         tracker,
+         startRoute,
+         illegalRouteTarget,
+         hasHistory,
+         usingHash,
+         usingColonForParametersInUrl,
+         stayOnSide,
+         removeUrlParameterAtStart);
+  }
+  
+  public RouterImpl(ApplicationScope applicationScope,
+                    IsNaluProcessorPlugin plugin,
+                    ShellConfiguration shellConfiguration,
+                    RouterConfiguration routerConfiguration,
+                    List<CompositeControllerReference> compositeControllerReferences,
+                    IsTracker tracker,
+                    String startRoute,
+                    String illegalRouteTarget,
+                    boolean hasHistory,
+                    boolean usingHash,
+                    boolean usingColonForParametersInUrl,
+                    boolean stayOnSide,
+                    boolean removeUrlParameterAtStart) {
+    super(applicationScope,
+          compositeControllerReferences,
           shellConfiguration,
           routerConfiguration,
           plugin,
@@ -1,7 +1,5 @@
 package com.github.nalukit.nalu.client.internal.route;
 
-import com.github.nalukit.nalu.client.Nalu;
-
 import java.util.Objects;
 
 public class RouterUtils {
@@ -28,145 +26,92 @@ public class RouterUtils {
    * Comparing route '/app/person/3/edit/ with '/app/person/*&#47;/*&#47;'
    * will return true.
    *
-   * @param route     the route containing parameter values instead of '*'
-   * @param withRoute the compare route which has no parameter values and uses '*' instead
-   * @return true the routes matches or false in case not
-   */
-  public boolean match(String route,
-                       String withRoute) {
-    return RouterUtils.get()
-                      .match(route,
-                             withRoute,
-                             false);
-  }
-  
-  /**
-   * This method compares the route with the value of withRoute respecting parameters.
-   *
-   * <ul>
-   * <li>the route can contain parameter values</li>
-   * <li>the withRoute should contain '*' instead of parameter values</li>
-   * </ul>
-   * <p>
-   * Comparing route '/app/person/3/edit/ with '/app/person/*&#47;edit'
-   * will return true
-   * <p>
-   * Comparing route '/app/person/3/edit/ with '/app/person/edit/*&#47;'
-   * will return false.
-   * <p>
-   * Comparing route '/app/person/3/edit/ with '/app/person/*&#47;/*&#47;'
-   * will return true.
-   *
-   * @param route     the route containing parameter values instead of '*'
-   * @param withRoute the compare route which has no parameter values and uses '*' instead
-   * @param exact     if true, routes must match exactly
+   * @param route                        the route containing parameter values instead of '*'
+   * @param withRoute                    the compare route which has no parameter values and uses '*' instead
+   * @param exact                        if true, routes must match exactly
+   * @param usingColonForParametersInUrl true, if the application uses colons to mark parameters
    * @return true the routes matches or false in case not
    */
   public boolean match(String route,
                        String withRoute,
-                       boolean exact) {
-    String[] partsOfRoute = RouterUtils.get()
-                                       .split(route);
-    String[] partsOfWithRoute = RouterUtils.get()
-                                           .split(withRoute);
-    
+                       boolean exact,
+                       boolean usingColonForParametersInUrl) {
+    // the routes are compared in place, without splitting them:
+    // segments are walked by index and compared using regionMatches
+    int routeStart         = this.getStart(route);
+    int routeEnd           = this.getEnd(route,
+                                         routeStart);
+    int withRouteStart     = this.getStart(withRoute);
+    int withRouteEnd       = this.getEnd(withRoute,
+                                         withRouteStart);
+    int numberOfRouteParts = this.getNumberOfParts(route,
+                                                   routeStart,
+                                                   routeEnd);
+    int numberOfWithRouteParts = this.getNumberOfParts(withRoute,
+                                                       withRouteStart,
+                                                       withRouteEnd);
     // in case route has more parts than withRoute, return false
-    if (partsOfRoute.length > partsOfWithRoute.length) {
+    if (numberOfRouteParts > numberOfWithRouteParts) {
       return false;
     }
     // if numbers of parts not equal ==> routes do not match!
     if (exact) {
-      if (partsOfRoute.length != partsOfWithRoute.length) {
+      if (numberOfRouteParts != numberOfWithRouteParts) {
         return false;
       }
     }
-    // check if colons are used inside the url
-    if (Nalu.isUsingColonForParametersInUrl()) {
-      for (int i = 0; i < partsOfRoute.length; i++) {
-        if (partsOfRoute[i].startsWith(":")) {
-          if (partsOfWithRoute.length > i) {
-            if (!"*".equals(partsOfWithRoute[i])) {
-              return false;
-            }
-          } else {
+    // an empty route matches everything
+    if (numberOfRouteParts == 0) {
+      return true;
+    }
+    // compare the parts!
+    int routePosition     = routeStart;
+    int withRoutePosition = withRouteStart;
+    for (int i = 0; i < numberOfRouteParts; i++) {
+      int routePartEnd = this.getEndOfPart(route,
+                                           routePosition,
+                                           routeEnd);
+      int withRoutePartEnd = this.getEndOfPart(withRoute,
+                                               withRoutePosition,
+                                               withRouteEnd);
+      boolean parameter = this.isParameter(withRoute,
+                                           withRoutePosition,
+                                           withRoutePartEnd);
+      boolean equal = routePartEnd - routePosition == withRoutePartEnd - withRoutePosition &&
+                      route.regionMatches(routePosition,
+                                          withRoute,
+                                          withRoutePosition,
+                                          routePartEnd - routePosition);
+      // check if colons are used inside the url
+      if (usingColonForParametersInUrl) {
+        if (routePartEnd > routePosition && route.charAt(routePosition) == ':') {
+          if (!parameter) {
             return false;
           }
         } else {
-          if (partsOfWithRoute.length > i) {
-            if (!partsOfRoute[i].equals(partsOfWithRoute[i])) {
-              return false;
-            }
-          } else {
+          if (!equal) {
             return false;
           }
         }
-        if (partsOfRoute.length - 1 == i) {
-          if (partsOfWithRoute.length > partsOfRoute.length) {
-            return RouterUtils.get()
-                              .onlyParameterAddEnd(partsOfWithRoute,
-                                                   i + 1);
-          }
+      } else {
+        if (!equal && !parameter) {
+          return false;
         }
       }
-      //
-      //      for (int i = 0; i < partsOfWithRoute.length; i++) {
-      //        if (partsOfRoute.length < i + 1) {
-      //          return RouterUtils.onlyParameterAddEnd(partsOfWithRoute,
-      //                                                 i);
-      //        }
-      //        // check if partsOfRoute[i] startsWith ':' ==> partOfWithRoute[i] must be '*'
-      //        if (Nalu.isUsingColonForParametersInUrl()) {
-      //          if (partsOfRoute[i].startsWith(":")) {
-      //            if (!"*".equals(partsOfWithRoute[i])) {
-      //              return false;
-      //            }
-      //          } else {
-      //            if (!partsOfWithRoute[i].equals(partsOfRoute[i])) {
-      //              return false;
-      //            }
-      //          }
-      //        } else {
-      //          if (!partsOfWithRoute[i].equals(partsOfRoute[i])) {
-      //            if (!"*".equals(partsOfWithRoute[i])) {
-      //              return false;
-      //            }
-      //          }
-      //        }
-    } else {
-      // compare the parts!
-      for (int i = 0; i < partsOfRoute.length; i++) {
-        if (!partsOfWithRoute[i].equals(partsOfRoute[i])) {
-          if (!"*".equals(partsOfWithRoute[i])) {
-            return false;
-          }
-        }
-        if (partsOfRoute.length - 1 == i) {
-          if (partsOfWithRoute.length > partsOfRoute.length) {
-            return RouterUtils.get()
-                              .onlyParameterAddEnd(partsOfWithRoute,
-                                                   i + 1);
-          }
-        }
-        //        if (partsOfWithRoute.length < i + 1) {
-        //          return RouterUtils.parameterOnPosition(partsOfWithRoute,
-        //                                                 i);
-        //        } else {
-        //          // check if partOfWithRoute[i] is '*' ==> everything is fine
-        //          if (!"*".equals(partsOfWithRoute[i])) {
-        //            if (partsOfRoute.length < i + 1) {
-        //              if (!exact) {
-        //                return RouterUtils.onlyParameterAddEnd(partsOfRoute,
-        //                                                       i);
-        //              }
-        //              return false;
-        //            } else {
-        //              if (!partsOfWithRoute[i].equals(partsOfRoute[i])) {
-        //                return false;
-        //              }
-        //            }
-        //          }
-        //        }
+      routePosition     = routePartEnd + 1;
+      withRoutePosition = withRoutePartEnd + 1;
+    }
+    // remaining parts of withRoute have to be parameters
+    for (int i = numberOfRouteParts; i < numberOfWithRouteParts; i++) {
+      int withRoutePartEnd = this.getEndOfPart(withRoute,
+                                               withRoutePosition,
+                                               withRouteEnd);
+      if (!this.isParameter(withRoute,
+                            withRoutePosition,
+                            withRoutePartEnd)) {
+        return false;
       }
+      withRoutePosition = withRoutePartEnd + 1;
     }
     return true;
   }
@@ -178,7 +123,7 @@ public class RouterUtils {
     return instance;
   }
   
-  private String[] split(String route) {
+  String[] split(String route) {
     if (route.startsWith("/")) {
       if (route.length() > 1) {
         return route.substring(1)
@@ -190,14 +135,54 @@ public class RouterUtils {
     }
   }
   
-  private boolean onlyParameterAddEnd(String[] partsOfRoute,
-                                      int index) {
-    for (int i = index; i < partsOfRoute.length; i++) {
-      if (!"*".equals(partsOfRoute[i])) {
-        return false;
+  /* position of the first part - a leading '/' is ignored */
+  private int getStart(String route) {
+    return route.startsWith("/") ? 1 : 0;
+  }
+  
+  /* end of the last part - trailing '/' are ignored (same as split does) */
+  private int getEnd(String route,
+                     int start) {
+    int end = route.length();
+    while (end > start && route.charAt(end - 1) == '/') {
+      end--;
+    }
+    return end;
+  }
+  
+  /* number of parts - same as the length of the array created by split */
+  private int getNumberOfParts(String route,
+                               int start,
+                               int end) {
+    // an empty route contains one empty part
+    if (start == route.length()) {
+      return 1;
+    }
+    // a route containing only '/' has no parts
+    if (start == end) {
+      return 0;
+    }
+    int numberOfParts = 1;
+    for (int i = start; i < end; i++) {
+      if (route.charAt(i) == '/') {
+        numberOfParts++;
       }
     }
-    return true;
+    return numberOfParts;
+  }
+  
+  private int getEndOfPart(String route,
+                           int position,
+                           int end) {
+    int index = route.indexOf('/',
+                              position);
+    return index < 0 || index > end ? end : index;
+  }
+  
+  private boolean isParameter(String route,
+                              int start,
+                              int end) {
+    return end - start == 1 && route.charAt(start) == '*';
   }
   
 }
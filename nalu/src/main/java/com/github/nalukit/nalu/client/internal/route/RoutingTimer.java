@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import com.github.nalukit.nalu.client.event.RoutingTimingEvent.Phase;
+import com.github.nalukit.nalu.client.plugin.IsClock;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Measures the phases of a routing.
+ * <p>
+ * The phases of a routing are executed one after the other. The timer
+ * remembers the end of the last phase. Calling {@link #lap(Phase)}
+ * adds the time since then to the phase and starts the next phase.
+ */
+class RoutingTimer {
+  
+  /* the clock */
+  private final IsClock            clock;
+  /* time spent per phase */
+  private final Map<Phase, Double> timings;
+  /* start of the routing */
+  private final double             start;
+  /* end of the last phase */
+  private       double             mark;
+  
+  RoutingTimer(IsClock clock) {
+    this.clock   = clock;
+    this.timings = new EnumMap<>(Phase.class);
+    this.start   = clock.now();
+    this.mark    = this.start;
+  }
+  
+  /**
+   * Ends the current phase: the time since the end of the last phase
+   * is added to the phase.
+   *
+   * @param phase the phase, that ends
+   */
+  void lap(Phase phase) {
+    double now = this.clock.now();
+    this.timings.merge(phase,
+                       now - this.mark,
+                       Double::sum);
+    this.mark = now;
+  }
+  
+  Map<Phase, Double> getTimings() {
+    return this.timings;
+  }
+  
+  /**
+   * Returns the time since the start of the routing.
+   *
+   * @return time in ms
+   */
+  double getTotal() {
+    return this.clock.now() - this.start;
+  }
+  
+}
@@ -16,6 +16,8 @@
 
 package com.github.nalukit.nalu.client.internal.route;
 
+import com.github.nalukit.nalu.client.internal.application.ComponentIdTable;
+
 public class ShellConfig {
   
   /* route */
@@ -24,6 +26,9 @@ public class ShellConfig {
   /* class name of the class which uses this configuration */
   private String className;
   
+  /* component id of the class - resolved once by the router */
+  private int classId = ComponentIdTable.NO_ID;
+  
   public ShellConfig() {
   }
   
@@ -49,6 +54,15 @@ public class ShellConfig {
   
   public void setClassName(String className) {
     this.className = className;
+    this.classId   = ComponentIdTable.NO_ID;
+  }
+  
+  int getClassId() {
+    return classId;
+  }
+  
+  void setClassId(int classId) {
+    this.classId = classId;
   }
   
 }
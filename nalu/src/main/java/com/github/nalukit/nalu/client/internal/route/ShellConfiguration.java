@@ -16,17 +16,29 @@
 
 package com.github.nalukit.nalu.client.internal.route;
 
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 public class ShellConfiguration {
   
   private List<ShellConfig> shells;
   
+  /* shells keyed by route - null, in case it needs to be rebuild */
+  private Map<String, ShellConfig> shellIndex;
+  
+  /* number of shells inside the shell index */
+  private int numberOfIndexedShells;
+  
+  /* incremented with every change of the list */
+  private int version;
+  
   public ShellConfiguration() {
     super();
     
-    this.shells = new ArrayList<>();
+    this.shells = new ConfigList<>(() -> this.version++,
+                                   this::invalidate);
   }
   
   public List<ShellConfig> getShells() {
@@ -34,11 +46,62 @@ public class ShellConfiguration {
   }
   
   public ShellConfig match(String hash) {
-    return this.shells.stream()
-                      .filter(shellConfig -> shellConfig.getRoute()
-                                                        .equals(hash))
-                      .findFirst()
-                      .get();
+    return this.findShell(hash);
+  }
+  
+  /**
+   * Returns the shell configuration for the route of a shell.
+   * <p>
+   * In case there are more shell configurations using the same route,
+   * the first one added will be returned.
+   *
+   * @param route route of the shell (f.e.: '/application')
+   * @return the shell configuration or null, if there is no shell using the route
+   */
+  public ShellConfig findShell(String route) {
+    return this.getShellIndex()
+               .get(route);
+  }
+  
+  /**
+   * Checks whether there is a shell using this route.
+   *
+   * @param route route of the shell (f.e.: '/application')
+   * @return true, if a shell with this route exists
+   */
+  public boolean hasShell(String route) {
+    return !Objects.isNull(this.findShell(route));
+  }
+  
+  private Map<String, ShellConfig> getShellIndex() {
+    if (Objects.isNull(this.shellIndex) || this.numberOfIndexedShells > this.shells.size()) {
+      this.shellIndex            = new HashMap<>();
+      this.numberOfIndexedShells = 0;
+    }
+    // index new added shells ...
+    for (; this.numberOfIndexedShells < this.shells.size(); this.numberOfIndexedShells++) {
+      ShellConfig shellConfig = this.shells.get(this.numberOfIndexedShells);
+      if (!this.shellIndex.containsKey(shellConfig.getRoute())) {
+        this.shellIndex.put(shellConfig.getRoute(),
+                            shellConfig);
+      }
+    }
+    return this.shellIndex;
+  }
+  
+  /**
+   * Returns the version of the configuration. The version changes
+   * with every change of the list.
+   *
+   * @return version of the configuration
+   */
+  int getVersion() {
+    return this.version;
+  }
+  
+  private void invalidate() {
+    this.version++;
+    this.shellIndex = null;
   }
   
 }
@@ -16,37 +16,32 @@
 
 package com.github.nalukit.nalu.client.internal.validation;
 
-import com.github.nalukit.nalu.client.Nalu;
-import com.github.nalukit.nalu.client.internal.route.RouteConfig;
 import com.github.nalukit.nalu.client.internal.route.RouterConfiguration;
-import com.github.nalukit.nalu.client.internal.route.ShellConfig;
 import com.github.nalukit.nalu.client.internal.route.ShellConfiguration;
 
-import java.util.Optional;
+import java.util.Objects;
 
 public class RouteValidation {
   
   public static boolean validateStartRoute(ShellConfiguration shellConfiguration,
                                            RouterConfiguration routerConfiguration,
-                                           String route) {
+                                           String route,
+                                           boolean usingColonForParametersInUrl) {
     return validateRoute(shellConfiguration,
                          routerConfiguration,
-                         route);
+                         route,
+                         usingColonForParametersInUrl);
 
   }
   
   private static boolean validateRoute(ShellConfiguration shellConfiguration,
                                        RouterConfiguration routerConfiguration,
-                                       String route) {
+                                       String route,
+                                       boolean usingColonForParametersInUrl) {
     String shellOfRoute      = getShellFromRoute(route);
     String routeWithoutShell = getRouteWithoutShellAndParameter(route);
     // check shell
-    Optional<ShellConfig> optionalShell = shellConfiguration.getShells()
-                                                            .stream()
-                                                            .filter(s -> s.getRoute()
-                                                                          .equals("/" + shellOfRoute))
-                                                            .findFirst();
-    if (!optionalShell.isPresent()) {
+    if (!shellConfiguration.hasShell("/" + shellOfRoute)) {
       return false;
     }
     // check route
@@ -55,13 +50,8 @@ public class RouteValidation {
                          .length() > 0) {
       searchRoute = searchRoute + "/" + routeWithoutShell;
     }
-    String finalSearchRoute = searchRoute;
-    Optional<RouteConfig> optionalRoute = routerConfiguration.getRouters()
-                                                             .stream()
-                                                             .filter(r -> Nalu.match(finalSearchRoute,
-                                                                                     r.getRoute()))
-                                                             .findFirst();
-    return optionalRoute.isPresent();
+    return !Objects.isNull(routerConfiguration.findFirstMatch(searchRoute,
+                                                              usingColonForParametersInUrl));
   }
   
   private static String getShellFromRoute(String route) {
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.metrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Metrics, that are kept in memory.
+ * <p>
+ * Use {@link #snapshot()} to get the current values (f.e.: for tests
+ * or diagnostics). The key of a metric is the name followed by the
+ * tags: 'name' or 'name{tag1,tag2}'.
+ */
+public class InMemoryNaluMetrics
+    implements NaluMetrics {
+  
+  private final Map<String, InMemoryCounter> counters;
+  private final Map<String, InMemoryTimer>   timers;
+  private final Map<String, DoubleSupplier>  gauges;
+  
+  public InMemoryNaluMetrics() {
+    this.counters = new LinkedHashMap<>();
+    this.timers   = new LinkedHashMap<>();
+    this.gauges   = new LinkedHashMap<>();
+  }
+  
+  @Override
+  public Counter counter(String name,
+                         String... tags) {
+    return this.counters.computeIfAbsent(this.createKey(name,
+                                                        tags),
+                                         k -> new InMemoryCounter());
+  }
+  
+  @Override
+  public Timer timer(String name,
+                     String... tags) {
+    return this.timers.computeIfAbsent(this.createKey(name,
+                                                      tags),
+                                       k -> new InMemoryTimer());
+  }
+  
+  @Override
+  public void gauge(String name,
+                    DoubleSupplier value) {
+    this.gauges.put(name,
+                    value);
+  }
+  
+  /**
+   * Returns the current values of all metrics.
+   *
+   * @return snapshot of the metrics
+   */
+  public Snapshot snapshot() {
+    Map<String, Long>          counters = new LinkedHashMap<>();
+    Map<String, TimerSnapshot> timers   = new LinkedHashMap<>();
+    Map<String, Double>        gauges   = new LinkedHashMap<>();
+    this.counters.forEach((key, counter) -> counters.put(key,
+                                                         counter.count));
+    this.timers.forEach((key, timer) -> timers.put(key,
+                                                   new TimerSnapshot(timer.count,
+                                                                     timer.total,
+                                                                     timer.max)));
+    this.gauges.forEach((key, gauge) -> gauges.put(key,
+                                                   gauge.getAsDouble()));
+    return new Snapshot(counters,
+                        timers,
+                        gauges);
+  }
+  
+  /**
+   * Removes all counters and timers. Gauges are kept.
+   */
+  public void reset() {
+    this.counters.clear();
+    this.timers.clear();
+  }
+  
+  private String createKey(String name,
+                           String... tags) {
+    if (tags.length == 0) {
+      return name;
+    }
+    return name + "{" + String.join(",",
+                                    tags) + "}";
+  }
+  
+  private static class InMemoryCounter
+      implements Counter {
+    
+    private long count;
+    
+    @Override
+    public void increment() {
+      this.count++;
+    }
+    
+  }
+  
+  
+  
+  private static class InMemoryTimer
+      implements Timer {
+    
+    private long   count;
+    private double total;
+    private double max;
+    
+    @Override
+    public void record(double duration) {
+      this.count++;
+      this.total += duration;
+      this.max = Math.max(this.max,
+                          duration);
+    }
+    
+  }
+  
+  
+  
+  public static class Snapshot {
+    
+    private final Map<String, Long>          counters;
+    private final Map<String, TimerSnapshot> timers;
+    private final Map<String, Double>        gauges;
+    
+    private Snapshot(Map<String, Long> counters,
+                     Map<String, TimerSnapshot> timers,
+                     Map<String, Double> gauges) {
+      this.counters = Collections.unmodifiableMap(counters);
+      this.timers   = Collections.unmodifiableMap(timers);
+      this.gauges   = Collections.unmodifiableMap(gauges);
+    }
+    
+    /**
+     * Returns the value of a counter.
+     *
+     * @param key the key of the counter
+     * @return value of the counter (0 if unknown)
+     */
+    public long getCounter(String key) {
+      Long value = this.counters.get(key);
+      return value == null ? 0 : value;
+    }
+    
+    public Map<String, Long> getCounters() {
+      return counters;
+    }
+    
+    public Map<String, TimerSnapshot> getTimers() {
+      return timers;
+    }
+    
+    public Map<String, Double> getGauges() {
+      return gauges;
+    }
+    
+  }
+  
+  
+  
+  public static class TimerSnapshot {
+    
+    private final long   count;
+    private final double total;
+    private final double max;
+    
+    private TimerSnapshot(long count,
+                          double total,
+                          double max) {
+      this.count = count;
+      this.total = total;
+      this.max   = max;
+    }
+    
+    public long getCount() {
+      return count;
+    }
+    
+    public double getTotal() {
+      return total;
+    }
+    
+    public double getMax() {
+      return max;
+    }
+    
+    public double getMean() {
+      return this.count == 0 ? 0 : this.total / this.count;
+    }
+    
+  }
+  
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.metrics;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * SPI of the metrics collected by Nalu.
+ * <p>
+ * Nalu reports the metrics of the router, the factories and the event
+ * bus using this interface. Implement it to forward the metrics to the
+ * monitoring of the application and register the implementation at the
+ * provider of the application scope using
+ * {@link NaluMetricsProvider#setMetrics(NaluMetrics)}.
+ * <p>
+ * A metric is identified by its name and optional tags (f.e.: the reason
+ * of an aborted routing). The default implementation ({@link NoOpNaluMetrics})
+ * ignores all metrics.
+ */
+public interface NaluMetrics {
+  
+  /* counter: completed routings */
+  String ROUTER_NAVIGATIONS       = "nalu.router.navigations";
+  /* timer: duration of the completed routings */
+  String ROUTER_NAVIGATION_TIME   = "nalu.router.navigation.time";
+  /* counter: aborted routings (tag: reason) */
+  String ROUTER_ABORTS            = "nalu.router.aborts";
+  /* counter: routings rejected by a filter (tag: class name of the filter) */
+  String ROUTER_FILTER_REJECTIONS = "nalu.router.filter.rejections";
+  /* counter: routings using a prefetched controller */
+  String ROUTER_PREFETCH_HITS     = "nalu.router.prefetch.hits";
+  /* gauge: number of prefetched controllers */
+  String ROUTER_PREFETCH_SIZE     = "nalu.router.prefetch.size";
+  /* counter: routings using a controller of the warm pool */
+  String ROUTER_WARM_POOL_HITS    = "nalu.router.warmpool.hits";
+  /* gauge: number of controllers inside the warm pool */
+  String ROUTER_WARM_POOL_SIZE    = "nalu.router.warmpool.size";
+  /* counter: controllers taken from the cache */
+  String CONTROLLER_CACHE_HITS    = "nalu.controller.cache.hits";
+  /* counter: controllers created, cause they are not cached */
+  String CONTROLLER_CACHE_MISSES  = "nalu.controller.cache.misses";
+  /* gauge: number of cached controllers */
+  String CONTROLLER_CACHE_SIZE    = "nalu.controller.cache.size";
+  /* counter: controllers evicted from the cache (tag: cause - size, weight, expired) */
+  String CONTROLLER_EVICTIONS     = "nalu.controller.cache.evictions";
+  /* counter: created composites */
+  String COMPOSITE_CREATIONS      = "nalu.composite.creations";
+  /* counter: composites taken from the global cache */
+  String COMPOSITE_CACHE_HITS     = "nalu.composite.cache.hits";
+  /* gauge: number of cached composites */
+  String COMPOSITE_CACHE_SIZE     = "nalu.composite.cache.size";
+  /* counter: composites evicted from the caches (tag: cause - size, expired) */
+  String COMPOSITE_EVICTIONS      = "nalu.composite.cache.evictions";
+  /* counter: popups shown (tag: name of the popup) */
+  String POPUP_SHOWN              = "nalu.popup.shown";
+  /* counter: popups canceled by a filter or condition (tag: name of the popup) */
+  String POPUP_CANCELED           = "nalu.popup.canceled";
+  /* counter: blocks shown (tag: name of the block) */
+  String BLOCK_SHOWN              = "nalu.block.shown";
+  /* counter: fired NaluErrorEvents (tag: error id) */
+  String ERRORS                   = "nalu.errors";
+  
+  /**
+   * Returns the counter with the name and the tags.
+   *
+   * @param name name of the counter
+   * @param tags tags of the counter
+   * @return the counter
+   */
+  Counter counter(String name,
+                  String... tags);
+  
+  /**
+   * Returns the timer with the name and the tags.
+   *
+   * @param name name of the timer
+   * @param tags tags of the timer
+   * @return the timer
+   */
+  Timer timer(String name,
+              String... tags);
+  
+  /**
+   * Registers a gauge. The value of the gauge is requested
+   * by the implementation, when needed.
+   *
+   * @param name  name of the gauge
+   * @param value supplier of the current value
+   */
+  void gauge(String name,
+             DoubleSupplier value);
+  
+  interface Counter {
+    
+    /**
+     * Increments the counter by one.
+     */
+    void increment();
+    
+  }
+  
+  
+  
+  interface Timer {
+    
+    /**
+     * Records a duration.
+     *
+     * @param duration the duration in ms
+     */
+    void record(double duration);
+    
+  }
+  
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.metrics;
+
+import com.github.nalukit.nalu.client.internal.application.ApplicationScope;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Holds the metrics implementation used by Nalu.
+ * <p>
+ * Every application scope has its own provider (see
+ * {@link ApplicationScope#getMetricsProvider()}), so the metrics of
+ * several applications are not mixed up. <code>get()</code> returns the
+ * provider of the default scope.
+ * <p>
+ * Gauges are registered at the provider. In case the metrics
+ * implementation changes, the gauges are registered at the new
+ * implementation.
+ */
+public class NaluMetricsProvider {
+  
+  /* registered gauges */
+  private final Map<String, DoubleSupplier> gauges;
+  /* the metrics */
+  private       NaluMetrics                 metrics;
+  
+  public NaluMetricsProvider() {
+    this.gauges  = new LinkedHashMap<>();
+    this.metrics = new NoOpNaluMetrics();
+  }
+  
+  public static NaluMetricsProvider get() {
+    return ApplicationScope.getDefault()
+                           .getMetricsProvider();
+  }
+  
+  public NaluMetrics getMetrics() {
+    return this.metrics;
+  }
+  
+  /**
+   * Sets the metrics implementation.
+   *
+   * @param metrics the metrics or null to ignore all metrics
+   */
+  public void setMetrics(NaluMetrics metrics) {
+    this.metrics = Objects.isNull(metrics) ? new NoOpNaluMetrics() : metrics;
+    this.gauges.forEach(this.metrics::gauge);
+  }
+  
+  /**
+   * Registers a gauge at the current and all future metrics implementations.
+   *
+   * @param name  name of the gauge
+   * @param value supplier of the current value
+   */
+  public void registerGauge(String name,
+                            DoubleSupplier value) {
+    this.gauges.put(name,
+                    value);
+    this.metrics.gauge(name,
+                       value);
+  }
+  
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.metrics;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * Default metrics: all metrics are ignored.
+ */
+public class NoOpNaluMetrics
+    implements NaluMetrics {
+  
+  private static final Counter COUNTER = () -> {
+  };
+  private static final Timer   TIMER   = duration -> {
+  };
+  
+  @Override
+  public Counter counter(String name,
+                         String... tags) {
+    return NoOpNaluMetrics.COUNTER;
+  }
+  
+  @Override
+  public Timer timer(String name,
+                     String... tags) {
+    return NoOpNaluMetrics.TIMER;
+  }
+  
+  @Override
+  public void gauge(String name,
+                    DoubleSupplier value) {
+  }
+  
+}
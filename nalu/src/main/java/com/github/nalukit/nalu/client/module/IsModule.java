@@ -22,6 +22,8 @@ import com.github.nalukit.nalu.client.component.AlwaysShowPopUp;
 import com.github.nalukit.nalu.client.context.IsModuleContext;
 import com.github.nalukit.nalu.client.internal.CompositeControllerReference;
 import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
+import com.github.nalukit.nalu.client.internal.application.ApplicationScope;
+import com.github.nalukit.nalu.client.internal.route.IsRouteMatcher;
 import com.github.nalukit.nalu.client.internal.route.RouteConfig;
 import com.github.nalukit.nalu.client.internal.route.RouterConfiguration;
 import com.github.nalukit.nalu.client.internal.route.ShellConfig;
@@ -63,6 +65,18 @@ public interface IsModule<C extends IsModuleContext> {
   @NaluInternalUse
   void setRouter(Router router);
 
+  /**
+   * Sets the registries of the application
+   * <p>
+   * The default implementation ignores the scope: the module
+   * uses the registries of the default scope.
+   *
+   * @param applicationScope registries of the application
+   */
+  @NaluInternalUse
+  default void setApplicationScope(ApplicationScope applicationScope) {
+  }
+
   @NaluInternalUse
   void loadModule(RouterConfiguration routeConfiguration);
 
@@ -72,6 +86,19 @@ public interface IsModule<C extends IsModuleContext> {
   @NaluInternalUse
   List<RouteConfig> getRouteConfigs();
 
+  /**
+   * Returns the generated route matcher of the module.
+   * <p>
+   * In case the module does not provide a route matcher,
+   * the routes of the module are handled by the route index.
+   *
+   * @return the route matcher of the module or null
+   */
+  @NaluInternalUse
+  default IsRouteMatcher getRouteMatcher() {
+    return null;
+  }
+
   @NaluInternalUse
   List<CompositeControllerReference> getCompositeReferences();
 
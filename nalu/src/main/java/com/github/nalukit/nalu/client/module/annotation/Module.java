@@ -70,4 +70,15 @@ public @interface Module {
    */
   Class<? extends AbstractModuleLoader<?>> loader() default NoModuleLoader.class;
   
+  /**
+   * This attribute will tell Nalu to register suppliers of the creators
+   * (controllers, composites, shells and popups) of the module. A creator
+   * is created the first time its component is requested.
+   * <br>
+   * Default is <b>false</b>.
+   *
+   * @return true -&gt; register the creators lazily
+   */
+  boolean lazyCreatorRegistration() default false;
+  
 }
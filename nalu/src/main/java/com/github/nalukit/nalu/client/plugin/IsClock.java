@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.plugin;
+
+/**
+ * Clock used by the router to measure the phases of a routing.
+ * <p>
+ * The clock has to be monotonic: the value must not decrease, even if
+ * the system time changes. A good choice for a browser is
+ * <code>performance.now()</code>.
+ */
+@FunctionalInterface
+public interface IsClock {
+  
+  /**
+   * Returns the current time of the clock.
+   *
+   * @return current time in milliseconds
+   */
+  double now();
+  
+  /**
+   * Returns a monotonic clock based on <code>System.nanoTime()</code>.
+   *
+   * @return the clock
+   */
+  static IsClock nanoTime() {
+    return () -> System.nanoTime() / 1000000d;
+  }
+  
+}
@@ -67,6 +67,46 @@ public interface IsNaluProcessorPlugin {
   
   void setCustomConfirmPresenter(IsCustomConfirmPresenter presenter);
   
+  /**
+   * Executes the command once the delay has passed.
+   * <p>
+   * Used f.e.: for the timeouts of asynchronous filters.
+   * The default implementation does not support timers and
+   * ignores the command.
+   *
+   * @param command the command to execute
+   * @param delay   delay in milliseconds
+   */
+  default void schedule(Runnable command,
+                        int delay) {
+  }
+  
+  /**
+   * Executes the command once the browser is idle.
+   * <p>
+   * Used f.e.: to fill the controller warm pool without delaying
+   * the rendering. The default implementation executes the command
+   * synchronously (stand-in for the JVM).
+   *
+   * @param command the command to execute
+   */
+  default void scheduleIdle(Runnable command) {
+    command.run();
+  }
+  
+  /**
+   * Returns the clock used by the router to measure the phases
+   * of a routing.
+   * <p>
+   * The default implementation returns a monotonic clock based on
+   * <code>System.nanoTime()</code>.
+   *
+   * @return the clock
+   */
+  default IsClock getClock() {
+    return IsClock.nanoTime();
+  }
+  
   @FunctionalInterface
   interface RouteChangeHandler {
     
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.plugin;
+
+/**
+ * Scheduler used by the router to coalesce routings.
+ * <p>
+ * In case the router has a scheduler, a routing is not executed
+ * immediately. The router waits for the scheduled command and
+ * executes only the last routing requested until then. All other
+ * routings get aborted.
+ * <p>
+ * A good choice for a browser is a microtask or a deferred command,
+ * so that all routings requested in the same event-loop turn are
+ * coalesced.
+ */
+public interface IsRoutingScheduler {
+  
+  /**
+   * Schedules the command. The command has to be executed
+   * asynchronous, exactly once.
+   *
+   * @param command the command to execute
+   */
+  void schedule(Runnable command);
+  
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.preload;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuration of the controller warm pool.
+ * <p>
+ * The router creates and binds the controllers of the configured routes
+ * while the browser is idle (see
+ * {@link com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin#scheduleIdle(Runnable)})
+ * and keeps them inside a pool. A navigation to one of these routes
+ * takes an already bound controller from the pool, instead of creating
+ * it on the critical path. Once a controller is taken, the pool gets
+ * refilled.
+ * <p>
+ * Use the warm pool for controllers, that are expensive to create
+ * (f.e.: large grids or charts). Cached controllers are not pooled.
+ * <p>
+ * Pooled controllers are bound without parameters: the pool does not know
+ * the parameters of the next navigation, so <code>setParameter</code> is
+ * called after <code>bind</code>, once the controller is taken from the
+ * pool. Controllers, that need their parameters inside <code>bind</code>,
+ * should not be pooled.
+ * <p>
+ * Example:
+ * <pre>
+ *   router.setControllerWarmPool(ControllerWarmPool.create()
+ *                                                  .add("/application/report",
+ *                                                       1)
+ *                                                  .add("/application/person/*",
+ *                                                       2));
+ * </pre>
+ */
+public class ControllerWarmPool {
+  
+  /* capacities (key: route, value: number of controllers) */
+  private final Map<String, Integer> capacities;
+  
+  private ControllerWarmPool() {
+    this.capacities = new LinkedHashMap<>();
+  }
+  
+  public static ControllerWarmPool create() {
+    return new ControllerWarmPool();
+  }
+  
+  /**
+   * Adds a route to the pool.
+   *
+   * @param route    the route (with '*' as placeholder for parameters)
+   * @param capacity number of controllers to keep for every controller of the route
+   * @return instance of the warm pool
+   */
+  public ControllerWarmPool add(String route,
+                                int capacity) {
+    this.capacities.put(route,
+                        capacity);
+    return this;
+  }
+  
+  public Map<String, Integer> getCapacities() {
+    return Collections.unmodifiableMap(this.capacities);
+  }
+  
+}
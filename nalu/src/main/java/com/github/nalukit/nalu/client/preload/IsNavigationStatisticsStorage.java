@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.preload;
+
+/**
+ * Storage of the navigation statistics.
+ * <p>
+ * Implement this interface to persist the navigation statistics
+ * (f.e.: inside the local storage of the browser), so that the
+ * statistics survive a reload of the application.
+ */
+public interface IsNavigationStatisticsStorage {
+  
+  /**
+   * Loads the stored statistics.
+   *
+   * @return the encoded statistics or null, if nothing is stored
+   */
+  String load();
+  
+  /**
+   * Stores the statistics. Called after every recorded navigation.
+   *
+   * @param statistics the encoded statistics
+   */
+  void save(String statistics);
+  
+}
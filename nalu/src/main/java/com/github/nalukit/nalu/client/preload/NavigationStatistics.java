@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.preload;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * First-order model of the navigations of the user.
+ * <p>
+ * The statistics count the transitions between two routes. The
+ * probability of a transition is the number of transitions from
+ * a route to the next route divided by the number of all transitions
+ * starting at the route.
+ * <p>
+ * Routes are stored without parameter values ('*' as placeholder).
+ */
+public class NavigationStatistics {
+  
+  private final static String FIELD_DELIMITER = "\t";
+  private final static String LINE_DELIMITER  = "\n";
+  
+  /* number of transitions (key: route, value: next route -> number of transitions) */
+  private final Map<String, Map<String, Integer>> transitions;
+  /* number of transitions starting at a route */
+  private final Map<String, Integer>              totals;
+  
+  public NavigationStatistics() {
+    this.transitions = new LinkedHashMap<>();
+    this.totals      = new LinkedHashMap<>();
+  }
+  
+  /**
+   * Creates the statistics from the encoded form.
+   * Invalid lines are ignored.
+   *
+   * @param value the encoded statistics (see {@link #encode()})
+   * @return the statistics
+   */
+  public static NavigationStatistics decode(String value) {
+    NavigationStatistics statistics = new NavigationStatistics();
+    if (Objects.isNull(value) || value.isEmpty()) {
+      return statistics;
+    }
+    for (String line : value.split(NavigationStatistics.LINE_DELIMITER)) {
+      String[] fields = line.split(NavigationStatistics.FIELD_DELIMITER);
+      if (fields.length != 3) {
+        continue;
+      }
+      try {
+        statistics.add(fields[0],
+                       fields[1],
+                       Integer.parseInt(fields[2]));
+      } catch (NumberFormatException e) {
+        // invalid line -> ignore
+      }
+    }
+    return statistics;
+  }
+  
+  /**
+   * Records a transition from one route to the next route.
+   *
+   * @param route     the route the user leaves
+   * @param nextRoute the route the user navigates to
+   */
+  public void record(String route,
+                     String nextRoute) {
+    this.add(route,
+             nextRoute,
+             1);
+  }
+  
+  /**
+   * Returns the number of transitions from the route to the next route.
+   *
+   * @param route     the route
+   * @param nextRoute the next route
+   * @return number of transitions
+   */
+  public int getCount(String route,
+                      String nextRoute) {
+    Map<String, Integer> counts = this.transitions.get(route);
+    if (Objects.isNull(counts)) {
+      return 0;
+    }
+    Integer count = counts.get(nextRoute);
+    return Objects.isNull(count) ? 0 : count;
+  }
+  
+  /**
+   * Returns the probability, that the user navigates from the
+   * route to the next route.
+   *
+   * @param route     the route
+   * @param nextRoute the next route
+   * @return probability (0 - 1)
+   */
+  public double getProbability(String route,
+                               String nextRoute) {
+    Integer total = this.totals.get(route);
+    if (Objects.isNull(total) || total == 0) {
+      return 0;
+    }
+    return (double) this.getCount(route,
+                                  nextRoute) / total;
+  }
+  
+  /**
+   * Returns the most likely next routes of the route, ordered
+   * by probability (highest first).
+   *
+   * @param route              the route
+   * @param minimumProbability minimum probability of a returned route
+   * @return list of next routes
+   */
+  public List<String> getNextRoutes(String route,
+                                    double minimumProbability) {
+    List<String>         nextRoutes = new ArrayList<>();
+    Map<String, Integer> counts     = this.transitions.get(route);
+    if (Objects.isNull(counts)) {
+      return nextRoutes;
+    }
+    for (String nextRoute : counts.keySet()) {
+      if (this.getProbability(route,
+                              nextRoute) >= minimumProbability) {
+        nextRoutes.add(nextRoute);
+      }
+    }
+    nextRoutes.sort((r1, r2) -> Integer.compare(counts.get(r2),
+                                                counts.get(r1)));
+    return nextRoutes;
+  }
+  
+  /**
+   * Encodes the statistics, so that they can be stored.
+   * Every transition is stored as a line: route, next route and
+   * number of transitions separated by a tab.
+   *
+   * @return the encoded statistics
+   */
+  public String encode() {
+    StringBuilder sb = new StringBuilder();
+    this.transitions.forEach((route, counts) -> counts.forEach((nextRoute, count) -> sb.append(route)
+                                                                                        .append(NavigationStatistics.FIELD_DELIMITER)
+                                                                                        .append(nextRoute)
+                                                                                        .append(NavigationStatistics.FIELD_DELIMITER)
+                                                                                        .append(count)
+                                                                                        .append(NavigationStatistics.LINE_DELIMITER)));
+    return sb.toString();
+  }
+  
+  private void add(String route,
+                   String nextRoute,
+                   int count) {
+    this.transitions.computeIfAbsent(route,
+                                     k -> new LinkedHashMap<>())
+                    .merge(nextRoute,
+                           count,
+                           Integer::sum);
+    this.totals.merge(route,
+                      count,
+                      Integer::sum);
+  }
+  
+}
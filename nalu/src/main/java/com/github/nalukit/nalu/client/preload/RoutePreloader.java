@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.preload;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Configuration of the predictive preloading.
+ * <p>
+ * The preloader records every completed navigation inside the
+ * {@link NavigationStatistics}. Once a navigation is done, the router
+ * prefetches (see {@link com.github.nalukit.nalu.client.Router#prefetch(String, String...)})
+ * the controllers of the most likely next routes.
+ * <p>
+ * Use the budget to limit the preloading:
+ * <ul>
+ * <li>maximumControllers: maximum number of controllers prefetched after a navigation</li>
+ * <li>minimumProbability: minimum probability of a route to get prefetched</li>
+ * </ul>
+ * Routes with parameters are not prefetched, cause the parameter values
+ * of the next navigation are unknown.
+ * <p>
+ * The preloading and the saving of the statistics are executed once the
+ * browser is idle (see {@link com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin#scheduleIdle(Runnable)}),
+ * so that they do not compete with the rendering of the navigation.
+ * <p>
+ * Example:
+ * <pre>
+ *   router.setRoutePreloader(RoutePreloader.create()
+ *                                          .storage(new MyLocalStorage())
+ *                                          .maximumControllers(2)
+ *                                          .minimumProbability(0.25));
+ * </pre>
+ */
+public class RoutePreloader {
+  
+  /* storage of the statistics */
+  private IsNavigationStatisticsStorage storage;
+  /* the statistics */
+  private NavigationStatistics          statistics;
+  /* maximum number of controllers to prefetch after a navigation */
+  private int                           maximumControllers;
+  /* minimum probability of a route to get prefetched */
+  private double                        minimumProbability;
+  /* the route of the last navigation */
+  private String                        lastRoute;
+  /* true, if the statistics changed since the last save */
+  private boolean                       modified;
+  
+  private RoutePreloader() {
+    this.storage            = new InMemoryNavigationStatisticsStorage();
+    this.statistics         = new NavigationStatistics();
+    this.maximumControllers = 3;
+    this.minimumProbability = 0.2;
+  }
+  
+  public static RoutePreloader create() {
+    return new RoutePreloader();
+  }
+  
+  /**
+   * Sets the storage of the statistics and loads the stored statistics.
+   * <p>
+   * Default: {@link InMemoryNavigationStatisticsStorage}
+   *
+   * @param storage the storage
+   * @return instance of the preloader
+   */
+  public RoutePreloader storage(IsNavigationStatisticsStorage storage) {
+    this.storage    = storage;
+    this.statistics = NavigationStatistics.decode(storage.load());
+    return this;
+  }
+  
+  /**
+   * Sets the maximum number of controllers, that are prefetched
+   * after a navigation.
+   * <p>
+   * Default: 3
+   *
+   * @param maximumControllers maximum number of controllers
+   * @return instance of the preloader
+   */
+  public RoutePreloader maximumControllers(int maximumControllers) {
+    this.maximumControllers = maximumControllers;
+    return this;
+  }
+  
+  /**
+   * Sets the minimum probability of a route to get prefetched.
+   * <p>
+   * Default: 0.2
+   *
+   * @param minimumProbability minimum probability (0 - 1)
+   * @return instance of the preloader
+   */
+  public RoutePreloader minimumProbability(double minimumProbability) {
+    this.minimumProbability = minimumProbability;
+    return this;
+  }
+  
+  public NavigationStatistics getStatistics() {
+    return this.statistics;
+  }
+  
+  public int getMaximumControllers() {
+    return this.maximumControllers;
+  }
+  
+  /**
+   * Returns true, if the statistics changed since the last save.
+   *
+   * @return true: the statistics need to be saved
+   */
+  public boolean isModified() {
+    return this.modified;
+  }
+  
+  /**
+   * Records a completed navigation.
+   * <p>
+   * The statistics are not stored, use {@link #save()} to store them.
+   *
+   * @param route the route of the navigation
+   */
+  public void record(String route) {
+    if (!Objects.isNull(this.lastRoute)) {
+      this.statistics.record(this.lastRoute,
+                             route);
+      this.modified = true;
+    }
+    this.lastRoute = route;
+  }
+  
+  /**
+   * Stores the statistics, in case they changed since the last save.
+   * <p>
+   * The router calls the method once the browser is idle, so that the
+   * navigations recorded in the meantime are stored at once.
+   */
+  public void save() {
+    if (!this.modified) {
+      return;
+    }
+    this.storage.save(this.statistics.encode());
+    this.modified = false;
+  }
+  
+  /**
+   * Returns the routes to prefetch for the route, ordered by probability.
+   * Routes with parameters and the route itself are not returned.
+   *
+   * @param route the current route
+   * @return list of routes to prefetch
+   */
+  public List<String> getRoutesToPreload(String route) {
+    List<String> routes = new ArrayList<>();
+    if (this.maximumControllers <= 0) {
+      return routes;
+    }
+    for (String nextRoute : this.statistics.getNextRoutes(route,
+                                                          this.minimumProbability)) {
+      if (!nextRoute.equals(route) && !nextRoute.contains("*")) {
+        routes.add(nextRoute);
+      }
+    }
+    return routes;
+  }
+  
+}
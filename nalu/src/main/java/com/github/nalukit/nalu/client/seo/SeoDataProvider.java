@@ -1,27 +1,26 @@
 package com.github.nalukit.nalu.client.seo;
 
+import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
+import com.github.nalukit.nalu.client.internal.application.ApplicationScope;
 import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin;
 
 import java.util.Objects;
 
 public class SeoDataProvider {
   
-  /* instance of the factory */
-  private static SeoDataProvider       instance;
   /* Nalu plugin */
-  private        IsNaluProcessorPlugin plugin;
+  private IsNaluProcessorPlugin plugin;
   /* data for next update */
-  private        SeoData               seoData;
+  private SeoData               seoData;
   
-  private SeoDataProvider() {
+  @NaluInternalUse
+  public SeoDataProvider() {
     this.seoData = new SeoData();
   }
   
   public static SeoDataProvider get() {
-    if (Objects.isNull(instance)) {
-      instance = new SeoDataProvider();
-    }
-    return instance;
+    return ApplicationScope.getDefault()
+                           .getSeoDataProvider();
   }
   
   public void register(IsNaluProcessorPlugin plugin) {
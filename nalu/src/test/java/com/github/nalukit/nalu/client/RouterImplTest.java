@@ -1,15 +1,23 @@
 package com.github.nalukit.nalu.client;
 
+import com.github.nalukit.nalu.client.event.RouterStateEvent;
+import com.github.nalukit.nalu.client.event.RouterStateEvent.RouterState;
 import com.github.nalukit.nalu.client.internal.route.RouteParser;
 import com.github.nalukit.nalu.client.internal.route.RouteResult;
 import com.github.nalukit.nalu.client.internal.route.RouterException;
 import com.github.nalukit.nalu.client.internal.route.RouterImpl;
+import com.github.nalukit.nalu.client.metrics.InMemoryNaluMetrics;
+import com.github.nalukit.nalu.client.metrics.NaluMetrics;
+import com.github.nalukit.nalu.client.metrics.NaluMetricsProvider;
 import org.gwtproject.event.shared.SimpleEventBus;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Router Tester.
  *
@@ -42,6 +50,8 @@ public class RouterImplTest {
   @AfterEach
   void after() {
     this.router = null;
+    NaluMetricsProvider.get()
+                       .setMetrics(null);
   }
   
   /**
@@ -392,4 +402,114 @@ public class RouterImplTest {
                             generateRoute);
   }
   
+  /**
+   * Method: route(String route, String... params) with coalescing
+   */
+  @Test
+  void testRouteCoalescing() {
+    List<RouterStateEvent> events   = this.registerRouterStateHandler();
+    List<Runnable>         commands = new ArrayList<>();
+    this.router.setRoutingScheduler(commands::add);
+    this.router.route("/unknown01");
+    this.router.forceRoute("/unknown02");
+    this.router.route("/unknown03");
+    // only one scheduled command, the first two routings are superseded
+    Assertions.assertEquals(1,
+                            commands.size());
+    Assertions.assertEquals(5,
+                            events.size());
+    Assertions.assertEquals(RouterState.ROUTING_ABORTED,
+                            events.get(2)
+                                  .getState());
+    Assertions.assertEquals("/unknown01",
+                            events.get(2)
+                                  .getRoute());
+    Assertions.assertEquals("superseded by routing to >>/unknown02<<",
+                            events.get(2)
+                                  .getReason());
+    Assertions.assertEquals(RouterState.START_ROUTING,
+                            events.get(3)
+                                  .getState());
+    Assertions.assertEquals("/unknown02",
+                            events.get(4)
+                                  .getRoute());
+    Assertions.assertEquals("superseded by routing to >>/unknown03<<",
+                            events.get(4)
+                                  .getReason());
+    // execute the last routing
+    commands.get(0)
+            .run();
+    Assertions.assertEquals(6,
+                            events.size());
+    Assertions.assertEquals(RouterState.ROUTING_ABORTED,
+                            events.get(5)
+                                  .getState());
+    Assertions.assertEquals("unknown03",
+                            events.get(5)
+                                  .getRoute());
+    Assertions.assertEquals("no matching route",
+                            events.get(5)
+                                  .getReason());
+    // next routing gets scheduled again
+    this.router.route("/unknown04");
+    Assertions.assertEquals(2,
+                            commands.size());
+  }
+  
+  /**
+   * Method: route(String route, String... params) without coalescing
+   */
+  @Test
+  void testRouteWithoutCoalescing() {
+    List<RouterStateEvent> events = this.registerRouterStateHandler();
+    this.router.route("/unknown01");
+    this.router.route("/unknown02");
+    Assertions.assertEquals(4,
+                            events.size());
+    Assertions.assertEquals("no matching route",
+                            events.get(1)
+                                  .getReason());
+    Assertions.assertEquals("no matching route",
+                            events.get(3)
+                                  .getReason());
+  }
+  
+  /**
+   * Method: metrics of aborted routings
+   */
+  @Test
+  void testRouteAbortMetrics() {
+    InMemoryNaluMetrics metrics = new InMemoryNaluMetrics();
+    NaluMetricsProvider.get()
+                       .setMetrics(metrics);
+    List<Runnable> commands = new ArrayList<>();
+    SimpleEventBus eventBus = new SimpleEventBus();
+    // setting the event bus again does not count the errors twice
+    this.router.setEventBus(eventBus);
+    this.router.setEventBus(eventBus);
+    this.router.setRoutingScheduler(commands::add);
+    this.router.route("/unknown01");
+    this.router.route("/unknown02");
+    commands.get(0)
+            .run();
+    Assertions.assertEquals(1,
+                            metrics.snapshot()
+                                   .getCounter(NaluMetrics.ROUTER_ABORTS + "{superseded}"));
+    Assertions.assertEquals(1,
+                            metrics.snapshot()
+                                   .getCounter(NaluMetrics.ROUTER_ABORTS + "{no matching route}"));
+    Assertions.assertEquals(1,
+                            metrics.snapshot()
+                                   .getCounter(NaluMetrics.ERRORS + "{" + NaluConstants.NALU_ERROR_ROUTING_EXCEPTION + "}"));
+  }
+  
+  private List<RouterStateEvent> registerRouterStateHandler() {
+    List<RouterStateEvent> events   = new ArrayList<>();
+    SimpleEventBus         eventBus = new SimpleEventBus();
+    eventBus.addHandler(RouterStateEvent.TYPE,
+                        events::add);
+    this.router.setEventBus(eventBus);
+    return events;
+  }
+  
 }
@@ -4,6 +4,9 @@ import com.github.nalukit.nalu.client.internal.PropertyFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.stream.Stream;
+
 public class RouterUtilsTest {
 
   @Test
@@ -584,4 +587,109 @@ public class RouterUtilsTest {
                                      with));
   }
 
+  @Test
+  void testMatchSameAsSplitWithoutColon() {
+    this.testMatchSameAsSplit(false);
+  }
+
+  @Test
+  void testMatchSameAsSplitWithColon() {
+    this.testMatchSameAsSplit(true);
+  }
+
+  private void testMatchSameAsSplit(boolean usingColonForParametersInUrl) {
+    String[] routes = { "",
+                        "/",
+                        "//",
+                        "///",
+                        "app",
+                        "/app",
+                        "/app/",
+                        "/app//",
+                        "//app",
+                        "/app//person",
+                        "/app/person",
+                        "/app/person/",
+                        "/app/person/3",
+                        "/app/person/:3",
+                        "/app/person/*",
+                        "/app/person/*/",
+                        "/app/person/3/edit",
+                        "/app/person/:3/edit",
+                        "/app/person/*/edit",
+                        "/app/person/*/*",
+                        "/app/person/edit/*",
+                        "/*/person/*",
+                        "/:",
+                        "/*",
+                        "/**",
+                        "app/person/3/edit/" };
+    PropertyFactory.get()
+                   .register("startShell/startRoute",
+                             "",
+                             true,
+                             true,
+                             usingColonForParametersInUrl,
+                             false,
+                             false);
+    for (String route : routes) {
+      for (String withRoute : routes) {
+        for (boolean exact : new boolean[] { false, true }) {
+          Assertions.assertEquals(this.matchUsingSplit(route,
+                                                       withRoute,
+                                                       exact,
+                                                       usingColonForParametersInUrl),
+                                  Nalu.match(route,
+                                             withRoute,
+                                             exact),
+                                  "route >>" + route + "<< withRoute >>" + withRoute + "<< exact >>" + exact + "<<");
+        }
+      }
+    }
+  }
+
+  /* the split based implementation used before */
+  private boolean matchUsingSplit(String route,
+                                  String withRoute,
+                                  boolean exact,
+                                  boolean usingColonForParametersInUrl) {
+    String[] partsOfRoute     = this.split(route);
+    String[] partsOfWithRoute = this.split(withRoute);
+    if (partsOfRoute.length > partsOfWithRoute.length) {
+      return false;
+    }
+    if (exact && partsOfRoute.length != partsOfWithRoute.length) {
+      return false;
+    }
+    for (int i = 0; i < partsOfRoute.length; i++) {
+      if (usingColonForParametersInUrl && partsOfRoute[i].startsWith(":")) {
+        if (!"*".equals(partsOfWithRoute[i])) {
+          return false;
+        }
+      } else if (!partsOfRoute[i].equals(partsOfWithRoute[i])) {
+        if (usingColonForParametersInUrl || !"*".equals(partsOfWithRoute[i])) {
+          return false;
+        }
+      }
+      if (partsOfRoute.length - 1 == i) {
+        return Stream.of(Arrays.copyOfRange(partsOfWithRoute,
+                                            i + 1,
+                                            partsOfWithRoute.length))
+                     .allMatch("*"::equals);
+      }
+    }
+    return true;
+  }
+
+  private String[] split(String route) {
+    if (route.startsWith("/")) {
+      if (route.length() > 1) {
+        return route.substring(1)
+                    .split("/");
+      }
+      return new String[] { "" };
+    }
+    return route.split("/");
+  }
+
 }
\ No newline at end of file
@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
+import com.github.nalukit.nalu.client.internal.PropertyFactory;
+import com.github.nalukit.nalu.client.internal.route.RouteConfig;
+import com.github.nalukit.nalu.client.internal.route.RouteParser;
+import com.github.nalukit.nalu.client.internal.route.RouteResult;
+import com.github.nalukit.nalu.client.internal.route.RouterConfiguration;
+import com.github.nalukit.nalu.client.internal.route.RouterException;
+import com.github.nalukit.nalu.client.internal.route.RouterImpl;
+import com.github.nalukit.nalu.client.internal.route.ShellConfig;
+import com.github.nalukit.nalu.client.internal.route.ShellConfiguration;
+import com.github.nalukit.nalu.client.metrics.InMemoryNaluMetrics;
+import com.github.nalukit.nalu.client.metrics.NaluMetrics;
+import com.github.nalukit.nalu.client.metrics.NaluMetricsProvider;
+import com.github.nalukit.nalu.client.plugin.IsCustomAlertPresenter;
+import com.github.nalukit.nalu.client.plugin.IsCustomConfirmPresenter;
+import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin;
+import com.github.nalukit.nalu.client.seo.SeoDataProvider;
+import org.gwtproject.event.shared.SimpleEventBus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public class ApplicationScopeTest {
+  
+  private static final String SHELL_CLASS_NAME      = "com.github.nalukit.nalu.client.internal.application.ApplicationScopeTest.TestShell";
+  private static final String CONTROLLER_CLASS_NAME = "com.github.nalukit.nalu.client.internal.application.ApplicationScopeTest.TestController";
+  
+  @Test
+  void testDefaultScope() {
+    Assertions.assertSame(ApplicationScope.getDefault(),
+                          ApplicationScope.getDefault());
+    Assertions.assertSame(ApplicationScope.getDefault()
+                                          .getControllerFactory(),
+                          ControllerFactory.get());
+    Assertions.assertSame(ApplicationScope.getDefault()
+                                          .getCompositeFactory(),
+                          CompositeFactory.get());
+    Assertions.assertSame(ApplicationScope.getDefault()
+                                          .getShellFactory(),
+                          ShellFactory.get());
+    Assertions.assertSame(ApplicationScope.getDefault()
+                                          .getRouteParser(),
+                          RouteParser.get());
+    Assertions.assertSame(ApplicationScope.getDefault()
+                                          .getSeoDataProvider(),
+                          SeoDataProvider.get());
+    Assertions.assertSame(ApplicationScope.getDefault()
+                                          .getPropertyFactory(),
+                          PropertyFactory.get());
+    Assertions.assertSame(ApplicationScope.getDefault()
+                                          .getMetricsProvider(),
+                          NaluMetricsProvider.get());
+  }
+  
+  @Test
+  void testScopesDoNotShareRegistries() {
+    ApplicationScope scope01 = new ApplicationScope();
+    ApplicationScope scope02 = new ApplicationScope();
+    Assertions.assertNotSame(scope01.getControllerFactory(),
+                             scope02.getControllerFactory());
+    scope01.getShellFactory()
+           .registerShell(SHELL_CLASS_NAME,
+                          new TestShellCreator());
+    Assertions.assertEquals(1,
+                            scope01.getComponentIdTable()
+                                   .size());
+    Assertions.assertEquals(ComponentIdTable.NO_ID,
+                            scope02.getComponentIdTable()
+                                   .getId(SHELL_CLASS_NAME));
+    scope01.getPropertyFactory()
+           .register("/application/scope01",
+                     "",
+                     true,
+                     true,
+                     false,
+                     false,
+                     false);
+    scope02.getPropertyFactory()
+           .register("/application/scope02",
+                     "",
+                     true,
+                     true,
+                     false,
+                     false,
+                     false);
+    Assertions.assertEquals("application/scope01",
+                            scope01.getPropertyFactory()
+                                   .getStartRoute());
+    Assertions.assertEquals("application/scope02",
+                            scope02.getPropertyFactory()
+                                   .getStartRoute());
+  }
+  
+  @Test
+  void testScopesDoNotShareParameterStyle()
+      throws RouterException {
+    RouterImpl router01 = this.createRouter(new ApplicationScope(),
+                                            true);
+    RouterImpl router02 = this.createRouter(new ApplicationScope(),
+                                            false);
+    // every router uses the parameter style of its own scope
+    Assertions.assertEquals("shell/person/:1",
+                            router01.generate("/shell/person/*",
+                                              "1"));
+    Assertions.assertEquals("shell/person/1",
+                            router02.generate("/shell/person/*",
+                                              "1"));
+    RouteResult routeResult01 = router01.parse("/shell/person/:1");
+    Assertions.assertEquals("/shell/person/*",
+                            routeResult01.getRoute());
+    Assertions.assertEquals(Collections.singletonList("1"),
+                            routeResult01.getParameterValues());
+    RouteResult routeResult02 = router02.parse("/shell/person/:1");
+    Assertions.assertEquals(Collections.singletonList(":1"),
+                            routeResult02.getParameterValues());
+  }
+  
+  @Test
+  void testScopesDoNotShareMetrics() {
+    ApplicationScope    scope01   = new ApplicationScope();
+    ApplicationScope    scope02   = new ApplicationScope();
+    InMemoryNaluMetrics metrics01 = new InMemoryNaluMetrics();
+    InMemoryNaluMetrics metrics02 = new InMemoryNaluMetrics();
+    scope01.getMetricsProvider()
+           .setMetrics(metrics01);
+    scope02.getMetricsProvider()
+           .setMetrics(metrics02);
+    Assertions.assertNotSame(NaluMetricsProvider.get(),
+                             scope01.getMetricsProvider());
+    scope01.getControllerFactory()
+           .registerController(CONTROLLER_CLASS_NAME,
+                               new TestControllerCreator());
+    scope01.getControllerFactory()
+           .controller("/application/route",
+                       CONTROLLER_CLASS_NAME,
+                       new ControllerCallback() {
+                         
+                         @Override
+                         public void onRoutingInterceptionException(RoutingInterceptionException e) {
+                           Assertions.fail();
+                         }
+                         
+                         @Override
+                         public void onFinish(ControllerInstance controllerInstance) {
+                         }
+                         
+                       });
+    // the factories of a scope report to the metrics of that scope only
+    Assertions.assertEquals(1,
+                            metrics01.snapshot()
+                                     .getCounter(NaluMetrics.CONTROLLER_CACHE_HITS));
+    Assertions.assertEquals(0,
+                            metrics02.snapshot()
+                                     .getCounter(NaluMetrics.CONTROLLER_CACHE_HITS));
+    Assertions.assertTrue(metrics02.snapshot()
+                                   .getGauges()
+                                   .containsKey(NaluMetrics.CONTROLLER_CACHE_SIZE));
+  }
+  
+  private RouterImpl createRouter(ApplicationScope applicationScope,
+                                  boolean usingColonForParametersInUrl) {
+    ShellConfiguration shellConfiguration = new ShellConfiguration();
+    shellConfiguration.getShells()
+                      .add(new ShellConfig("/shell",
+                                           SHELL_CLASS_NAME));
+    RouterConfiguration routerConfiguration = new RouterConfiguration();
+    routerConfiguration.getRouters()
+                       .add(new RouteConfig("/shell/person/*",
+                                            Collections.singletonList("id"),
+                                            "content",
+                                            CONTROLLER_CLASS_NAME));
+    applicationScope.getRouteParser()
+                    .setEventBus(new SimpleEventBus());
+    return new RouterImpl(applicationScope,
+                          new TestPlugin(),
+                          shellConfiguration,
+                          routerConfiguration,
+                          new ArrayList<>(),
+                          null,
+                          "/shell/person/*",
+                          "",
+                          true,
+                          true,
+                          usingColonForParametersInUrl,
+                          false,
+                          false);
+  }
+  
+  static class TestShellCreator
+      implements IsShellCreator {
+    
+    @Override
+    public ShellInstance create() {
+      return new ShellInstance();
+    }
+    
+    @Override
+    public void onFinishCreating() {
+    }
+    
+  }
+  
+  static class TestControllerCreator
+      implements IsControllerCreator {
+    
+    @Override
+    public ControllerInstance create(String route) {
+      // a cached instance is returned without binding
+      ControllerInstance controllerInstance = new ControllerInstance();
+      controllerInstance.setControllerClassName(CONTROLLER_CLASS_NAME);
+      controllerInstance.setCached(true);
+      return controllerInstance;
+    }
+    
+    @Override
+    public void onFinishCreating(Object object) {
+    }
+    
+    @Override
+    public void setParameter(Object object,
+                             String... params) {
+    }
+    
+  }
+  
+  static class TestPlugin
+      implements IsNaluProcessorPlugin {
+    
+    @Override
+    public void alert(String message) {
+    }
+    
+    @Override
+    public boolean attach(String selector,
+                          Object asElement) {
+      return true;
+    }
+    
+    @Override
+    public void confirm(String message,
+                        ConfirmHandler handler) {
+    }
+    
+    @Override
+    public String getStartRoute() {
+      return "/";
+    }
+    
+    @Override
+    public Map<String, String> getQueryParameters() {
+      return new HashMap<>();
+    }
+    
+    @Override
+    public void register(RouteChangeHandler handler) {
+    }
+    
+    @Override
+    public void remove(String selector) {
+    }
+    
+    @Override
+    public void route(String newRoute,
+                      boolean replace,
+                      boolean stealthMode) {
+    }
+    
+    @Override
+    public void initialize(ShellConfiguration shellConfiguration) {
+    }
+    
+    @Override
+    public void updateTitle(String title) {
+    }
+    
+    @Override
+    public void updateMetaNameContent(String name,
+                                      String content) {
+    }
+    
+    @Override
+    public void updateMetaPropertyContent(String property,
+                                          String content) {
+    }
+    
+    @Override
+    public String decode(String route) {
+      return route;
+    }
+    
+    @Override
+    public void setCustomAlertPresenter(IsCustomAlertPresenter presenter) {
+    }
+    
+    @Override
+    public void setCustomConfirmPresenter(IsCustomConfirmPresenter presenter) {
+    }
+    
+  }
+  
+}
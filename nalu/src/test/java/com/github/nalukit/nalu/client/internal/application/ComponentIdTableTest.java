@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ComponentIdTableTest {
+  
+  @Test
+  void testRegister() {
+    int size = ComponentIdTable.get()
+                               .size();
+    int id01 = ComponentIdTable.get()
+                               .register("com.github.nalukit.nalu.client.internal.application.ComponentIdTableTest.Component01");
+    int id02 = ComponentIdTable.get()
+                               .register("com.github.nalukit.nalu.client.internal.application.ComponentIdTableTest.Component02");
+    // ids are dense ...
+    Assertions.assertEquals(size,
+                            id01);
+    Assertions.assertEquals(size + 1,
+                            id02);
+    // ... and assigned once
+    Assertions.assertEquals(id01,
+                            ComponentIdTable.get()
+                                            .register("com.github.nalukit.nalu.client.internal.application.ComponentIdTableTest.Component01"));
+    Assertions.assertEquals(id02,
+                            ComponentIdTable.get()
+                                            .getId("com.github.nalukit.nalu.client.internal.application.ComponentIdTableTest.Component02"));
+    Assertions.assertEquals("com.github.nalukit.nalu.client.internal.application.ComponentIdTableTest.Component01",
+                            ComponentIdTable.get()
+                                            .getName(id01));
+    Assertions.assertEquals(ComponentIdTable.NO_ID,
+                            ComponentIdTable.get()
+                                            .getId("com.github.nalukit.nalu.client.internal.application.ComponentIdTableTest.Unknown"));
+  }
+  
+  @Test
+  void testComponentArray() {
+    ComponentArray<String> array = new ComponentArray<>();
+    array.set(2,
+              "value02");
+    array.set(40,
+              "value40");
+    Assertions.assertEquals("value40",
+                            array.get(40));
+    Assertions.assertNull(array.get(3));
+    Assertions.assertNull(array.get(ComponentIdTable.NO_ID));
+    Assertions.assertEquals(2,
+                            array.size());
+    Assertions.assertEquals("value02",
+                            array.remove(2));
+    Assertions.assertEquals(1,
+                            array.size());
+    Assertions.assertEquals(1,
+                            array.values()
+                                 .size());
+  }
+  
+}
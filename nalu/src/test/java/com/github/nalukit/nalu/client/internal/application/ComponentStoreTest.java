@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+public class ComponentStoreTest {
+  
+  @Test
+  void testAccessOrder() {
+    ComponentStore<String> store = new ComponentStore<>();
+    store.put(1,
+              "one",
+              10);
+    store.put(40,
+              "forty",
+              20);
+    store.put(7,
+              "seven",
+              30);
+    Assertions.assertEquals(Arrays.asList("one",
+                                          "forty",
+                                          "seven"),
+                            store.values());
+    // get moves the entry to the end, peek does not
+    Assertions.assertEquals("one",
+                            store.get(1));
+    Assertions.assertEquals("forty",
+                            store.peek(40));
+    Assertions.assertEquals(Arrays.asList("forty",
+                                          "seven",
+                                          "one"),
+                            store.values());
+    Assertions.assertEquals(40,
+                            store.first());
+    Assertions.assertEquals(7,
+                            store.next(40));
+    Assertions.assertEquals(ComponentIdTable.NO_ID,
+                            store.next(1));
+  }
+  
+  @Test
+  void testPutAndRemove() {
+    ComponentStore<String> store = new ComponentStore<>();
+    store.put(1,
+              "one",
+              10);
+    store.put(2,
+              "two",
+              20);
+    // replacing a value moves the entry to the end
+    store.put(1,
+              "uno",
+              30);
+    Assertions.assertEquals(2,
+                            store.size());
+    Assertions.assertEquals(Arrays.asList("two",
+                                          "uno"),
+                            store.values());
+    Assertions.assertEquals(30,
+                            store.getTime(1));
+    store.setTime(1,
+                  40);
+    Assertions.assertEquals(40,
+                            store.getTime(1));
+    Assertions.assertEquals("two",
+                            store.remove(2));
+    Assertions.assertNull(store.remove(2));
+    Assertions.assertFalse(store.contains(2));
+    Assertions.assertEquals(1,
+                            store.first());
+    store.clear();
+    Assertions.assertEquals(0,
+                            store.size());
+    Assertions.assertNull(store.get(1));
+    Assertions.assertEquals(ComponentIdTable.NO_ID,
+                            store.first());
+  }
+  
+  @Test
+  void testUnknownId() {
+    ComponentStore<String> store = new ComponentStore<>();
+    Assertions.assertNull(store.get(42));
+    Assertions.assertNull(store.remove(-1));
+  }
+  
+}
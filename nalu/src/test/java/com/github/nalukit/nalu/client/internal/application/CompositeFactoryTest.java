@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import com.github.nalukit.nalu.client.cache.CompositeCachePolicy;
+import com.github.nalukit.nalu.client.component.AbstractCompositeComponent;
+import com.github.nalukit.nalu.client.component.AbstractCompositeController;
+import com.github.nalukit.nalu.client.component.IsCompositeComponent;
+import com.github.nalukit.nalu.client.context.IsContext;
+import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
+import com.github.nalukit.nalu.client.metrics.InMemoryNaluMetrics;
+import com.github.nalukit.nalu.client.metrics.NaluMetrics;
+import com.github.nalukit.nalu.client.metrics.NaluMetricsProvider;
+import com.github.nalukit.nalu.client.plugin.IsClock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CompositeFactoryTest {
+  
+  private static final String PARENT_CLASS_NAME    = "com.github.nalukit.nalu.client.internal.application.CompositeFactoryTest.Parent";
+  private static final String COMPOSITE_CLASS_NAME = "com.github.nalukit.nalu.client.internal.application.CompositeFactoryTest.TestComposite";
+  
+  @AfterEach
+  void tearDown() {
+    NaluMetricsProvider.get()
+                       .setMetrics(null);
+    CompositeFactory.get()
+                    .clearCompositeControllerCache();
+    CompositeFactory.get()
+                    .setCachePolicy(null);
+    CompositeFactory.get()
+                    .setClock(IsClock.nanoTime());
+  }
+  
+  @Test
+  void testCompositeKey() {
+    Assertions.assertEquals(CompositeKey.create(ComponentIdTable.get(),
+                                                PARENT_CLASS_NAME,
+                                                COMPOSITE_CLASS_NAME,
+                                                "selector"),
+                            CompositeKey.create(ComponentIdTable.get(),
+                                                PARENT_CLASS_NAME,
+                                                COMPOSITE_CLASS_NAME,
+                                                "selector"));
+    Assertions.assertEquals(CompositeKey.create(ComponentIdTable.get(),
+                                                PARENT_CLASS_NAME,
+                                                COMPOSITE_CLASS_NAME,
+                                                "selector")
+                                        .hashCode(),
+                            CompositeKey.create(ComponentIdTable.get(),
+                                                PARENT_CLASS_NAME,
+                                                COMPOSITE_CLASS_NAME,
+                                                "selector")
+                                        .hashCode());
+    Assertions.assertEquals(CompositeKey.create(ComponentIdTable.get(),
+                                                PARENT_CLASS_NAME,
+                                                COMPOSITE_CLASS_NAME,
+                                                null),
+                            CompositeKey.create(ComponentIdTable.get(),
+                                                PARENT_CLASS_NAME,
+                                                COMPOSITE_CLASS_NAME,
+                                                "*"));
+    Assertions.assertNotEquals(CompositeKey.create(ComponentIdTable.get(),
+                                                   PARENT_CLASS_NAME,
+                                                   COMPOSITE_CLASS_NAME,
+                                                   "selector01"),
+                               CompositeKey.create(ComponentIdTable.get(),
+                                                   PARENT_CLASS_NAME,
+                                                   COMPOSITE_CLASS_NAME,
+                                                   "selector02"));
+  }
+  
+  @Test
+  void testCachePolicyMaximumSize() {
+    InMemoryNaluMetrics metrics = new InMemoryNaluMetrics();
+    NaluMetricsProvider.get()
+                       .setMetrics(metrics);
+    CompositeFactory.get()
+                    .setCachePolicy(CompositeCachePolicy.create()
+                                                        .maximumSize(2));
+    TestComposite composite01 = this.createComposite("selector01");
+    TestComposite composite02 = this.createComposite("selector02");
+    TestComposite composite03 = this.createComposite("selector03");
+    CompositeFactory.get()
+                    .storeInCache(composite01);
+    CompositeFactory.get()
+                    .storeInCache(composite02);
+    // use composite01 -> composite02 is the least recently used composite
+    Assertions.assertSame(composite01,
+                          CompositeFactory.get()
+                                          .getCompositeFormStore(PARENT_CLASS_NAME,
+                                                                 COMPOSITE_CLASS_NAME,
+                                                                 "selector01"));
+    CompositeFactory.get()
+                    .storeInCache(composite03);
+    Assertions.assertNull(CompositeFactory.get()
+                                          .getCompositeFormStore(PARENT_CLASS_NAME,
+                                                                 COMPOSITE_CLASS_NAME,
+                                                                 "selector02"));
+    Assertions.assertTrue(composite02.stopped);
+    Assertions.assertFalse(composite01.stopped);
+    Assertions.assertFalse(composite03.stopped);
+    Assertions.assertEquals(1,
+                            metrics.snapshot()
+                                   .getCounter(NaluMetrics.COMPOSITE_EVICTIONS + "{size}"));
+  }
+  
+  @Test
+  void testCachePolicyTimeToLiveOfGlobalComposite()
+      throws RoutingInterceptionException {
+    long[] time = { 0 };
+    CompositeFactory.get()
+                    .setClock(() -> time[0]);
+    CompositeFactory.get()
+                    .setCachePolicy(CompositeCachePolicy.create()
+                                                        .timeToLive(1000));
+    String compositeClassName = COMPOSITE_CLASS_NAME + "Global";
+    CompositeFactory.get()
+                    .registerComposite(compositeClassName,
+                                       new IsCompositeCreator() {
+                                         
+                                         @Override
+                                         public CompositeInstance create(String parentControllerClassName,
+                                                                         String selector,
+                                                                         boolean scopeGlobal) {
+                                           CompositeInstance compositeInstance = new CompositeInstance();
+                                           compositeInstance.setCompositeClassName(compositeClassName);
+                                           compositeInstance.setComposite(createComposite(selector));
+                                           return compositeInstance;
+                                         }
+                                         
+                                         @Override
+                                         public void setParameter(Object object,
+                                                                  String... params) {
+                                         }
+                                         
+                                       });
+    TestComposite composite = (TestComposite) CompositeFactory.get()
+                                                              .getComposite(PARENT_CLASS_NAME,
+                                                                            compositeClassName,
+                                                                            "selector",
+                                                                            true)
+                                                              .getComposite();
+    CompositeFactory.get()
+                    .markActive(composite);
+    time[0] = 2000;
+    // active composites are not evicted ...
+    Assertions.assertSame(composite,
+                          CompositeFactory.get()
+                                          .getComposite(PARENT_CLASS_NAME,
+                                                        compositeClassName,
+                                                        "selector",
+                                                        true)
+                                          .getComposite());
+    // ... inactive composites are
+    CompositeFactory.get()
+                    .markInactive(composite);
+    time[0] = 3500;
+    Assertions.assertNotSame(composite,
+                             CompositeFactory.get()
+                                             .getComposite(PARENT_CLASS_NAME,
+                                                           compositeClassName,
+                                                           "selector",
+                                                           true)
+                                             .getComposite());
+    Assertions.assertTrue(composite.stopped);
+  }
+  
+  private TestComposite createComposite(String selector) {
+    TestComposite composite = new TestComposite();
+    TestCompositeComponent component = new TestCompositeComponent();
+    component.setController(composite);
+    composite.setComponent(component);
+    composite.setParentClassName(PARENT_CLASS_NAME);
+    composite.setSelector(selector);
+    return composite;
+  }
+  
+  static class TestContext
+      implements IsContext {
+    
+  }
+  
+  static class TestCompositeComponent
+      extends AbstractCompositeComponent<IsCompositeComponent.Controller, Object> {
+    
+    @Override
+    public void render() {
+      initElement(new Object());
+    }
+    
+  }
+  
+  static class TestComposite
+      extends AbstractCompositeController<TestContext, TestCompositeComponent, Object>
+      implements IsCompositeComponent.Controller {
+    
+    private boolean stopped;
+    
+    @Override
+    public void stop() {
+      this.stopped = true;
+    }
+    
+  }
+  
+}
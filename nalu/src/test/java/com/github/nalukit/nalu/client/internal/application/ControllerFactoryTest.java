@@ -0,0 +1,362 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import com.github.nalukit.nalu.client.cache.ControllerCachePolicy;
+import com.github.nalukit.nalu.client.component.AbstractComponent;
+import com.github.nalukit.nalu.client.component.AbstractComponentController;
+import com.github.nalukit.nalu.client.component.IsComponent;
+import com.github.nalukit.nalu.client.component.IsController.ControllerLoader;
+import com.github.nalukit.nalu.client.context.IsContext;
+import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
+import com.github.nalukit.nalu.client.metrics.InMemoryNaluMetrics;
+import com.github.nalukit.nalu.client.metrics.NaluMetrics;
+import com.github.nalukit.nalu.client.metrics.NaluMetricsProvider;
+import com.github.nalukit.nalu.client.plugin.IsClock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ControllerFactoryTest {
+  
+  private static final String CONTROLLER_CLASS_NAME = "com.github.nalukit.nalu.client.internal.application.ControllerFactoryTest.TestController";
+  
+  private TestController           controller;
+  private List<ControllerInstance> finished;
+  
+  @BeforeEach
+  void setUp() {
+    this.finished = new ArrayList<>();
+    ControllerFactory.get()
+                     .registerController(CONTROLLER_CLASS_NAME,
+                                         new IsControllerCreator() {
+                                           
+                                           @Override
+                                           public ControllerInstance create(String route) {
+                                             controller = new TestController();
+                                             TestComponent component = new TestComponent();
+                                             component.setController(controller);
+                                             controller.setComponent(component);
+                                             ControllerInstance controllerInstance = new ControllerInstance();
+                                             controllerInstance.setControllerClassName(CONTROLLER_CLASS_NAME);
+                                             controllerInstance.setController(controller);
+                                             return controllerInstance;
+                                           }
+                                           
+                                           @Override
+                                           public void onFinishCreating(Object object) {
+                                           }
+                                           
+                                           @Override
+                                           public void setParameter(Object object,
+                                                                    String... params) {
+                                           }
+                                           
+                                         });
+  }
+  
+  @AfterEach
+  void tearDown() {
+    NaluMetricsProvider.get()
+                       .setMetrics(null);
+    ControllerFactory.get()
+                     .clearControllerCache();
+    ControllerFactory.get()
+                     .setCachePolicy(null);
+    ControllerFactory.get()
+                     .setClock(IsClock.nanoTime());
+  }
+  
+  @Test
+  void testController() {
+    RoutingToken routingToken = new RoutingToken(1);
+    ControllerFactory.get()
+                     .controller("/application/route",
+                                 CONTROLLER_CLASS_NAME,
+                                 this.createCallback(routingToken));
+    // bind is still running
+    Assertions.assertTrue(this.finished.isEmpty());
+    this.controller.loader.continueLoading();
+    Assertions.assertEquals(1,
+                            this.finished.size());
+    Assertions.assertSame(this.controller,
+                          this.finished.get(0)
+                                       .getController());
+    Assertions.assertFalse(this.controller.stopped);
+  }
+  
+  @Test
+  void testControllerOfCanceledRouting() {
+    RoutingToken routingToken = new RoutingToken(1);
+    ControllerFactory.get()
+                     .controller("/application/route",
+                                 CONTROLLER_CLASS_NAME,
+                                 this.createCallback(routingToken));
+    // a new routing starts, before bind has finished
+    routingToken.cancel();
+    this.controller.loader.continueLoading();
+    Assertions.assertTrue(this.finished.isEmpty());
+    Assertions.assertTrue(this.controller.stopped);
+  }
+  
+  @Test
+  void testControllerWithoutRoutingToken() {
+    // the token of callbacks without a routing can not be canceled
+    RoutingToken.NONE.cancel();
+    ControllerFactory.get()
+                     .controller("/application/route",
+                                 CONTROLLER_CLASS_NAME,
+                                 new ControllerCallback() {
+                                   
+                                   @Override
+                                   public void onRoutingInterceptionException(RoutingInterceptionException e) {
+                                     Assertions.fail();
+                                   }
+                                   
+                                   @Override
+                                   public void onFinish(ControllerInstance controllerInstance) {
+                                     finished.add(controllerInstance);
+                                   }
+                                   
+                                 });
+    this.controller.loader.continueLoading();
+    Assertions.assertEquals(1,
+                            this.finished.size());
+    Assertions.assertFalse(this.controller.stopped);
+  }
+  
+  @Test
+  void testControllerMetrics() {
+    InMemoryNaluMetrics metrics = new InMemoryNaluMetrics();
+    NaluMetricsProvider.get()
+                       .setMetrics(metrics);
+    ControllerFactory.get()
+                     .controller("/application/route",
+                                 CONTROLLER_CLASS_NAME,
+                                 this.createCallback(new RoutingToken(1)));
+    Assertions.assertEquals(1,
+                            metrics.snapshot()
+                                   .getCounter(NaluMetrics.CONTROLLER_CACHE_MISSES));
+    Assertions.assertEquals(0,
+                            metrics.snapshot()
+                                   .getCounter(NaluMetrics.CONTROLLER_CACHE_HITS));
+    Assertions.assertEquals(0,
+                            metrics.snapshot()
+                                   .getGauges()
+                                   .get(NaluMetrics.CONTROLLER_CACHE_SIZE));
+  }
+  
+  @Test
+  void testCachePolicyMaximumSize() {
+    InMemoryNaluMetrics metrics = new InMemoryNaluMetrics();
+    NaluMetricsProvider.get()
+                       .setMetrics(metrics);
+    ControllerFactory.get()
+                     .setCachePolicy(ControllerCachePolicy.create()
+                                                          .maximumSize(2));
+    TestController controller01 = this.init(new CachedController01());
+    TestController controller02 = this.init(new CachedController02());
+    TestController controller03 = this.init(new CachedController03());
+    ControllerFactory.get()
+                     .storeInCache(controller01);
+    ControllerFactory.get()
+                     .storeInCache(controller02);
+    // use controller01 -> controller02 is the least recently used controller
+    Assertions.assertSame(controller01,
+                          ControllerFactory.get()
+                                           .getControllerFormStore(CachedController01.class.getCanonicalName()));
+    ControllerFactory.get()
+                     .storeInCache(controller03);
+    Assertions.assertNull(ControllerFactory.get()
+                                           .getControllerFormStore(CachedController02.class.getCanonicalName()));
+    Assertions.assertTrue(controller02.stopped);
+    Assertions.assertFalse(controller01.stopped);
+    Assertions.assertFalse(controller03.stopped);
+    Assertions.assertEquals(1,
+                            metrics.snapshot()
+                                   .getCounter(NaluMetrics.CONTROLLER_EVICTIONS + "{size}"));
+  }
+  
+  @Test
+  void testCachePolicyTimeToLive() {
+    long[] time = { 0 };
+    ControllerFactory.get()
+                     .setClock(() -> time[0]);
+    ControllerFactory.get()
+                     .setCachePolicy(ControllerCachePolicy.create()
+                                                          .timeToLive(1000));
+    TestController controller01 = this.init(new CachedController01());
+    TestController controller02 = this.init(new CachedController02());
+    ControllerFactory.get()
+                     .storeInCache(controller01);
+    ControllerFactory.get()
+                     .storeInCache(controller02);
+    ControllerFactory.get()
+                     .markActive(controller01);
+    time[0] = 2000;
+    // active controllers are not evicted ...
+    Assertions.assertSame(controller01,
+                          ControllerFactory.get()
+                                           .getControllerFormStore(CachedController01.class.getCanonicalName()));
+    // ... inactive controllers are
+    Assertions.assertNull(ControllerFactory.get()
+                                           .getControllerFormStore(CachedController02.class.getCanonicalName()));
+    Assertions.assertTrue(controller02.stopped);
+    // time to live starts with the deactivation
+    ControllerFactory.get()
+                     .markInactive(controller01);
+    time[0] = 2500;
+    Assertions.assertSame(controller01,
+                          ControllerFactory.get()
+                                           .getControllerFormStore(CachedController01.class.getCanonicalName()));
+    time[0] = 3500;
+    Assertions.assertNull(ControllerFactory.get()
+                                           .getControllerFormStore(CachedController01.class.getCanonicalName()));
+    Assertions.assertTrue(controller01.stopped);
+  }
+  
+  @Test
+  void testClearControllerCache() {
+    long[] time = { 0 };
+    ControllerFactory.get()
+                     .setClock(() -> time[0]);
+    ControllerFactory.get()
+                     .setCachePolicy(ControllerCachePolicy.create()
+                                                          .timeToLive(1000));
+    TestController controller01 = this.init(new CachedController01());
+    ControllerFactory.get()
+                     .storeInCache(controller01);
+    ControllerFactory.get()
+                     .markActive(controller01);
+    ControllerFactory.get()
+                     .clearControllerCache();
+    Assertions.assertTrue(controller01.stopped);
+    // the controller is no longer marked as active after the cache is cleared
+    TestController controller02 = this.init(new CachedController01());
+    ControllerFactory.get()
+                     .storeInCache(controller02);
+    time[0] = 2000;
+    Assertions.assertNull(ControllerFactory.get()
+                                           .getControllerFormStore(CachedController01.class.getCanonicalName()));
+    Assertions.assertTrue(controller02.stopped);
+  }
+  
+  @Test
+  void testCachePolicyMaximumWeight() {
+    TestController controller01 = this.init(new CachedController01());
+    TestController controller02 = this.init(new CachedController02());
+    TestController controller03 = this.init(new CachedController03());
+    ControllerFactory.get()
+                     .storeInCache(controller01);
+    ControllerFactory.get()
+                     .storeInCache(controller02);
+    ControllerFactory.get()
+                     .storeInCache(controller03);
+    // controller03 weighs 3, the others 1
+    ControllerFactory.get()
+                     .setCachePolicy(ControllerCachePolicy.create()
+                                                          .maximumWeight(4)
+                                                          .weigher(c -> c instanceof CachedController03 ? 3 : 1));
+    Assertions.assertTrue(controller01.stopped);
+    Assertions.assertFalse(controller02.stopped);
+    Assertions.assertFalse(controller03.stopped);
+  }
+  
+  private TestController init(TestController controller) {
+    TestComponent component = new TestComponent();
+    component.setController(controller);
+    controller.setComponent(component);
+    return controller;
+  }
+  
+  private ControllerCallback createCallback(RoutingToken routingToken) {
+    return new ControllerCallback() {
+      
+      @Override
+      public void onRoutingInterceptionException(RoutingInterceptionException e) {
+        Assertions.fail();
+      }
+      
+      @Override
+      public void onFinish(ControllerInstance controllerInstance) {
+        finished.add(controllerInstance);
+      }
+      
+      @Override
+      public RoutingToken getRoutingToken() {
+        return routingToken;
+      }
+      
+    };
+  }
+  
+  static class TestContext
+      implements IsContext {
+    
+  }
+  
+  static class TestComponent
+      extends AbstractComponent<IsComponent.Controller, Object> {
+    
+    @Override
+    public void render() {
+      initElement(new Object());
+    }
+    
+  }
+  
+  static class TestController
+      extends AbstractComponentController<TestContext, TestComponent, Object>
+      implements IsComponent.Controller {
+    
+    private ControllerLoader loader;
+    private boolean          stopped;
+    
+    @Override
+    public void bind(ControllerLoader loader) {
+      // simulate an asynchronous bind
+      this.loader = loader;
+    }
+    
+    @Override
+    public void stop() {
+      this.stopped = true;
+    }
+    
+  }
+  
+  static class CachedController01
+      extends TestController {
+    
+  }
+  
+  static class CachedController02
+      extends TestController {
+    
+  }
+  
+  static class CachedController03
+      extends TestController {
+    
+  }
+  
+}
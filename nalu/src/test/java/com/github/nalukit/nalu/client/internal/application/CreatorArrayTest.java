@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CreatorArrayTest {
+
+  @Test
+  void testCreatorIsCreatedOnFirstRequest() {
+    AtomicInteger        created      = new AtomicInteger();
+    CreatorArray<Object> creatorArray = new CreatorArray<>();
+    creatorArray.setSupplier(3,
+                             () -> {
+                               created.incrementAndGet();
+                               return new Object();
+                             });
+    Assertions.assertEquals(0,
+                            created.get());
+    Object creator = creatorArray.get(3);
+    Assertions.assertNotNull(creator);
+    Assertions.assertSame(creator,
+                          creatorArray.get(3));
+    Assertions.assertEquals(1,
+                            created.get());
+  }
+
+  @Test
+  void testCreatorReplacesSupplier() {
+    Object               creator      = new Object();
+    CreatorArray<Object> creatorArray = new CreatorArray<>();
+    creatorArray.setSupplier(3,
+                             Object::new);
+    creatorArray.set(3,
+                     creator);
+    Assertions.assertSame(creator,
+                          creatorArray.get(3));
+  }
+
+  @Test
+  void testUnknownId() {
+    CreatorArray<Object> creatorArray = new CreatorArray<>();
+    Assertions.assertNull(creatorArray.get(42));
+  }
+
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import com.github.nalukit.nalu.client.filter.IsAsyncFilter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class AsyncFilterPipelineTest {
+  
+  private List<Runnable>      timers;
+  private List<IsAsyncFilter> rejected;
+  private int                 accepted;
+  private boolean             timeout;
+  
+  @BeforeEach
+  void setUp() {
+    this.timers   = new ArrayList<>();
+    this.rejected = new ArrayList<>();
+    this.accepted = 0;
+    this.timeout  = false;
+  }
+  
+  @Test
+  void testNoFilter() {
+    AsyncFilterPipeline pipeline = this.createPipeline(Collections.emptyList());
+    pipeline.start("/application/route",
+                   new String[0]);
+    Assertions.assertEquals(1,
+                            this.accepted);
+    Assertions.assertTrue(pipeline.isFinished());
+  }
+  
+  @Test
+  void testAccept() {
+    TestFilter          filter01 = new TestFilter(0);
+    TestFilter          filter02 = new TestFilter(0);
+    AsyncFilterPipeline pipeline = this.createPipeline(Arrays.asList(filter01,
+                                                                     filter02));
+    pipeline.start("/application/route",
+                   new String[] { "1" });
+    // both filters are started at once
+    Assertions.assertEquals("/application/route",
+                            filter01.route);
+    Assertions.assertEquals("/application/route",
+                            filter02.route);
+    filter02.callback.onResult(true);
+    Assertions.assertEquals(0,
+                            this.accepted);
+    filter01.callback.onResult(true);
+    Assertions.assertEquals(1,
+                            this.accepted);
+    Assertions.assertTrue(this.rejected.isEmpty());
+    // a second result is ignored
+    filter01.callback.onResult(false);
+    Assertions.assertEquals(1,
+                            this.accepted);
+    Assertions.assertTrue(this.rejected.isEmpty());
+  }
+  
+  @Test
+  void testReject() {
+    TestFilter          filter01 = new TestFilter(0);
+    TestFilter          filter02 = new TestFilter(0);
+    TestFilter          filter03 = new TestFilter(0);
+    AsyncFilterPipeline pipeline = this.createPipeline(Arrays.asList(filter01,
+                                                                     filter02,
+                                                                     filter03));
+    pipeline.start("/application/route",
+                   new String[0]);
+    filter01.callback.onResult(true);
+    filter02.callback.onResult(false);
+    Assertions.assertEquals(Collections.singletonList(filter02),
+                            this.rejected);
+    Assertions.assertFalse(this.timeout);
+    // only the running filter gets canceled
+    Assertions.assertFalse(filter01.canceled);
+    Assertions.assertFalse(filter02.canceled);
+    Assertions.assertTrue(filter03.canceled);
+    // late results are ignored
+    filter03.callback.onResult(true);
+    Assertions.assertEquals(0,
+                            this.accepted);
+    Assertions.assertEquals(1,
+                            this.rejected.size());
+  }
+  
+  @Test
+  void testTimeout() {
+    TestFilter          filter01 = new TestFilter(100);
+    TestFilter          filter02 = new TestFilter(0);
+    AsyncFilterPipeline pipeline = this.createPipeline(Arrays.asList(filter01,
+                                                                     filter02));
+    pipeline.start("/application/route",
+                   new String[0]);
+    Assertions.assertEquals(1,
+                            this.timers.size());
+    this.timers.get(0)
+               .run();
+    Assertions.assertEquals(Collections.singletonList(filter01),
+                            this.rejected);
+    Assertions.assertTrue(this.timeout);
+    Assertions.assertTrue(filter01.canceled);
+    Assertions.assertTrue(filter02.canceled);
+  }
+  
+  @Test
+  void testTimeoutAfterResult() {
+    TestFilter          filter01 = new TestFilter(100);
+    AsyncFilterPipeline pipeline = this.createPipeline(Collections.singletonList(filter01));
+    pipeline.start("/application/route",
+                   new String[0]);
+    filter01.callback.onResult(true);
+    this.timers.get(0)
+               .run();
+    Assertions.assertEquals(1,
+                            this.accepted);
+    Assertions.assertTrue(this.rejected.isEmpty());
+    Assertions.assertFalse(filter01.canceled);
+  }
+  
+  @Test
+  void testCancel() {
+    TestFilter          filter01 = new TestFilter(0);
+    AsyncFilterPipeline pipeline = this.createPipeline(Collections.singletonList(filter01));
+    pipeline.start("/application/route",
+                   new String[0]);
+    pipeline.cancel();
+    Assertions.assertTrue(filter01.canceled);
+    filter01.callback.onResult(true);
+    Assertions.assertEquals(0,
+                            this.accepted);
+    Assertions.assertTrue(this.rejected.isEmpty());
+  }
+  
+  private AsyncFilterPipeline createPipeline(List<IsAsyncFilter> filters) {
+    return new AsyncFilterPipeline(filters,
+                                   (command, delay) -> this.timers.add(command),
+                                   new AsyncFilterPipeline.Callback() {
+                                     
+                                     @Override
+                                     public void onAccept() {
+                                       accepted++;
+                                     }
+                                     
+                                     @Override
+                                     public void onReject(IsAsyncFilter filter,
+                                                          boolean timeout) {
+                                       rejected.add(filter);
+                                       AsyncFilterPipelineTest.this.timeout = timeout;
+                                     }
+                                     
+                                   });
+  }
+  
+  private static class TestFilter
+      implements IsAsyncFilter {
+    
+    private final int            timeout;
+    private       String         route;
+    private       FilterCallback callback;
+    private       boolean        canceled;
+    
+    private TestFilter(int timeout) {
+      this.timeout = timeout;
+    }
+    
+    @Override
+    public void filter(String route,
+                       String[] params,
+                       FilterCallback callback) {
+      this.route    = route;
+      this.callback = callback;
+    }
+    
+    @Override
+    public int getTimeout() {
+      return this.timeout;
+    }
+    
+    @Override
+    public void cancel() {
+      this.canceled = true;
+    }
+    
+    @Override
+    public String redirectTo() {
+      return "/application/login";
+    }
+    
+    @Override
+    public String[] parameters() {
+      return new String[0];
+    }
+    
+  }
+  
+}
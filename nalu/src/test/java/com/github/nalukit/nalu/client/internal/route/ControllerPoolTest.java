@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import com.github.nalukit.nalu.client.internal.application.ControllerInstance;
+import com.github.nalukit.nalu.client.internal.route.TestControllers.TestController;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ControllerPoolTest {
+  
+  private static final RouteKey KEY = ControllerPool.createKey("Controller01",
+                                                               "/application/report");
+  
+  private ControllerPool controllerPool;
+  
+  @BeforeEach
+  void setUp() {
+    this.controllerPool = new ControllerPool();
+    this.controllerPool.setCapacity(KEY,
+                                    2);
+  }
+  
+  @Test
+  void testTake() {
+    Assertions.assertEquals(2,
+                            this.controllerPool.getMissing(KEY));
+    ControllerInstance controllerInstance01 = TestControllers.createControllerInstance();
+    ControllerInstance controllerInstance02 = TestControllers.createControllerInstance();
+    this.controllerPool.add(KEY,
+                            controllerInstance01);
+    this.controllerPool.add(KEY,
+                            controllerInstance02);
+    Assertions.assertEquals(0,
+                            this.controllerPool.getMissing(KEY));
+    Assertions.assertSame(controllerInstance01,
+                          this.controllerPool.take(KEY));
+    Assertions.assertEquals(1,
+                            this.controllerPool.getMissing(KEY));
+    Assertions.assertSame(controllerInstance02,
+                          this.controllerPool.take(KEY));
+    Assertions.assertNull(this.controllerPool.take(KEY));
+    // unknown keys have no capacity
+    Assertions.assertEquals(0,
+                            this.controllerPool.getMissing(ControllerPool.createKey("Controller02",
+                                                                                   "/application/report")));
+  }
+  
+  @Test
+  void testCapacity() {
+    ControllerInstance controllerInstance01 = TestControllers.createControllerInstance();
+    ControllerInstance controllerInstance02 = TestControllers.createControllerInstance();
+    ControllerInstance controllerInstance03 = TestControllers.createControllerInstance();
+    this.controllerPool.add(KEY,
+                            controllerInstance01);
+    this.controllerPool.add(KEY,
+                            controllerInstance02);
+    // the pool is full -> discard
+    this.controllerPool.add(KEY,
+                            controllerInstance03);
+    Assertions.assertTrue(((TestController) controllerInstance03.getController()).isStopped());
+    Assertions.assertEquals(2,
+                            this.controllerPool.size());
+    // reducing the capacity discards controllers
+    this.controllerPool.setCapacity(KEY,
+                                    1);
+    Assertions.assertTrue(((TestController) controllerInstance02.getController()).isStopped());
+    Assertions.assertFalse(((TestController) controllerInstance01.getController()).isStopped());
+  }
+  
+  @Test
+  void testClear() {
+    ControllerInstance controllerInstance = TestControllers.createControllerInstance();
+    this.controllerPool.add(KEY,
+                            controllerInstance);
+    this.controllerPool.clear();
+    Assertions.assertEquals(0,
+                            this.controllerPool.size());
+    Assertions.assertEquals(0,
+                            this.controllerPool.getMissing(KEY));
+    Assertions.assertTrue(((TestController) controllerInstance.getController()).isStopped());
+  }
+  
+}
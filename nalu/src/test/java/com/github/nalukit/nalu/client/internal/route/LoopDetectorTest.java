@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class LoopDetectorTest {
+  
+  @Test
+  void testLoopDetected() {
+    LoopDetector loopDetector = new LoopDetector();
+    Assertions.assertTrue(loopDetector.add("/application/search",
+                                           0));
+    Assertions.assertTrue(loopDetector.add("application/list",
+                                           0));
+    // same hash after normalization
+    Assertions.assertFalse(loopDetector.add("#/application/list",
+                                            0));
+    Assertions.assertEquals("application/search",
+                            loopDetector.getFirst());
+  }
+  
+  @Test
+  void testMaximumNumberOfRoutingHops() {
+    LoopDetector loopDetector = new LoopDetector();
+    Assertions.assertTrue(loopDetector.add("/application/route01",
+                                           2));
+    Assertions.assertTrue(loopDetector.add("/application/route02",
+                                           2));
+    Assertions.assertFalse(loopDetector.add("/application/route03",
+                                            2));
+    Assertions.assertEquals("application/route01",
+                            loopDetector.getFirst());
+    loopDetector.clear();
+    Assertions.assertNull(loopDetector.getFirst());
+    Assertions.assertTrue(loopDetector.add("/application/route03",
+                                           2));
+  }
+  
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import com.github.nalukit.nalu.client.internal.application.ControllerInstance;
+import com.github.nalukit.nalu.client.internal.route.TestControllers.TestController;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+public class PrefetchCacheTest {
+  
+  private static final RouteKey KEY01 = PrefetchCache.createKey("Controller01",
+                                                                "/application/person/*",
+                                                                "1");
+  private static final RouteKey KEY02 = PrefetchCache.createKey("Controller01",
+                                                                "/application/person/*",
+                                                                "2");
+  private static final RouteKey KEY03 = PrefetchCache.createKey("Controller02",
+                                                                "/application/report");
+  
+  private long          now;
+  private PrefetchCache prefetchCache;
+  
+  @BeforeEach
+  void setUp() {
+    this.now           = 1000;
+    this.prefetchCache = new PrefetchCache(() -> this.now);
+  }
+  
+  @Test
+  void testCreateKey() {
+    Assertions.assertEquals(PrefetchCache.createKey("Controller01",
+                                                    "/application/person/*",
+                                                    "1"),
+                            PrefetchCache.createKey("Controller01",
+                                                    "/application/person/*",
+                                                    "1"));
+    Assertions.assertNotEquals(PrefetchCache.createKey("Controller01",
+                                                       "/application/person/*",
+                                                       "1"),
+                               PrefetchCache.createKey("Controller01",
+                                                       "/application/person/*",
+                                                       "2"));
+    // the parts of the key are compared separately
+    Assertions.assertNotEquals(PrefetchCache.createKey("Controller01",
+                                                       "/application/person/*/*",
+                                                       "1",
+                                                       "2"),
+                               PrefetchCache.createKey("Controller01",
+                                                       "/application/person/*/*",
+                                                       "1<<||>>2"));
+  }
+  
+  @Test
+  void testTake() {
+    TestController controller = this.put(KEY01);
+    Assertions.assertTrue(this.prefetchCache.contains(KEY01));
+    PrefetchCache.Entry entry = this.prefetchCache.take(KEY01);
+    Assertions.assertSame(controller,
+                          entry.getControllerInstance()
+                               .getController());
+    Assertions.assertFalse(controller.isStopped());
+    // an entry can only be used once
+    Assertions.assertNull(this.prefetchCache.take(KEY01));
+  }
+  
+  @Test
+  void testTimeToLive() {
+    this.prefetchCache.setLimits(5,
+                                 100);
+    TestController controller = this.put(KEY01);
+    this.now += 99;
+    Assertions.assertTrue(this.prefetchCache.contains(KEY01));
+    this.now += 1;
+    Assertions.assertNull(this.prefetchCache.take(KEY01));
+    Assertions.assertTrue(controller.isStopped());
+  }
+  
+  @Test
+  void testQueriesDoNotChangeTheCache() {
+    this.prefetchCache.setLimits(5,
+                                 100);
+    TestController controller = this.put(KEY01);
+    this.now += 100;
+    Assertions.assertFalse(this.prefetchCache.contains(KEY01));
+    Assertions.assertEquals(0,
+                            this.prefetchCache.size());
+    // the expired entry is discarded with the next change
+    Assertions.assertFalse(controller.isStopped());
+    this.put(KEY02);
+    Assertions.assertTrue(controller.isStopped());
+  }
+  
+  @Test
+  void testMaximumSize() {
+    this.prefetchCache.setLimits(2,
+                                 100);
+    TestController controller01 = this.put(KEY01);
+    TestController controller02 = this.put(KEY02);
+    TestController controller03 = this.put(KEY03);
+    Assertions.assertEquals(2,
+                            this.prefetchCache.size());
+    // the oldest entry is discarded
+    Assertions.assertTrue(controller01.isStopped());
+    Assertions.assertFalse(this.prefetchCache.contains(KEY01));
+    Assertions.assertFalse(controller02.isStopped());
+    Assertions.assertFalse(controller03.isStopped());
+    // reducing the size discards entries
+    this.prefetchCache.setLimits(1,
+                                 100);
+    Assertions.assertTrue(controller02.isStopped());
+    Assertions.assertTrue(this.prefetchCache.contains(KEY03));
+  }
+  
+  @Test
+  void testDisabled() {
+    this.prefetchCache.setLimits(0,
+                                 100);
+    Assertions.assertFalse(this.prefetchCache.isEnabled());
+    TestController controller = this.put(KEY01);
+    Assertions.assertTrue(controller.isStopped());
+    Assertions.assertEquals(0,
+                            this.prefetchCache.size());
+  }
+  
+  @Test
+  void testClear() {
+    TestController controller01 = this.put(KEY01);
+    TestController controller02 = this.put(KEY02);
+    this.prefetchCache.clear();
+    Assertions.assertEquals(0,
+                            this.prefetchCache.size());
+    Assertions.assertTrue(controller01.isStopped());
+    Assertions.assertTrue(controller02.isStopped());
+  }
+  
+  private TestController put(RouteKey key) {
+    ControllerInstance controllerInstance = TestControllers.createControllerInstance();
+    this.prefetchCache.put(key,
+                           controllerInstance,
+                           Collections.emptyMap());
+    return (TestController) controllerInstance.getController();
+  }
+  
+}
@@ -65,4 +65,44 @@ public class RouteConfigTest {
                             routeConfig.getRouteWithoutShell());
   }
   
+  @Test
+  void testRouteConfigCreation04() {
+    RouteConfig routeConfig01 = new RouteConfig("/[loginShell|applicationShell]/person/*/edit/*",
+                                                new ArrayList<>(),
+                                                "selector",
+                                                "className");
+    RouteConfig routeConfig02 = new RouteConfig("/applicationShell/person/*",
+                                                new ArrayList<>(),
+                                                "selector",
+                                                "className");
+    Assertions.assertArrayEquals(new String[] { "[loginShell|applicationShell]", "person", "*", "edit", "*" },
+                                 routeConfig01.getSegments());
+    Assertions.assertEquals(2,
+                            routeConfig01.getNumberOfParameters());
+    Assertions.assertEquals(1,
+                            routeConfig02.getNumberOfParameters());
+  }
+  
+  @Test
+  void testRouteConfigMatch() {
+    RouteConfig routeConfig = new RouteConfig("/[loginShell|applicationShell]/person/*",
+                                              new ArrayList<>(),
+                                              "selector",
+                                              "className");
+    Assertions.assertTrue(routeConfig.match("/loginShell/person/*"));
+    Assertions.assertTrue(routeConfig.match("applicationShell/person/*"));
+    Assertions.assertFalse(routeConfig.match("/otherShell/person/*"));
+    Assertions.assertFalse(routeConfig.match("/loginShell/person"));
+    Assertions.assertFalse(routeConfig.match("/loginShell/person/*/"));
+    Assertions.assertFalse(routeConfig.match("/loginShell"));
+    RouteConfig shellOnly = new RouteConfig("/loginShell",
+                                            new ArrayList<>(),
+                                            "selector",
+                                            "className");
+    Assertions.assertTrue(shellOnly.match("/loginShell"));
+    Assertions.assertTrue(shellOnly.match("/loginShell/"));
+    Assertions.assertFalse(shellOnly.match("/loginShell/person"));
+    Assertions.assertFalse(shellOnly.match("/login"));
+  }
+  
 }
\ No newline at end of file
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+public class RouteContextTest {
+  
+  @Test
+  void testCreate() {
+    RouteContext routeContext = RouteContext.create("/application/person/4711",
+                                                    s -> s,
+                                                    new RouteResult("/application",
+                                                                    "/application/person/*",
+                                                                    Arrays.asList("4711")));
+    Assertions.assertEquals("/application/person/4711",
+                            routeContext.getHash());
+    Assertions.assertEquals("/application",
+                            routeContext.getShell());
+    Assertions.assertEquals("/application/person/*",
+                            routeContext.getRoute());
+    Assertions.assertArrayEquals(new String[] { "4711" },
+                                 routeContext.getParams());
+    Assertions.assertEquals(1,
+                            routeContext.getParamCount());
+    Assertions.assertEquals("4711",
+                            routeContext.getParam(0));
+    // callers get a copy of the params
+    routeContext.getParams()[0] = "42";
+    Assertions.assertEquals("4711",
+                            routeContext.getParam(0));
+  }
+  
+  @Test
+  void testCreateAddsLeadingSlash() {
+    RouteContext routeContext = RouteContext.create("application/person",
+                                                    s -> s,
+                                                    new RouteResult("/application",
+                                                                    "application/person"));
+    Assertions.assertEquals("/application/person",
+                            routeContext.getRoute());
+    Assertions.assertEquals(0,
+                            routeContext.getParamCount());
+  }
+  
+  @Test
+  void testDecodedHash() {
+    int[]        calls        = { 0 };
+    RouteContext routeContext = RouteContext.create("/application/person/M%C3%BCller",
+                                                    s -> {
+                                                      calls[0]++;
+                                                      return s.replace("%C3%BC",
+                                                                       "ü");
+                                                    },
+                                                    new RouteResult("/application",
+                                                                    "/application/person/*",
+                                                                    Arrays.asList("Müller")));
+    // decoded on first request ...
+    Assertions.assertEquals(0,
+                            calls[0]);
+    Assertions.assertEquals("/application/person/Müller",
+                            routeContext.getDecodedHash());
+    Assertions.assertEquals("/application/person/Müller",
+                            routeContext.getDecodedHash());
+    // ... only once
+    Assertions.assertEquals(1,
+                            calls[0]);
+  }
+  
+}
@@ -3,11 +3,14 @@ package com.github.nalukit.nalu.client.internal.route;
 import com.github.nalukit.nalu.client.internal.PropertyFactory;
 import org.gwtproject.event.shared.SimpleEventBus;
 import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 
@@ -80,6 +83,14 @@ public class RouteParserTest {
 
   }
 
+  @AfterEach
+  void tearDown() {
+    RouteParser.get()
+               .setCacheSize(0);
+    RouteParser.get()
+               .setRejectedHashCacheSize(RejectedHashCache.DEFAULT_SIZE);
+  }
+
   @Test
   void parse01() {
     String route = "/application/person/search";
@@ -594,4 +605,140 @@ public class RouteParserTest {
                              is("application/person/list/A"));
   }
 
-}
\ No newline at end of file
+  @Test
+  void parseCached01() throws RouterException {
+    RouteParser.get()
+               .setCacheSize(2);
+    AtomicInteger numberOfDecodes = new AtomicInteger();
+    RouteResult routeResult01 = RouteParser.get()
+                                           .parse("/application/person/detail/1",
+                                                  hash -> {
+                                                    numberOfDecodes.incrementAndGet();
+                                                    return hash;
+                                                  },
+                                                  this.shellConfiguration,
+                                                  this.routerConfiguration);
+    routeResult01.getParameterValues()
+                 .set(0,
+                      "changed");
+    RouteResult routeResult02 = RouteParser.get()
+                                           .parse("/application/person/detail/1",
+                                                  hash -> {
+                                                    numberOfDecodes.incrementAndGet();
+                                                    return hash;
+                                                  },
+                                                  this.shellConfiguration,
+                                                  this.routerConfiguration);
+    MatcherAssert.assertThat(numberOfDecodes.get(),
+                             is(1));
+    MatcherAssert.assertThat(routeResult02.getShell(),
+                             is("/application"));
+    MatcherAssert.assertThat(routeResult02.getRoute(),
+                             is("/application/person/detail/*"));
+    MatcherAssert.assertThat(routeResult02.getParameterValues(),
+                             is(Collections.singletonList("1")));
+    MatcherAssert.assertThat(RouteParser.get()
+                                        .getCacheHits(),
+                             is(1L));
+    MatcherAssert.assertThat(RouteParser.get()
+                                        .getCacheMisses(),
+                             is(1L));
+  }
+
+  @Test
+  void parseCached02() throws RouterException {
+    RouteParser.get()
+               .setCacheSize(2);
+    this.parseCached("/application/person/detail/1");
+    this.parseCached("/application/person/detail/2");
+    this.parseCached("/application/person/detail/1");
+    this.parseCached("/application/person/detail/3");
+    // '/application/person/detail/2' is the least recently used hash
+    this.parseCached("/application/person/detail/1");
+    MatcherAssert.assertThat(RouteParser.get()
+                                        .getCacheHits(),
+                             is(2L));
+    MatcherAssert.assertThat(RouteParser.get()
+                                        .getCacheMisses(),
+                             is(3L));
+    MatcherAssert.assertThat(RouteParser.get()
+                                        .getCacheEvictions(),
+                             is(1L));
+    this.parseCached("/application/person/detail/2");
+    MatcherAssert.assertThat(RouteParser.get()
+                                        .getCacheMisses(),
+                             is(4L));
+  }
+
+  @Test
+  void parseCached03() throws RouterException {
+    RouteParser.get()
+               .setCacheSize(2);
+    this.parseCached("/application/person/detail/1");
+    this.routerConfiguration.getRouters()
+                            .add(new RouteConfig("/application/person/edit/*",
+                                                 Collections.singletonList("id"),
+                                                 "content",
+                                                 "com.github.nalukit.example.nalu.simpleapplication.client.ui.content.detail.DetailController"));
+    this.parseCached("/application/person/detail/1");
+    MatcherAssert.assertThat(RouteParser.get()
+                                        .getCacheHits(),
+                             is(0L));
+    MatcherAssert.assertThat(RouteParser.get()
+                                        .getCacheMisses(),
+                             is(2L));
+  }
+
+  @Test
+  void parseRejected01() {
+    RouteParser.get()
+               .setRejectedHashCacheSize(2);
+    AtomicInteger numberOfDecodes = new AtomicInteger();
+    for (int i = 0; i < 2; i++) {
+      RouterException routerException = Assertions.assertThrows(RouterException.class,
+                                                                () -> RouteParser.get()
+                                                                                 .parse("/application/unknown",
+                                                                                        hash -> {
+                                                                                          numberOfDecodes.incrementAndGet();
+                                                                                          return hash;
+                                                                                        },
+                                                                                        this.shellConfiguration,
+                                                                                        this.routerConfiguration));
+      MatcherAssert.assertThat(routerException.getMessage(),
+                               is("no matching route found for route >>/application/unknown<< --> Routing aborted!"));
+    }
+    MatcherAssert.assertThat(numberOfDecodes.get(),
+                             is(1));
+    MatcherAssert.assertThat(RouteParser.get()
+                                        .getRejectedHashCacheHits(),
+                             is(1L));
+  }
+
+  @Test
+  void parseRejected02() throws RouterException {
+    RouteParser.get()
+               .setRejectedHashCacheSize(2);
+    Assertions.assertThrows(RouterException.class,
+                            () -> this.parseCached("/application/unknown"));
+    // adding the route makes the hash valid
+    this.routerConfiguration.getRouters()
+                            .add(new RouteConfig("/application/unknown",
+                                                 Collections.emptyList(),
+                                                 "content",
+                                                 "com.github.nalukit.example.nalu.simpleapplication.client.ui.content.detail.DetailController"));
+    this.parseCached("/application/unknown");
+    MatcherAssert.assertThat(RouteParser.get()
+                                        .getRejectedHashCacheHits(),
+                             is(0L));
+  }
+
+  private void parseCached(String hash)
+      throws RouterException {
+    RouteParser.get()
+               .parse(hash,
+                      h -> h,
+                      this.shellConfiguration,
+                      this.routerConfiguration);
+  }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class RouteTemplateTest {
+  
+  @Test
+  void testCompile() {
+    Assertions.assertArrayEquals(new String[] { "app/person/", "/edit" },
+                                 RouteTemplate.compile("/app/person/*/edit")
+                                              .getChunks());
+    Assertions.assertArrayEquals(new String[] { "app/person/", "/", "" },
+                                 RouteTemplate.compile("app/person/:id/:name")
+                                              .getChunks());
+    Assertions.assertArrayEquals(new String[] { "app/person" },
+                                 RouteTemplate.compile("/app/person")
+                                              .getChunks());
+    Assertions.assertEquals(0,
+                            RouteTemplate.compile("/app/person")
+                                         .getNumberOfParameters());
+  }
+  
+  @Test
+  void testGenerate() {
+    RouteTemplate routeTemplate = RouteTemplate.compile("/app/person/*/edit/*");
+    Assertions.assertEquals("app/person/1/edit/2",
+                            routeTemplate.generate(false,
+                                                   "1",
+                                                   "2"));
+    Assertions.assertEquals("app/person/:1/edit/:2",
+                            routeTemplate.generate(true,
+                                                   "1",
+                                                   "2"));
+    Assertions.assertEquals("app/person/1/edit/",
+                            routeTemplate.generate(false,
+                                                   "1"));
+    Assertions.assertEquals("app/person/1" + RouterConstants.NALU_SLASH_REPLACEMENT + "2/edit/3/4/null",
+                            routeTemplate.generate(false,
+                                                   "1/2",
+                                                   "3",
+                                                   "4",
+                                                   null));
+  }
+  
+}
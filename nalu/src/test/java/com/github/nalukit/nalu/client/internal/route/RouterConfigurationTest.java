@@ -0,0 +1,337 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import com.github.nalukit.nalu.client.Nalu;
+import com.github.nalukit.nalu.client.filter.IsFilter;
+import com.github.nalukit.nalu.client.internal.PropertyFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class RouterConfigurationTest {
+
+  private static final String[] ROUTES = { "/application/person/list/*/*",
+                                           "/application/person/search/*/*",
+                                           "/application",
+                                           "/error/show",
+                                           "/application/person/detail/*",
+                                           "/application/person/*/detail",
+                                           "/application/person/*/*",
+                                           "/[application|login]/login",
+                                           "/*/route05/*",
+                                           "/login" };
+
+  private static final String[] HASHES = { "application/person/list",
+                                           "application/person/list/name",
+                                           "application/person/list/name/city",
+                                           "application/person/list/name/city/street",
+                                           "application/person/search/",
+                                           "application/person/detail/1",
+                                           "application/person/1/detail",
+                                           "application/person/1/edit",
+                                           "application/person/:1/detail",
+                                           "application/person/:1/:2",
+                                           "application/person/detail/:1",
+                                           "application/person/*/detail",
+                                           "application/login",
+                                           "[application|login]/login",
+                                           "login/route05/:4711",
+                                           "*/route05/4711",
+                                           "error/show",
+                                           "error/hide",
+                                           "/",
+                                           "",
+                                           "application",
+                                           "unknown/route" };
+
+  private RouterConfiguration routerConfiguration;
+
+  @BeforeEach
+  void setUp() {
+    this.routerConfiguration = new RouterConfiguration();
+    Arrays.stream(ROUTES)
+          .forEach(route -> this.routerConfiguration.getRouters()
+                                                    .add(new RouteConfig(route,
+                                                                         Collections.emptyList(),
+                                                                         "selector",
+                                                                         "className")));
+  }
+
+  @Test
+  void testFindFirstMatchWithoutColon() {
+    this.register(false);
+    for (String hash : HASHES) {
+      Assertions.assertSame(this.findFirstMatchSequential(hash),
+                            this.routerConfiguration.findFirstMatch(hash,
+                                                                    false),
+                            "hash >>" + hash + "<<");
+    }
+  }
+
+  @Test
+  void testFindFirstMatchWithColon() {
+    this.register(true);
+    for (String hash : HASHES) {
+      Assertions.assertSame(this.findFirstMatchSequential(hash),
+                            this.routerConfiguration.findFirstMatch(hash,
+                                                                    true),
+                            "hash >>" + hash + "<<");
+    }
+  }
+
+  @Test
+  void testMatch() {
+    this.register(false);
+    for (String route : ROUTES) {
+      Assertions.assertEquals(this.matchSequential(route),
+                              this.routerConfiguration.match(route),
+                              "route >>" + route + "<<");
+    }
+    for (String hash : HASHES) {
+      Assertions.assertEquals(this.matchSequential(hash),
+                              this.routerConfiguration.match(hash),
+                              "hash >>" + hash + "<<");
+    }
+  }
+
+  @Test
+  void testIndexUpdatedAfterAdd() {
+    this.register(false);
+    Assertions.assertNull(this.routerConfiguration.findFirstMatch("module/route01/4711",
+                                                                  false));
+    RouteConfig routeConfig = new RouteConfig("/module/route01/*",
+                                              Collections.singletonList("id"),
+                                              "selector",
+                                              "className");
+    this.routerConfiguration.getRouters()
+                            .addAll(Collections.singletonList(routeConfig));
+    Assertions.assertSame(routeConfig,
+                          this.routerConfiguration.findFirstMatch("module/route01/4711",
+                                                                  false));
+    Assertions.assertEquals(Collections.singletonList(routeConfig),
+                            this.routerConfiguration.match("/module/route01/*"));
+  }
+
+  @Test
+  void testIndexRebuildAfterRemove() {
+    this.register(false);
+    RouteConfig routeConfig = this.routerConfiguration.findFirstMatch("application/person/1/detail",
+                                                                      false);
+    Assertions.assertEquals("/application/person/*/detail",
+                            routeConfig.getRoute());
+    this.routerConfiguration.getRouters()
+                            .remove(routeConfig);
+    Assertions.assertEquals("/application/person/*/*",
+                            this.routerConfiguration.findFirstMatch("application/person/1/detail",
+                                                                    false)
+                                                    .getRoute());
+    Assertions.assertTrue(this.routerConfiguration.match("/application/person/*/detail")
+                                                  .isEmpty());
+  }
+
+  @Test
+  void testRouteMatcher() {
+    this.register(false);
+    this.routerConfiguration.registerRouteMatcher(new TestRouteMatcher(ROUTES));
+    // matcher answers first ...
+    Assertions.assertSame(this.routerConfiguration.getRouters()
+                                                  .get(3),
+                          this.routerConfiguration.findFirstMatch("error/show",
+                                                                  false));
+    // ... and covers all routes
+    Assertions.assertNull(this.routerConfiguration.findFirstMatch("application/person/1/detail",
+                                                                  false));
+    // routes added later are handled by the route index
+    RouteConfig routeConfig = new RouteConfig("/module/route01/*",
+                                              Collections.singletonList("id"),
+                                              "selector",
+                                              "className");
+    this.routerConfiguration.getRouters()
+                            .add(routeConfig);
+    Assertions.assertSame(routeConfig,
+                          this.routerConfiguration.findFirstMatch("module/route01/4711",
+                                                                  false));
+    // changing the routes disables the matcher
+    this.routerConfiguration.getRouters()
+                            .remove(routeConfig);
+    Assertions.assertEquals("/application/person/*/detail",
+                            this.routerConfiguration.findFirstMatch("application/person/1/detail",
+                                                                    false)
+                                                    .getRoute());
+  }
+
+  @Test
+  void testRouteMatcherWithDifferentRoutes() {
+    this.register(false);
+    this.routerConfiguration.registerRouteMatcher(new TestRouteMatcher(new String[] { "/application" }));
+    Assertions.assertEquals("/application/person/*/detail",
+                            this.routerConfiguration.findFirstMatch("application/person/1/detail",
+                                                                    false)
+                                                    .getRoute());
+  }
+
+  @Test
+  void testGetRouteTemplate() {
+    // templates of declared routes are cached ...
+    RouteTemplate routeTemplate = this.routerConfiguration.getRouteTemplate("/application/person/*/detail");
+    Assertions.assertSame(routeTemplate,
+                          this.routerConfiguration.getRouteTemplate("/application/person/*/detail"));
+    // ... templates of other routes are not
+    Assertions.assertNotSame(this.routerConfiguration.getRouteTemplate("/unknown/*"),
+                             this.routerConfiguration.getRouteTemplate("/unknown/*"));
+    Assertions.assertEquals("/unknown/*",
+                            this.routerConfiguration.getRouteTemplate("/unknown/*")
+                                                    .getRoute());
+    // removing a route removes its template
+    this.routerConfiguration.getRouters()
+                            .remove(5);
+    Assertions.assertNotSame(this.routerConfiguration.getRouteTemplate("/application/person/*/detail"),
+                             this.routerConfiguration.getRouteTemplate("/application/person/*/detail"));
+  }
+
+  @Test
+  void testGetFilters() {
+    IsFilter globalFilter = new TestFilter();
+    IsFilter personFilter = new TestFilter();
+    IsFilter detailFilter = new TestFilter();
+    IsFilter rootFilter   = new TestFilter();
+    this.routerConfiguration.addFilter(globalFilter);
+    this.routerConfiguration.addFilter(personFilter,
+                                       "/application/person");
+    this.routerConfiguration.addFilter(detailFilter,
+                                       "/application/person/*/detail",
+                                       "/error/show");
+    this.routerConfiguration.addFilter(rootFilter,
+                                       "/");
+    Assertions.assertEquals(Collections.singletonList(globalFilter),
+                            this.routerConfiguration.getFilters());
+    Assertions.assertEquals(Arrays.asList(globalFilter,
+                                          rootFilter),
+                            this.routerConfiguration.getFilters("/login"));
+    Assertions.assertEquals(Arrays.asList(globalFilter,
+                                          rootFilter),
+                            this.routerConfiguration.getFilters("/application/personal"));
+    Assertions.assertEquals(Arrays.asList(globalFilter,
+                                          personFilter,
+                                          rootFilter),
+                            this.routerConfiguration.getFilters("/application/person/list/*/*"));
+    Assertions.assertEquals(Arrays.asList(globalFilter,
+                                          personFilter,
+                                          detailFilter,
+                                          rootFilter),
+                            this.routerConfiguration.getFilters("/application/person/*/detail"));
+    Assertions.assertEquals(Arrays.asList(globalFilter,
+                                          detailFilter,
+                                          rootFilter),
+                            this.routerConfiguration.getFilters("/error/show"));
+  }
+
+  @Test
+  void testGetFiltersWithoutRouteFilters() {
+    IsFilter globalFilter = new TestFilter();
+    this.routerConfiguration.getFilters()
+                            .add(globalFilter);
+    Assertions.assertEquals(Collections.singletonList(globalFilter),
+                            this.routerConfiguration.getFilters("/application/person/*/detail"));
+  }
+
+  private RouteConfig findFirstMatchSequential(String hash) {
+    return this.routerConfiguration.getRouters()
+                                   .stream()
+                                   .filter(rc -> Nalu.match(hash,
+                                                            rc.getRoute()))
+                                   .findFirst()
+                                   .orElse(null);
+  }
+
+  private List<RouteConfig> matchSequential(String hash) {
+    return this.routerConfiguration.getRouters()
+                                   .stream()
+                                   .filter(rc -> rc.match(hash))
+                                   .collect(Collectors.toList());
+  }
+
+  private void register(boolean usingColonForParametersInUrl) {
+    PropertyFactory.get()
+                   .register("/application",
+                             "",
+                             true,
+                             true,
+                             usingColonForParametersInUrl,
+                             false,
+                             false);
+  }
+
+  /**
+   * matcher, that only knows the route 'error/show'
+   */
+  private static class TestRouteMatcher
+      implements IsRouteMatcher {
+
+    private final String[] routes;
+
+    private TestRouteMatcher(String[] routes) {
+      this.routes = routes;
+    }
+
+    @Override
+    public String[] getRoutes() {
+      return this.routes;
+    }
+
+    @Override
+    public int match(String[] partsOfRoute,
+                     boolean usingColonForParametersInUrl) {
+      if (partsOfRoute.length == 2 && "error".equals(partsOfRoute[0]) && "show".equals(partsOfRoute[1])) {
+        return 3;
+      }
+      return NO_MATCH;
+    }
+
+  }
+
+  /**
+   * filter, that accepts every routing
+   */
+  private static class TestFilter
+      implements IsFilter {
+
+    @Override
+    public boolean filter(String route,
+                          String... params) {
+      return true;
+    }
+
+    @Override
+    public String redirectTo() {
+      return "/error/show";
+    }
+
+    @Override
+    public String[] parameters() {
+      return new String[] {};
+    }
+
+  }
+
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import com.github.nalukit.nalu.client.NaluConstants;
+import com.github.nalukit.nalu.client.event.NaluErrorEvent;
+import com.github.nalukit.nalu.client.filter.IsAsyncFilter;
+import com.github.nalukit.nalu.client.internal.application.ApplicationScope;
+import com.github.nalukit.nalu.client.internal.application.ControllerInstance;
+import com.github.nalukit.nalu.client.internal.application.IsControllerCreator;
+import com.github.nalukit.nalu.client.internal.application.IsShellCreator;
+import com.github.nalukit.nalu.client.internal.application.ShellInstance;
+import org.gwtproject.event.shared.SimpleEventBus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tests the loop detection of the router.
+ */
+public class RouterLoopDetectionTest {
+  
+  private static final String SHELL_CLASS_NAME      = "com.github.nalukit.nalu.client.internal.route.RouterPrefetchTest.TestShell";
+  private static final String CONTROLLER_CLASS_NAME = "com.github.nalukit.nalu.client.internal.route.TestControllers.TestController";
+  
+  private RouterImpl   router;
+  private TestFilter   filter;
+  private List<String> errors;
+  
+  @BeforeEach
+  void setUp() {
+    this.errors = new ArrayList<>();
+    ApplicationScope applicationScope = new ApplicationScope();
+    applicationScope.getShellFactory()
+                    .registerShell(SHELL_CLASS_NAME,
+                                   new IsShellCreator() {
+                                     
+                                     @Override
+                                     public ShellInstance create() {
+                                       ShellInstance shellInstance = new ShellInstance();
+                                       shellInstance.setShellClassName(SHELL_CLASS_NAME);
+                                       shellInstance.setShell(new RouterPrefetchTest.TestShell());
+                                       return shellInstance;
+                                     }
+                                     
+                                     @Override
+                                     public void onFinishCreating() {
+                                     }
+                                     
+                                   });
+    applicationScope.getControllerFactory()
+                    .registerController(CONTROLLER_CLASS_NAME,
+                                        new IsControllerCreator() {
+                                          
+                                          @Override
+                                          public ControllerInstance create(String route) {
+                                            ControllerInstance controllerInstance = TestControllers.createControllerInstance();
+                                            controllerInstance.setControllerClassName(CONTROLLER_CLASS_NAME);
+                                            ((TestControllers.TestController) controllerInstance.getController()).getComponent()
+                                                                                                  .render();
+                                            return controllerInstance;
+                                          }
+                                          
+                                          @Override
+                                          public void onFinishCreating(Object object) {
+                                          }
+                                          
+                                          @Override
+                                          public void setParameter(Object object,
+                                                                   String... params) {
+                                          }
+                                          
+                                        });
+    ShellConfiguration shellConfiguration = new ShellConfiguration();
+    shellConfiguration.getShells()
+                      .add(new ShellConfig("/shell",
+                                           SHELL_CLASS_NAME));
+    RouterConfiguration routerConfiguration = new RouterConfiguration();
+    routerConfiguration.getRouters()
+                       .add(new RouteConfig("/shell/a",
+                                            Collections.emptyList(),
+                                            "content",
+                                            CONTROLLER_CLASS_NAME));
+    routerConfiguration.getRouters()
+                       .add(new RouteConfig("/shell/b",
+                                            Collections.emptyList(),
+                                            "content",
+                                            CONTROLLER_CLASS_NAME));
+    this.filter = new TestFilter();
+    routerConfiguration.getFilters()
+                       .add(this.filter);
+    this.router = new RouterImpl(applicationScope,
+                                 new RouterPrefetchTest.TestPlugin(),
+                                 shellConfiguration,
+                                 routerConfiguration,
+                                 new ArrayList<>(),
+                                 null,
+                                 "/shell/a",
+                                 "",
+                                 true,
+                                 true,
+                                 false,
+                                 false,
+                                 false);
+    SimpleEventBus eventBus = new SimpleEventBus();
+    eventBus.addHandler(NaluErrorEvent.TYPE,
+                        e -> this.errors.add(e.getErrorId()));
+    this.router.setEventBus(eventBus);
+    applicationScope.getRouteParser()
+                    .setEventBus(eventBus);
+  }
+  
+  @Test
+  void testSupersededRoutingsAreNoHops() {
+    // the filter of a routing is still running, once the next routing starts
+    this.router.route("/shell/a");
+    this.router.route("/shell/b");
+    this.router.route("/shell/a");
+    Assertions.assertTrue(this.errors.isEmpty());
+    this.filter.callback.onResult(true);
+    Assertions.assertTrue(this.errors.isEmpty());
+    Assertions.assertEquals("shell/a",
+                            this.router.getLastExecutedHash());
+  }
+  
+  @Test
+  void testRedirectLoop() {
+    // the filter redirects the routing to the same route
+    this.router.route("/shell/a");
+    this.filter.callback.onResult(false);
+    Assertions.assertEquals(Collections.singletonList(NaluConstants.NALU_ERROR_LOOP_DETECTED),
+                            this.errors);
+  }
+  
+  private static class TestFilter
+      implements IsAsyncFilter {
+    
+    private FilterCallback callback;
+    
+    @Override
+    public void filter(String route,
+                       String[] params,
+                       FilterCallback callback) {
+      this.callback = callback;
+    }
+    
+    @Override
+    public String redirectTo() {
+      return "/shell/a";
+    }
+    
+    @Override
+    public String[] parameters() {
+      return new String[0];
+    }
+    
+  }
+  
+}
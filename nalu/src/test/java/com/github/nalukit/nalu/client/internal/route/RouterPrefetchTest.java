@@ -0,0 +1,493 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import com.github.nalukit.nalu.client.component.AbstractComponent;
+import com.github.nalukit.nalu.client.component.AbstractComponentController;
+import com.github.nalukit.nalu.client.component.AbstractCompositeComponent;
+import com.github.nalukit.nalu.client.component.AbstractCompositeController;
+import com.github.nalukit.nalu.client.component.AbstractShell;
+import com.github.nalukit.nalu.client.component.IsComponent;
+import com.github.nalukit.nalu.client.component.IsCompositeComponent;
+import com.github.nalukit.nalu.client.context.IsContext;
+import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
+import com.github.nalukit.nalu.client.internal.AbstractControllerCreator;
+import com.github.nalukit.nalu.client.internal.CompositeControllerReference;
+import com.github.nalukit.nalu.client.internal.application.ApplicationScope;
+import com.github.nalukit.nalu.client.internal.application.CompositeInstance;
+import com.github.nalukit.nalu.client.internal.application.ControllerInstance;
+import com.github.nalukit.nalu.client.internal.application.IsCompositeCreator;
+import com.github.nalukit.nalu.client.internal.application.IsShellCreator;
+import com.github.nalukit.nalu.client.internal.application.ShellInstance;
+import com.github.nalukit.nalu.client.metrics.InMemoryNaluMetrics;
+import com.github.nalukit.nalu.client.metrics.NaluMetrics;
+import com.github.nalukit.nalu.client.plugin.IsClock;
+import com.github.nalukit.nalu.client.plugin.IsCustomAlertPresenter;
+import com.github.nalukit.nalu.client.plugin.IsCustomConfirmPresenter;
+import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin;
+import com.github.nalukit.nalu.client.preload.ControllerWarmPool;
+import org.gwtproject.event.shared.SimpleEventBus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Tests the prefetching of the router.
+ */
+public class RouterPrefetchTest {
+  
+  private static final String SHELL_CLASS_NAME      = "com.github.nalukit.nalu.client.internal.route.RouterPrefetchTest.TestShell";
+  private static final String CONTROLLER_CLASS_NAME = "com.github.nalukit.nalu.client.internal.route.RouterPrefetchTest.TestController";
+  private static final String COMPOSITE_CLASS_NAME  = "com.github.nalukit.nalu.client.internal.route.RouterPrefetchTest.TestComposite";
+  
+  private ApplicationScope     applicationScope;
+  private TestPlugin           plugin;
+  private RouterImpl           router;
+  private List<TestController> controllers;
+  private List<TestComposite>  composites;
+  
+  @BeforeEach
+  void setUp() {
+    this.controllers = new ArrayList<>();
+    this.composites  = new ArrayList<>();
+    ApplicationScope applicationScope = new ApplicationScope();
+    this.applicationScope = applicationScope;
+    applicationScope.getShellFactory()
+                    .registerShell(SHELL_CLASS_NAME,
+                                   new IsShellCreator() {
+                                     
+                                     @Override
+                                     public ShellInstance create() {
+                                       ShellInstance shellInstance = new ShellInstance();
+                                       shellInstance.setShellClassName(SHELL_CLASS_NAME);
+                                       shellInstance.setShell(new TestShell());
+                                       return shellInstance;
+                                     }
+                                     
+                                     @Override
+                                     public void onFinishCreating() {
+                                     }
+                                     
+                                   });
+    applicationScope.getControllerFactory()
+                    .registerController(CONTROLLER_CLASS_NAME,
+                                        new AbstractControllerCreator<TestContext>(null,
+                                                                                   new TestContext(),
+                                                                                   new SimpleEventBus(),
+                                                                                   applicationScope) {
+                                          
+                                          @Override
+                                          public ControllerInstance create(String route) {
+                                            ControllerInstance controllerInstance = new ControllerInstance();
+                                            controllerInstance.setControllerClassName(CONTROLLER_CLASS_NAME);
+                                            controllerInstance.setControllerCreator(this);
+                                            // like the generated creators: use the cached instance
+                                            AbstractComponentController<?, ?, ?> storedController = applicationScope.getControllerFactory()
+                                                                                                                    .getControllerFormStore(CONTROLLER_CLASS_NAME);
+                                            if (!Objects.isNull(storedController)) {
+                                              controllerInstance.setController(storedController);
+                                              controllerInstance.setCached(true);
+                                              return controllerInstance;
+                                            }
+                                            TestController controller = new TestController();
+                                            TestComponent  component  = new TestComponent();
+                                            component.setController(controller);
+                                            controller.setComponent(component);
+                                            component.render();
+                                            controllers.add(controller);
+                                            controllerInstance.setController(controller);
+                                            return controllerInstance;
+                                          }
+                                          
+                                          @Override
+                                          public void onFinishCreating(Object object) {
+                                          }
+                                          
+                                          @Override
+                                          public void setParameter(Object object,
+                                                                   String... params)
+                                              throws RoutingInterceptionException {
+                                            if (params.length == 0) {
+                                              return;
+                                            }
+                                            if ("intercept".equals(params[0])) {
+                                              throw new RoutingInterceptionException(CONTROLLER_CLASS_NAME,
+                                                                                     "/shell/person/*",
+                                                                                     "1");
+                                            }
+                                            ((TestController) object).id = params[0];
+                                          }
+                                          
+                                        });
+    applicationScope.getCompositeFactory()
+                    .registerComposite(COMPOSITE_CLASS_NAME,
+                                       new IsCompositeCreator() {
+                                         
+                                         @Override
+                                         public CompositeInstance create(String parentControllerClassName,
+                                                                         String selector,
+                                                                         boolean scopeGlobal) {
+                                           TestComposite          composite = new TestComposite();
+                                           TestCompositeComponent component = new TestCompositeComponent();
+                                           component.setController(composite);
+                                           composite.setComponent(component);
+                                           component.render();
+                                           composite.setSelector(selector);
+                                           composites.add(composite);
+                                           CompositeInstance compositeInstance = new CompositeInstance();
+                                           compositeInstance.setCompositeClassName(COMPOSITE_CLASS_NAME);
+                                           compositeInstance.setComposite(composite);
+                                           return compositeInstance;
+                                         }
+                                         
+                                         @Override
+                                         public void setParameter(Object object,
+                                                                  String... params) {
+                                         }
+                                         
+                                       });
+    applicationScope.getControllerCompositeConditionFactory()
+                    .registerCondition(CONTROLLER_CLASS_NAME,
+                                       COMPOSITE_CLASS_NAME,
+                                       (route, params) -> true);
+    ShellConfiguration shellConfiguration = new ShellConfiguration();
+    shellConfiguration.getShells()
+                      .add(new ShellConfig("/shell",
+                                           SHELL_CLASS_NAME));
+    RouterConfiguration routerConfiguration = new RouterConfiguration();
+    routerConfiguration.getRouters()
+                       .add(new RouteConfig("/shell/person/*",
+                                            Collections.singletonList("id"),
+                                            "content",
+                                            CONTROLLER_CLASS_NAME));
+    List<CompositeControllerReference> compositeControllerReferences = new ArrayList<>();
+    compositeControllerReferences.add(new CompositeControllerReference(CONTROLLER_CLASS_NAME,
+                                                                       "composite",
+                                                                       COMPOSITE_CLASS_NAME,
+                                                                       "compositeSelector",
+                                                                       false));
+    this.plugin = new TestPlugin();
+    this.router = new RouterImpl(applicationScope,
+                                 this.plugin,
+                                 shellConfiguration,
+                                 routerConfiguration,
+                                 compositeControllerReferences,
+                                 null,
+                                 "/shell/person/*",
+                                 "",
+                                 true,
+                                 true,
+                                 false,
+                                 false,
+                                 false);
+    this.router.setEventBus(new SimpleEventBus());
+    applicationScope.getRouteParser()
+                    .setEventBus(new SimpleEventBus());
+  }
+  
+  @Test
+  void testRouteUsesPrefetchedController() {
+    this.router.prefetch("/shell/person/*",
+                         "1");
+    Assertions.assertEquals(1,
+                            this.controllers.size());
+    Assertions.assertEquals(1,
+                            this.composites.size());
+    this.router.route("/shell/person/*",
+                      "1");
+    // the routing uses the prefetched controller and composite
+    Assertions.assertEquals(1,
+                            this.controllers.size());
+    Assertions.assertEquals(1,
+                            this.composites.size());
+    TestController controller = this.controllers.get(0);
+    Assertions.assertTrue(controller.started);
+    Assertions.assertSame(this.composites.get(0),
+                          controller.getComposites()
+                                    .get("composite"));
+    Assertions.assertTrue(this.composites.get(0).started);
+  }
+  
+  @Test
+  void testRouteWithOtherParameters() {
+    this.router.prefetch("/shell/person/*",
+                         "1");
+    this.router.route("/shell/person/*",
+                      "2");
+    // the prefetched controller does not match the parameters
+    Assertions.assertEquals(2,
+                            this.controllers.size());
+    Assertions.assertFalse(this.controllers.get(0).started);
+    Assertions.assertTrue(this.controllers.get(1).started);
+  }
+  
+  @Test
+  void testPrefetchOfCachedController() {
+    InMemoryNaluMetrics metrics = new InMemoryNaluMetrics();
+    this.applicationScope.getMetricsProvider()
+                         .setMetrics(metrics);
+    this.router.route("/shell/person/*",
+                      "1");
+    TestController controller = this.controllers.get(0);
+    this.router.storeInCache(controller);
+    this.router.prefetch("/shell/person/*",
+                         "2");
+    // the cached controller is not requested: its parameters are unchanged
+    Assertions.assertEquals(1,
+                            this.controllers.size());
+    Assertions.assertEquals("1",
+                            controller.id);
+    Assertions.assertEquals(0,
+                            metrics.snapshot()
+                                   .getCounter(NaluMetrics.CONTROLLER_CACHE_HITS));
+  }
+  
+  @Test
+  void testPrefetchLimits() {
+    this.router.setPrefetchLimits(1,
+                                  60000);
+    this.router.prefetch("/shell/person/*",
+                         "1");
+    this.router.prefetch("/shell/person/*",
+                         "2");
+    // the oldest prefetch is evicted
+    Assertions.assertEquals(2,
+                            this.controllers.size());
+    Assertions.assertTrue(this.controllers.get(0).stopped);
+    Assertions.assertTrue(this.composites.get(0).stopped);
+    Assertions.assertFalse(this.controllers.get(1).stopped);
+    this.router.route("/shell/person/*",
+                      "2");
+    Assertions.assertEquals(2,
+                            this.controllers.size());
+    Assertions.assertTrue(this.controllers.get(1).started);
+    // disabling the cache evicts all prefetches
+    this.router.prefetch("/shell/person/*",
+                         "3");
+    this.router.setPrefetchLimits(0,
+                                  60000);
+    Assertions.assertTrue(this.controllers.get(2).stopped);
+    this.router.prefetch("/shell/person/*",
+                         "4");
+    Assertions.assertEquals(3,
+                            this.controllers.size());
+  }
+  
+  @Test
+  void testPrefetchUsesClockOfPlugin() {
+    this.router.setPrefetchLimits(5,
+                                  100);
+    this.router.prefetch("/shell/person/*",
+                         "1");
+    this.plugin.now += 100;
+    this.router.route("/shell/person/*",
+                      "1");
+    // the prefetch is expired
+    Assertions.assertEquals(2,
+                            this.controllers.size());
+    Assertions.assertTrue(this.controllers.get(0).stopped);
+    Assertions.assertTrue(this.controllers.get(1).started);
+  }
+  
+  @Test
+  void testWarmPoolControllerOfInterceptedRouting() {
+    this.router.setControllerWarmPool(ControllerWarmPool.create()
+                                                        .add("/shell/person/*",
+                                                             1));
+    Assertions.assertEquals(1,
+                            this.controllers.size());
+    this.router.route("/shell/person/*",
+                      "intercept");
+    // the pooled controller is not used by the intercepted routing
+    Assertions.assertTrue(this.controllers.get(0).stopped);
+    Assertions.assertFalse(this.controllers.get(0).started);
+    // the pool is refilled and the redirect uses the new controller
+    Assertions.assertEquals(3,
+                            this.controllers.size());
+    Assertions.assertTrue(this.controllers.get(1).started);
+    Assertions.assertEquals("1",
+                            this.controllers.get(1).id);
+  }
+  
+  static class TestContext
+      implements IsContext {
+    
+  }
+  
+  static class TestShell
+      extends AbstractShell<TestContext> {
+    
+    @Override
+    public void attachShell() {
+    }
+    
+    @Override
+    public void detachShell() {
+    }
+    
+  }
+  
+  static class TestComponent
+      extends AbstractComponent<IsComponent.Controller, Object> {
+    
+    @Override
+    public void render() {
+      initElement(new Object());
+    }
+    
+  }
+  
+  static class TestController
+      extends AbstractComponentController<TestContext, TestComponent, Object>
+      implements IsComponent.Controller {
+    
+    private boolean started;
+    private boolean stopped;
+    private String  id;
+    
+    @Override
+    public void start() {
+      this.started = true;
+    }
+    
+    @Override
+    public void stop() {
+      this.stopped = true;
+    }
+    
+  }
+  
+  static class TestCompositeComponent
+      extends AbstractCompositeComponent<IsCompositeComponent.Controller, Object> {
+    
+    @Override
+    public void render() {
+      initElement(new Object());
+    }
+    
+  }
+  
+  static class TestComposite
+      extends AbstractCompositeController<TestContext, TestCompositeComponent, Object>
+      implements IsCompositeComponent.Controller {
+    
+    private boolean started;
+    private boolean stopped;
+    
+    @Override
+    public void start() {
+      this.started = true;
+    }
+    
+    @Override
+    public void stop() {
+      this.stopped = true;
+    }
+    
+  }
+  
+  static class TestPlugin
+      implements IsNaluProcessorPlugin {
+    
+    private double now;
+    
+    @Override
+    public IsClock getClock() {
+      return () -> this.now;
+    }
+    
+    @Override
+    public void alert(String message) {
+    }
+    
+    @Override
+    public boolean attach(String selector,
+                          Object asElement) {
+      return true;
+    }
+    
+    @Override
+    public void confirm(String message,
+                        ConfirmHandler handler) {
+      handler.onOk();
+    }
+    
+    @Override
+    public String getStartRoute() {
+      return "/";
+    }
+    
+    @Override
+    public Map<String, String> getQueryParameters() {
+      return new HashMap<>();
+    }
+    
+    @Override
+    public void register(RouteChangeHandler handler) {
+    }
+    
+    @Override
+    public void remove(String selector) {
+    }
+    
+    @Override
+    public void route(String newRoute,
+                      boolean replace,
+                      boolean stealthMode) {
+    }
+    
+    @Override
+    public void initialize(ShellConfiguration shellConfiguration) {
+    }
+    
+    @Override
+    public void updateTitle(String title) {
+    }
+    
+    @Override
+    public void updateMetaNameContent(String name,
+                                      String content) {
+    }
+    
+    @Override
+    public void updateMetaPropertyContent(String property,
+                                          String content) {
+    }
+    
+    @Override
+    public String decode(String route) {
+      return route;
+    }
+    
+    @Override
+    public void setCustomAlertPresenter(IsCustomAlertPresenter presenter) {
+    }
+    
+    @Override
+    public void setCustomConfirmPresenter(IsCustomConfirmPresenter presenter) {
+    }
+    
+  }
+  
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import com.github.nalukit.nalu.client.event.RoutingTimingEvent;
+import com.github.nalukit.nalu.client.event.RoutingTimingEvent.Phase;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RoutingTimerTest {
+  
+  private double       now;
+  private RoutingTimer routingTimer;
+  
+  @BeforeEach
+  void setUp() {
+    this.now          = 100;
+    this.routingTimer = new RoutingTimer(() -> this.now);
+  }
+  
+  @Test
+  void testLap() {
+    this.now += 2;
+    this.routingTimer.lap(Phase.PARSE);
+    this.now += 5;
+    this.routingTimer.lap(Phase.FILTER);
+    Assertions.assertEquals(2,
+                            this.routingTimer.getTimings()
+                                             .get(Phase.PARSE));
+    Assertions.assertEquals(5,
+                            this.routingTimer.getTimings()
+                                             .get(Phase.FILTER));
+    Assertions.assertFalse(this.routingTimer.getTimings()
+                                            .containsKey(Phase.SHELL));
+    Assertions.assertEquals(7,
+                            this.routingTimer.getTotal());
+  }
+  
+  @Test
+  void testLapSummedUp() {
+    // route with two controllers
+    this.now += 10;
+    this.routingTimer.lap(Phase.CONTROLLER);
+    this.now += 1;
+    this.routingTimer.lap(Phase.ATTACH);
+    this.now += 20;
+    this.routingTimer.lap(Phase.CONTROLLER);
+    this.now += 2;
+    this.routingTimer.lap(Phase.ATTACH);
+    RoutingTimingEvent event = new RoutingTimingEvent("/application/route",
+                                                      new String[] {},
+                                                      this.routingTimer.getTimings(),
+                                                      this.routingTimer.getTotal());
+    Assertions.assertEquals(30,
+                            event.getTiming(Phase.CONTROLLER));
+    Assertions.assertEquals(3,
+                            event.getTiming(Phase.ATTACH));
+    Assertions.assertEquals(0,
+                            event.getTiming(Phase.SEO));
+    Assertions.assertEquals(33,
+                            event.getTotal());
+  }
+  
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+public class ShellConfigurationTest {
+
+  private ShellConfiguration shellConfiguration;
+
+  @BeforeEach
+  void setUp() {
+    this.shellConfiguration = new ShellConfiguration();
+    this.shellConfiguration.getShells()
+                           .add(new ShellConfig("/application",
+                                                "ApplicationShell"));
+    this.shellConfiguration.getShells()
+                           .add(new ShellConfig("/login",
+                                                "LoginShell"));
+    this.shellConfiguration.getShells()
+                           .add(new ShellConfig("/application",
+                                                "OtherApplicationShell"));
+  }
+
+  @Test
+  void testFindShell() {
+    Assertions.assertEquals("ApplicationShell",
+                            this.shellConfiguration.findShell("/application")
+                                                   .getClassName());
+    Assertions.assertEquals("LoginShell",
+                            this.shellConfiguration.match("/login")
+                                                   .getClassName());
+    Assertions.assertNull(this.shellConfiguration.findShell("/unknown"));
+    Assertions.assertNull(this.shellConfiguration.match("application"));
+  }
+
+  @Test
+  void testHasShell() {
+    Assertions.assertTrue(this.shellConfiguration.hasShell("/application"));
+    Assertions.assertFalse(this.shellConfiguration.hasShell("/unknown"));
+  }
+
+  @Test
+  void testIndexUpdatedAfterAdd() {
+    Assertions.assertFalse(this.shellConfiguration.hasShell("/module"));
+    this.shellConfiguration.getShells()
+                           .addAll(Collections.singletonList(new ShellConfig("/module",
+                                                                             "ModuleShell")));
+    Assertions.assertEquals("ModuleShell",
+                            this.shellConfiguration.findShell("/module")
+                                                   .getClassName());
+  }
+
+  @Test
+  void testIndexRebuildAfterRemove() {
+    this.shellConfiguration.getShells()
+                           .remove(0);
+    Assertions.assertEquals("OtherApplicationShell",
+                            this.shellConfiguration.findShell("/application")
+                                                   .getClassName());
+    this.shellConfiguration.getShells()
+                           .clear();
+    Assertions.assertFalse(this.shellConfiguration.hasShell("/login"));
+  }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import com.github.nalukit.nalu.client.component.AbstractComponent;
+import com.github.nalukit.nalu.client.component.AbstractComponentController;
+import com.github.nalukit.nalu.client.component.IsComponent;
+import com.github.nalukit.nalu.client.context.IsContext;
+import com.github.nalukit.nalu.client.internal.application.ControllerInstance;
+
+/**
+ * Controllers used by the tests of the route caches.
+ */
+class TestControllers {
+  
+  private TestControllers() {
+  }
+  
+  static ControllerInstance createControllerInstance() {
+    TestController controller = new TestController();
+    TestComponent  component  = new TestComponent();
+    component.setController(controller);
+    controller.setComponent(component);
+    ControllerInstance controllerInstance = new ControllerInstance();
+    controllerInstance.setController(controller);
+    return controllerInstance;
+  }
+  
+  static class TestContext
+      implements IsContext {
+    
+  }
+  
+  static class TestComponent
+      extends AbstractComponent<IsComponent.Controller, Object> {
+    
+    @Override
+    public void render() {
+      initElement(new Object());
+    }
+    
+  }
+  
+  static class TestController
+      extends AbstractComponentController<TestContext, TestComponent, Object>
+      implements IsComponent.Controller {
+    
+    private boolean stopped;
+    
+    @Override
+    public void stop() {
+      this.stopped = true;
+    }
+    
+    boolean isStopped() {
+      return this.stopped;
+    }
+    
+  }
+  
+}
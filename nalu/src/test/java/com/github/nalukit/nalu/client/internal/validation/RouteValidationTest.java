@@ -100,7 +100,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/application"));
+                                                             "/application",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -115,7 +117,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/error/show"));
+                                                             "/error/show",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -130,7 +134,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/application/person/detail"));
+                                                             "/application/person/detail",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -145,7 +151,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/application/person/detail/parameter01"));
+                                                             "/application/person/detail/parameter01",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -160,7 +168,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertFalse(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                               this.routerConfiguration,
-                                                              "/unknownShell"));
+                                                              "/unknownShell",
+                                                              PropertyFactory.get()
+                                                                             .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -175,7 +185,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertFalse(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                               this.routerConfiguration,
-                                                              "/application/person/detail/parameter01/parameter02"));
+                                                              "/application/person/detail/parameter01/parameter02",
+                                                              PropertyFactory.get()
+                                                                             .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -190,7 +202,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertFalse(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                               this.routerConfiguration,
-                                                              "/unknownShell/show"));
+                                                              "/unknownShell/show",
+                                                              PropertyFactory.get()
+                                                                             .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -205,7 +219,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertFalse(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                               this.routerConfiguration,
-                                                              "/unknownShell/person/detail"));
+                                                              "/unknownShell/person/detail",
+                                                              PropertyFactory.get()
+                                                                             .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -220,7 +236,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertFalse(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                               this.routerConfiguration,
-                                                              "/unknownShell/person/detail/parameter01"));
+                                                              "/unknownShell/person/detail/parameter01",
+                                                              PropertyFactory.get()
+                                                                             .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -235,7 +253,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertFalse(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                               this.routerConfiguration,
-                                                              "/unknownShell/person/detail/parameter01/parameter02"));
+                                                              "/unknownShell/person/detail/parameter01/parameter02",
+                                                              PropertyFactory.get()
+                                                                             .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -250,7 +270,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertFalse(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                               this.routerConfiguration,
-                                                              "/error/showa"));
+                                                              "/error/showa",
+                                                              PropertyFactory.get()
+                                                                             .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -265,7 +287,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/application/person/detail"));
+                                                             "/application/person/detail",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -280,7 +304,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/application/person/detail/parameter01"));
+                                                             "/application/person/detail/parameter01",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -295,7 +321,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertFalse(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                               this.routerConfiguration,
-                                                              "/application/person/detail/parameter01/parameter02"));
+                                                              "/application/person/detail/parameter01/parameter02",
+                                                              PropertyFactory.get()
+                                                                             .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -310,7 +338,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/application/"));
+                                                             "/application/",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -325,7 +355,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/application/person/detail/parameter01"));
+                                                             "/application/person/detail/parameter01",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -340,7 +372,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/application/person/detail/parameter01"));
+                                                             "/application/person/detail/parameter01",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   // - useColon = true
@@ -357,7 +391,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/application"));
+                                                             "/application",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -372,7 +408,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/error/show"));
+                                                             "/error/show",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -387,7 +425,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/application/person/detail"));
+                                                             "/application/person/detail",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -402,7 +442,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/application/person/detail/:parameter01"));
+                                                             "/application/person/detail/:parameter01",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -417,7 +459,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertFalse(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                               this.routerConfiguration,
-                                                              "/unknownShell"));
+                                                              "/unknownShell",
+                                                              PropertyFactory.get()
+                                                                             .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -432,7 +476,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/application/person/detail/:parameter01/:parameter02"));
+                                                             "/application/person/detail/:parameter01/:parameter02",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -447,7 +493,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertFalse(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                               this.routerConfiguration,
-                                                              "/unknownShell/show"));
+                                                              "/unknownShell/show",
+                                                              PropertyFactory.get()
+                                                                             .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -462,7 +510,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertFalse(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                               this.routerConfiguration,
-                                                              "/unknownShell/person/detail"));
+                                                              "/unknownShell/person/detail",
+                                                              PropertyFactory.get()
+                                                                             .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -477,7 +527,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertFalse(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                               this.routerConfiguration,
-                                                              "/unknownShell/person/detail/:parameter01"));
+                                                              "/unknownShell/person/detail/:parameter01",
+                                                              PropertyFactory.get()
+                                                                             .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -492,7 +544,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertFalse(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                               this.routerConfiguration,
-                                                              "/unknownShell/person/detail/:parameter01/:parameter02"));
+                                                              "/unknownShell/person/detail/:parameter01/:parameter02",
+                                                              PropertyFactory.get()
+                                                                             .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -507,7 +561,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertFalse(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                               this.routerConfiguration,
-                                                              "/error/showa"));
+                                                              "/error/showa",
+                                                              PropertyFactory.get()
+                                                                             .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -522,7 +578,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/application/person/detail"));
+                                                             "/application/person/detail",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -537,7 +595,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/application/person/detail/:parameter01"));
+                                                             "/application/person/detail/:parameter01",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -552,7 +612,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/application/person/detail/:parameter01/:parameter02"));
+                                                             "/application/person/detail/:parameter01/:parameter02",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -567,7 +629,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/application/"));
+                                                             "/application/",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -582,7 +646,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/application/person/detail/:parameter01"));
+                                                             "/application/person/detail/:parameter01",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -597,7 +663,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/application/person/detail/:parameter01"));
+                                                             "/application/person/detail/:parameter01",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -612,7 +680,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/application"));
+                                                             "/application",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -627,7 +697,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/error/show"));
+                                                             "/error/show",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -642,7 +714,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/application/person/detail"));
+                                                             "/application/person/detail",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -657,7 +731,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/application/person/detail/parameter01"));
+                                                             "/application/person/detail/parameter01",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -672,7 +748,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertFalse(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                               this.routerConfiguration,
-                                                              "/unknownShell"));
+                                                              "/unknownShell",
+                                                              PropertyFactory.get()
+                                                                             .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -687,7 +765,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertFalse(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                               this.routerConfiguration,
-                                                              "/application/person/detail/parameter01/parameter02"));
+                                                              "/application/person/detail/parameter01/parameter02",
+                                                              PropertyFactory.get()
+                                                                             .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -702,7 +782,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertFalse(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                               this.routerConfiguration,
-                                                              "/unknownShell/show"));
+                                                              "/unknownShell/show",
+                                                              PropertyFactory.get()
+                                                                             .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -717,7 +799,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertFalse(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                               this.routerConfiguration,
-                                                              "/unknownShell/person/detail"));
+                                                              "/unknownShell/person/detail",
+                                                              PropertyFactory.get()
+                                                                             .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -732,7 +816,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertFalse(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                               this.routerConfiguration,
-                                                              "/unknownShell/person/detail/parameter01"));
+                                                              "/unknownShell/person/detail/parameter01",
+                                                              PropertyFactory.get()
+                                                                             .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -747,7 +833,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertFalse(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                               this.routerConfiguration,
-                                                              "/unknownShell/person/detail/parameter01/parameter02"));
+                                                              "/unknownShell/person/detail/parameter01/parameter02",
+                                                              PropertyFactory.get()
+                                                                             .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -762,7 +850,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertFalse(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                               this.routerConfiguration,
-                                                              "/error/showa"));
+                                                              "/error/showa",
+                                                              PropertyFactory.get()
+                                                                             .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -777,7 +867,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/application/person/detail"));
+                                                             "/application/person/detail",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -792,7 +884,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/application/person/detail/parameter01"));
+                                                             "/application/person/detail/parameter01",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -807,7 +901,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertFalse(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                               this.routerConfiguration,
-                                                              "/application/person/detail/parameter01/parameter02"));
+                                                              "/application/person/detail/parameter01/parameter02",
+                                                              PropertyFactory.get()
+                                                                             .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -822,7 +918,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/application/"));
+                                                             "/application/",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -837,7 +935,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/application/person/detail/parameter01"));
+                                                             "/application/person/detail/parameter01",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -852,7 +952,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/application/person/detail/parameter01"));
+                                                             "/application/person/detail/parameter01",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   // - useColon = true
@@ -869,7 +971,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/application"));
+                                                             "/application",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -884,7 +988,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/error/show"));
+                                                             "/error/show",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -899,7 +1005,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/application/person/detail"));
+                                                             "/application/person/detail",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -914,7 +1022,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/application/person/detail/:parameter01"));
+                                                             "/application/person/detail/:parameter01",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -929,7 +1039,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertFalse(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                               this.routerConfiguration,
-                                                              "/unknownShell"));
+                                                              "/unknownShell",
+                                                              PropertyFactory.get()
+                                                                             .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -944,7 +1056,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/application/person/detail/:parameter01/:parameter02"));
+                                                             "/application/person/detail/:parameter01/:parameter02",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -959,7 +1073,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertFalse(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                               this.routerConfiguration,
-                                                              "/unknownShell/show"));
+                                                              "/unknownShell/show",
+                                                              PropertyFactory.get()
+                                                                             .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -974,7 +1090,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertFalse(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                               this.routerConfiguration,
-                                                              "/unknownShell/person/detail"));
+                                                              "/unknownShell/person/detail",
+                                                              PropertyFactory.get()
+                                                                             .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -989,7 +1107,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertFalse(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                               this.routerConfiguration,
-                                                              "/unknownShell/person/detail/:parameter01"));
+                                                              "/unknownShell/person/detail/:parameter01",
+                                                              PropertyFactory.get()
+                                                                             .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -1004,7 +1124,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertFalse(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                               this.routerConfiguration,
-                                                              "/unknownShell/person/detail/:parameter01/:parameter02"));
+                                                              "/unknownShell/person/detail/:parameter01/:parameter02",
+                                                              PropertyFactory.get()
+                                                                             .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -1019,7 +1141,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertFalse(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                               this.routerConfiguration,
-                                                              "/error/showa"));
+                                                              "/error/showa",
+                                                              PropertyFactory.get()
+                                                                             .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -1034,7 +1158,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/application/person/detail"));
+                                                             "/application/person/detail",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -1049,7 +1175,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/application/person/detail/:parameter01"));
+                                                             "/application/person/detail/:parameter01",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -1064,7 +1192,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/application/person/detail/:parameter01/:parameter02"));
+                                                             "/application/person/detail/:parameter01/:parameter02",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -1079,7 +1209,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/application/"));
+                                                             "/application/",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -1094,7 +1226,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/application/person/detail/:parameter01"));
+                                                             "/application/person/detail/:parameter01",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
   @Test
@@ -1109,7 +1243,9 @@ public class RouteValidationTest {
                              false);
     Assertions.assertTrue(RouteValidation.validateStartRoute(this.shellConfiguration,
                                                              this.routerConfiguration,
-                                                             "/application/person/detail/:parameter01"));
+                                                             "/application/person/detail/:parameter01",
+                                                             PropertyFactory.get()
+                                                                            .isUsingColonForParametersInUrl()));
   }
 
 }
\ No newline at end of file
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class InMemoryNaluMetricsTest {
+  
+  @AfterEach
+  void tearDown() {
+    NaluMetricsProvider.get()
+                       .setMetrics(null);
+  }
+  
+  @Test
+  void testCounter() {
+    InMemoryNaluMetrics metrics = new InMemoryNaluMetrics();
+    metrics.counter(NaluMetrics.ROUTER_NAVIGATIONS)
+           .increment();
+    metrics.counter(NaluMetrics.ROUTER_NAVIGATIONS)
+           .increment();
+    metrics.counter(NaluMetrics.ROUTER_ABORTS,
+                    "loop detected")
+           .increment();
+    InMemoryNaluMetrics.Snapshot snapshot = metrics.snapshot();
+    Assertions.assertEquals(2,
+                            snapshot.getCounter(NaluMetrics.ROUTER_NAVIGATIONS));
+    Assertions.assertEquals(1,
+                            snapshot.getCounter(NaluMetrics.ROUTER_ABORTS + "{loop detected}"));
+    Assertions.assertEquals(0,
+                            snapshot.getCounter(NaluMetrics.ROUTER_ABORTS));
+    metrics.reset();
+    Assertions.assertTrue(metrics.snapshot()
+                                 .getCounters()
+                                 .isEmpty());
+  }
+  
+  @Test
+  void testTimer() {
+    InMemoryNaluMetrics metrics = new InMemoryNaluMetrics();
+    metrics.timer(NaluMetrics.ROUTER_NAVIGATION_TIME)
+           .record(10);
+    metrics.timer(NaluMetrics.ROUTER_NAVIGATION_TIME)
+           .record(30);
+    InMemoryNaluMetrics.TimerSnapshot timer = metrics.snapshot()
+                                                     .getTimers()
+                                                     .get(NaluMetrics.ROUTER_NAVIGATION_TIME);
+    Assertions.assertEquals(2,
+                            timer.getCount());
+    Assertions.assertEquals(40,
+                            timer.getTotal());
+    Assertions.assertEquals(30,
+                            timer.getMax());
+    Assertions.assertEquals(20,
+                            timer.getMean());
+  }
+  
+  @Test
+  void testGaugeRegisteredAtProvider() {
+    int[] size = { 3 };
+    NaluMetricsProvider.get()
+                       .registerGauge("test.gauge",
+                                      () -> size[0]);
+    // metrics set after the gauge is registered
+    InMemoryNaluMetrics metrics = new InMemoryNaluMetrics();
+    NaluMetricsProvider.get()
+                       .setMetrics(metrics);
+    Assertions.assertEquals(3,
+                            metrics.snapshot()
+                                   .getGauges()
+                                   .get("test.gauge"));
+    size[0] = 5;
+    Assertions.assertEquals(5,
+                            metrics.snapshot()
+                                   .getGauges()
+                                   .get("test.gauge"));
+  }
+  
+  @Test
+  void testNoOpDefault() {
+    NaluMetricsProvider.get()
+                       .setMetrics(null);
+    Assertions.assertTrue(NaluMetricsProvider.get()
+                                             .getMetrics() instanceof NoOpNaluMetrics);
+  }
+  
+}
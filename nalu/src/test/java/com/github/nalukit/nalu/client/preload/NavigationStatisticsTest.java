@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.preload;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class NavigationStatisticsTest {
+  
+  private NavigationStatistics statistics;
+  
+  @BeforeEach
+  void setUp() {
+    this.statistics = new NavigationStatistics();
+    this.statistics.record("/application/search",
+                           "/application/list");
+    this.statistics.record("/application/search",
+                           "/application/detail/*");
+    this.statistics.record("/application/search",
+                           "/application/detail/*");
+    this.statistics.record("/application/search",
+                           "/application/detail/*");
+    this.statistics.record("/application/list",
+                           "/application/search");
+  }
+  
+  @Test
+  void testProbability() {
+    Assertions.assertEquals(3,
+                            this.statistics.getCount("/application/search",
+                                                     "/application/detail/*"));
+    Assertions.assertEquals(0.75,
+                            this.statistics.getProbability("/application/search",
+                                                           "/application/detail/*"));
+    Assertions.assertEquals(0.25,
+                            this.statistics.getProbability("/application/search",
+                                                           "/application/list"));
+    Assertions.assertEquals(1,
+                            this.statistics.getProbability("/application/list",
+                                                           "/application/search"));
+    Assertions.assertEquals(0,
+                            this.statistics.getProbability("/application/unknown",
+                                                           "/application/search"));
+  }
+  
+  @Test
+  void testNextRoutes() {
+    Assertions.assertEquals(Arrays.asList("/application/detail/*",
+                                          "/application/list"),
+                            this.statistics.getNextRoutes("/application/search",
+                                                          0));
+    Assertions.assertEquals(Collections.singletonList("/application/detail/*"),
+                            this.statistics.getNextRoutes("/application/search",
+                                                          0.5));
+    Assertions.assertTrue(this.statistics.getNextRoutes("/application/unknown",
+                                                        0)
+                                         .isEmpty());
+  }
+  
+  @Test
+  void testEncodeDecode() {
+    NavigationStatistics decoded = NavigationStatistics.decode(this.statistics.encode());
+    Assertions.assertEquals(this.statistics.encode(),
+                            decoded.encode());
+    Assertions.assertEquals(0.75,
+                            decoded.getProbability("/application/search",
+                                                   "/application/detail/*"));
+  }
+  
+  @Test
+  void testDecodeInvalid() {
+    Assertions.assertTrue(NavigationStatistics.decode(null)
+                                              .encode()
+                                              .isEmpty());
+    NavigationStatistics decoded = NavigationStatistics.decode("/a\t/b\t2\ninvalid\n/a\t/c\tx\n");
+    Assertions.assertEquals(1,
+                            decoded.getProbability("/a",
+                                                   "/b"));
+  }
+  
+}
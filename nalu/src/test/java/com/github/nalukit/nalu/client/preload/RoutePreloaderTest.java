@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.preload;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class RoutePreloaderTest {
+  
+  @Test
+  void testRecord() {
+    InMemoryNavigationStatisticsStorage storage        = new InMemoryNavigationStatisticsStorage();
+    RoutePreloader                      routePreloader = RoutePreloader.create()
+                                                                       .storage(storage);
+    routePreloader.record("/application/search");
+    // first navigation -> no transition
+    Assertions.assertNull(storage.load());
+    Assertions.assertFalse(routePreloader.isModified());
+    routePreloader.record("/application/list");
+    routePreloader.record("/application/search");
+    Assertions.assertEquals(1,
+                            routePreloader.getStatistics()
+                                          .getCount("/application/search",
+                                                    "/application/list"));
+    // statistics are not stored with every navigation ...
+    Assertions.assertTrue(routePreloader.isModified());
+    Assertions.assertNull(storage.load());
+    // ... but with the next save
+    routePreloader.save();
+    Assertions.assertFalse(routePreloader.isModified());
+    // statistics are stored ...
+    RoutePreloader reloaded = RoutePreloader.create()
+                                            .storage(storage);
+    // ... and loaded again
+    Assertions.assertEquals(1,
+                            reloaded.getStatistics()
+                                    .getCount("/application/list",
+                                              "/application/search"));
+  }
+  
+  @Test
+  void testRoutesToPreload() {
+    RoutePreloader routePreloader = RoutePreloader.create()
+                                                  .minimumProbability(0.2);
+    this.navigate(routePreloader,
+                  "/application/search",
+                  "/application/list",
+                  "/application/search",
+                  "/application/list",
+                  "/application/search",
+                  "/application/detail/*",
+                  "/application/search",
+                  "/application/search",
+                  "/application/settings",
+                  "/application/search",
+                  "/application/settings",
+                  "/application/search");
+    // parameterized routes and the route itself are not preloaded
+    Assertions.assertEquals(Arrays.asList("/application/list",
+                                          "/application/settings"),
+                            routePreloader.getRoutesToPreload("/application/search"));
+    routePreloader.minimumProbability(0.5);
+    Assertions.assertTrue(routePreloader.getRoutesToPreload("/application/search")
+                                        .isEmpty());
+    Assertions.assertEquals(Collections.singletonList("/application/search"),
+                            routePreloader.getRoutesToPreload("/application/list"));
+    routePreloader.maximumControllers(0);
+    Assertions.assertTrue(routePreloader.getRoutesToPreload("/application/list")
+                                        .isEmpty());
+  }
+  
+  private void navigate(RoutePreloader routePreloader,
+                        String... routes) {
+    Arrays.stream(routes)
+          .forEach(routePreloader::record);
+  }
+  
+}